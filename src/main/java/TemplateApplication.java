@@ -1,11 +1,47 @@
 import com.dropwizard.template.health.ChanDropWizardHealthCheck;
 import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.enums.CheckGroup;
 import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
 import com.dropwizard.template.health.enums.ToleranceType;
+import com.dropwizard.template.health.fleet.FleetConfiguration;
+import com.dropwizard.template.health.fleet.FleetHealthAggregator;
+import com.dropwizard.template.health.fleet.FleetHealthResource;
+import com.dropwizard.template.health.group.CheckGroupRegistry;
+import com.dropwizard.template.health.group.CheckGroupResource;
+import com.dropwizard.template.health.metrics.HealthMetricsPublisher;
+import com.dropwizard.template.health.payload.DeflaterPool;
+import com.dropwizard.template.health.payload.HealthJsonResource;
+import com.dropwizard.template.health.payload.HealthSnapshotPayload;
+import com.dropwizard.template.health.payload.HealthSnapshotResource;
+import com.dropwizard.template.health.persistence.SampleLogConfiguration;
+import com.dropwizard.template.health.persistence.SampleLogWriter;
+import com.dropwizard.template.health.shedding.LoadSheddingConfiguration;
+import com.dropwizard.template.health.shedding.LoadSheddingFilter;
+import com.dropwizard.template.health.shedding.LoadSheddingPolicy;
+import com.dropwizard.template.health.scheduler.AdaptiveHealthCheckScheduler;
+import com.dropwizard.template.health.scheduler.AdaptiveSamplingInterval;
+import com.dropwizard.template.health.scheduler.SampledHealthCheck;
+import com.dropwizard.template.health.system.memory.HeapDumpConfiguration;
+import com.dropwizard.template.health.system.memory.HeapDumpTrigger;
+import com.dropwizard.template.health.system.memory.HeapHistogramCapture;
+import com.dropwizard.template.health.system.memory.HeapHistogramConfiguration;
+import com.dropwizard.template.health.system.memory.HeapHistogramResource;
 import com.dropwizard.template.health.system.memory.MemoryHealthCheck;
 import com.dropwizard.template.health.system.MetricTolerance;
+import com.dropwizard.template.health.system.classloading.ClassLoadingHealthCheck;
+import com.dropwizard.template.health.system.cpu.CpuHealthCheck;
+import com.dropwizard.template.health.system.pause.PauseDetector;
+import com.dropwizard.template.health.system.pause.PauseHealthCheck;
+import com.dropwizard.template.health.system.snapshot.SystemSnapshotProvider;
+import com.dropwizard.template.health.system.thread.CpuHogThreadHealthCheck;
+import com.dropwizard.template.health.system.threadpool.ThreadPoolSaturationHealthCheck;
+import com.dropwizard.template.health.system.warmup.JitWarmupCriteria;
+import com.dropwizard.template.health.system.warmup.JitWarmupHealthCheck;
+import com.dropwizard.template.health.system.warmup.WarmupTrafficGenerator;
+import com.dropwizard.template.health.tenant.TenantHealthRegistry;
+import com.dropwizard.template.health.tenant.TenantHealthResource;
 import com.dropwizard.template.health.system.memory.MemoryMetricTolerance;
-import com.dropwizard.template.health.system.memory.RuntimeMemoryHealthCheck;
+import com.dropwizard.template.health.system.memory.GcNotificationMemoryHealthCheck;
 import com.dropwizard.template.health.system.enums.Metric;
 import com.dropwizard.template.health.system.enums.MemoryType;
 import com.dropwizard.template.health.model.ComponentInfo;
@@ -16,14 +52,27 @@ import io.dropwizard.configuration.ResourceConfigurationSourceProvider;
 import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
 
+import java.net.URI;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
 
 // https://www.baeldung.com/java-dropwizard
 // https://www.dropwizard.io/en/latest/manual/core.html
 public class TemplateApplication extends Application<TemplateConfiguration> {
+    static final long HEALTH_CHECK_TIMEOUT_MILLIS = 5000;
+    static final int MAX_ABANDONED_EVALUATIONS = 2;
+    static final int DEFLATER_POOL_SIZE = 4;
+    static final int MIN_GZIP_BYTES = 1024;
+    static final long SYSTEM_SNAPSHOT_MAX_AGE_MILLIS = 1000;
+    static final long METASPACE_GROWTH_LIMIT_BYTES = 64L * 1024 * 1024;
+
     ImmutableList<Object> resourceList = ImmutableList.of(
             new TemplateResource()
     );
+    private CheckGroupRegistry checkGroupRegistry;
+    private SystemSnapshotProvider systemSnapshotProvider;
+
     public static void main(String[] args) throws Exception {
         // The first argument can either be server or check, Why the hell isn't it an enum?
         //  check validates if it is a valid argument
@@ -35,8 +84,40 @@ public class TemplateApplication extends Application<TemplateConfiguration> {
         // Register Resource classes
         System.out.println(templateConfiguration.getDefaultSize());
 
+        AdaptiveHealthCheckScheduler healthCheckScheduler = new AdaptiveHealthCheckScheduler();
+        environment.lifecycle().manage(healthCheckScheduler);
+        registerSampleLog(templateConfiguration.getSampleLog(), healthCheckScheduler, environment);
+        registerLoadShedding(templateConfiguration.getLoadShedding(), healthCheckScheduler, environment);
+
+        systemSnapshotProvider = new SystemSnapshotProvider(SYSTEM_SNAPSHOT_MAX_AGE_MILLIS);
+
+        checkGroupRegistry = new CheckGroupRegistry();
+        environment.lifecycle().manage(checkGroupRegistry);
+        environment.jersey().register(new CheckGroupResource(checkGroupRegistry));
+
+        HealthSnapshotPayload healthSnapshotPayload = new HealthSnapshotPayload(healthCheckScheduler,
+                new DeflaterPool(DEFLATER_POOL_SIZE, Deflater.DEFAULT_COMPRESSION),
+                MIN_GZIP_BYTES);
+        healthCheckScheduler.addSampleListener(healthSnapshotPayload);
+        environment.jersey().register(new HealthSnapshotResource(healthSnapshotPayload));
+        environment.jersey().register(new HealthJsonResource(healthCheckScheduler));
+
+        healthCheckScheduler.addSampleListener(new HealthMetricsPublisher(environment.metrics()));
+
+        TenantHealthRegistry tenantHealthRegistry = new TenantHealthRegistry();
+        healthCheckScheduler.addSampleListener(tenantHealthRegistry);
+        environment.jersey().register(new TenantHealthResource(tenantHealthRegistry));
+
         registerResources(environment);
-        registerHealthCheck(environment);
+        registerHealthCheck(templateConfiguration.getHeapHistogram(), templateConfiguration.getHeapDump(), environment,
+                healthCheckScheduler);
+        registerCpuHealthCheck(environment, healthCheckScheduler);
+        registerCpuHogThreadHealthCheck(environment, healthCheckScheduler);
+        registerPauseHealthCheck(environment, healthCheckScheduler);
+        registerThreadPoolHealthCheck(environment, healthCheckScheduler);
+        registerClassLoadingHealthCheck(environment, healthCheckScheduler);
+        registerJitWarmupHealthCheck(environment, healthCheckScheduler);
+        registerFleetHealthAggregator(templateConfiguration.getFleet(), environment);
     }
 
     private void registerResources(Environment environment) {
@@ -45,7 +126,44 @@ public class TemplateApplication extends Application<TemplateConfiguration> {
         }
     }
 
-    private void registerHealthCheck(Environment environment) {
+    private void registerSampleLog(SampleLogConfiguration sampleLogConfiguration,
+                                   AdaptiveHealthCheckScheduler healthCheckScheduler,
+                                   Environment environment) {
+        if (sampleLogConfiguration == null) {
+            return;
+        }
+
+        SampleLogWriter sampleLogWriter = new SampleLogWriter(sampleLogConfiguration);
+        environment.lifecycle().manage(sampleLogWriter);
+        healthCheckScheduler.addSampleListener(sampleLogWriter);
+    }
+
+    private void registerLoadShedding(LoadSheddingConfiguration loadSheddingConfiguration,
+                                      AdaptiveHealthCheckScheduler healthCheckScheduler,
+                                      Environment environment) {
+        if (loadSheddingConfiguration == null) {
+            return;
+        }
+
+        LoadSheddingPolicy loadSheddingPolicy = new LoadSheddingPolicy(loadSheddingConfiguration);
+        healthCheckScheduler.addSampleListener(loadSheddingPolicy);
+        environment.jersey().register(new LoadSheddingFilter(loadSheddingPolicy));
+    }
+
+    private void registerFleetHealthAggregator(FleetConfiguration fleetConfiguration, Environment environment) {
+        if (fleetConfiguration == null || fleetConfiguration.getTargets().isEmpty()) {
+            return;
+        }
+
+        FleetHealthAggregator fleetHealthAggregator = new FleetHealthAggregator(fleetConfiguration);
+        environment.lifecycle().manage(fleetHealthAggregator);
+        environment.jersey().register(new FleetHealthResource(fleetHealthAggregator));
+    }
+
+    private void registerHealthCheck(HeapHistogramConfiguration heapHistogramConfiguration,
+                                     HeapDumpConfiguration heapDumpConfiguration,
+                                     Environment environment,
+                                     AdaptiveHealthCheckScheduler healthCheckScheduler) {
 //        MainApplicationHealthCheck mainHealthCheck = new MainApplicationHealthCheck();
 //        environment.healthChecks().register("application", mainHealthCheck);
 
@@ -53,12 +171,12 @@ public class TemplateApplication extends Application<TemplateConfiguration> {
                 .componentName("memory")
                 .componentId("6fd416e0-8920-410f-9c7b-c479000f7227")
                 .componentType("system")
+                .checkGroup(CheckGroup.READINESS)
                 .build();
         List<MemoryType> memoryTypeList = ImmutableList.of(
                 MemoryType.UTILIZED_MEMORY
         );
 
-        RuntimeMemoryHealthCheck runtimeMemoryHealthCheck = new RuntimeMemoryHealthCheck();
         HealthCheckTolerance healthCheckTolerance = HealthCheckTolerance.builder()
                 .passValue(50.0)
                 .warnValue(80.0)
@@ -69,17 +187,214 @@ public class TemplateApplication extends Application<TemplateConfiguration> {
                 new MemoryMetricTolerance(Metric.PERCENTAGE, healthCheckTolerance)
         );
 
+        GcNotificationMemoryHealthCheck gcNotificationMemoryHealthCheck =
+                new GcNotificationMemoryHealthCheck(Metric.PERCENTAGE, healthCheckTolerance, systemSnapshotProvider);
+        environment.lifecycle().manage(gcNotificationMemoryHealthCheck);
+
+        // A histogram forces a full GC and lists class names on the application port, so it is opt-in
+        HeapHistogramCapture heapHistogramCapture = null;
+        if (heapHistogramConfiguration != null) {
+            heapHistogramCapture = new HeapHistogramCapture(heapHistogramConfiguration,
+                    URI.create(HeapHistogramResource.PATH));
+            environment.lifecycle().manage(heapHistogramCapture);
+            environment.jersey().register(new HeapHistogramResource(heapHistogramCapture));
+        }
+
+        HeapDumpTrigger heapDumpTrigger = null;
+        if (heapDumpConfiguration != null) {
+            heapDumpTrigger = new HeapDumpTrigger(heapDumpConfiguration);
+            environment.lifecycle().manage(heapDumpTrigger);
+        }
+
         MemoryHealthCheck memoryHealthCheck = new MemoryHealthCheck(memoryTypeList, metricToleranceList,
-                componentInfo, runtimeMemoryHealthCheck);
-        addChanDropWizardHealthCheckToEnvironment(componentInfo, memoryHealthCheck, environment);
+                componentInfo, gcNotificationMemoryHealthCheck, heapHistogramCapture, heapDumpTrigger);
+        SampledHealthCheck sampledMemoryHealthCheck = healthCheckScheduler.register(componentInfo, memoryHealthCheck,
+                healthCheckTolerance, AdaptiveSamplingInterval.builder().build());
+        addChanDropWizardHealthCheckToEnvironment(componentInfo, sampledMemoryHealthCheck, environment);
+    }
+
+    private void registerCpuHealthCheck(Environment environment, AdaptiveHealthCheckScheduler healthCheckScheduler) {
+        ComponentInfo componentInfo = ComponentInfo.builder()
+                .componentName("cpu")
+                .componentId("5a3f8e21-7c4d-4b09-9e6a-2d1c8f7b3e54")
+                .componentType("system")
+                .checkGroup(CheckGroup.READINESS)
+                .build();
+        HealthCheckTolerance cpuTolerance = HealthCheckTolerance.builder()
+                .passValue(70.0)
+                .warnValue(90.0)
+                .failValue(100.0)
+                .toleranceType(ToleranceType.LESS_THAN)
+                .build();
+        HealthCheckTolerance loadTolerance = HealthCheckTolerance.builder()
+                .passValue(100.0)
+                .warnValue(200.0)
+                .failValue(400.0)
+                .toleranceType(ToleranceType.LESS_THAN)
+                .build();
+
+        CpuHealthCheck cpuHealthCheck = new CpuHealthCheck(componentInfo, cpuTolerance, loadTolerance,
+                TimeUnit.MINUTES.toMillis(1), systemSnapshotProvider);
+        SampledHealthCheck sampledCpuHealthCheck = healthCheckScheduler.register(componentInfo, cpuHealthCheck,
+                cpuTolerance, AdaptiveSamplingInterval.builder().build());
+        addChanDropWizardHealthCheckToEnvironment(componentInfo, sampledCpuHealthCheck, environment);
+    }
+
+    private void registerCpuHogThreadHealthCheck(Environment environment,
+                                                 AdaptiveHealthCheckScheduler healthCheckScheduler) {
+        ComponentInfo componentInfo = ComponentInfo.builder()
+                .componentName("cpuHogThreads")
+                .componentId("9c2d4e6f-1a3b-4c5d-8e7f-6a5b4c3d2e1f")
+                .componentType("system")
+                .checkGroup(CheckGroup.DEEP)
+                .build();
+        HealthCheckTolerance threadCpuTolerance = HealthCheckTolerance.builder()
+                .passValue(50.0)
+                .warnValue(80.0)
+                .failValue(100.0)
+                .toleranceType(ToleranceType.LESS_THAN)
+                .build();
+
+        // Walks every thread, so it is sampled far less often than the other system checks
+        CpuHogThreadHealthCheck cpuHogThreadHealthCheck = new CpuHogThreadHealthCheck(componentInfo,
+                threadCpuTolerance, 5, TimeUnit.SECONDS.toMillis(10));
+        SampledHealthCheck sampledCpuHogThreadHealthCheck = healthCheckScheduler.register(componentInfo,
+                cpuHogThreadHealthCheck, threadCpuTolerance, AdaptiveSamplingInterval.builder()
+                        .minIntervalMillis(TimeUnit.SECONDS.toMillis(10))
+                        .maxIntervalMillis(TimeUnit.MINUTES.toMillis(1))
+                        .build());
+        addChanDropWizardHealthCheckToEnvironment(componentInfo, sampledCpuHogThreadHealthCheck, environment);
+    }
+
+    private void registerPauseHealthCheck(Environment environment, AdaptiveHealthCheckScheduler healthCheckScheduler) {
+        // A single long pause means the JVM is slow, not dead, so it takes the instance out of rotation
+        // rather than getting it restarted by a liveness probe
+        ComponentInfo componentInfo = ComponentInfo.builder()
+                .componentName("jvm")
+                .componentId("2b0e5c3a-5d4f-4f7e-9a63-0f3a8c1d7e42")
+                .componentType("system")
+                .checkGroup(CheckGroup.READINESS)
+                .build();
+        HealthCheckTolerance healthCheckTolerance = HealthCheckTolerance.builder()
+                .passValue(50.0)
+                .warnValue(200.0)
+                .failValue(1000.0)
+                .toleranceType(ToleranceType.LESS_THAN)
+                .build();
+
+        PauseDetector pauseDetector = new PauseDetector(1, 10000, 1.0);
+        environment.lifecycle().manage(pauseDetector);
+
+        PauseHealthCheck pauseHealthCheck = new PauseHealthCheck(componentInfo, healthCheckTolerance, pauseDetector);
+        SampledHealthCheck sampledPauseHealthCheck = healthCheckScheduler.register(componentInfo, pauseHealthCheck,
+                healthCheckTolerance, AdaptiveSamplingInterval.builder().build());
+        addChanDropWizardHealthCheckToEnvironment(componentInfo, sampledPauseHealthCheck, environment);
+    }
+
+    private void registerThreadPoolHealthCheck(Environment environment,
+                                               AdaptiveHealthCheckScheduler healthCheckScheduler) {
+        ComponentInfo componentInfo = ComponentInfo.builder()
+                .componentName("threadPool")
+                .componentId("9c41d7f2-6b1e-4c55-8e0a-3d7b2f6a9c18")
+                .componentType("system")
+                .checkGroup(CheckGroup.READINESS)
+                .build();
+        HealthCheckTolerance busyRatioTolerance = HealthCheckTolerance.builder()
+                .passValue(75.0)
+                .warnValue(90.0)
+                .failValue(100.0)
+                .toleranceType(ToleranceType.LESS_THAN)
+                .build();
+        HealthCheckTolerance queueDepthTolerance = HealthCheckTolerance.builder()
+                .passValue(10.0)
+                .warnValue(100.0)
+                .failValue(1000.0)
+                .toleranceType(ToleranceType.LESS_THAN)
+                .build();
+        HealthCheckTolerance rejectedTolerance = HealthCheckTolerance.builder()
+                .passValue(0.0)
+                .warnValue(10.0)
+                .failValue(100.0)
+                .toleranceType(ToleranceType.LESS_THAN)
+                .build();
+
+        ThreadPoolSaturationHealthCheck threadPoolHealthCheck = new ThreadPoolSaturationHealthCheck(componentInfo,
+                busyRatioTolerance, queueDepthTolerance, rejectedTolerance);
+        environment.lifecycle().addServerLifecycleListener(server ->
+                threadPoolHealthCheck.discover(server, environment.lifecycle().getManagedObjects()));
+
+        SampledHealthCheck sampledThreadPoolHealthCheck = healthCheckScheduler.register(componentInfo,
+                threadPoolHealthCheck, busyRatioTolerance, AdaptiveSamplingInterval.builder().build());
+        addChanDropWizardHealthCheckToEnvironment(componentInfo, sampledThreadPoolHealthCheck, environment);
+    }
+
+    private void registerClassLoadingHealthCheck(Environment environment,
+                                                 AdaptiveHealthCheckScheduler healthCheckScheduler) {
+        ComponentInfo componentInfo = ComponentInfo.builder()
+                .componentName("classLoading")
+                .componentId("4e8a2f61-0c7d-4b93-a5e2-81d6f3c90b57")
+                .componentType("system")
+                .build();
+        HealthCheckTolerance loadRateTolerance = HealthCheckTolerance.builder()
+                .passValue(100.0)
+                .warnValue(1000.0)
+                .failValue(10000.0)
+                .toleranceType(ToleranceType.LESS_THAN)
+                .build();
+        HealthCheckTolerance metaspaceTolerance = HealthCheckTolerance.builder()
+                .passValue(70.0)
+                .warnValue(90.0)
+                .failValue(100.0)
+                .toleranceType(ToleranceType.LESS_THAN)
+                .build();
+
+        // Metaspace has no maximum unless MaxMetaspaceSize is set, so a slow leak is caught by its growth instead
+        ClassLoadingHealthCheck classLoadingHealthCheck = new ClassLoadingHealthCheck(componentInfo,
+                loadRateTolerance, metaspaceTolerance, TimeUnit.MINUTES.toMillis(5), TimeUnit.MINUTES.toMillis(5),
+                METASPACE_GROWTH_LIMIT_BYTES, systemSnapshotProvider);
+        SampledHealthCheck sampledClassLoadingHealthCheck = healthCheckScheduler.register(componentInfo,
+                classLoadingHealthCheck, metaspaceTolerance, AdaptiveSamplingInterval.builder().build());
+        addChanDropWizardHealthCheckToEnvironment(componentInfo, sampledClassLoadingHealthCheck, environment);
+    }
+
+    private void registerJitWarmupHealthCheck(Environment environment,
+                                              AdaptiveHealthCheckScheduler healthCheckScheduler) {
+        ComponentInfo componentInfo = ComponentInfo.builder()
+                .componentName("jitWarmup")
+                .componentId("c7d2a9e4-1f3b-4a86-b5d0-6e9f2c4a8b13")
+                .componentType("system")
+                .checkGroup(CheckGroup.READINESS)
+                .build();
+
+        WarmupTrafficGenerator warmupTrafficGenerator = new WarmupTrafficGenerator(ImmutableList.of("/template"),
+                TimeUnit.MINUTES.toMillis(2), 1);
+        JitWarmupHealthCheck jitWarmupHealthCheck = new JitWarmupHealthCheck(componentInfo,
+                JitWarmupCriteria.builder().build(), systemSnapshotProvider, warmupTrafficGenerator);
+        warmupTrafficGenerator.setWarmSupplier(jitWarmupHealthCheck::isWarm);
+        environment.lifecycle().addServerLifecycleListener(warmupTrafficGenerator);
+        environment.lifecycle().manage(warmupTrafficGenerator);
+
+        SampledHealthCheck sampledJitWarmupHealthCheck = healthCheckScheduler.register(componentInfo,
+                jitWarmupHealthCheck, null, AdaptiveSamplingInterval.builder().build());
+        // A cold JVM only holds back readiness, it must not fail the admin healthcheck
+        addChanDropWizardHealthCheckToCheckGroup(componentInfo, sampledJitWarmupHealthCheck);
     }
 
     private void addChanDropWizardHealthCheckToEnvironment(ComponentInfo componentInfo, IHealthCheckInfo healthCheckInfo,
                                                            Environment environment) {
-        ChanDropWizardHealthCheck chanDropWizardHealthCheck = new ChanDropWizardHealthCheck(componentInfo, healthCheckInfo);
+        ChanDropWizardHealthCheck chanDropWizardHealthCheck = addChanDropWizardHealthCheckToCheckGroup(componentInfo,
+                healthCheckInfo);
         environment.healthChecks().register(chanDropWizardHealthCheck.getMetricTitle(), chanDropWizardHealthCheck);
     }
 
+    private ChanDropWizardHealthCheck addChanDropWizardHealthCheckToCheckGroup(ComponentInfo componentInfo,
+                                                                               IHealthCheckInfo healthCheckInfo) {
+        ChanDropWizardHealthCheck chanDropWizardHealthCheck = new ChanDropWizardHealthCheck(componentInfo, healthCheckInfo,
+                HEALTH_CHECK_TIMEOUT_MILLIS, MAX_ABANDONED_EVALUATIONS);
+        checkGroupRegistry.register(chanDropWizardHealthCheck);
+        return chanDropWizardHealthCheck;
+    }
+
     @Override
     public void initialize(Bootstrap<TemplateConfiguration> bootstrap) {
         // Not required
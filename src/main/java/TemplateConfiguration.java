@@ -1,3 +1,8 @@
+import com.dropwizard.template.health.fleet.FleetConfiguration;
+import com.dropwizard.template.health.persistence.SampleLogConfiguration;
+import com.dropwizard.template.health.shedding.LoadSheddingConfiguration;
+import com.dropwizard.template.health.system.memory.HeapDumpConfiguration;
+import com.dropwizard.template.health.system.memory.HeapHistogramConfiguration;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.dropwizard.Configuration;
@@ -8,10 +13,25 @@ import javax.validation.constraints.NotNull;
 @Getter
 public class TemplateConfiguration extends Configuration {
     @NotNull private final int defaultSize;
+    private final FleetConfiguration fleet;
+    private final SampleLogConfiguration sampleLog;
+    private final LoadSheddingConfiguration loadShedding;
+    private final HeapDumpConfiguration heapDump;
+    private final HeapHistogramConfiguration heapHistogram;
 
     @JsonCreator
-    public TemplateConfiguration(@JsonProperty("defaultSize") int defaultSize) {
+    public TemplateConfiguration(@JsonProperty("defaultSize") int defaultSize,
+                                 @JsonProperty("fleet") FleetConfiguration fleet,
+                                 @JsonProperty("sampleLog") SampleLogConfiguration sampleLog,
+                                 @JsonProperty("loadShedding") LoadSheddingConfiguration loadShedding,
+                                 @JsonProperty("heapDump") HeapDumpConfiguration heapDump,
+                                 @JsonProperty("heapHistogram") HeapHistogramConfiguration heapHistogram) {
         this.defaultSize = defaultSize;
+        this.fleet = fleet;
+        this.sampleLog = sampleLog;
+        this.loadShedding = loadShedding;
+        this.heapDump = heapDump;
+        this.heapHistogram = heapHistogram;
     }
 
 }
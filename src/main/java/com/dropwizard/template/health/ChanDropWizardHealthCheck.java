@@ -5,29 +5,71 @@ import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
 import com.dropwizard.template.health.model.ComponentHealthCheckModel;
 import com.dropwizard.template.health.model.ComponentInfo;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.HashMap;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ChanDropWizardHealthCheck extends HealthCheck {
     static final String COLON = ":";
+    static final long NO_TIMEOUT = 0;
+
+    private static final ExecutorService EVALUATION_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("health-check-evaluation-%d")
+            .setDaemon(true)
+            .build());
 
     private final ComponentInfo componentInfo;
     private final IHealthCheckInfo healthCheckInfo;
+    private final ComponentHealthCheckSerializer serializer;
+    private final long timeoutMillis;
+    private final int maxAbandonedEvaluations;
+    private final AtomicInteger outstandingEvaluations = new AtomicInteger();
 
     public ChanDropWizardHealthCheck(ComponentInfo componentInfo, IHealthCheckInfo healthCheckInfo) {
+        this(componentInfo, healthCheckInfo, NO_TIMEOUT, 0);
+    }
+
+    public ChanDropWizardHealthCheck(ComponentInfo componentInfo,
+                                     IHealthCheckInfo healthCheckInfo,
+                                     long timeoutMillis,
+                                     int maxAbandonedEvaluations) {
+        if (timeoutMillis < 0 || (timeoutMillis > 0 && maxAbandonedEvaluations <= 0)) {
+            throw new IllegalArgumentException("Invalid Health Check Timeout");
+        }
         this.componentInfo = componentInfo;
         this.healthCheckInfo = healthCheckInfo;
+        this.serializer = new ComponentHealthCheckSerializer(componentInfo, healthCheckInfo);
+        this.timeoutMillis = timeoutMillis;
+        this.maxAbandonedEvaluations = maxAbandonedEvaluations;
+    }
+
+    public ComponentInfo getComponentInfo() {
+        return componentInfo;
+    }
+
+    public int getOutstandingEvaluations() {
+        return outstandingEvaluations.get();
     }
 
     public String getMetricTitle() {
-        String metricName = healthCheckInfo.getMetricName();
+        return getMetricTitle(componentInfo, healthCheckInfo.getMetricName());
+    }
+
+    public static String getMetricTitle(ComponentInfo componentInfo, String metricName) {
         if (StringUtils.isEmpty(metricName)) {
             return componentInfo.getComponentName();
         }
@@ -49,18 +91,79 @@ public class ChanDropWizardHealthCheck extends HealthCheck {
 
     private ComponentHealthCheckModel getLatestHealthCheckResults() {
         List<ComponentHealthCheckModel.Value> componentValues =
-                healthCheckInfo.getComponentValues();
+                timeoutMillis == NO_TIMEOUT || healthCheckInfo.hasCachedComponentValues() ?
+                healthCheckInfo.getComponentValues() :
+                getComponentValuesWithinTimeout();
 
         return ComponentHealthCheckModel.builder()
                 .componentName(componentInfo.getComponentName())
                 .metricName(healthCheckInfo.getMetricName())
                 .version(healthCheckInfo.getVersion())
-                .status(getStatus(componentValues))
+                .status(ComponentHealthCheckModel.getStatus(componentValues))
                 .description(healthCheckInfo.getDescription())
                 .componentValue(componentValues)
+                .details(healthCheckInfo.getDetails())
                 .build();
     }
 
+    // Every evaluation holds a slot until it finishes, so a timed out one keeps its slot while it lingers
+    // and no more than maxAbandonedEvaluations can ever be left running
+    private List<ComponentHealthCheckModel.Value> getComponentValuesWithinTimeout() {
+        int outstanding;
+        do {
+            outstanding = outstandingEvaluations.get();
+            if (outstanding >= maxAbandonedEvaluations) {
+                return getFailedComponentValues("Skipped, " + outstanding + " evaluations are still running");
+            }
+        } while (!outstandingEvaluations.compareAndSet(outstanding, outstanding + 1));
+
+        AtomicBoolean started = new AtomicBoolean();
+        Future<List<ComponentHealthCheckModel.Value>> evaluation = EVALUATION_EXECUTOR.submit(() -> {
+            if (!started.compareAndSet(false, true)) {
+                return null;
+            }
+            try {
+                return healthCheckInfo.getComponentValues();
+            } finally {
+                outstandingEvaluations.decrementAndGet();
+            }
+        });
+
+        try {
+            try {
+                return evaluation.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                abandon(evaluation, started);
+                return getFailedComponentValues("Health check timed out after " + timeoutMillis + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon(evaluation, started);
+            return getFailedComponentValues("Interrupted while waiting for the health check");
+        } catch (ExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // An evaluation that never got to run releases its slot here, a running one releases it when it returns
+    private void abandon(Future<?> evaluation, AtomicBoolean started) {
+        if (started.compareAndSet(false, true)) {
+            outstandingEvaluations.decrementAndGet();
+        }
+        evaluation.cancel(true);
+    }
+
+    private List<ComponentHealthCheckModel.Value> getFailedComponentValues(String output) {
+        return ImmutableList.of(ComponentHealthCheckModel.Value.builder()
+                .componentId(componentInfo.getComponentId())
+                .componentType(componentInfo.getComponentType())
+                .status(HealthCheckStatusEnum.FAIL)
+                .time(new Date())
+                .output(output)
+                .build());
+    }
+
     private Result convertComponentHealthCheckModelToResult(ComponentHealthCheckModel componentHealthCheckModel) throws JsonProcessingException {
         ResultBuilder resultBuilder = Result.builder();
         if (isHealthy(componentHealthCheckModel)) {
@@ -69,8 +172,7 @@ public class ChanDropWizardHealthCheck extends HealthCheck {
             resultBuilder.unhealthy();
         }
 
-        String jsonString = convertComponentHealthCheckToJsonString(componentHealthCheckModel);
-        updateResultBuilderWithJsonDetail(jsonString, resultBuilder);
+        updateResultBuilderWithDetail(componentHealthCheckModel, resultBuilder);
         return resultBuilder.build();
     }
 
@@ -84,32 +186,26 @@ public class ChanDropWizardHealthCheck extends HealthCheck {
         return healthSet.contains(status);
     }
 
-    private String convertComponentHealthCheckToJsonString(ComponentHealthCheckModel componentHealthCheckModel) throws JsonProcessingException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
-        return objectMapper.writeValueAsString(componentHealthCheckModel);
-    }
-
-    private void updateResultBuilderWithJsonDetail(String jsonString, ResultBuilder resultBuilder) throws JsonProcessingException {
-        HashMap<String, Object> reader = new ObjectMapper().readValue(jsonString, HashMap.class);
-        for (String key : reader.keySet()) {
-            Object value = reader.get(key);
-            resultBuilder.withDetail(key, value);
+    // Same flat layout as the serialized model. The value array and details go in pre-serialized, so the
+    // servlet writes them out as they are instead of walking them again.
+    private void updateResultBuilderWithDetail(ComponentHealthCheckModel componentHealthCheckModel,
+                                               ResultBuilder resultBuilder) throws JsonProcessingException {
+        withDetailIfPresent(resultBuilder, "componentName", componentHealthCheckModel.getComponentName());
+        withDetailIfPresent(resultBuilder, "metricName", componentHealthCheckModel.getMetricName());
+        withDetailIfPresent(resultBuilder, "status", componentHealthCheckModel.getStatus().getValue());
+        withDetailIfPresent(resultBuilder, "version", componentHealthCheckModel.getVersion());
+        withDetailIfPresent(resultBuilder, "description", componentHealthCheckModel.getDescription());
+        resultBuilder.withDetail("componentValue",
+                new RawValue(serializer.serializeComponentValues(componentHealthCheckModel.getComponentValue())));
+        if (componentHealthCheckModel.getDetails() != null) {
+            resultBuilder.withDetail("details",
+                    new RawValue(ComponentHealthCheckSerializer.serializeDetails(componentHealthCheckModel.getDetails())));
         }
     }
 
-    private HealthCheckStatusEnum getStatus(List<ComponentHealthCheckModel.Value> componentValues) {
-        HealthCheckStatusEnum status = HealthCheckStatusEnum.PASS;
-        for (ComponentHealthCheckModel.Value value : componentValues) {
-            if (value.getStatus() == HealthCheckStatusEnum.FAIL) {
-                return HealthCheckStatusEnum.FAIL;
-            }
-
-            if (value.getStatus() == HealthCheckStatusEnum.WARN) {
-                status = HealthCheckStatusEnum.WARN;
-            }
+    private static void withDetailIfPresent(ResultBuilder resultBuilder, String key, String value) {
+        if (value != null) {
+            resultBuilder.withDetail(key, value);
         }
-        return status;
     }
 }
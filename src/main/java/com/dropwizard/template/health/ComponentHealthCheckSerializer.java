@@ -0,0 +1,251 @@
+package com.dropwizard.template.health;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Writes the same JSON as Jackson does for ComponentHealthCheckModel, but the fields that never change for a check
+// are encoded once up front and a probe only appends the dynamic ones.
+public class ComponentHealthCheckSerializer {
+    static final int MAX_CACHED_FRAGMENTS = 64;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
+    private static final DateTimeFormatter TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ").withZone(ZoneOffset.UTC);
+    private static final byte[][] STATUS_FRAGMENTS = buildStatusFragments();
+    private static final byte[] COMPONENT_VALUE_FIELD = "\"componentValue\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DETAILS_FIELD = "\"details\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] METRIC_VALUE_FIELD = "\"metricValue\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TIME_FIELD = "\"time\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OUTPUT_FIELD = "\"output\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] LINK_FIELD = "\"link\":\"".getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] componentNameFragment;
+    private final byte[] metricNameFragment;
+    private final byte[] versionFragment;
+    private final byte[] descriptionFragment;
+    private final String componentId;
+    private final String componentType;
+    private final byte[] componentIdTypeFragment;
+    private final Map<String, byte[]> componentIdTypeFragmentMap = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> metricUnitFragmentMap = new ConcurrentHashMap<>();
+
+    public ComponentHealthCheckSerializer(ComponentInfo componentInfo, IHealthCheckInfo healthCheckInfo) {
+        this.componentNameFragment = encodeField("componentName", componentInfo.getComponentName());
+        this.metricNameFragment = encodeField("metricName", healthCheckInfo.getMetricName());
+        this.versionFragment = encodeField("version", healthCheckInfo.getVersion());
+        this.descriptionFragment = encodeField("description", healthCheckInfo.getDescription());
+        this.componentId = componentInfo.getComponentId();
+        this.componentType = componentInfo.getComponentType();
+        this.componentIdTypeFragment = encodeComponentIdType(componentId, componentType);
+    }
+
+    public byte[] serialize(HealthCheckStatusEnum status,
+                            List<ComponentHealthCheckModel.Value> componentValues,
+                            Map<String, Object> details) throws JsonProcessingException {
+        FragmentWriter writer = new FragmentWriter(256 + componentValues.size() * 160);
+        writer.startObject();
+        writer.writeField(componentNameFragment);
+        writer.writeField(metricNameFragment);
+        writer.writeField(status == null ? null : STATUS_FRAGMENTS[status.ordinal()]);
+        writer.writeField(versionFragment);
+        writer.writeField(descriptionFragment);
+
+        writer.writeField(COMPONENT_VALUE_FIELD);
+        writeValues(writer, componentValues);
+        writer.write(']');
+
+        if (details != null) {
+            writer.writeField(DETAILS_FIELD);
+            writer.write(OBJECT_MAPPER.writeValueAsBytes(details));
+        }
+        writer.endObject();
+        return writer.toByteArray();
+    }
+
+    // Only the componentValue array, for callers that lay out the surrounding fields themselves
+    public String serializeComponentValues(List<ComponentHealthCheckModel.Value> componentValues)
+            throws JsonProcessingException {
+        FragmentWriter writer = new FragmentWriter(2 + componentValues.size() * 160);
+        writer.write('[');
+        writeValues(writer, componentValues);
+        writer.write(']');
+        return writer.toUtf8String();
+    }
+
+    public static String serializeDetails(Map<String, Object> details) throws JsonProcessingException {
+        return OBJECT_MAPPER.writeValueAsString(details);
+    }
+
+    private void writeValues(FragmentWriter writer, List<ComponentHealthCheckModel.Value> componentValues)
+            throws JsonProcessingException {
+        for (int i = 0; i < componentValues.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(writer, componentValues.get(i));
+        }
+    }
+
+    private void writeValue(FragmentWriter writer, ComponentHealthCheckModel.Value value) throws JsonProcessingException {
+        writer.startObject();
+        writer.writeField(getComponentIdTypeFragment(value.getComponentId(), value.getComponentType()));
+
+        if (value.getMetricValue() != null) {
+            writer.writeField(METRIC_VALUE_FIELD);
+            writeMetricValue(writer, value.getMetricValue());
+        }
+        if (value.getMetricUnit() != null) {
+            writer.writeField(getCachedFragment(metricUnitFragmentMap, value.getMetricUnit(),
+                    () -> encodeField("metricUnit", value.getMetricUnit())));
+        }
+        writer.writeField(value.getStatus() == null ? null : STATUS_FRAGMENTS[value.getStatus().ordinal()]);
+        if (value.getTime() != null) {
+            writer.writeField(TIME_FIELD);
+            writer.writeAscii(TIME_FORMATTER.format(value.getTime().toInstant()));
+            writer.write('"');
+        }
+        if (value.getOutput() != null) {
+            writer.writeField(OUTPUT_FIELD);
+            writer.write(JsonStringEncoder.getInstance().quoteAsUTF8(value.getOutput()));
+            writer.write('"');
+        }
+        if (value.getLink() != null) {
+            writer.writeField(LINK_FIELD);
+            writer.write(JsonStringEncoder.getInstance().quoteAsUTF8(value.getLink().toString()));
+            writer.write('"');
+        }
+        writer.endObject();
+    }
+
+    private static void writeMetricValue(FragmentWriter writer, Object metricValue) throws JsonProcessingException {
+        if (metricValue instanceof Double && Double.isFinite((Double) metricValue) ||
+                metricValue instanceof Long || metricValue instanceof Integer || metricValue instanceof Boolean) {
+            writer.writeAscii(metricValue.toString());
+            return;
+        }
+        writer.write(OBJECT_MAPPER.writeValueAsBytes(metricValue));
+    }
+
+    private byte[] getComponentIdTypeFragment(String valueComponentId, String valueComponentType) {
+        if (equals(componentId, valueComponentId) && equals(componentType, valueComponentType)) {
+            return componentIdTypeFragment;
+        }
+        return getCachedFragment(componentIdTypeFragmentMap, valueComponentId + '\u0000' + valueComponentType,
+                () -> encodeComponentIdType(valueComponentId, valueComponentType));
+    }
+
+    // Bounded so values with ever-changing ids cannot grow the cache without limit
+    private static byte[] getCachedFragment(Map<String, byte[]> fragmentMap,
+                                            String key,
+                                            Supplier<byte[]> fragmentSupplier) {
+        byte[] fragment = fragmentMap.get(key);
+        if (fragment != null) {
+            return fragment;
+        }
+
+        fragment = fragmentSupplier.get();
+        if (fragmentMap.size() < MAX_CACHED_FRAGMENTS) {
+            fragmentMap.put(key, fragment);
+        }
+        return fragment;
+    }
+
+    private static byte[] encodeComponentIdType(String componentId, String componentType) {
+        byte[] componentIdFragment = encodeField("componentId", componentId);
+        byte[] componentTypeFragment = encodeField("componentType", componentType);
+        if (componentIdFragment == null || componentTypeFragment == null) {
+            return componentIdFragment == null ? componentTypeFragment : componentIdFragment;
+        }
+
+        byte[] fragment = new byte[componentIdFragment.length + 1 + componentTypeFragment.length];
+        System.arraycopy(componentIdFragment, 0, fragment, 0, componentIdFragment.length);
+        fragment[componentIdFragment.length] = ',';
+        System.arraycopy(componentTypeFragment, 0, fragment, componentIdFragment.length + 1,
+                componentTypeFragment.length);
+        return fragment;
+    }
+
+    private static byte[] encodeField(String fieldName, String value) {
+        if (value == null) {
+            return null;
+        }
+        return ("\"" + fieldName + "\":\"" + new String(JsonStringEncoder.getInstance().quoteAsString(value)) + "\"")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[][] buildStatusFragments() {
+        HealthCheckStatusEnum[] statuses = HealthCheckStatusEnum.values();
+        byte[][] statusFragments = new byte[statuses.length][];
+        for (HealthCheckStatusEnum status : statuses) {
+            statusFragments[status.ordinal()] = encodeField("status", status.toString());
+        }
+        return statusFragments;
+    }
+
+    private static boolean equals(String left, String right) {
+        return left == null ? right == null : left.equals(right);
+    }
+
+    private static class FragmentWriter extends ByteArrayOutputStream {
+        private boolean needsComma;
+
+        FragmentWriter(int initialSize) {
+            super(initialSize);
+        }
+
+        void startObject() {
+            write('{');
+            needsComma = false;
+        }
+
+        void endObject() {
+            write('}');
+            needsComma = true;
+        }
+
+        // Null fragments are fields Jackson would leave out
+        void writeField(byte[] fragment) {
+            if (fragment == null) {
+                return;
+            }
+            if (needsComma) {
+                write(',');
+            }
+            write(fragment, 0, fragment.length);
+            needsComma = true;
+        }
+
+        void writeAscii(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                write(value.charAt(i));
+            }
+        }
+
+        String toUtf8String() {
+            return new String(buf, 0, count, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void write(byte[] bytes) {
+            write(bytes, 0, bytes.length);
+        }
+    }
+}
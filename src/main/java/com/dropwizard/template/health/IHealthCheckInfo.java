@@ -4,6 +4,7 @@ import com.dropwizard.template.health.model.ComponentHealthCheckModel;
 import com.dropwizard.template.health.model.HealthCheckTolerance;
 
 import java.util.List;
+import java.util.Map;
 
 public interface IHealthCheckInfo {
 
@@ -12,4 +13,27 @@ public interface IHealthCheckInfo {
     String getMetricName();
 
     List<ComponentHealthCheckModel.Value> getComponentValues();
+
+    // True when getComponentValues only hands back values computed earlier and cannot block.
+    // Such a check reports FAIL itself once its values stop being refreshed.
+    default boolean hasCachedComponentValues() {
+        return false;
+    }
+
+    // How far the values sit from WARN, 1.0 well clear and 0.0 at the warn value. Checks that grade values against
+    // several tolerances answer this, null scores every number against the scheduler's tolerance
+    default Double getWarnDistance(List<ComponentHealthCheckModel.Value> componentValues) {
+        return null;
+    }
+
+    // Stable name of a value across samples, used to key its gauge. Values keep their position by default,
+    // null leaves a value that has no stable identity unpublished.
+    default String getValueName(int index, ComponentHealthCheckModel.Value value) {
+        return String.valueOf(index);
+    }
+
+    // Extra check level details, null when there are none
+    default Map<String, Object> getDetails() {
+        return null;
+    }
 }
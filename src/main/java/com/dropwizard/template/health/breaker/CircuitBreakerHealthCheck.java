@@ -0,0 +1,172 @@
+package com.dropwizard.template.health.breaker;
+
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.google.common.collect.ImmutableList;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+// Opens after consecutive FAIL results and serves the cached FAIL until the backoff expires,
+// then lets a single probe through as a trial. Every transition is a compare and set on one snapshot.
+public class CircuitBreakerHealthCheck implements IHealthCheckInfo {
+    static final String STATE_DETAIL = "breakerState";
+    static final String CONSECUTIVE_FAILURES_DETAIL = "consecutiveFailures";
+    static final String NEXT_RETRY_DETAIL = "nextRetryTime";
+
+    private final ComponentInfo componentInfo;
+    private final IHealthCheckInfo healthCheckInfo;
+    private final int failureThreshold;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final LongSupplier currentTimeMillis;
+    private final AtomicReference<CircuitBreakerSnapshot> breakerSnapshot =
+            new AtomicReference<>(CircuitBreakerSnapshot.CLOSED);
+
+    public CircuitBreakerHealthCheck(ComponentInfo componentInfo,
+                                     IHealthCheckInfo healthCheckInfo,
+                                     int failureThreshold,
+                                     long initialBackoffMillis,
+                                     long maxBackoffMillis) {
+        this(componentInfo, healthCheckInfo, failureThreshold, initialBackoffMillis, maxBackoffMillis,
+                System::currentTimeMillis);
+    }
+
+    CircuitBreakerHealthCheck(ComponentInfo componentInfo,
+                              IHealthCheckInfo healthCheckInfo,
+                              int failureThreshold,
+                              long initialBackoffMillis,
+                              long maxBackoffMillis,
+                              LongSupplier currentTimeMillis) {
+        if (failureThreshold <= 0 || initialBackoffMillis <= 0 || maxBackoffMillis < initialBackoffMillis) {
+            throw new IllegalArgumentException("Invalid Circuit Breaker Configuration");
+        }
+        this.componentInfo = componentInfo;
+        this.healthCheckInfo = healthCheckInfo;
+        this.failureThreshold = failureThreshold;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    public CircuitBreakerState getState() {
+        return breakerSnapshot.get().getState();
+    }
+
+    @Override
+    public String getVersion() {
+        return healthCheckInfo.getVersion();
+    }
+
+    @Override
+    public String getDescription() {
+        return healthCheckInfo.getDescription();
+    }
+
+    @Override
+    public String getMetricName() {
+        return healthCheckInfo.getMetricName();
+    }
+
+    @Override
+    public String getValueName(int index, ComponentHealthCheckModel.Value value) {
+        return healthCheckInfo.getValueName(index, value);
+    }
+
+    @Override
+    public Map<String, Object> getDetails() {
+        CircuitBreakerSnapshot snapshot = breakerSnapshot.get();
+        Map<String, Object> details = new LinkedHashMap<>();
+        Map<String, Object> delegateDetails = healthCheckInfo.getDetails();
+        if (delegateDetails != null) {
+            details.putAll(delegateDetails);
+        }
+        details.put(STATE_DETAIL, snapshot.getState().getValue());
+        details.put(CONSECUTIVE_FAILURES_DETAIL, snapshot.getConsecutiveFailures());
+        if (snapshot.getState() != CircuitBreakerState.CLOSED) {
+            details.put(NEXT_RETRY_DETAIL, Instant.ofEpochMilli(snapshot.getNextRetryMillis()).toString());
+        }
+        return details;
+    }
+
+    @Override
+    public List<ComponentHealthCheckModel.Value> getComponentValues() {
+        CircuitBreakerSnapshot snapshot = breakerSnapshot.get();
+        long nowMillis = currentTimeMillis.getAsLong();
+        if (snapshot.isWaiting(nowMillis)) {
+            return snapshot.getCachedValues();
+        }
+
+        // Only the probe that wins the move to half open runs the trial, the rest keep the cached result
+        if (snapshot.getState() != CircuitBreakerState.CLOSED) {
+            CircuitBreakerSnapshot trialSnapshot = new CircuitBreakerSnapshot(CircuitBreakerState.HALF_OPEN,
+                    snapshot.getConsecutiveFailures(), snapshot.getOpenCount(),
+                    nowMillis + getBackoffMillis(snapshot.getOpenCount()), snapshot.getCachedValues());
+            if (!breakerSnapshot.compareAndSet(snapshot, trialSnapshot)) {
+                return snapshot.getCachedValues();
+            }
+        }
+
+        List<ComponentHealthCheckModel.Value> componentValues = evaluate();
+        boolean failed = ComponentHealthCheckModel.getStatus(componentValues) == HealthCheckStatusEnum.FAIL;
+        CircuitBreakerSnapshot currentSnapshot;
+        CircuitBreakerSnapshot nextSnapshot;
+        do {
+            currentSnapshot = breakerSnapshot.get();
+            nextSnapshot = failed ?
+                    getFailedSnapshot(currentSnapshot, componentValues, currentTimeMillis.getAsLong()) :
+                    CircuitBreakerSnapshot.CLOSED;
+        } while (!breakerSnapshot.compareAndSet(currentSnapshot, nextSnapshot));
+        return componentValues;
+    }
+
+    private List<ComponentHealthCheckModel.Value> evaluate() {
+        try {
+            return healthCheckInfo.getComponentValues();
+        } catch (RuntimeException e) {
+            return ImmutableList.of(ComponentHealthCheckModel.Value.builder()
+                    .componentId(componentInfo.getComponentId())
+                    .componentType(componentInfo.getComponentType())
+                    .status(HealthCheckStatusEnum.FAIL)
+                    .time(new Date())
+                    .output(e.getMessage())
+                    .build());
+        }
+    }
+
+    private CircuitBreakerSnapshot getFailedSnapshot(CircuitBreakerSnapshot snapshot,
+                                                     List<ComponentHealthCheckModel.Value> componentValues,
+                                                     long nowMillis) {
+        // A concurrent probe already opened the breaker for this failure, opening it again would double the backoff
+        if (snapshot.getState() == CircuitBreakerState.OPEN) {
+            return snapshot;
+        }
+
+        int consecutiveFailures = snapshot.getConsecutiveFailures() + 1;
+        boolean trialFailed = snapshot.getState() == CircuitBreakerState.HALF_OPEN;
+        if (!trialFailed && consecutiveFailures < failureThreshold) {
+            return new CircuitBreakerSnapshot(CircuitBreakerState.CLOSED, consecutiveFailures, 0, 0, null);
+        }
+
+        int openCount = snapshot.getOpenCount() + 1;
+        return new CircuitBreakerSnapshot(CircuitBreakerState.OPEN, consecutiveFailures, openCount,
+                nowMillis + getBackoffMillis(openCount), ImmutableList.copyOf(componentValues));
+    }
+
+    // initial, 2x, 4x ... capped at the max backoff
+    long getBackoffMillis(int openCount) {
+        int doublings = Math.min(Math.max(0, openCount - 1), 62);
+        long backoffMillis = initialBackoffMillis << doublings;
+        if (backoffMillis <= 0 || (backoffMillis >> doublings) != initialBackoffMillis) {
+            return maxBackoffMillis;
+        }
+        return Math.min(maxBackoffMillis, backoffMillis);
+    }
+}
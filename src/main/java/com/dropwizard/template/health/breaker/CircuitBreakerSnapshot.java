@@ -0,0 +1,24 @@
+package com.dropwizard.template.health.breaker;
+
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// Immutable so the breaker can move between states with a single compare and set
+@Getter
+@AllArgsConstructor
+class CircuitBreakerSnapshot {
+    static final CircuitBreakerSnapshot CLOSED = new CircuitBreakerSnapshot(CircuitBreakerState.CLOSED, 0, 0, 0, null);
+
+    private final CircuitBreakerState state;
+    private final int consecutiveFailures;
+    private final int openCount;
+    private final long nextRetryMillis;
+    private final List<ComponentHealthCheckModel.Value> cachedValues;
+
+    boolean isWaiting(long nowMillis) {
+        return state != CircuitBreakerState.CLOSED && nowMillis < nextRetryMillis;
+    }
+}
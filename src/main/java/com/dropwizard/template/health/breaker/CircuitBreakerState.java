@@ -0,0 +1,21 @@
+package com.dropwizard.template.health.breaker;
+
+import lombok.Getter;
+
+@Getter
+public enum CircuitBreakerState {
+    CLOSED("closed"),
+    OPEN("open"),
+    HALF_OPEN("halfOpen");
+
+    private final String value;
+
+    CircuitBreakerState(String value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return this.value;
+    }
+}
@@ -0,0 +1,114 @@
+package com.dropwizard.template.health.dependency;
+
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+import com.dropwizard.template.health.system.enums.Metric;
+import com.google.common.collect.ImmutableList;
+
+import java.net.URI;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Probes run on the selector thread, a health check call only waits for the very first probe
+public abstract class DependencyHealthCheck implements IHealthCheckInfo {
+    static final String VERSION = "1.0";
+
+    private final ComponentInfo componentInfo;
+    private final HealthCheckTolerance healthCheckTolerance;
+    protected final DependencyProbeSelector probeSelector;
+    protected final long timeoutMillis;
+    private final AtomicReference<CompletableFuture<ProbeResult>> inFlightProbe = new AtomicReference<>();
+    private volatile ProbeResult latestProbeResult;
+
+    protected DependencyHealthCheck(ComponentInfo componentInfo,
+                                    HealthCheckTolerance healthCheckTolerance,
+                                    DependencyProbeSelector probeSelector,
+                                    long timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("Probe timeout must be > 0");
+        }
+        this.componentInfo = componentInfo;
+        this.healthCheckTolerance = healthCheckTolerance;
+        this.probeSelector = probeSelector;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    protected abstract CompletableFuture<ProbeResult> submitProbe();
+
+    protected abstract Double getLatencyMillis(ProbeResult probeResult);
+
+    protected abstract URI getLink();
+
+    @Override
+    public String getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public List<ComponentHealthCheckModel.Value> getComponentValues() {
+        CompletableFuture<ProbeResult> probe = startProbeIfIdle();
+        ProbeResult probeResult = latestProbeResult;
+        if (probeResult == null) {
+            probeResult = awaitProbeResult(probe);
+        }
+        return ImmutableList.of(buildComponentValue(probeResult));
+    }
+
+    private CompletableFuture<ProbeResult> startProbeIfIdle() {
+        CompletableFuture<ProbeResult> currentProbe = inFlightProbe.get();
+        if (currentProbe != null && !currentProbe.isDone()) {
+            return currentProbe;
+        }
+
+        CompletableFuture<ProbeResult> nextProbe = new CompletableFuture<>();
+        if (!inFlightProbe.compareAndSet(currentProbe, nextProbe)) {
+            return inFlightProbe.get();
+        }
+
+        submitProbe().whenComplete((probeResult, throwable) -> {
+            ProbeResult completedResult = throwable == null ? probeResult : ProbeResult.failure(throwable.getMessage());
+            latestProbeResult = completedResult;
+            nextProbe.complete(completedResult);
+        });
+        return nextProbe;
+    }
+
+    private ProbeResult awaitProbeResult(CompletableFuture<ProbeResult> probe) {
+        try {
+            return probe.get(timeoutMillis * 2, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return ProbeResult.failure("Probe timed out after " + timeoutMillis + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ProbeResult.failure("Interrupted while waiting for probe");
+        } catch (ExecutionException e) {
+            return ProbeResult.failure(e.getCause().getMessage());
+        }
+    }
+
+    private ComponentHealthCheckModel.Value buildComponentValue(ProbeResult probeResult) {
+        Double latencyMillis = getLatencyMillis(probeResult);
+        HealthCheckStatusEnum status = probeResult.isSuccess() && latencyMillis != null ?
+                healthCheckTolerance.getHealthCheckStatus(latencyMillis) :
+                HealthCheckStatusEnum.FAIL;
+
+        return ComponentHealthCheckModel.Value.builder()
+                .componentId(componentInfo.getComponentId())
+                .componentType(componentInfo.getComponentType())
+                .metricValue(latencyMillis)
+                .metricUnit(Metric.MILLISECONDS.getValue())
+                .status(status)
+                .time(new Date(probeResult.getCompletedAtMillis()))
+                .output(probeResult.getErrorMessage())
+                .link(getLink())
+                .build();
+    }
+}
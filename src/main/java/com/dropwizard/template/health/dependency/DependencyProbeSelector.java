@@ -0,0 +1,383 @@
+package com.dropwizard.template.health.dependency;
+
+import io.dropwizard.lifecycle.Managed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+// Runs every TCP/HTTP probe on one selector thread, idle HTTP keep-alive connections are pooled per target
+public class DependencyProbeSelector implements Managed {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DependencyProbeSelector.class);
+    static final String THREAD_NAME = "dependency-probe-selector";
+    static final int DEFAULT_MAX_IDLE_CONNECTIONS = 4;
+    static final int READ_BUFFER_SIZE = 8192;
+    static final String USER_AGENT = "chan-dropwizard-healthcheck";
+
+    private final int maxIdleConnectionsPerTarget;
+    private final Queue<ProbeContext> pendingProbeQueue = new ConcurrentLinkedQueue<>();
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+    // Only touched by the selector thread
+    private final Set<ProbeContext> activeProbeSet = new HashSet<>();
+    private final Map<InetSocketAddress, Deque<SocketChannel>> idleConnectionMap = new HashMap<>();
+
+    private volatile Selector selector;
+    private volatile boolean running;
+    private Thread selectorThread;
+
+    public DependencyProbeSelector() {
+        this(DEFAULT_MAX_IDLE_CONNECTIONS);
+    }
+
+    public DependencyProbeSelector(int maxIdleConnectionsPerTarget) {
+        this.maxIdleConnectionsPerTarget = maxIdleConnectionsPerTarget;
+    }
+
+    public CompletableFuture<ProbeResult> probeTcp(InetSocketAddress address, long timeoutMillis) {
+        return submit(new ProbeContext(address, null, timeoutMillis));
+    }
+
+    public CompletableFuture<ProbeResult> probeHttp(InetSocketAddress address, String path, long timeoutMillis) {
+        return submit(new ProbeContext(address, buildHttpGetRequest(address, path), timeoutMillis));
+    }
+
+    @Override
+    public synchronized void start() throws IOException {
+        if (running) {
+            return;
+        }
+        selector = Selector.open();
+        running = true;
+        selectorThread = new Thread(this::runSelectLoop, THREAD_NAME);
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+    }
+
+    @Override
+    public synchronized void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        selector.wakeup();
+        selectorThread.join(TimeUnit.SECONDS.toMillis(5));
+        // Nothing is queued once running is cleared, this only catches a loop that did not exit in time
+        failPendingProbes();
+    }
+
+    // Synchronized with stop so a probe is either queued before the loop drains or failed here
+    private synchronized CompletableFuture<ProbeResult> submit(ProbeContext probeContext) {
+        if (!running) {
+            probeContext.getFuture().complete(ProbeResult.failure("Probe selector is not running"));
+            return probeContext.getFuture();
+        }
+
+        pendingProbeQueue.add(probeContext);
+        selector.wakeup();
+        return probeContext.getFuture();
+    }
+
+    private static ByteBuffer buildHttpGetRequest(InetSocketAddress address, String path) {
+        String request = "GET " + path + " HTTP/1.1\r\n" +
+                "Host: " + address.getHostString() + ":" + address.getPort() + "\r\n" +
+                "User-Agent: " + USER_AGENT + "\r\n" +
+                "Accept: */*\r\n" +
+                "Connection: keep-alive\r\n" +
+                "\r\n";
+        return ByteBuffer.wrap(request.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private void runSelectLoop() {
+        while (running) {
+            try {
+                selector.select(getSelectTimeoutMillis());
+                registerPendingProbes();
+                processSelectedKeys();
+                expireTimedOutProbes();
+            } catch (Exception e) {
+                LOGGER.warn("Dependency probe select loop failed", e);
+            }
+        }
+        closeAll();
+    }
+
+    private long getSelectTimeoutMillis() {
+        if (activeProbeSet.isEmpty()) {
+            return 0;
+        }
+
+        long nowNanos = System.nanoTime();
+        long nearestDeadlineNanos = Long.MAX_VALUE;
+        for (ProbeContext probeContext : activeProbeSet) {
+            nearestDeadlineNanos = Math.min(nearestDeadlineNanos, probeContext.getDeadlineNanos());
+        }
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(nearestDeadlineNanos - nowNanos) + 1);
+    }
+
+    private void registerPendingProbes() {
+        ProbeContext probeContext;
+        while ((probeContext = pendingProbeQueue.poll()) != null) {
+            activeProbeSet.add(probeContext);
+            try {
+                openConnection(probeContext);
+            } catch (IOException e) {
+                retryOrFail(probeContext, e);
+            }
+        }
+    }
+
+    private void openConnection(ProbeContext probeContext) throws IOException {
+        SocketChannel idleChannel = probeContext.isHttpProbe() ? pollIdleConnection(probeContext.getAddress()) : null;
+        if (idleChannel != null) {
+            probeContext.setChannel(idleChannel);
+            probeContext.setReusedConnection(true);
+            probeContext.setConnectLatencyMillis(0.0);
+            SelectionKey key = idleChannel.keyFor(selector);
+            key.attach(probeContext);
+            startRequest(probeContext, key);
+            return;
+        }
+
+        SocketChannel channel = SocketChannel.open();
+        probeContext.setChannel(channel);
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        SelectionKey key = channel.register(selector, 0, probeContext);
+        if (channel.connect(probeContext.getAddress())) {
+            onConnected(probeContext, key);
+        } else {
+            key.interestOps(SelectionKey.OP_CONNECT);
+        }
+    }
+
+    private SocketChannel pollIdleConnection(InetSocketAddress address) {
+        Deque<SocketChannel> idleConnections = idleConnectionMap.get(address);
+        while (idleConnections != null && !idleConnections.isEmpty()) {
+            SocketChannel channel = idleConnections.pollFirst();
+            if (channel.isOpen() && channel.isConnected()) {
+                return channel;
+            }
+        }
+        return null;
+    }
+
+    private void processSelectedKeys() {
+        Iterator<SelectionKey> keyIterator = selector.selectedKeys().iterator();
+        while (keyIterator.hasNext()) {
+            SelectionKey key = keyIterator.next();
+            keyIterator.remove();
+
+            ProbeContext probeContext = (ProbeContext) key.attachment();
+            if (probeContext == null || !key.isValid()) {
+                continue;
+            }
+
+            try {
+                if (key.isConnectable()) {
+                    if (probeContext.getChannel().finishConnect()) {
+                        onConnected(probeContext, key);
+                    }
+                } else if (key.isWritable()) {
+                    writeRequest(probeContext, key);
+                } else if (key.isReadable()) {
+                    readResponse(probeContext, key);
+                }
+            } catch (Exception e) {
+                retryOrFail(probeContext, e);
+            }
+        }
+    }
+
+    private void onConnected(ProbeContext probeContext, SelectionKey key) throws IOException {
+        long nowNanos = System.nanoTime();
+        probeContext.setConnectLatencyMillis(ProbeContext.elapsedMillis(probeContext.getStartNanos(), nowNanos));
+        if (!probeContext.isHttpProbe()) {
+            closeChannel(probeContext.getChannel());
+            complete(probeContext, ProbeResult.builder()
+                    .success(true)
+                    .connectLatencyMillis(probeContext.getConnectLatencyMillis())
+                    .build());
+            return;
+        }
+        startRequest(probeContext, key);
+    }
+
+    private void startRequest(ProbeContext probeContext, SelectionKey key) throws IOException {
+        probeContext.setRequestStartNanos(System.nanoTime());
+        probeContext.setResponseReader(new HttpResponseReader());
+        key.interestOps(SelectionKey.OP_WRITE);
+        writeRequest(probeContext, key);
+    }
+
+    private void writeRequest(ProbeContext probeContext, SelectionKey key) throws IOException {
+        probeContext.getChannel().write(probeContext.getRequestBuffer());
+        if (!probeContext.getRequestBuffer().hasRemaining()) {
+            key.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    private void readResponse(ProbeContext probeContext, SelectionKey key) throws IOException {
+        HttpResponseReader responseReader = probeContext.getResponseReader();
+        readBuffer.clear();
+        int readBytes = probeContext.getChannel().read(readBuffer);
+        if (readBytes < 0) {
+            onConnectionClosed(probeContext);
+            return;
+        }
+
+        readBuffer.flip();
+        responseReader.append(readBuffer);
+        if (responseReader.isComplete()) {
+            if (responseReader.isKeepAlive()) {
+                releaseConnection(probeContext, key);
+            } else {
+                closeChannel(probeContext.getChannel());
+            }
+            complete(probeContext, buildHttpResult(probeContext));
+        }
+    }
+
+    private void onConnectionClosed(ProbeContext probeContext) throws IOException {
+        HttpResponseReader responseReader = probeContext.getResponseReader();
+        if (responseReader.isCompleteOnClose()) {
+            closeChannel(probeContext.getChannel());
+            complete(probeContext, buildHttpResult(probeContext));
+            return;
+        }
+        throw new IOException("Connection closed before the response completed");
+    }
+
+    private ProbeResult buildHttpResult(ProbeContext probeContext) {
+        int statusCode = probeContext.getResponseReader().getStatusCode();
+        boolean isSuccessStatus = statusCode >= 200 && statusCode < 400;
+        return ProbeResult.builder()
+                .success(isSuccessStatus)
+                .connectLatencyMillis(probeContext.getConnectLatencyMillis())
+                .responseLatencyMillis(ProbeContext.elapsedMillis(probeContext.getRequestStartNanos(), System.nanoTime()))
+                .statusCode(statusCode)
+                .reusedConnection(probeContext.isReusedConnection())
+                .errorMessage(isSuccessStatus ? null : "Unexpected HTTP status " + statusCode)
+                .build();
+    }
+
+    private void releaseConnection(ProbeContext probeContext, SelectionKey key) {
+        key.interestOps(0);
+        key.attach(null);
+
+        Deque<SocketChannel> idleConnections =
+                idleConnectionMap.computeIfAbsent(probeContext.getAddress(), address -> new ArrayDeque<>());
+        if (idleConnections.size() >= maxIdleConnectionsPerTarget) {
+            closeChannel(probeContext.getChannel());
+            return;
+        }
+        idleConnections.addLast(probeContext.getChannel());
+    }
+
+    // A pooled connection may have been closed by the server while idle, so retry once on a fresh one
+    private void retryOrFail(ProbeContext probeContext, Exception e) {
+        HttpResponseReader responseReader = probeContext.getResponseReader();
+        boolean isStaleConnection = probeContext.isReusedConnection() &&
+                (responseReader == null || !responseReader.hasReceivedData());
+        if (!isStaleConnection) {
+            fail(probeContext, e);
+            return;
+        }
+
+        closeChannel(probeContext.getChannel());
+        probeContext.resetForNewConnection();
+        try {
+            openConnection(probeContext);
+        } catch (IOException retryException) {
+            fail(probeContext, retryException);
+        }
+    }
+
+    private void expireTimedOutProbes() {
+        long nowNanos = System.nanoTime();
+        for (ProbeContext probeContext : new ArrayList<>(activeProbeSet)) {
+            if (nowNanos - probeContext.getDeadlineNanos() >= 0) {
+                closeChannel(probeContext.getChannel());
+                complete(probeContext, ProbeResult.builder()
+                        .success(false)
+                        .connectLatencyMillis(probeContext.getConnectLatencyMillis())
+                        .errorMessage("Probe timed out after " + probeContext.getTimeoutMillis() + " ms")
+                        .build());
+            }
+        }
+    }
+
+    private void fail(ProbeContext probeContext, Exception e) {
+        closeChannel(probeContext.getChannel());
+        complete(probeContext, ProbeResult.builder()
+                .success(false)
+                .connectLatencyMillis(probeContext.getConnectLatencyMillis())
+                .errorMessage(e.getClass().getSimpleName() + ": " + e.getMessage())
+                .build());
+    }
+
+    private void complete(ProbeContext probeContext, ProbeResult probeResult) {
+        activeProbeSet.remove(probeContext);
+        probeContext.getFuture().complete(probeResult);
+    }
+
+    private void closeChannel(SocketChannel channel) {
+        if (channel == null) {
+            return;
+        }
+
+        SelectionKey key = channel.keyFor(selector);
+        if (key != null) {
+            key.cancel();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.debug("Failed to close probe connection", e);
+        }
+    }
+
+    private void failPendingProbes() {
+        ProbeContext probeContext;
+        while ((probeContext = pendingProbeQueue.poll()) != null) {
+            probeContext.getFuture().complete(ProbeResult.failure("Probe selector stopped"));
+        }
+    }
+
+    private void closeAll() {
+        failPendingProbes();
+        for (ProbeContext activeProbeContext : new ArrayList<>(activeProbeSet)) {
+            closeChannel(activeProbeContext.getChannel());
+            complete(activeProbeContext, ProbeResult.failure("Probe selector stopped"));
+        }
+        for (Deque<SocketChannel> idleConnections : idleConnectionMap.values()) {
+            for (SocketChannel channel : idleConnections) {
+                closeChannel(channel);
+            }
+        }
+        idleConnectionMap.clear();
+
+        try {
+            selector.close();
+        } catch (IOException e) {
+            LOGGER.debug("Failed to close probe selector", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.dropwizard.template.health.dependency;
+
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+
+public class HttpGetHealthCheck extends DependencyHealthCheck {
+    static final String METRIC_NAME = "responseTime";
+    static final String DESCRIPTION = "This is a metric that is used to track the HTTP response time of a dependency";
+
+    private final InetSocketAddress address;
+    private final String path;
+
+    public HttpGetHealthCheck(ComponentInfo componentInfo,
+                              HealthCheckTolerance healthCheckTolerance,
+                              DependencyProbeSelector probeSelector,
+                              InetSocketAddress address,
+                              String path,
+                              long timeoutMillis) {
+        super(componentInfo, healthCheckTolerance, probeSelector, timeoutMillis);
+        this.address = address;
+        this.path = path.startsWith("/") ? path : "/" + path;
+    }
+
+    @Override
+    public String getDescription() {
+        return DESCRIPTION;
+    }
+
+    @Override
+    public String getMetricName() {
+        return METRIC_NAME;
+    }
+
+    @Override
+    protected CompletableFuture<ProbeResult> submitProbe() {
+        return probeSelector.probeHttp(address, path, timeoutMillis);
+    }
+
+    @Override
+    protected Double getLatencyMillis(ProbeResult probeResult) {
+        return probeResult.getResponseLatencyMillis();
+    }
+
+    @Override
+    protected URI getLink() {
+        return URI.create("http://" + address.getHostString() + ":" + address.getPort() + path);
+    }
+}
@@ -0,0 +1,148 @@
+package com.dropwizard.template.health.dependency;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+
+// Incrementally parses just enough of an HTTP/1.x response to know when it ends and if the connection can be reused
+class HttpResponseReader {
+    static final int INITIAL_BUFFER_SIZE = 1024;
+    static final String CONTENT_LENGTH_HEADER = "content-length";
+    static final String TRANSFER_ENCODING_HEADER = "transfer-encoding";
+    static final String CONNECTION_HEADER = "connection";
+
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private int length;
+    private int headerEndIndex = -1;
+    private int statusCode = -1;
+    private long contentLength = -1;
+    private boolean chunked;
+    private boolean keepAlive;
+    private int chunkIndex;
+    private boolean complete;
+
+    void append(ByteBuffer byteBuffer) {
+        int remaining = byteBuffer.remaining();
+        if (length + remaining > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + remaining));
+        }
+        byteBuffer.get(buffer, length, remaining);
+        length += remaining;
+
+        if (headerEndIndex < 0) {
+            parseHeaders();
+        }
+        if (headerEndIndex >= 0 && !complete) {
+            complete = isBodyComplete();
+        }
+    }
+
+    boolean hasReceivedData() {
+        return length > 0;
+    }
+
+    boolean isComplete() {
+        return complete;
+    }
+
+    // Responses without a length or chunked framing end when the server closes the connection
+    boolean isCompleteOnClose() {
+        return headerEndIndex >= 0 && !chunked && contentLength < 0;
+    }
+
+    boolean isKeepAlive() {
+        return keepAlive && (chunked || contentLength >= 0);
+    }
+
+    int getStatusCode() {
+        return statusCode;
+    }
+
+    private void parseHeaders() {
+        int index = indexOf(0, "\r\n\r\n");
+        if (index < 0) {
+            return;
+        }
+        headerEndIndex = index + 4;
+
+        String[] lines = new String(buffer, 0, index, StandardCharsets.ISO_8859_1).split("\r\n");
+        parseStatusLine(lines[0]);
+        for (int i = 1; i < lines.length; i++) {
+            parseHeader(lines[i]);
+        }
+        if (statusCode == 204 || statusCode == 304 || (statusCode >= 100 && statusCode < 200)) {
+            contentLength = 0;
+        }
+        chunkIndex = headerEndIndex;
+    }
+
+    private void parseStatusLine(String statusLine) {
+        String[] parts = statusLine.split(" ");
+        if (parts.length < 2 || !parts[0].startsWith("HTTP/")) {
+            throw new IllegalStateException("Invalid HTTP status line: " + statusLine);
+        }
+        statusCode = Integer.parseInt(parts[1]);
+        keepAlive = !"HTTP/1.0".equals(parts[0]);
+    }
+
+    private void parseHeader(String header) {
+        int colonIndex = header.indexOf(':');
+        if (colonIndex < 0) {
+            return;
+        }
+
+        String name = header.substring(0, colonIndex).trim().toLowerCase(Locale.ROOT);
+        String value = header.substring(colonIndex + 1).trim().toLowerCase(Locale.ROOT);
+        if (CONTENT_LENGTH_HEADER.equals(name)) {
+            contentLength = Long.parseLong(value);
+        } else if (TRANSFER_ENCODING_HEADER.equals(name)) {
+            chunked = value.contains("chunked");
+        } else if (CONNECTION_HEADER.equals(name)) {
+            keepAlive = value.contains("keep-alive") || (keepAlive && !value.contains("close"));
+        }
+    }
+
+    private boolean isBodyComplete() {
+        if (chunked) {
+            return isChunkedBodyComplete();
+        }
+        return contentLength >= 0 && length - headerEndIndex >= contentLength;
+    }
+
+    private boolean isChunkedBodyComplete() {
+        while (true) {
+            int lineEndIndex = indexOf(chunkIndex, "\r\n");
+            if (lineEndIndex < 0) {
+                return false;
+            }
+
+            String sizeLine = new String(buffer, chunkIndex, lineEndIndex - chunkIndex, StandardCharsets.ISO_8859_1);
+            int extensionIndex = sizeLine.indexOf(';');
+            int chunkSize = Integer.parseInt((extensionIndex < 0 ? sizeLine : sizeLine.substring(0, extensionIndex)).trim(), 16);
+            if (chunkSize == 0) {
+                return indexOf(lineEndIndex, "\r\n\r\n") >= 0;
+            }
+
+            int nextChunkIndex = lineEndIndex + 2 + chunkSize + 2;
+            if (nextChunkIndex > length) {
+                return false;
+            }
+            chunkIndex = nextChunkIndex;
+        }
+    }
+
+    private int indexOf(int fromIndex, String pattern) {
+        byte[] patternBytes = pattern.getBytes(StandardCharsets.ISO_8859_1);
+        for (int i = fromIndex; i <= length - patternBytes.length; i++) {
+            int j = 0;
+            while (j < patternBytes.length && buffer[i + j] == patternBytes[j]) {
+                j++;
+            }
+            if (j == patternBytes.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
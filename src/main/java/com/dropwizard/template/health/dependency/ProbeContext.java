@@ -0,0 +1,52 @@
+package com.dropwizard.template.health.dependency;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Getter
+@Setter
+class ProbeContext {
+    private final InetSocketAddress address;
+    private final ByteBuffer requestBuffer;
+    private final long timeoutMillis;
+    private final long deadlineNanos;
+    private final CompletableFuture<ProbeResult> future = new CompletableFuture<>();
+
+    private SocketChannel channel;
+    private long startNanos;
+    private long requestStartNanos;
+    private Double connectLatencyMillis;
+    private boolean reusedConnection;
+    private HttpResponseReader responseReader;
+
+    ProbeContext(InetSocketAddress address, ByteBuffer requestBuffer, long timeoutMillis) {
+        this.address = address;
+        this.requestBuffer = requestBuffer;
+        this.timeoutMillis = timeoutMillis;
+        this.startNanos = System.nanoTime();
+        this.deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    boolean isHttpProbe() {
+        return requestBuffer != null;
+    }
+
+    // A retried probe keeps its original deadline so the timeout still holds
+    void resetForNewConnection() {
+        requestBuffer.rewind();
+        channel = null;
+        reusedConnection = false;
+        responseReader = null;
+        startNanos = System.nanoTime();
+    }
+
+    static double elapsedMillis(long fromNanos, long toNanos) {
+        return (toNanos - fromNanos) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,42 @@
+package com.dropwizard.template.health.dependency;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ProbeResult {
+    private final boolean success;
+    private final Double connectLatencyMillis;
+    private final Double responseLatencyMillis;
+    private final Integer statusCode;
+    private final boolean reusedConnection;
+    private final String errorMessage;
+    private final Long completedAtMillis;
+
+    public static ProbeResultBuilder builder() {
+        return new ProbeResultBuilder() {
+            @Override
+            public ProbeResult build() {
+                prebuild();
+                return super.build();
+            }
+        };
+    }
+
+    public static ProbeResult failure(String errorMessage) {
+        return ProbeResult.builder()
+                .success(false)
+                .errorMessage(errorMessage)
+                .build();
+    }
+
+    public static class ProbeResultBuilder {
+        // A result is built when its probe completes
+        protected void prebuild() {
+            if (completedAtMillis == null) {
+                completedAtMillis = System.currentTimeMillis();
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.dropwizard.template.health.dependency;
+
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+
+public class TcpConnectHealthCheck extends DependencyHealthCheck {
+    static final String METRIC_NAME = "connectTime";
+    static final String DESCRIPTION = "This is a metric that is used to track the TCP connect time of a dependency";
+
+    private final InetSocketAddress address;
+
+    public TcpConnectHealthCheck(ComponentInfo componentInfo,
+                                 HealthCheckTolerance healthCheckTolerance,
+                                 DependencyProbeSelector probeSelector,
+                                 InetSocketAddress address,
+                                 long timeoutMillis) {
+        super(componentInfo, healthCheckTolerance, probeSelector, timeoutMillis);
+        this.address = address;
+    }
+
+    @Override
+    public String getDescription() {
+        return DESCRIPTION;
+    }
+
+    @Override
+    public String getMetricName() {
+        return METRIC_NAME;
+    }
+
+    @Override
+    protected CompletableFuture<ProbeResult> submitProbe() {
+        return probeSelector.probeTcp(address, timeoutMillis);
+    }
+
+    @Override
+    protected Double getLatencyMillis(ProbeResult probeResult) {
+        return probeResult.getConnectLatencyMillis();
+    }
+
+    @Override
+    protected URI getLink() {
+        return URI.create("tcp://" + address.getHostString() + ":" + address.getPort());
+    }
+}
@@ -0,0 +1,31 @@
+package com.dropwizard.template.health.enums;
+
+import lombok.Getter;
+
+// Ordered from cheapest to most expensive, a group also runs every check of the cheaper groups
+@Getter
+public enum CheckGroup {
+    LIVENESS("liveness"),
+    READINESS("readiness"),
+    DEEP("deep");
+
+    private final String value;
+
+    CheckGroup(String value) {
+        this.value = value;
+    }
+
+    public static CheckGroup fromValue(String value) {
+        for (CheckGroup checkGroup : values()) {
+            if (checkGroup.value.equalsIgnoreCase(value)) {
+                return checkGroup;
+            }
+        }
+        throw new IllegalArgumentException("Invalid Check Group: " + value);
+    }
+
+    @Override
+    public String toString() {
+        return this.value;
+    }
+}
@@ -15,6 +15,16 @@ public enum HealthCheckStatusEnum {
         this.value = value;
     }
 
+    @JsonCreator
+    public static HealthCheckStatusEnum fromValue(String value) {
+        for (HealthCheckStatusEnum status : values()) {
+            if (status.value.equalsIgnoreCase(value)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Invalid Health Check Status: " + value);
+    }
+
     @Override
     public String toString() {
         return this.value;
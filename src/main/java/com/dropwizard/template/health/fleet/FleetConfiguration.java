@@ -0,0 +1,42 @@
+package com.dropwizard.template.health.fleet;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.ImmutableList;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class FleetConfiguration {
+    static final long DEFAULT_POLL_INTERVAL_MILLIS = 10000;
+    static final int DEFAULT_MAX_CONCURRENCY = 16;
+    static final long DEFAULT_TIMEOUT_MILLIS = 2000;
+    static final int DEFAULT_WORST_INSTANCE_COUNT = 5;
+
+    private final List<String> targets;
+    private final long pollIntervalMillis;
+    private final int maxConcurrency;
+    private final long timeoutMillis;
+    private final int worstInstanceCount;
+
+    @JsonCreator
+    public FleetConfiguration(@JsonProperty("targets") List<String> targets,
+                              @JsonProperty("pollIntervalMillis") Long pollIntervalMillis,
+                              @JsonProperty("maxConcurrency") Integer maxConcurrency,
+                              @JsonProperty("timeoutMillis") Long timeoutMillis,
+                              @JsonProperty("worstInstanceCount") Integer worstInstanceCount) {
+        this.targets = targets == null ? ImmutableList.of() : ImmutableList.copyOf(targets);
+        this.pollIntervalMillis = pollIntervalMillis == null ? DEFAULT_POLL_INTERVAL_MILLIS : pollIntervalMillis;
+        this.maxConcurrency = maxConcurrency == null ? DEFAULT_MAX_CONCURRENCY : maxConcurrency;
+        this.timeoutMillis = timeoutMillis == null ? DEFAULT_TIMEOUT_MILLIS : timeoutMillis;
+        this.worstInstanceCount = worstInstanceCount == null ? DEFAULT_WORST_INSTANCE_COUNT : worstInstanceCount;
+        assertValidConfiguration();
+    }
+
+    private void assertValidConfiguration() {
+        if (pollIntervalMillis <= 0 || maxConcurrency <= 0 || timeoutMillis <= 0 || worstInstanceCount < 0) {
+            throw new IllegalArgumentException("Invalid Fleet Configuration");
+        }
+    }
+}
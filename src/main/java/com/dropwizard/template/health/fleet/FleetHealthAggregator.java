@@ -0,0 +1,199 @@
+package com.dropwizard.template.health.fleet;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.dropwizard.lifecycle.Managed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+// Each target is fetched independently, a slow target is skipped by later rounds until its own fetch finishes
+public class FleetHealthAggregator implements Managed {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FleetHealthAggregator.class);
+
+    private final FleetConfiguration configuration;
+    private final HealthPayloadParser payloadParser = new HealthPayloadParser();
+    private final ScheduledExecutorService pollScheduler;
+    private final ExecutorService fetchExecutorService;
+    private final Map<String, InstanceSnapshot> snapshotMap = new ConcurrentHashMap<>();
+    private final Set<String> inFlightTargetSet = ConcurrentHashMap.newKeySet();
+    private final AtomicLong snapshotVersion = new AtomicLong();
+    private volatile CachedFleetHealth cachedFleetHealth = new CachedFleetHealth(-1, null);
+
+    public FleetHealthAggregator(FleetConfiguration configuration) {
+        this.configuration = configuration;
+        this.pollScheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("fleet-health-poller-%d")
+                .setDaemon(true)
+                .build());
+        this.fetchExecutorService = new ThreadPoolExecutor(configuration.getMaxConcurrency(),
+                configuration.getMaxConcurrency(), 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder()
+                        .setNameFormat("fleet-health-fetcher-%d")
+                        .setDaemon(true)
+                        .build());
+    }
+
+    @Override
+    public void start() {
+        pollScheduler.scheduleWithFixedDelay(this::pollTargets, 0,
+                configuration.getPollIntervalMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        pollScheduler.shutdownNow();
+        fetchExecutorService.shutdownNow();
+    }
+
+    public FleetHealthModel getFleetHealth() {
+        long version = snapshotVersion.get();
+        CachedFleetHealth cached = cachedFleetHealth;
+        if (cached.version == version) {
+            return cached.fleetHealthModel;
+        }
+
+        FleetHealthModel fleetHealthModel = buildFleetHealth();
+        cachedFleetHealth = new CachedFleetHealth(version, fleetHealthModel);
+        return fleetHealthModel;
+    }
+
+    void pollTargets() {
+        for (String target : configuration.getTargets()) {
+            if (!inFlightTargetSet.add(target)) {
+                continue;
+            }
+            try {
+                fetchExecutorService.execute(() -> fetchTarget(target));
+            } catch (RejectedExecutionException e) {
+                inFlightTargetSet.remove(target);
+            }
+        }
+    }
+
+    void fetchTarget(String target) {
+        // The flag is cleared only once the snapshot is published, so the next poll cannot overtake it
+        try {
+            snapshotMap.put(target, fetchOrUnreachable(target));
+            snapshotVersion.incrementAndGet();
+        } finally {
+            inFlightTargetSet.remove(target);
+        }
+    }
+
+    private InstanceSnapshot fetchOrUnreachable(String target) {
+        try {
+            return fetchSnapshot(target);
+        } catch (Exception e) {
+            LOGGER.debug("Failed to fetch health of {}", target, e);
+            return InstanceSnapshot.unreachable(target, e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    private InstanceSnapshot fetchSnapshot(String target) throws IOException {
+        int timeoutMillis = (int) configuration.getTimeoutMillis();
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        HttpURLConnection connection = (HttpURLConnection) new URL(target).openConnection();
+        connection.setConnectTimeout(timeoutMillis);
+        connection.setReadTimeout(timeoutMillis);
+        connection.setRequestProperty("Accept", "application/json");
+        connection.setRequestProperty("Accept-Encoding", "gzip");
+        try {
+            int responseCode = connection.getResponseCode();
+            InputStream responseStream = responseCode >= 400 ? connection.getErrorStream() : connection.getInputStream();
+            if (responseStream == null) {
+                throw new IOException("Empty response with HTTP status " + responseCode);
+            }
+
+            InputStream deadlineStream = new DeadlineInputStream(responseStream, deadlineNanos);
+            try (InputStream inputStream = "gzip".equalsIgnoreCase(connection.getContentEncoding()) ?
+                    new GZIPInputStream(deadlineStream) :
+                    deadlineStream) {
+                return InstanceSnapshot.builder()
+                        .instance(target)
+                        .sampleList(payloadParser.parse(inputStream))
+                        .fetchedAtMillis(System.currentTimeMillis())
+                        .build();
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private FleetHealthModel buildFleetHealth() {
+        List<InstanceSnapshot> reachableList = new ArrayList<>();
+        List<String> unreachableList = new ArrayList<>();
+        for (InstanceSnapshot snapshot : snapshotMap.values()) {
+            if (snapshot.isReachable()) {
+                reachableList.add(snapshot);
+            } else {
+                unreachableList.add(snapshot.getInstance());
+            }
+        }
+
+        return FleetHealthModel.builder()
+                .instanceCount(configuration.getTargets().size())
+                .reachableCount(reachableList.size())
+                .unreachableInstances(unreachableList)
+                .rollups(FleetRollupCalculator.calculate(reachableList, configuration.getWorstInstanceCount()))
+                .build();
+    }
+
+    private static class CachedFleetHealth {
+        private final long version;
+        private final FleetHealthModel fleetHealthModel;
+
+        CachedFleetHealth(long version, FleetHealthModel fleetHealthModel) {
+            this.version = version;
+            this.fleetHealthModel = fleetHealthModel;
+        }
+    }
+
+    // The read timeout only bounds a single read, this bounds the whole response
+    private static class DeadlineInputStream extends FilterInputStream {
+        private final long deadlineNanos;
+
+        DeadlineInputStream(InputStream inputStream, long deadlineNanos) {
+            super(inputStream);
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public int read() throws IOException {
+            assertBeforeDeadline();
+            return super.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            assertBeforeDeadline();
+            return super.read(buffer, offset, length);
+        }
+
+        private void assertBeforeDeadline() throws SocketTimeoutException {
+            if (System.nanoTime() - deadlineNanos > 0) {
+                throw new SocketTimeoutException("Target exceeded its fetch timeout");
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.dropwizard.template.health.fleet;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class FleetHealthModel {
+    private final int instanceCount;
+    private final int reachableCount;
+    private final List<String> unreachableInstances;
+    private final List<FleetRollup> rollups;
+}
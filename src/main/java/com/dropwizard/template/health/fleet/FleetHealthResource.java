@@ -0,0 +1,21 @@
+package com.dropwizard.template.health.fleet;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+@Path("/fleet/health")
+@Produces(MediaType.APPLICATION_JSON)
+public class FleetHealthResource {
+    private final FleetHealthAggregator fleetHealthAggregator;
+
+    public FleetHealthResource(FleetHealthAggregator fleetHealthAggregator) {
+        this.fleetHealthAggregator = fleetHealthAggregator;
+    }
+
+    @GET
+    public FleetHealthModel getFleetHealth() {
+        return fleetHealthAggregator.getFleetHealth();
+    }
+}
@@ -0,0 +1,32 @@
+package com.dropwizard.template.health.fleet;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FleetRollup {
+    private final String componentName;
+    private final String metricName;
+    private final int passCount;
+    private final int warnCount;
+    private final int failCount;
+    private final List<WorstInstance> worstInstances;
+    private final Double p50;
+    private final Double p90;
+    private final Double p99;
+    private final Double max;
+
+    @Getter
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class WorstInstance {
+        private final String instance;
+        private final String status;
+        private final Double metricValue;
+    }
+}
@@ -0,0 +1,99 @@
+package com.dropwizard.template.health.fleet;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class FleetRollupCalculator {
+    static final String COLON = ":";
+
+    private FleetRollupCalculator() {
+    }
+
+    public static List<FleetRollup> calculate(Collection<InstanceSnapshot> snapshots, int worstInstanceCount) {
+        Map<String, RollupAccumulator> accumulatorMap = new TreeMap<>();
+        for (InstanceSnapshot snapshot : snapshots) {
+            for (FleetSample sample : snapshot.getSampleList()) {
+                String key = sample.getComponentName() + COLON + StringUtils.defaultString(sample.getMetricName());
+                accumulatorMap.computeIfAbsent(key, ignored -> new RollupAccumulator(sample))
+                        .add(snapshot.getInstance(), sample);
+            }
+        }
+
+        List<FleetRollup> rollupList = new ArrayList<>(accumulatorMap.size());
+        for (RollupAccumulator accumulator : accumulatorMap.values()) {
+            rollupList.add(accumulator.build(worstInstanceCount));
+        }
+        return rollupList;
+    }
+
+    static Double getPercentile(double[] sortedValues, int valueCount, double percentile) {
+        if (valueCount == 0) {
+            return null;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * valueCount);
+        return sortedValues[Math.max(0, Math.min(valueCount, rank) - 1)];
+    }
+
+    private static class RollupAccumulator {
+        private static final Comparator<FleetRollup.WorstInstance> WORST_FIRST =
+                Comparator.comparing((FleetRollup.WorstInstance worstInstance) ->
+                        HealthCheckStatusEnum.fromValue(worstInstance.getStatus()))
+                        .thenComparing(FleetRollup.WorstInstance::getMetricValue,
+                                Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .reversed();
+
+        private final String componentName;
+        private final String metricName;
+        private final int[] statusCounts = new int[HealthCheckStatusEnum.values().length];
+        private final List<FleetRollup.WorstInstance> instanceList = new ArrayList<>();
+        private double[] values = new double[16];
+        private int valueCount;
+
+        RollupAccumulator(FleetSample sample) {
+            this.componentName = sample.getComponentName();
+            this.metricName = sample.getMetricName();
+        }
+
+        void add(String instance, FleetSample sample) {
+            statusCounts[sample.getStatus().ordinal()]++;
+            instanceList.add(FleetRollup.WorstInstance.builder()
+                    .instance(instance)
+                    .status(sample.getStatus().getValue())
+                    .metricValue(sample.getMetricValue())
+                    .build());
+
+            if (sample.getMetricValue() != null) {
+                if (valueCount == values.length) {
+                    values = Arrays.copyOf(values, values.length * 2);
+                }
+                values[valueCount++] = sample.getMetricValue();
+            }
+        }
+
+        FleetRollup build(int worstInstanceCount) {
+            Arrays.sort(values, 0, valueCount);
+            instanceList.sort(WORST_FIRST);
+
+            return FleetRollup.builder()
+                    .componentName(componentName)
+                    .metricName(metricName)
+                    .passCount(statusCounts[HealthCheckStatusEnum.PASS.ordinal()])
+                    .warnCount(statusCounts[HealthCheckStatusEnum.WARN.ordinal()])
+                    .failCount(statusCounts[HealthCheckStatusEnum.FAIL.ordinal()])
+                    .worstInstances(new ArrayList<>(instanceList.subList(0, Math.min(worstInstanceCount, instanceList.size()))))
+                    .p50(getPercentile(values, valueCount, 50))
+                    .p90(getPercentile(values, valueCount, 90))
+                    .p99(getPercentile(values, valueCount, 99))
+                    .max(valueCount == 0 ? null : values[valueCount - 1])
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.dropwizard.template.health.fleet;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class FleetSample {
+    private final String componentName;
+    private final String metricName;
+    private final HealthCheckStatusEnum status;
+    private final Double metricValue;
+}
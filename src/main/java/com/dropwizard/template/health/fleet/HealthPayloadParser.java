@@ -0,0 +1,122 @@
+package com.dropwizard.template.health.fleet;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+// Walks the admin /healthcheck payload token by token, only the fields needed for the rollup are kept
+public class HealthPayloadParser {
+    static final String COLON = ":";
+    static final String HEALTHY_FIELD = "healthy";
+    static final String COMPONENT_NAME_FIELD = "componentName";
+    static final String METRIC_NAME_FIELD = "metricName";
+    static final String COMPONENT_VALUE_FIELD = "componentValue";
+    static final String STATUS_FIELD = "status";
+    static final String METRIC_VALUE_FIELD = "metricValue";
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public List<FleetSample> parse(InputStream inputStream) throws IOException {
+        List<FleetSample> sampleList = new ArrayList<>();
+        try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a health check object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String healthCheckName = parser.getCurrentName();
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                parseHealthCheck(healthCheckName, parser, sampleList);
+            }
+        }
+        return sampleList;
+    }
+
+    private void parseHealthCheck(String healthCheckName, JsonParser parser,
+                                  List<FleetSample> sampleList) throws IOException {
+        String componentName = StringUtils.substringBefore(healthCheckName, COLON);
+        String metricName = StringUtils.substringAfter(healthCheckName, COLON);
+        boolean healthy = true;
+        List<HealthCheckStatusEnum> statusList = new ArrayList<>();
+        List<Double> metricValueList = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case HEALTHY_FIELD:
+                    healthy = parser.getValueAsBoolean(true);
+                    break;
+                case COMPONENT_NAME_FIELD:
+                    componentName = parser.getValueAsString(componentName);
+                    break;
+                case METRIC_NAME_FIELD:
+                    metricName = parser.getValueAsString(metricName);
+                    break;
+                case COMPONENT_VALUE_FIELD:
+                    parseComponentValues(parser, statusList, metricValueList);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        if (statusList.isEmpty()) {
+            statusList.add(healthy ? HealthCheckStatusEnum.PASS : HealthCheckStatusEnum.FAIL);
+            metricValueList.add(null);
+        }
+        for (int i = 0; i < statusList.size(); i++) {
+            sampleList.add(FleetSample.builder()
+                    .componentName(componentName)
+                    .metricName(metricName)
+                    .status(statusList.get(i))
+                    .metricValue(metricValueList.get(i))
+                    .build());
+        }
+    }
+
+    private void parseComponentValues(JsonParser parser, List<HealthCheckStatusEnum> statusList,
+                                      List<Double> metricValueList) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            HealthCheckStatusEnum status = HealthCheckStatusEnum.PASS;
+            Double metricValue = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (STATUS_FIELD.equals(fieldName) && valueToken == JsonToken.VALUE_STRING) {
+                    status = parseStatus(parser.getText());
+                } else if (METRIC_VALUE_FIELD.equals(fieldName) && valueToken.isNumeric()) {
+                    metricValue = parser.getDoubleValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            statusList.add(status);
+            metricValueList.add(metricValue);
+        }
+    }
+
+    // A status this version does not know is no reason to call the whole instance unreachable
+    private static HealthCheckStatusEnum parseStatus(String value) {
+        try {
+            return HealthCheckStatusEnum.fromValue(value);
+        } catch (IllegalArgumentException e) {
+            return HealthCheckStatusEnum.FAIL;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.dropwizard.template.health.fleet;
+
+import com.google.common.collect.ImmutableList;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class InstanceSnapshot {
+    private final String instance;
+    private final List<FleetSample> sampleList;
+    private final long fetchedAtMillis;
+    private final String errorMessage;
+
+    public static InstanceSnapshot unreachable(String instance, String errorMessage) {
+        return InstanceSnapshot.builder()
+                .instance(instance)
+                .sampleList(ImmutableList.of())
+                .fetchedAtMillis(System.currentTimeMillis())
+                .errorMessage(errorMessage)
+                .build();
+    }
+
+    public boolean isReachable() {
+        return errorMessage == null;
+    }
+}
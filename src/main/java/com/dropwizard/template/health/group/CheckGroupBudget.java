@@ -0,0 +1,44 @@
+package com.dropwizard.template.health.group;
+
+import com.dropwizard.template.health.enums.CheckGroup;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CheckGroupBudget {
+    private final long maxWallTimeMillis;
+    private final int maxConcurrency;
+    private final long cacheTtlMillis; // 0 runs the group on every request
+
+    public static CheckGroupBudgetBuilder builder() {
+        return new CheckGroupBudgetBuilder() {
+            @Override
+            public CheckGroupBudget build() {
+                prebuild();
+                return super.build();
+            }
+        };
+    }
+
+    public static CheckGroupBudget defaultBudget(CheckGroup checkGroup) {
+        switch (checkGroup) {
+            case LIVENESS:
+                return builder().maxWallTimeMillis(1000).maxConcurrency(1).build();
+            case READINESS:
+                return builder().maxWallTimeMillis(2000).maxConcurrency(4).cacheTtlMillis(5000).build();
+            case DEEP:
+                return builder().maxWallTimeMillis(10000).maxConcurrency(4).build();
+            default:
+                throw new IllegalArgumentException("Invalid Check Group: " + checkGroup);
+        }
+    }
+
+    public static class CheckGroupBudgetBuilder {
+        protected void prebuild() {
+            if (maxWallTimeMillis <= 0 || maxConcurrency <= 0 || cacheTtlMillis < 0) {
+                throw new IllegalArgumentException("Invalid Check Group Budget");
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.dropwizard.template.health.group;
+
+import com.codahale.metrics.health.HealthCheck;
+import com.dropwizard.template.health.ChanDropWizardHealthCheck;
+import com.dropwizard.template.health.enums.CheckGroup;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.dropwizard.lifecycle.Managed;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Checks are bucketed into one array per group at registration, a request only reads its group's array
+public class CheckGroupRegistry implements Managed {
+    static final String THREAD_NAME_FORMAT = "check-group-%s-%%d";
+    static final String STATUS_DETAIL = "status";
+
+    private static final CheckGroup[] CHECK_GROUPS = CheckGroup.values();
+
+    private final CheckGroupBudget[] groupBudgets = new CheckGroupBudget[CHECK_GROUPS.length];
+    private final ExecutorService[] groupExecutors = new ExecutorService[CHECK_GROUPS.length];
+    private final AtomicReferenceArray<CheckGroupResult> cachedResults =
+            new AtomicReferenceArray<>(CHECK_GROUPS.length);
+    private volatile ChanDropWizardHealthCheck[][] groupHealthChecks = new ChanDropWizardHealthCheck[CHECK_GROUPS.length][0];
+
+    public CheckGroupRegistry() {
+        this(new EnumMap<>(CheckGroup.class));
+    }
+
+    public CheckGroupRegistry(Map<CheckGroup, CheckGroupBudget> budgetMap) {
+        for (CheckGroup checkGroup : CHECK_GROUPS) {
+            CheckGroupBudget budget = budgetMap.getOrDefault(checkGroup, CheckGroupBudget.defaultBudget(checkGroup));
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(budget.getMaxConcurrency(),
+                    budget.getMaxConcurrency(), 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    new ThreadFactoryBuilder()
+                            .setNameFormat(String.format(THREAD_NAME_FORMAT, checkGroup.getValue()))
+                            .setDaemon(true)
+                            .build());
+            executor.allowCoreThreadTimeOut(true);
+
+            groupBudgets[checkGroup.ordinal()] = budget;
+            groupExecutors[checkGroup.ordinal()] = executor;
+        }
+    }
+
+    public synchronized void register(ChanDropWizardHealthCheck healthCheck) {
+        ChanDropWizardHealthCheck[][] nextGroupHealthChecks = groupHealthChecks.clone();
+        CheckGroup checkGroup = healthCheck.getComponentInfo().getCheckGroup();
+        for (int ordinal = checkGroup.ordinal(); ordinal < CHECK_GROUPS.length; ordinal++) {
+            ChanDropWizardHealthCheck[] healthChecks = nextGroupHealthChecks[ordinal];
+            ChanDropWizardHealthCheck[] expandedHealthChecks = Arrays.copyOf(healthChecks, healthChecks.length + 1);
+            expandedHealthChecks[healthChecks.length] = healthCheck;
+            nextGroupHealthChecks[ordinal] = expandedHealthChecks;
+        }
+        groupHealthChecks = nextGroupHealthChecks;
+    }
+
+    public int getHealthCheckCount(CheckGroup checkGroup) {
+        return groupHealthChecks[checkGroup.ordinal()].length;
+    }
+
+    public CheckGroupResult runGroup(CheckGroup checkGroup) {
+        int ordinal = checkGroup.ordinal();
+        CheckGroupBudget budget = groupBudgets[ordinal];
+        CheckGroupResult cachedResult = cachedResults.get(ordinal);
+        if (cachedResult != null &&
+                System.currentTimeMillis() - cachedResult.getTime().getTime() < budget.getCacheTtlMillis()) {
+            return cachedResult;
+        }
+
+        ChanDropWizardHealthCheck[] healthChecks = groupHealthChecks[ordinal];
+        List<Callable<HealthCheck.Result>> taskList = new ArrayList<>(healthChecks.length);
+        for (ChanDropWizardHealthCheck healthCheck : healthChecks) {
+            taskList.add(healthCheck::execute);
+        }
+
+        List<Future<HealthCheck.Result>> futureList = invokeWithinBudget(ordinal, taskList, budget);
+        Map<String, Map<String, Object>> checkMap = new LinkedHashMap<>();
+        HealthCheckStatusEnum groupStatus = HealthCheckStatusEnum.PASS;
+        for (int i = 0; i < healthChecks.length; i++) {
+            HealthCheck.Result result = getResult(futureList, i, checkGroup, budget);
+            HealthCheckStatusEnum status = getStatus(result);
+            if (status.ordinal() > groupStatus.ordinal()) {
+                groupStatus = status;
+            }
+            checkMap.put(healthChecks[i].getMetricTitle(), toCheckModel(result));
+        }
+
+        CheckGroupResult checkGroupResult = CheckGroupResult.builder()
+                .group(checkGroup.getValue())
+                .status(groupStatus.getValue())
+                .time(new Date())
+                .checks(checkMap)
+                .build();
+        cachedResults.set(ordinal, checkGroupResult);
+        return checkGroupResult;
+    }
+
+    private List<Future<HealthCheck.Result>> invokeWithinBudget(int ordinal,
+                                                              List<Callable<HealthCheck.Result>> taskList,
+                                                              CheckGroupBudget budget) {
+        try {
+            return groupExecutors[ordinal].invokeAll(taskList, budget.getMaxWallTimeMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ArrayList<>();
+        }
+    }
+
+    private HealthCheck.Result getResult(List<Future<HealthCheck.Result>> futureList,
+                                         int index,
+                                         CheckGroup checkGroup,
+                                         CheckGroupBudget budget) {
+        if (index >= futureList.size()) {
+            return HealthCheck.Result.unhealthy("Interrupted while running the " + checkGroup + " group");
+        }
+
+        try {
+            return futureList.get(index).get();
+        } catch (CancellationException e) {
+            return HealthCheck.Result.unhealthy("Exceeded the " + checkGroup + " budget of " +
+                    budget.getMaxWallTimeMillis() + " ms");
+        } catch (ExecutionException e) {
+            return HealthCheck.Result.unhealthy(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return HealthCheck.Result.unhealthy("Interrupted while running the " + checkGroup + " group");
+        }
+    }
+
+    private static HealthCheckStatusEnum getStatus(HealthCheck.Result result) {
+        if (!result.isHealthy()) {
+            return HealthCheckStatusEnum.FAIL;
+        }
+
+        Map<String, Object> details = result.getDetails();
+        Object status = details == null ? null : details.get(STATUS_DETAIL);
+        if (status != null && HealthCheckStatusEnum.WARN.getValue().equals(status.toString())) {
+            return HealthCheckStatusEnum.WARN;
+        }
+        return HealthCheckStatusEnum.PASS;
+    }
+
+    private static Map<String, Object> toCheckModel(HealthCheck.Result result) {
+        Map<String, Object> checkModel = new LinkedHashMap<>();
+        checkModel.put("healthy", result.isHealthy());
+        if (result.getMessage() != null) {
+            checkModel.put("message", result.getMessage());
+        }
+        if (result.getDetails() != null) {
+            checkModel.putAll(result.getDetails());
+        }
+        return checkModel;
+    }
+
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public void stop() {
+        for (ExecutorService executor : groupExecutors) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.dropwizard.template.health.group;
+
+import com.dropwizard.template.health.enums.CheckGroup;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+@Path("/health")
+@Produces(MediaType.APPLICATION_JSON)
+public class CheckGroupResource {
+    private final CheckGroupRegistry checkGroupRegistry;
+
+    public CheckGroupResource(CheckGroupRegistry checkGroupRegistry) {
+        this.checkGroupRegistry = checkGroupRegistry;
+    }
+
+    @GET
+    @Path("/{group}")
+    public Response getGroupHealth(@PathParam("group") String group) {
+        CheckGroup checkGroup;
+        try {
+            checkGroup = CheckGroup.fromValue(group);
+        } catch (IllegalArgumentException e) {
+            throw new NotFoundException(e.getMessage());
+        }
+
+        CheckGroupResult checkGroupResult = checkGroupRegistry.runGroup(checkGroup);
+        Response.Status responseStatus = HealthCheckStatusEnum.FAIL.getValue().equals(checkGroupResult.getStatus()) ?
+                Response.Status.SERVICE_UNAVAILABLE :
+                Response.Status.OK;
+        return Response.status(responseStatus)
+                .entity(checkGroupResult)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.dropwizard.template.health.group;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.Map;
+
+@Getter
+@Builder
+public class CheckGroupResult {
+    private final String group;
+    private final String status;
+    @JsonFormat(shape=JsonFormat.Shape.STRING, pattern="yyyy-MM-dd'T'HH:mm:ss.SSSZ", timezone="UTC")
+    private final Date time;
+    private final Map<String, Map<String, Object>> checks;
+}
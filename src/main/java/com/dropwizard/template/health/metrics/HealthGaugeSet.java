@@ -0,0 +1,74 @@
+package com.dropwizard.template.health.metrics;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Values are boxed once per sample, a reporter poll is a lookup of an already boxed value.
+// Gauges are keyed by the check's value names, a name missing from the latest sample reads NaN.
+class HealthGaugeSet {
+    static final String STATUS_METRIC = "status";
+    static final Double NO_VALUE = Double.NaN;
+    private static final Integer[] STATUS_CODES = new Integer[HealthCheckStatusEnum.values().length];
+
+    static {
+        for (HealthCheckStatusEnum status : HealthCheckStatusEnum.values()) {
+            STATUS_CODES[status.ordinal()] = status.ordinal();
+        }
+    }
+
+    private final MetricRegistry metricRegistry;
+    private final String baseName;
+    private final Set<String> registeredNameSet = new HashSet<>();
+
+    private volatile Map<String, Double> values = new HashMap<>();
+    private volatile Integer statusCode = STATUS_CODES[HealthCheckStatusEnum.PASS.ordinal()];
+
+    HealthGaugeSet(MetricRegistry metricRegistry, String baseName) {
+        this.metricRegistry = metricRegistry;
+        this.baseName = baseName;
+        metricRegistry.register(MetricRegistry.name(baseName, STATUS_METRIC), (Gauge<Integer>) () -> statusCode);
+    }
+
+    synchronized void update(IHealthCheckInfo healthCheckInfo, List<ComponentHealthCheckModel.Value> componentValues) {
+        Map<String, Double> nextValues = new HashMap<>();
+        for (int i = 0; i < componentValues.size(); i++) {
+            ComponentHealthCheckModel.Value componentValue = componentValues.get(i);
+            String valueName = healthCheckInfo.getValueName(i, componentValue);
+            if (valueName != null) {
+                nextValues.put(valueName, toDouble(componentValue.getMetricValue()));
+            }
+        }
+        values = nextValues;
+        statusCode = STATUS_CODES[ComponentHealthCheckModel.getStatus(componentValues).ordinal()];
+
+        for (String valueName : nextValues.keySet()) {
+            if (registeredNameSet.add(valueName)) {
+                registerValueGauge(valueName);
+            }
+        }
+    }
+
+    private void registerValueGauge(String valueName) {
+        metricRegistry.register(MetricRegistry.name(baseName, valueName),
+                (Gauge<Double>) () -> values.getOrDefault(valueName, NO_VALUE));
+    }
+
+    private static Double toDouble(Object metricValue) {
+        if (metricValue instanceof Double) {
+            return (Double) metricValue;
+        }
+        if (metricValue instanceof Number) {
+            return ((Number) metricValue).doubleValue();
+        }
+        return NO_VALUE;
+    }
+}
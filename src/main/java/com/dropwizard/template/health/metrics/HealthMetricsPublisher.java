@@ -0,0 +1,39 @@
+package com.dropwizard.template.health.metrics;
+
+import com.codahale.metrics.MetricRegistry;
+import com.dropwizard.template.health.ChanDropWizardHealthCheck;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.scheduler.HealthCheckSampleListener;
+import com.dropwizard.template.health.scheduler.SampledHealthCheck;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Exposes every sampled value as a gauge so reporters pick up health values without running any check
+public class HealthMetricsPublisher implements HealthCheckSampleListener {
+    static final String METRIC_PREFIX = "health";
+
+    private final MetricRegistry metricRegistry;
+    private final Map<SampledHealthCheck, HealthGaugeSet> gaugeSetMap = new ConcurrentHashMap<>();
+
+    public HealthMetricsPublisher(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
+    @Override
+    public void onSample(SampledHealthCheck sampledHealthCheck, List<ComponentHealthCheckModel.Value> componentValues) {
+        gaugeSetMap.computeIfAbsent(sampledHealthCheck, this::buildGaugeSet).update(sampledHealthCheck, componentValues);
+    }
+
+    static String getBaseName(ComponentInfo componentInfo, String metricName) {
+        return MetricRegistry.name(METRIC_PREFIX, componentInfo.getComponentType(),
+                ChanDropWizardHealthCheck.getMetricTitle(componentInfo, metricName));
+    }
+
+    private HealthGaugeSet buildGaugeSet(SampledHealthCheck sampledHealthCheck) {
+        return new HealthGaugeSet(metricRegistry,
+                getBaseName(sampledHealthCheck.getComponentInfo(), sampledHealthCheck.getMetricName()));
+    }
+}
@@ -12,6 +12,7 @@ import java.net.URI;
 import java.time.Clock;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Builder(toBuilder = true)
@@ -23,6 +24,21 @@ public class ComponentHealthCheckModel {
     private final String version;
     private final String description;
     private final List<Value> componentValue;
+    private final Map<String, Object> details;
+
+    public static HealthCheckStatusEnum getStatus(List<Value> componentValues) {
+        HealthCheckStatusEnum status = HealthCheckStatusEnum.PASS;
+        for (Value value : componentValues) {
+            if (value.getStatus() == HealthCheckStatusEnum.FAIL) {
+                return HealthCheckStatusEnum.FAIL;
+            }
+
+            if (value.getStatus() == HealthCheckStatusEnum.WARN) {
+                status = HealthCheckStatusEnum.WARN;
+            }
+        }
+        return status;
+    }
 
     @Getter
     @Builder
@@ -1,5 +1,6 @@
 package com.dropwizard.template.health.model;
 
+import com.dropwizard.template.health.enums.CheckGroup;
 import lombok.Builder;
 import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
@@ -12,8 +13,11 @@ public class ComponentInfo {
     private final String componentId;
     private final String componentName;
     private final String componentType;
+    private final CheckGroup checkGroup;
 
     public static class ComponentInfoBuilder {
+        private CheckGroup checkGroup = CheckGroup.DEEP;
+
         public ComponentInfoBuilder componentName(String componentName) {
             if (StringUtils.contains(componentName, COLON)) {
                 throw new IllegalArgumentException("The string must not contain colon");
@@ -30,6 +30,27 @@ public class HealthCheckTolerance {
         return getLargerThanToleranceStatus(value);
     }
 
+    // 1.0 when the value is at or beyond the pass value, 0.0 once it reaches the warn value
+    public Double getWarnDistance(Double value) {
+        double range = Math.abs(getWarnValue() - getPassValue());
+        double remaining = getToleranceType() == ToleranceType.LESS_THAN ?
+                getWarnValue() - value :
+                value - getWarnValue();
+
+        if (range == 0) {
+            return remaining >= 0 ? 1.0 : 0.0;
+        }
+        return Math.max(0.0, Math.min(1.0, remaining / range));
+    }
+
+    // Values without a number are not graded and sit as far from WARN as they can
+    public Double getWarnDistance(ComponentHealthCheckModel.Value value) {
+        if (!(value.getMetricValue() instanceof Number)) {
+            return 1.0;
+        }
+        return getWarnDistance(((Number) value.getMetricValue()).doubleValue());
+    }
+
     private HealthCheckStatusEnum getLessThanToleranceStatus(Double value) {
         if (value <= getPassValue()) {
             return HealthCheckStatusEnum.PASS;
@@ -0,0 +1,73 @@
+package com.dropwizard.template.health.payload;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+// GZIPOutputStream always allocates its own Deflater, so the gzip header and trailer are written here
+// around a pooled raw Deflater instead
+public class DeflaterPool {
+    private static final byte[] GZIP_HEADER = new byte[] {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private final BlockingQueue<Deflater> deflaterQueue;
+    private final int compressionLevel;
+
+    public DeflaterPool(int poolSize, int compressionLevel) {
+        boolean validLevel = compressionLevel == Deflater.DEFAULT_COMPRESSION ||
+                (compressionLevel >= Deflater.NO_COMPRESSION && compressionLevel <= Deflater.BEST_COMPRESSION);
+        if (poolSize <= 0 || !validLevel) {
+            throw new IllegalArgumentException("Invalid Deflater Pool Configuration");
+        }
+        this.deflaterQueue = new ArrayBlockingQueue<>(poolSize);
+        this.compressionLevel = compressionLevel;
+    }
+
+    public int getIdleCount() {
+        return deflaterQueue.size();
+    }
+
+    public byte[] gzip(byte[] bytes) {
+        Deflater deflater = borrow();
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 4 + 64);
+            outputStream.write(GZIP_HEADER, 0, GZIP_HEADER.length);
+
+            deflater.setInput(bytes);
+            deflater.finish();
+            byte[] buffer = new byte[Math.min(Math.max(bytes.length, 64), 8192)];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                outputStream.write(buffer, 0, length);
+            }
+
+            CRC32 crc32 = new CRC32();
+            crc32.update(bytes, 0, bytes.length);
+            writeIntLittleEndian(outputStream, (int) crc32.getValue());
+            writeIntLittleEndian(outputStream, bytes.length);
+            return outputStream.toByteArray();
+        } finally {
+            release(deflater);
+        }
+    }
+
+    private Deflater borrow() {
+        Deflater deflater = deflaterQueue.poll();
+        return deflater != null ? deflater : new Deflater(compressionLevel, true);
+    }
+
+    private void release(Deflater deflater) {
+        deflater.reset();
+        if (!deflaterQueue.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    private static void writeIntLittleEndian(ByteArrayOutputStream outputStream, int value) {
+        outputStream.write(value & 0xff);
+        outputStream.write((value >> 8) & 0xff);
+        outputStream.write((value >> 16) & 0xff);
+        outputStream.write((value >> 24) & 0xff);
+    }
+}
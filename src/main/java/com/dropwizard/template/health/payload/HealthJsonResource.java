@@ -0,0 +1,136 @@
+package com.dropwizard.template.health.payload;
+
+import com.dropwizard.template.health.ChanDropWizardHealthCheck;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.scheduler.AdaptiveHealthCheckScheduler;
+import com.dropwizard.template.health.scheduler.SampledHealthCheck;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+// Serves the scheduler's latest samples in the IETF application/health+json layout. The body is written straight
+// to the response stream, nothing but the per-check value lists is held while the response is produced.
+@Path(HealthJsonResource.PATH)
+@Produces({HealthJsonResource.HEALTH_JSON, MediaType.APPLICATION_JSON})
+public class HealthJsonResource {
+    public static final String PATH = "/health/checks";
+    public static final String HEALTH_JSON = "application/health+json";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final DateTimeFormatter TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ").withZone(ZoneOffset.UTC);
+
+    private final AdaptiveHealthCheckScheduler healthCheckScheduler;
+
+    public HealthJsonResource(AdaptiveHealthCheckScheduler healthCheckScheduler) {
+        this.healthCheckScheduler = healthCheckScheduler;
+    }
+
+    @GET
+    public Response getHealth() {
+        // The overall status picks the response code, so the samples are pinned before the body is written
+        List<SampledHealthCheck> sampledHealthCheckList = healthCheckScheduler.getSampledHealthCheckList();
+        SampledHealthCheck[] sampledHealthChecks = sampledHealthCheckList.toArray(new SampledHealthCheck[0]);
+        List<List<ComponentHealthCheckModel.Value>> componentValueLists = new ArrayList<>(sampledHealthChecks.length);
+        HealthCheckStatusEnum status = HealthCheckStatusEnum.PASS;
+        for (SampledHealthCheck sampledHealthCheck : sampledHealthChecks) {
+            List<ComponentHealthCheckModel.Value> componentValues = sampledHealthCheck.getComponentValues();
+            componentValueLists.add(componentValues);
+            HealthCheckStatusEnum checkStatus = ComponentHealthCheckModel.getStatus(componentValues);
+            if (checkStatus.ordinal() > status.ordinal()) {
+                status = checkStatus;
+            }
+        }
+
+        HealthCheckStatusEnum overallStatus = status;
+        StreamingOutput streamingOutput = outputStream ->
+                writeHealth(outputStream, overallStatus, sampledHealthChecks, componentValueLists);
+        return Response.status(status == HealthCheckStatusEnum.FAIL ?
+                        Response.Status.SERVICE_UNAVAILABLE :
+                        Response.Status.OK)
+                .type(HEALTH_JSON)
+                .entity(streamingOutput)
+                .build();
+    }
+
+    private static void writeHealth(OutputStream outputStream,
+                                    HealthCheckStatusEnum status,
+                                    SampledHealthCheck[] sampledHealthChecks,
+                                    List<List<ComponentHealthCheckModel.Value>> componentValueLists)
+            throws IOException {
+        // Jersey owns the response stream, the generator only flushes into it
+        try (JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartObject();
+            generator.writeStringField("status", status.getValue());
+            generator.writeObjectFieldStart("checks");
+            for (int i = 0; i < sampledHealthChecks.length; i++) {
+                generator.writeArrayFieldStart(ChanDropWizardHealthCheck.getMetricTitle(
+                        sampledHealthChecks[i].getComponentInfo(), sampledHealthChecks[i].getMetricName()));
+                for (ComponentHealthCheckModel.Value value : componentValueLists.get(i)) {
+                    writeValue(generator, value);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    // Field names follow the IETF draft, observedValue and observedUnit carry metricValue and metricUnit
+    private static void writeValue(JsonGenerator generator, ComponentHealthCheckModel.Value value) throws IOException {
+        generator.writeStartObject();
+        writeStringField(generator, "componentId", value.getComponentId());
+        writeStringField(generator, "componentType", value.getComponentType());
+        if (value.getMetricValue() != null) {
+            generator.writeFieldName("observedValue");
+            writeMetricValue(generator, value.getMetricValue());
+        }
+        writeStringField(generator, "observedUnit", value.getMetricUnit());
+        if (value.getStatus() != null) {
+            generator.writeStringField("status", value.getStatus().getValue());
+        }
+        if (value.getTime() != null) {
+            generator.writeStringField("time", TIME_FORMATTER.format(value.getTime().toInstant()));
+        }
+        writeStringField(generator, "output", value.getOutput());
+        if (value.getLink() != null) {
+            generator.writeObjectFieldStart("links");
+            generator.writeStringField("about", value.getLink().toString());
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeMetricValue(JsonGenerator generator, Object metricValue) throws IOException {
+        if (metricValue instanceof Double) {
+            generator.writeNumber((Double) metricValue);
+        } else if (metricValue instanceof Long || metricValue instanceof Integer) {
+            generator.writeNumber(((Number) metricValue).longValue());
+        } else if (metricValue instanceof Boolean) {
+            generator.writeBoolean((Boolean) metricValue);
+        } else {
+            generator.writeObject(metricValue);
+        }
+    }
+
+    private static void writeStringField(JsonGenerator generator, String fieldName, String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(fieldName, value);
+        }
+    }
+}
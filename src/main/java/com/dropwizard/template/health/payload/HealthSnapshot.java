@@ -0,0 +1,36 @@
+package com.dropwizard.template.health.payload;
+
+import lombok.Getter;
+
+// One encoded payload per snapshot version, the gzip form is produced at most once
+@Getter
+public class HealthSnapshot {
+    private final long version;
+    private final boolean healthy;
+    private final byte[] jsonBytes;
+    private volatile byte[] gzipBytes;
+
+    HealthSnapshot(long version, boolean healthy, byte[] jsonBytes) {
+        this.version = version;
+        this.healthy = healthy;
+        this.jsonBytes = jsonBytes;
+    }
+
+    byte[] getOrCompress(DeflaterPool deflaterPool) {
+        byte[] compressedBytes = gzipBytes;
+        if (compressedBytes == null) {
+            synchronized (this) {
+                compressedBytes = gzipBytes;
+                if (compressedBytes == null) {
+                    compressedBytes = deflaterPool.gzip(jsonBytes);
+                    gzipBytes = compressedBytes;
+                }
+            }
+        }
+        return compressedBytes;
+    }
+
+    boolean isCompressed() {
+        return gzipBytes != null;
+    }
+}
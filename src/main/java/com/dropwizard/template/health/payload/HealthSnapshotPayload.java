@@ -0,0 +1,114 @@
+package com.dropwizard.template.health.payload;
+
+import com.dropwizard.template.health.ChanDropWizardHealthCheck;
+import com.dropwizard.template.health.ComponentHealthCheckSerializer;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.scheduler.AdaptiveHealthCheckScheduler;
+import com.dropwizard.template.health.scheduler.HealthCheckSampleListener;
+import com.dropwizard.template.health.scheduler.SampledHealthCheck;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Renders the scheduler's latest samples in the admin /healthcheck layout. Every sample bumps the version,
+// the payload is only rebuilt (and compressed) the first time a request sees a new version.
+public class HealthSnapshotPayload implements HealthCheckSampleListener {
+    private static final byte[] HEALTHY_FIELD = "{\"healthy\":true,".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] UNHEALTHY_FIELD = "{\"healthy\":false,".getBytes(StandardCharsets.UTF_8);
+
+    private final AdaptiveHealthCheckScheduler healthCheckScheduler;
+    private final DeflaterPool deflaterPool;
+    private final int minGzipBytes;
+    private final AtomicLong snapshotVersion = new AtomicLong();
+    private final Map<SampledHealthCheck, ComponentHealthCheckSerializer> serializerMap = new ConcurrentHashMap<>();
+    private volatile HealthSnapshot latestSnapshot = new HealthSnapshot(-1, true, new byte[0]);
+
+    public HealthSnapshotPayload(AdaptiveHealthCheckScheduler healthCheckScheduler,
+                                 DeflaterPool deflaterPool,
+                                 int minGzipBytes) {
+        if (minGzipBytes < 0) {
+            throw new IllegalArgumentException("Invalid Gzip Threshold");
+        }
+        this.healthCheckScheduler = healthCheckScheduler;
+        this.deflaterPool = deflaterPool;
+        this.minGzipBytes = minGzipBytes;
+    }
+
+    @Override
+    public void onSample(SampledHealthCheck sampledHealthCheck, List<ComponentHealthCheckModel.Value> componentValues) {
+        snapshotVersion.incrementAndGet();
+    }
+
+    public HealthSnapshot getSnapshot() throws JsonProcessingException {
+        HealthSnapshot snapshot = latestSnapshot;
+        if (snapshot.getVersion() == snapshotVersion.get()) {
+            return snapshot;
+        }
+
+        synchronized (this) {
+            long version = snapshotVersion.get();
+            if (latestSnapshot.getVersion() != version) {
+                latestSnapshot = buildSnapshot(version);
+            }
+            return latestSnapshot;
+        }
+    }
+
+    // Null when the payload is too small for compression to pay off
+    public byte[] getGzipBytes(HealthSnapshot snapshot) {
+        if (snapshot.getJsonBytes().length < minGzipBytes) {
+            return null;
+        }
+        return snapshot.getOrCompress(deflaterPool);
+    }
+
+    private HealthSnapshot buildSnapshot(long version) throws JsonProcessingException {
+        Map<String, SampledHealthCheck> sampledHealthCheckMap = new TreeMap<>();
+        for (SampledHealthCheck sampledHealthCheck : healthCheckScheduler.getSampledHealthCheckList()) {
+            sampledHealthCheckMap.put(ChanDropWizardHealthCheck.getMetricTitle(sampledHealthCheck.getComponentInfo(),
+                    sampledHealthCheck.getMetricName()), sampledHealthCheck);
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(Math.max(256, latestSnapshot.getJsonBytes().length));
+        boolean healthy = true;
+        outputStream.write('{');
+        for (Map.Entry<String, SampledHealthCheck> entry : sampledHealthCheckMap.entrySet()) {
+            if (outputStream.size() > 1) {
+                outputStream.write(',');
+            }
+            SampledHealthCheck sampledHealthCheck = entry.getValue();
+            List<ComponentHealthCheckModel.Value> componentValues = sampledHealthCheck.getComponentValues();
+            HealthCheckStatusEnum status = ComponentHealthCheckModel.getStatus(componentValues);
+            healthy &= status != HealthCheckStatusEnum.FAIL;
+
+            outputStream.write('"');
+            writeBytes(outputStream, JsonStringEncoder.getInstance().quoteAsUTF8(entry.getKey()));
+            outputStream.write('"');
+            outputStream.write(':');
+            writeBytes(outputStream, status == HealthCheckStatusEnum.FAIL ? UNHEALTHY_FIELD : HEALTHY_FIELD);
+
+            byte[] modelBytes = getSerializer(sampledHealthCheck).serialize(status, componentValues,
+                    sampledHealthCheck.getDetails());
+            outputStream.write(modelBytes, 1, modelBytes.length - 1);
+        }
+        outputStream.write('}');
+        return new HealthSnapshot(version, healthy, outputStream.toByteArray());
+    }
+
+    private ComponentHealthCheckSerializer getSerializer(SampledHealthCheck sampledHealthCheck) {
+        return serializerMap.computeIfAbsent(sampledHealthCheck, sampled ->
+                new ComponentHealthCheckSerializer(sampled.getComponentInfo(), sampled));
+    }
+
+    private static void writeBytes(ByteArrayOutputStream outputStream, byte[] bytes) {
+        outputStream.write(bytes, 0, bytes.length);
+    }
+}
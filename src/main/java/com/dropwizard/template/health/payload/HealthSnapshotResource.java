@@ -0,0 +1,78 @@
+package com.dropwizard.template.health.payload;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+@Path("/healthcheck")
+@Produces(MediaType.APPLICATION_JSON)
+public class HealthSnapshotResource {
+    static final String GZIP_ENCODING = "gzip";
+    static final String IDENTITY_ENCODING = "identity";
+
+    private final HealthSnapshotPayload healthSnapshotPayload;
+
+    public HealthSnapshotResource(HealthSnapshotPayload healthSnapshotPayload) {
+        this.healthSnapshotPayload = healthSnapshotPayload;
+    }
+
+    @GET
+    public Response getHealthSnapshot(@HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding)
+            throws JsonProcessingException {
+        HealthSnapshot snapshot = healthSnapshotPayload.getSnapshot();
+        // Same status codes as the admin servlet
+        Response.ResponseBuilder responseBuilder = Response
+                .status(snapshot.isHealthy() ? Response.Status.OK : Response.Status.INTERNAL_SERVER_ERROR)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (!acceptsGzip(acceptEncoding)) {
+            return responseBuilder.entity(snapshot.getJsonBytes()).build();
+        }
+
+        // An explicit identity encoding also keeps the server's gzip handler off small payloads
+        byte[] gzipBytes = healthSnapshotPayload.getGzipBytes(snapshot);
+        if (gzipBytes == null) {
+            return responseBuilder
+                    .header(HttpHeaders.CONTENT_ENCODING, IDENTITY_ENCODING)
+                    .entity(snapshot.getJsonBytes())
+                    .build();
+        }
+        return responseBuilder
+                .header(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING)
+                .entity(gzipBytes)
+                .build();
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].trim();
+            if (!GZIP_ENCODING.equalsIgnoreCase(name) && !"*".equals(name)) {
+                continue;
+            }
+            return parameters.length < 2 || !isZeroQuality(parameters[1].trim());
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String parameter) {
+        if (!parameter.startsWith("q=")) {
+            return false;
+        }
+        try {
+            return Double.parseDouble(parameter.substring(2)) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.dropwizard.template.health.persistence;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+@Getter
+public class SampleLogConfiguration {
+    static final int DEFAULT_SEGMENT_SIZE_BYTES = 4 * 1024 * 1024;
+    static final int DEFAULT_MAX_SEGMENTS = 16;
+    static final int DEFAULT_QUEUE_CAPACITY = 4096;
+
+    private final String directory;
+    private final int segmentSizeBytes;
+    private final int maxSegments;
+    private final int queueCapacity;
+
+    @JsonCreator
+    public SampleLogConfiguration(@JsonProperty("directory") String directory,
+                                  @JsonProperty("segmentSizeBytes") Integer segmentSizeBytes,
+                                  @JsonProperty("maxSegments") Integer maxSegments,
+                                  @JsonProperty("queueCapacity") Integer queueCapacity) {
+        this.directory = directory;
+        this.segmentSizeBytes = segmentSizeBytes == null ? DEFAULT_SEGMENT_SIZE_BYTES : segmentSizeBytes;
+        this.maxSegments = maxSegments == null ? DEFAULT_MAX_SEGMENTS : maxSegments;
+        this.queueCapacity = queueCapacity == null ? DEFAULT_QUEUE_CAPACITY : queueCapacity;
+        assertValidConfiguration();
+    }
+
+    private void assertValidConfiguration() {
+        if (directory == null || directory.isEmpty()) {
+            throw new IllegalArgumentException("Sample log directory must be set");
+        }
+        if (segmentSizeBytes < SampleLogFormat.MIN_SEGMENT_SIZE_BYTES || maxSegments <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Invalid Sample Log Configuration");
+        }
+    }
+}
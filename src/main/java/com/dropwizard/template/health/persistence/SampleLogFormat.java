@@ -0,0 +1,102 @@
+package com.dropwizard.template.health.persistence;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// Segment layout: header (magic, version, committed length, base timestamp) followed by records.
+// A series record assigns a segment local id, a sample record stores the delta-of-delta timestamp
+// and the XOR of the value with the previous value of the same series, trimmed to its meaningful bytes.
+final class SampleLogFormat {
+    static final int MAGIC = 0x48434b4c;
+    static final int VERSION = 2;
+    static final int COMMITTED_LENGTH_OFFSET = 8;
+    static final int BASE_TIMESTAMP_OFFSET = 12;
+    static final int HEADER_SIZE = 20;
+    static final int MIN_SEGMENT_SIZE_BYTES = 16 * 1024;
+    static final int MAX_STRING_LENGTH = 256;
+    static final int MAX_RECORD_SIZE = 8 * 1024;
+
+    static final int SERIES_TAG = 0x80;
+    static final int HAS_VALUE_FLAG = 0x04;
+    static final int STATUS_MASK = 0x03;
+    static final int ZERO_XOR_CONTROL = 0x88;
+
+    private SampleLogFormat() {
+    }
+
+    static String truncate(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.length() > MAX_STRING_LENGTH ? value.substring(0, MAX_STRING_LENGTH) : value;
+    }
+
+    static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            current = buffer.get();
+            value |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return value;
+    }
+
+    static long zigZagEncode(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long zigZagDecode(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putVarLong(buffer, bytes.length);
+        buffer.put(bytes);
+    }
+
+    static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[(int) getVarLong(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void putXor(ByteBuffer buffer, long xor) {
+        if (xor == 0) {
+            buffer.put((byte) ZERO_XOR_CONTROL);
+            return;
+        }
+
+        int leadingZeroBytes = Long.numberOfLeadingZeros(xor) / 8;
+        int trailingZeroBytes = Long.numberOfTrailingZeros(xor) / 8;
+        buffer.put((byte) ((leadingZeroBytes << 4) | trailingZeroBytes));
+        for (int i = 7 - leadingZeroBytes; i >= trailingZeroBytes; i--) {
+            buffer.put((byte) (xor >>> (i * 8)));
+        }
+    }
+
+    static long getXor(ByteBuffer buffer) {
+        int control = buffer.get() & 0xFF;
+        if (control == ZERO_XOR_CONTROL) {
+            return 0;
+        }
+
+        int leadingZeroBytes = control >>> 4;
+        int trailingZeroBytes = control & 0x0F;
+        long xor = 0;
+        for (int i = 7 - leadingZeroBytes; i >= trailingZeroBytes; i--) {
+            xor |= (long) (buffer.get() & 0xFF) << (i * 8);
+        }
+        return xor;
+    }
+}
@@ -0,0 +1,128 @@
+package com.dropwizard.template.health.persistence;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Usage: java -cp <jar> com.dropwizard.template.health.persistence.SampleLogReader <directory or segment>...
+public class SampleLogReader {
+    static final String CSV_HEADER = "timestamp,componentId,componentName,metricName,metricUnit,valueIndex,status,value";
+
+    private SampleLogReader() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: SampleLogReader <directory or segment file>...");
+            System.exit(1);
+        }
+
+        PrintStream out = System.out;
+        out.println(CSV_HEADER);
+        for (String arg : args) {
+            read(Paths.get(arg), (series, timestampMillis, status, value) -> out.println(
+                    timestampMillis + "," +
+                    series.getComponentId() + "," +
+                    series.getComponentName() + "," +
+                    series.getMetricName() + "," +
+                    series.getMetricUnit() + "," +
+                    series.getValueIndex() + "," +
+                    status + "," +
+                    (Double.isNaN(value) ? "" : String.valueOf(value))));
+        }
+    }
+
+    public static void read(Path path, SampleLogVisitor visitor) throws IOException {
+        for (Path segmentPath : listSegments(path)) {
+            readSegment(segmentPath, visitor);
+        }
+    }
+
+    public static List<Path> listSegments(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return Collections.singletonList(path);
+        }
+
+        List<Path> segmentList = new ArrayList<>();
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(path, SampleLogWriter.SEGMENT_GLOB)) {
+            for (Path segmentPath : directoryStream) {
+                segmentList.add(segmentPath);
+            }
+        }
+        Collections.sort(segmentList);
+        return segmentList;
+    }
+
+    public static void readSegment(Path segmentPath, SampleLogVisitor visitor) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel fileChannel = FileChannel.open(segmentPath, StandardOpenOption.READ)) {
+            buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+        }
+
+        if (buffer.remaining() < SampleLogFormat.HEADER_SIZE || buffer.getInt() != SampleLogFormat.MAGIC) {
+            throw new IOException("Not a health sample log segment: " + segmentPath);
+        }
+        int version = buffer.getInt();
+        if (version != SampleLogFormat.VERSION) {
+            throw new IOException("Unsupported sample log version " + version + ": " + segmentPath);
+        }
+        int committedLength = buffer.getInt();
+        long baseTimestampMillis = buffer.getLong();
+        buffer.limit(committedLength);
+
+        readRecords(buffer, baseTimestampMillis, visitor);
+    }
+
+    private static void readRecords(ByteBuffer buffer, long baseTimestampMillis, SampleLogVisitor visitor) {
+        HealthCheckStatusEnum[] statuses = HealthCheckStatusEnum.values();
+        SampleSeries[] seriesArray = new SampleSeries[16];
+        long[] previousTimestamps = new long[16];
+        long[] previousDeltas = new long[16];
+        long[] previousValueBits = new long[16];
+
+        while (buffer.hasRemaining()) {
+            int tag = buffer.get() & 0xFF;
+            int seriesId = (int) SampleLogFormat.getVarLong(buffer);
+            if (tag == SampleLogFormat.SERIES_TAG) {
+                if (seriesId >= seriesArray.length) {
+                    int length = seriesArray.length * 2;
+                    seriesArray = Arrays.copyOf(seriesArray, length);
+                    previousTimestamps = Arrays.copyOf(previousTimestamps, length);
+                    previousDeltas = Arrays.copyOf(previousDeltas, length);
+                    previousValueBits = Arrays.copyOf(previousValueBits, length);
+                }
+                seriesArray[seriesId] = new SampleSeries(SampleLogFormat.getString(buffer),
+                        SampleLogFormat.getString(buffer), SampleLogFormat.getString(buffer),
+                        SampleLogFormat.getString(buffer), (int) SampleLogFormat.getVarLong(buffer));
+                previousTimestamps[seriesId] = baseTimestampMillis;
+                continue;
+            }
+
+            long deltaMillis = previousDeltas[seriesId] +
+                    SampleLogFormat.zigZagDecode(SampleLogFormat.getVarLong(buffer));
+            long timestampMillis = previousTimestamps[seriesId] + deltaMillis;
+            previousDeltas[seriesId] = deltaMillis;
+            previousTimestamps[seriesId] = timestampMillis;
+
+            double value = Double.NaN;
+            if ((tag & SampleLogFormat.HAS_VALUE_FLAG) != 0) {
+                previousValueBits[seriesId] ^= SampleLogFormat.getXor(buffer);
+                value = Double.longBitsToDouble(previousValueBits[seriesId]);
+            }
+            visitor.onSample(seriesArray[seriesId], timestampMillis,
+                    statuses[tag & SampleLogFormat.STATUS_MASK], value);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.dropwizard.template.health.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+class SampleLogSegmentWriter implements Closeable {
+    private final Path path;
+    private final FileChannel fileChannel;
+    private final MappedByteBuffer mappedBuffer;
+    private final ByteBuffer scratchBuffer = ByteBuffer.allocate(SampleLogFormat.MAX_RECORD_SIZE);
+    private final Map<SampleSeries, SeriesState> seriesStateMap = new HashMap<>();
+    private final long baseTimestampMillis;
+
+    SampleLogSegmentWriter(Path path, int segmentSizeBytes, long baseTimestampMillis) throws IOException {
+        this.path = path;
+        this.baseTimestampMillis = baseTimestampMillis;
+        this.fileChannel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.mappedBuffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSizeBytes);
+
+        mappedBuffer.putInt(SampleLogFormat.MAGIC);
+        mappedBuffer.putInt(SampleLogFormat.VERSION);
+        mappedBuffer.putInt(SampleLogFormat.HEADER_SIZE);
+        mappedBuffer.putLong(baseTimestampMillis);
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    // The record is encoded off to the side first so a record that does not fit leaves the segment untouched
+    boolean append(SampleRecord sampleRecord) {
+        SeriesState seriesState = seriesStateMap.get(sampleRecord.getSeries());
+        boolean isNewSeries = seriesState == null;
+        int seriesId = isNewSeries ? seriesStateMap.size() : seriesState.seriesId;
+        long previousTimestampMillis = isNewSeries ? baseTimestampMillis : seriesState.previousTimestampMillis;
+        long previousDeltaMillis = isNewSeries ? 0 : seriesState.previousDeltaMillis;
+        long previousValueBits = isNewSeries ? 0 : seriesState.previousValueBits;
+
+        scratchBuffer.clear();
+        if (isNewSeries) {
+            writeSeries(seriesId, sampleRecord.getSeries());
+        }
+
+        long deltaMillis = sampleRecord.getTimestampMillis() - previousTimestampMillis;
+        long valueBits = sampleRecord.isHasValue() ?
+                Double.doubleToRawLongBits(sampleRecord.getValue()) :
+                previousValueBits;
+        int tag = sampleRecord.getStatus().ordinal() & SampleLogFormat.STATUS_MASK;
+        if (sampleRecord.isHasValue()) {
+            tag |= SampleLogFormat.HAS_VALUE_FLAG;
+        }
+
+        scratchBuffer.put((byte) tag);
+        SampleLogFormat.putVarLong(scratchBuffer, seriesId);
+        SampleLogFormat.putVarLong(scratchBuffer, SampleLogFormat.zigZagEncode(deltaMillis - previousDeltaMillis));
+        if (sampleRecord.isHasValue()) {
+            SampleLogFormat.putXor(scratchBuffer, valueBits ^ previousValueBits);
+        }
+        scratchBuffer.flip();
+
+        if (mappedBuffer.remaining() < scratchBuffer.remaining()) {
+            return false;
+        }
+        mappedBuffer.put(scratchBuffer);
+        mappedBuffer.putInt(SampleLogFormat.COMMITTED_LENGTH_OFFSET, mappedBuffer.position());
+
+        if (isNewSeries) {
+            seriesState = new SeriesState(seriesId);
+            seriesStateMap.put(sampleRecord.getSeries(), seriesState);
+        }
+        seriesState.previousTimestampMillis = sampleRecord.getTimestampMillis();
+        seriesState.previousDeltaMillis = deltaMillis;
+        seriesState.previousValueBits = valueBits;
+        return true;
+    }
+
+    private void writeSeries(int seriesId, SampleSeries series) {
+        scratchBuffer.put((byte) SampleLogFormat.SERIES_TAG);
+        SampleLogFormat.putVarLong(scratchBuffer, seriesId);
+        SampleLogFormat.putString(scratchBuffer, series.getComponentId());
+        SampleLogFormat.putString(scratchBuffer, series.getComponentName());
+        SampleLogFormat.putString(scratchBuffer, series.getMetricName());
+        SampleLogFormat.putString(scratchBuffer, series.getMetricUnit());
+        SampleLogFormat.putVarLong(scratchBuffer, series.getValueIndex());
+    }
+
+    void force() {
+        mappedBuffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        fileChannel.close();
+    }
+
+    private static class SeriesState {
+        private final int seriesId;
+        private long previousTimestampMillis;
+        private long previousDeltaMillis;
+        private long previousValueBits;
+
+        SeriesState(int seriesId) {
+            this.seriesId = seriesId;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.dropwizard.template.health.persistence;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+
+public interface SampleLogVisitor {
+    // value is NaN when the sample had no numeric metric value
+    void onSample(SampleSeries series, long timestampMillis, HealthCheckStatusEnum status, double value);
+}
@@ -0,0 +1,169 @@
+package com.dropwizard.template.health.persistence;
+
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.scheduler.HealthCheckSampleListener;
+import com.dropwizard.template.health.scheduler.SampledHealthCheck;
+import io.dropwizard.lifecycle.Managed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Sampling only enqueues, a dedicated writer thread appends to the mapped segments and drops samples when full
+public class SampleLogWriter implements Managed, HealthCheckSampleListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SampleLogWriter.class);
+    static final String THREAD_NAME = "health-sample-log-writer";
+    static final String SEGMENT_PREFIX = "segment-";
+    static final String SEGMENT_SUFFIX = ".hsl";
+    static final String SEGMENT_GLOB = SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX;
+    static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final SampleLogConfiguration configuration;
+    private final Path directory;
+    private final BlockingQueue<SampleRecord> sampleQueue;
+    private final AtomicLong droppedSampleCount = new AtomicLong();
+    private volatile boolean running;
+    private Thread writerThread;
+    private SampleLogSegmentWriter currentSegment;
+    private long nextSegmentSequence;
+
+    public SampleLogWriter(SampleLogConfiguration configuration) {
+        this.configuration = configuration;
+        this.directory = Paths.get(configuration.getDirectory());
+        this.sampleQueue = new ArrayBlockingQueue<>(configuration.getQueueCapacity());
+    }
+
+    public long getDroppedSampleCount() {
+        return droppedSampleCount.get();
+    }
+
+    @Override
+    public void onSample(SampledHealthCheck sampledHealthCheck, List<ComponentHealthCheckModel.Value> componentValues) {
+        String componentName = sampledHealthCheck.getComponentInfo().getComponentName();
+        String metricName = sampledHealthCheck.getMetricName();
+        long nowMillis = System.currentTimeMillis();
+
+        for (int i = 0; i < componentValues.size(); i++) {
+            ComponentHealthCheckModel.Value componentValue = componentValues.get(i);
+            if (componentValue.getStatus() == null) {
+                droppedSampleCount.incrementAndGet();
+                continue;
+            }
+
+            Object metricValue = componentValue.getMetricValue();
+            SampleRecord sampleRecord = SampleRecord.builder()
+                    .series(new SampleSeries(componentValue.getComponentId(), componentName,
+                            metricName, componentValue.getMetricUnit(), i))
+                    .timestampMillis(componentValue.getTime() == null ? nowMillis : componentValue.getTime().getTime())
+                    .status(componentValue.getStatus())
+                    .hasValue(metricValue instanceof Number)
+                    .value(metricValue instanceof Number ? ((Number) metricValue).doubleValue() : 0.0)
+                    .build();
+
+            if (!sampleQueue.offer(sampleRecord)) {
+                droppedSampleCount.incrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void start() throws IOException {
+        Files.createDirectories(directory);
+        nextSegmentSequence = getLastSegmentSequence() + 1;
+        running = true;
+        writerThread = new Thread(this::runWriteLoop, THREAD_NAME);
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public synchronized void stop() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private void runWriteLoop() {
+        try {
+            while (running || !sampleQueue.isEmpty()) {
+                SampleRecord sampleRecord = sampleQueue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (sampleRecord != null) {
+                    append(sampleRecord);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeCurrentSegment();
+        }
+    }
+
+    private void append(SampleRecord sampleRecord) {
+        try {
+            if (currentSegment != null && currentSegment.append(sampleRecord)) {
+                return;
+            }
+
+            rollSegment(sampleRecord.getTimestampMillis());
+            if (!currentSegment.append(sampleRecord)) {
+                droppedSampleCount.incrementAndGet();
+            }
+        } catch (IOException | RuntimeException e) {
+            // One bad record must not take the writer thread down with it
+            droppedSampleCount.incrementAndGet();
+            LOGGER.warn("Failed to append health sample to {}", directory, e);
+        }
+    }
+
+    private void rollSegment(long baseTimestampMillis) throws IOException {
+        closeCurrentSegment();
+        Path segmentPath = directory.resolve(String.format("%s%020d%s",
+                SEGMENT_PREFIX, nextSegmentSequence++, SEGMENT_SUFFIX));
+        currentSegment = new SampleLogSegmentWriter(segmentPath, configuration.getSegmentSizeBytes(),
+                baseTimestampMillis);
+        deleteExpiredSegments();
+    }
+
+    private void deleteExpiredSegments() throws IOException {
+        List<Path> segmentList = SampleLogReader.listSegments(directory);
+        for (int i = 0; i < segmentList.size() - configuration.getMaxSegments(); i++) {
+            Files.deleteIfExists(segmentList.get(i));
+        }
+    }
+
+    private void closeCurrentSegment() {
+        if (currentSegment == null) {
+            return;
+        }
+
+        try {
+            currentSegment.close();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to close health sample segment {}", currentSegment.getPath(), e);
+        }
+        currentSegment = null;
+    }
+
+    private long getLastSegmentSequence() throws IOException {
+        long lastSequence = 0;
+        for (Path segmentPath : SampleLogReader.listSegments(directory)) {
+            String fileName = segmentPath.getFileName().toString();
+            String sequence = fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length());
+            try {
+                lastSequence = Math.max(lastSequence, Long.parseLong(sequence));
+            } catch (NumberFormatException e) {
+                LOGGER.debug("Ignoring unexpected segment file {}", segmentPath);
+            }
+        }
+        return lastSequence;
+    }
+}
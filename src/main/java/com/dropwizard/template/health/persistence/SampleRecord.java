@@ -0,0 +1,15 @@
+package com.dropwizard.template.health.persistence;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+class SampleRecord {
+    private final SampleSeries series;
+    private final long timestampMillis;
+    private final HealthCheckStatusEnum status;
+    private final boolean hasValue;
+    private final double value;
+}
@@ -0,0 +1,24 @@
+package com.dropwizard.template.health.persistence;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode
+public class SampleSeries {
+    private final String componentId;
+    private final String componentName;
+    private final String metricName;
+    private final String metricUnit;
+    // Position of the value in its sample, a check reporting several values has one series per value
+    private final int valueIndex;
+
+    public SampleSeries(String componentId, String componentName, String metricName, String metricUnit,
+                        int valueIndex) {
+        this.componentId = SampleLogFormat.truncate(componentId);
+        this.componentName = SampleLogFormat.truncate(componentName);
+        this.metricName = SampleLogFormat.truncate(metricName);
+        this.metricUnit = SampleLogFormat.truncate(metricUnit);
+        this.valueIndex = valueIndex;
+    }
+}
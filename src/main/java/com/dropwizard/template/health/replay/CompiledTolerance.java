@@ -0,0 +1,28 @@
+package com.dropwizard.template.health.replay;
+
+import com.dropwizard.template.health.enums.ToleranceType;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+
+// Primitive copy of HealthCheckTolerance.getHealthCheckStatus, returns the HealthCheckStatusEnum ordinal
+final class CompiledTolerance {
+    static final int PASS = 0;
+    static final int WARN = 1;
+    static final int FAIL = 2;
+
+    private final double passValue;
+    private final double warnValue;
+    private final boolean lessThan;
+
+    CompiledTolerance(HealthCheckTolerance healthCheckTolerance) {
+        this.passValue = healthCheckTolerance.getPassValue();
+        this.warnValue = healthCheckTolerance.getWarnValue();
+        this.lessThan = healthCheckTolerance.getToleranceType() == ToleranceType.LESS_THAN;
+    }
+
+    int evaluate(double value) {
+        if (lessThan) {
+            return value <= passValue ? PASS : value <= warnValue ? WARN : FAIL;
+        }
+        return value >= passValue ? PASS : value >= warnValue ? WARN : FAIL;
+    }
+}
@@ -0,0 +1,33 @@
+package com.dropwizard.template.health.replay;
+
+import com.dropwizard.template.health.enums.ToleranceType;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+import lombok.Getter;
+
+@Getter
+public class ReplayCandidate {
+    private final String name;
+    private final HealthCheckTolerance healthCheckTolerance;
+
+    public ReplayCandidate(String name, HealthCheckTolerance healthCheckTolerance) {
+        this.name = name;
+        this.healthCheckTolerance = healthCheckTolerance;
+    }
+
+    // name=pass:warn:fail[:LESS_THAN|GREATER_THAN]
+    public static ReplayCandidate parse(String candidate) {
+        String[] nameAndValues = candidate.split("=", 2);
+        String[] values = nameAndValues.length == 2 ? nameAndValues[1].split(":") : new String[0];
+        if (values.length < 3 || values.length > 4) {
+            throw new IllegalArgumentException("Invalid Replay Candidate: " + candidate);
+        }
+
+        HealthCheckTolerance healthCheckTolerance = HealthCheckTolerance.builder()
+                .passValue(Double.valueOf(values[0]))
+                .warnValue(Double.valueOf(values[1]))
+                .failValue(Double.valueOf(values[2]))
+                .toleranceType(values.length == 4 ? ToleranceType.valueOf(values[3]) : ToleranceType.LESS_THAN)
+                .build();
+        return new ReplayCandidate(nameAndValues[0], healthCheckTolerance);
+    }
+}
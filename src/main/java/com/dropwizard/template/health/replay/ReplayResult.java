@@ -0,0 +1,18 @@
+package com.dropwizard.template.health.replay;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+public class ReplayResult {
+    private final String name;
+    private final long sampleCount;
+    private final long transitionCount;
+    private final Map<HealthCheckStatusEnum, Long> transitionsInto;
+    private final Map<HealthCheckStatusEnum, Long> samplesIn;
+    private final Map<HealthCheckStatusEnum, Long> millisIn;
+}
@@ -0,0 +1,96 @@
+package com.dropwizard.template.health.replay;
+
+import com.dropwizard.template.health.persistence.SampleLogReader;
+import com.dropwizard.template.health.persistence.SampleSeries;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+public class ReplaySampleLoader {
+    static final String CSV_SUFFIX = ".csv";
+    static final char COMMA = ',';
+    static final char COLON = ':';
+    static final int CSV_FIELD_COUNT = 7;
+
+    private final String componentName;
+    private final String metricName;
+
+    public ReplaySampleLoader(String componentName, String metricName) {
+        this.componentName = componentName;
+        this.metricName = metricName;
+    }
+
+    public void load(Path path, ToleranceReplayEngine replayEngine) throws IOException {
+        if (!Files.isDirectory(path) && path.getFileName().toString().endsWith(CSV_SUFFIX)) {
+            loadCsv(path, replayEngine);
+        } else {
+            loadSampleLog(path, replayEngine);
+        }
+    }
+
+    // Series ids are resolved once per segment series, the per sample path only passes primitives
+    public void loadSampleLog(Path path, ToleranceReplayEngine replayEngine) throws IOException {
+        for (Path segmentPath : SampleLogReader.listSegments(path)) {
+            Map<SampleSeries, Integer> seriesIndexMap = new IdentityHashMap<>();
+            SampleLogReader.readSegment(segmentPath, (series, timestampMillis, status, value) -> {
+                Integer seriesIndex = seriesIndexMap.get(series);
+                if (seriesIndex == null) {
+                    seriesIndex = isSelected(series.getComponentName(), series.getMetricName()) ?
+                            replayEngine.getSeriesIndex(series.getComponentId() + COLON +
+                                    series.getComponentName() + COLON + series.getMetricName()) :
+                            -1;
+                    seriesIndexMap.put(series, seriesIndex);
+                }
+                if (seriesIndex >= 0) {
+                    replayEngine.accept(seriesIndex, timestampMillis, value);
+                }
+            });
+        }
+    }
+
+    // Expects the SampleLogReader CSV layout: timestamp,componentId,componentName,metricName,metricUnit,status,value
+    public void loadCsv(Path path, ToleranceReplayEngine replayEngine) throws IOException {
+        int[] separators = new int[CSV_FIELD_COUNT - 1];
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                if (!findSeparators(line, separators)) {
+                    continue;
+                }
+
+                String lineComponentName = line.substring(separators[1] + 1, separators[2]);
+                String lineMetricName = line.substring(separators[2] + 1, separators[3]);
+                String value = line.substring(separators[5] + 1);
+                if (value.isEmpty() || !isSelected(lineComponentName, lineMetricName)) {
+                    continue;
+                }
+
+                int seriesIndex = replayEngine.getSeriesIndex(line.substring(separators[0] + 1, separators[3]));
+                replayEngine.accept(seriesIndex, Long.parseLong(line.substring(0, separators[0])),
+                        Double.parseDouble(value));
+            }
+        }
+    }
+
+    private boolean isSelected(String sampleComponentName, String sampleMetricName) {
+        return (componentName == null || componentName.equals(sampleComponentName)) &&
+                (metricName == null || metricName.equals(sampleMetricName));
+    }
+
+    private static boolean findSeparators(String line, int[] separators) {
+        int index = -1;
+        for (int i = 0; i < separators.length; i++) {
+            index = line.indexOf(COMMA, index + 1);
+            if (index < 0) {
+                return false;
+            }
+            separators[i] = index;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,246 @@
+package com.dropwizard.template.health.replay;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+// Samples are buffered per series into primitive columns. Every full batch is cut into chunks that are
+// evaluated in parallel for every candidate, chunk boundaries and batch boundaries are stitched back in order.
+public class ToleranceReplayEngine {
+    static final int DEFAULT_BATCH_SIZE = 1 << 22;
+    static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+    static final int STATUS_COUNT = HealthCheckStatusEnum.values().length;
+    static final int NO_STATUS = -1;
+
+    private final List<ReplayCandidate> candidateList;
+    private final CompiledTolerance[] compiledTolerances;
+    private final int batchSize;
+    private final int chunkSize;
+
+    private final Map<String, Integer> seriesIndexMap = new HashMap<>();
+    private final List<SeriesBuffer> seriesBufferList = new ArrayList<>();
+    private final CandidateAccumulator[] accumulators;
+    private int bufferedSampleCount;
+
+    public ToleranceReplayEngine(List<ReplayCandidate> candidateList) {
+        this(candidateList, DEFAULT_BATCH_SIZE, DEFAULT_CHUNK_SIZE);
+    }
+
+    ToleranceReplayEngine(List<ReplayCandidate> candidateList, int batchSize, int chunkSize) {
+        if (candidateList.isEmpty() || batchSize <= 0 || chunkSize <= 0) {
+            throw new IllegalArgumentException("Invalid Replay Configuration");
+        }
+        this.candidateList = candidateList;
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+        this.compiledTolerances = new CompiledTolerance[candidateList.size()];
+        this.accumulators = new CandidateAccumulator[candidateList.size()];
+        for (int i = 0; i < candidateList.size(); i++) {
+            compiledTolerances[i] = new CompiledTolerance(candidateList.get(i).getHealthCheckTolerance());
+            accumulators[i] = new CandidateAccumulator();
+        }
+    }
+
+    public int getSeriesIndex(String seriesKey) {
+        Integer seriesIndex = seriesIndexMap.get(seriesKey);
+        if (seriesIndex != null) {
+            return seriesIndex;
+        }
+
+        seriesIndex = seriesBufferList.size();
+        seriesIndexMap.put(seriesKey, seriesIndex);
+        seriesBufferList.add(new SeriesBuffer());
+        for (CandidateAccumulator accumulator : accumulators) {
+            accumulator.addSeries();
+        }
+        return seriesIndex;
+    }
+
+    public void accept(int seriesIndex, long timestampMillis, double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+
+        seriesBufferList.get(seriesIndex).add(timestampMillis, value);
+        if (++bufferedSampleCount >= batchSize) {
+            flush();
+        }
+    }
+
+    public List<ReplayResult> finish() {
+        flush();
+
+        List<ReplayResult> resultList = new ArrayList<>(candidateList.size());
+        for (int i = 0; i < candidateList.size(); i++) {
+            resultList.add(accumulators[i].buildResult(candidateList.get(i).getName()));
+        }
+        return resultList;
+    }
+
+    private void flush() {
+        if (bufferedSampleCount == 0) {
+            return;
+        }
+
+        int[] taskSeries = new int[0];
+        int[] taskStart = new int[0];
+        int taskCount = 0;
+        for (int seriesIndex = 0; seriesIndex < seriesBufferList.size(); seriesIndex++) {
+            int size = seriesBufferList.get(seriesIndex).size;
+            for (int start = 0; start < size; start += chunkSize) {
+                if (taskCount == taskSeries.length) {
+                    taskSeries = Arrays.copyOf(taskSeries, Math.max(16, taskCount * 2));
+                    taskStart = Arrays.copyOf(taskStart, taskSeries.length);
+                }
+                taskSeries[taskCount] = seriesIndex;
+                taskStart[taskCount] = start;
+                taskCount++;
+            }
+        }
+
+        int chunkCount = taskCount;
+        int[] chunkSeries = taskSeries;
+        int[] chunkStart = taskStart;
+        ChunkResult[] chunkResults = new ChunkResult[candidateList.size() * chunkCount];
+        IntStream.range(0, chunkResults.length).parallel().forEach(taskIndex -> {
+            int chunkIndex = taskIndex % chunkCount;
+            SeriesBuffer seriesBuffer = seriesBufferList.get(chunkSeries[chunkIndex]);
+            int start = chunkStart[chunkIndex];
+            chunkResults[taskIndex] = evaluateChunk(compiledTolerances[taskIndex / chunkCount], seriesBuffer,
+                    start, Math.min(start + chunkSize, seriesBuffer.size));
+        });
+
+        for (int candidateIndex = 0; candidateIndex < candidateList.size(); candidateIndex++) {
+            CandidateAccumulator accumulator = accumulators[candidateIndex];
+            for (int chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+                SeriesBuffer seriesBuffer = seriesBufferList.get(chunkSeries[chunkIndex]);
+                int start = chunkStart[chunkIndex];
+                int end = Math.min(start + chunkSize, seriesBuffer.size);
+                accumulator.merge(chunkSeries[chunkIndex], chunkResults[candidateIndex * chunkCount + chunkIndex],
+                        start == 0, seriesBuffer.timestamps[start], seriesBuffer.timestamps[end - 1]);
+            }
+        }
+
+        for (SeriesBuffer seriesBuffer : seriesBufferList) {
+            seriesBuffer.size = 0;
+        }
+        bufferedSampleCount = 0;
+    }
+
+    // The last sample of a series in the batch has no successor yet, its duration is added by the next merge
+    static ChunkResult evaluateChunk(CompiledTolerance compiledTolerance, SeriesBuffer seriesBuffer, int start, int end) {
+        ChunkResult chunkResult = new ChunkResult();
+        long[] timestamps = seriesBuffer.timestamps;
+        double[] values = seriesBuffer.values;
+        int lastIndex = seriesBuffer.size - 1;
+
+        int previousStatus = compiledTolerance.evaluate(values[start]);
+        chunkResult.firstStatus = previousStatus;
+        chunkResult.samplesIn[previousStatus]++;
+        for (int i = start + 1; i < end; i++) {
+            int status = compiledTolerance.evaluate(values[i]);
+            chunkResult.samplesIn[status]++;
+            chunkResult.millisIn[previousStatus] += Math.max(0, timestamps[i] - timestamps[i - 1]);
+            if (status != previousStatus) {
+                chunkResult.transitionsInto[status]++;
+            }
+            previousStatus = status;
+        }
+        if (end - 1 < lastIndex) {
+            chunkResult.millisIn[previousStatus] += Math.max(0, timestamps[end] - timestamps[end - 1]);
+        }
+        chunkResult.lastStatus = previousStatus;
+        return chunkResult;
+    }
+
+    static class SeriesBuffer {
+        private long[] timestamps = new long[64];
+        private double[] values = new double[64];
+        private int size;
+
+        void add(long timestampMillis, double value) {
+            if (size == timestamps.length) {
+                timestamps = Arrays.copyOf(timestamps, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            timestamps[size] = timestampMillis;
+            values[size] = value;
+            size++;
+        }
+    }
+
+    static class ChunkResult {
+        private final long[] transitionsInto = new long[STATUS_COUNT];
+        private final long[] samplesIn = new long[STATUS_COUNT];
+        private final long[] millisIn = new long[STATUS_COUNT];
+        private int firstStatus;
+        private int lastStatus;
+    }
+
+    private static class CandidateAccumulator {
+        private final long[] transitionsInto = new long[STATUS_COUNT];
+        private final long[] samplesIn = new long[STATUS_COUNT];
+        private final long[] millisIn = new long[STATUS_COUNT];
+        private int[] lastStatuses = new int[0];
+        private long[] lastTimestamps = new long[0];
+
+        void addSeries() {
+            int seriesCount = lastStatuses.length + 1;
+            lastStatuses = Arrays.copyOf(lastStatuses, seriesCount);
+            lastTimestamps = Arrays.copyOf(lastTimestamps, seriesCount);
+            lastStatuses[seriesCount - 1] = NO_STATUS;
+        }
+
+        // Chunks of a series arrive in order, only the first chunk of a series in a batch owes the carried duration
+        void merge(int seriesIndex, ChunkResult chunkResult, boolean isFirstChunkInBatch,
+                   long firstTimestamp, long lastTimestamp) {
+            int previousStatus = lastStatuses[seriesIndex];
+            if (previousStatus != NO_STATUS) {
+                if (previousStatus != chunkResult.firstStatus) {
+                    transitionsInto[chunkResult.firstStatus]++;
+                }
+                if (isFirstChunkInBatch) {
+                    millisIn[previousStatus] += Math.max(0, firstTimestamp - lastTimestamps[seriesIndex]);
+                }
+            }
+
+            for (int status = 0; status < STATUS_COUNT; status++) {
+                transitionsInto[status] += chunkResult.transitionsInto[status];
+                samplesIn[status] += chunkResult.samplesIn[status];
+                millisIn[status] += chunkResult.millisIn[status];
+            }
+            lastStatuses[seriesIndex] = chunkResult.lastStatus;
+            lastTimestamps[seriesIndex] = lastTimestamp;
+        }
+
+        ReplayResult buildResult(String name) {
+            Map<HealthCheckStatusEnum, Long> transitionsIntoMap = new EnumMap<>(HealthCheckStatusEnum.class);
+            Map<HealthCheckStatusEnum, Long> samplesInMap = new EnumMap<>(HealthCheckStatusEnum.class);
+            Map<HealthCheckStatusEnum, Long> millisInMap = new EnumMap<>(HealthCheckStatusEnum.class);
+            long sampleCount = 0;
+            long transitionCount = 0;
+            for (HealthCheckStatusEnum status : HealthCheckStatusEnum.values()) {
+                transitionsIntoMap.put(status, transitionsInto[status.ordinal()]);
+                samplesInMap.put(status, samplesIn[status.ordinal()]);
+                millisInMap.put(status, millisIn[status.ordinal()]);
+                sampleCount += samplesIn[status.ordinal()];
+                transitionCount += transitionsInto[status.ordinal()];
+            }
+
+            return ReplayResult.builder()
+                    .name(name)
+                    .sampleCount(sampleCount)
+                    .transitionCount(transitionCount)
+                    .transitionsInto(transitionsIntoMap)
+                    .samplesIn(samplesInMap)
+                    .millisIn(millisInMap)
+                    .build();
+        }
+    }
+}
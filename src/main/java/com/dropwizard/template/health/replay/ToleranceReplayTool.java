@@ -0,0 +1,68 @@
+package com.dropwizard.template.health.replay;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+
+import java.io.PrintStream;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+// Usage: ToleranceReplayTool <csv or sample log> [--component=name] [--metric=name] name=pass:warn:fail[:GREATER_THAN]...
+public class ToleranceReplayTool {
+    static final String COMPONENT_OPTION = "--component=";
+    static final String METRIC_OPTION = "--metric=";
+
+    private ToleranceReplayTool() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: ToleranceReplayTool <csv or sample log> [--component=name] [--metric=name] " +
+                    "name=pass:warn:fail[:LESS_THAN|GREATER_THAN]...");
+            System.exit(1);
+        }
+
+        String componentName = null;
+        String metricName = null;
+        List<ReplayCandidate> candidateList = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].startsWith(COMPONENT_OPTION)) {
+                componentName = args[i].substring(COMPONENT_OPTION.length());
+            } else if (args[i].startsWith(METRIC_OPTION)) {
+                metricName = args[i].substring(METRIC_OPTION.length());
+            } else {
+                candidateList.add(ReplayCandidate.parse(args[i]));
+            }
+        }
+
+        long startNanos = System.nanoTime();
+        ToleranceReplayEngine replayEngine = new ToleranceReplayEngine(candidateList);
+        new ReplaySampleLoader(componentName, metricName).load(Paths.get(args[0]), replayEngine);
+        List<ReplayResult> resultList = replayEngine.finish();
+
+        printResults(resultList, System.out);
+        System.err.printf("Replayed %d candidates in %.1f ms%n", candidateList.size(),
+                (System.nanoTime() - startNanos) / 1_000_000.0);
+    }
+
+    static void printResults(List<ReplayResult> resultList, PrintStream out) {
+        out.println("candidate,samples,transitions,intoPass,intoWarn,intoFail," +
+                "passSamples,warnSamples,failSamples,passMillis,warnMillis,failMillis");
+        for (ReplayResult result : resultList) {
+            StringBuilder line = new StringBuilder()
+                    .append(result.getName()).append(',')
+                    .append(result.getSampleCount()).append(',')
+                    .append(result.getTransitionCount());
+            for (HealthCheckStatusEnum status : HealthCheckStatusEnum.values()) {
+                line.append(',').append(result.getTransitionsInto().get(status));
+            }
+            for (HealthCheckStatusEnum status : HealthCheckStatusEnum.values()) {
+                line.append(',').append(result.getSamplesIn().get(status));
+            }
+            for (HealthCheckStatusEnum status : HealthCheckStatusEnum.values()) {
+                line.append(',').append(result.getMillisIn().get(status));
+            }
+            out.println(line);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.dropwizard.template.health.scheduler;
+
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.dropwizard.lifecycle.Managed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// All checks share one scheduler thread, each check reschedules itself with its adaptive interval
+public class AdaptiveHealthCheckScheduler implements Managed {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveHealthCheckScheduler.class);
+    static final String THREAD_NAME_FORMAT = "health-check-scheduler-%d";
+
+    private final ScheduledExecutorService executorService;
+    private final List<SampledHealthCheck> sampledHealthCheckList = new CopyOnWriteArrayList<>();
+    private final List<HealthCheckSampleListener> sampleListenerList = new CopyOnWriteArrayList<>();
+    private volatile boolean started;
+
+    public AdaptiveHealthCheckScheduler() {
+        this(Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat(THREAD_NAME_FORMAT)
+                .setDaemon(true)
+                .build()));
+    }
+
+    AdaptiveHealthCheckScheduler(ScheduledExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    public SampledHealthCheck register(ComponentInfo componentInfo,
+                                       IHealthCheckInfo healthCheckInfo,
+                                       HealthCheckTolerance healthCheckTolerance,
+                                       AdaptiveSamplingInterval samplingInterval) {
+        SampledHealthCheck sampledHealthCheck = new SampledHealthCheck(componentInfo, healthCheckInfo,
+                healthCheckTolerance, samplingInterval);
+        sampledHealthCheckList.add(sampledHealthCheck);
+        if (started) {
+            scheduleSample(sampledHealthCheck, 0);
+        }
+        return sampledHealthCheck;
+    }
+
+    public void addSampleListener(HealthCheckSampleListener sampleListener) {
+        sampleListenerList.add(sampleListener);
+    }
+
+    public List<SampledHealthCheck> getSampledHealthCheckList() {
+        return sampledHealthCheckList;
+    }
+
+    @Override
+    public void start() {
+        started = true;
+        for (SampledHealthCheck sampledHealthCheck : sampledHealthCheckList) {
+            scheduleSample(sampledHealthCheck, 0);
+        }
+    }
+
+    @Override
+    public void stop() {
+        started = false;
+        executorService.shutdownNow();
+    }
+
+    private void scheduleSample(SampledHealthCheck sampledHealthCheck, long delayMillis) {
+        if (!started) {
+            return;
+        }
+
+        try {
+            executorService.schedule(() -> runSample(sampledHealthCheck), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Scheduler is shut down, dropping sample of {}",
+                    sampledHealthCheck.getComponentInfo().getComponentName());
+        }
+    }
+
+    void runSample(SampledHealthCheck sampledHealthCheck) {
+        long nextIntervalMillis = sampledHealthCheck.sample();
+        notifySampleListeners(sampledHealthCheck, sampledHealthCheck.getLatestComponentValues());
+        scheduleSample(sampledHealthCheck, nextIntervalMillis);
+    }
+
+    private void notifySampleListeners(SampledHealthCheck sampledHealthCheck,
+                                       List<ComponentHealthCheckModel.Value> componentValues) {
+        for (HealthCheckSampleListener sampleListener : sampleListenerList) {
+            try {
+                sampleListener.onSample(sampledHealthCheck, componentValues);
+            } catch (Exception e) {
+                LOGGER.warn("Health check sample listener failed", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.dropwizard.template.health.scheduler;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AdaptiveSamplingInterval {
+    private final long minIntervalMillis;
+    private final long maxIntervalMillis;
+    private final double backoffMultiplier;
+    private final double comfortableDistance;
+
+    public static AdaptiveSamplingIntervalBuilder builder() {
+        return new AdaptiveSamplingIntervalBuilder() {
+            @Override
+            public AdaptiveSamplingInterval build() {
+                prebuild();
+                return super.build();
+            }
+        };
+    }
+
+    public long getNextInterval(long currentIntervalMillis, HealthCheckStatusEnum status, double warnDistance) {
+        if (status != HealthCheckStatusEnum.PASS) {
+            return minIntervalMillis;
+        }
+
+        long targetIntervalMillis = minIntervalMillis +
+                Math.round((maxIntervalMillis - minIntervalMillis) * warnDistance);
+        if (currentIntervalMillis >= targetIntervalMillis) {
+            return targetIntervalMillis;
+        }
+        if (warnDistance < comfortableDistance) {
+            return Math.max(currentIntervalMillis, minIntervalMillis);
+        }
+
+        long backoffIntervalMillis = Math.round(Math.max(currentIntervalMillis, minIntervalMillis) * backoffMultiplier);
+        return Math.min(targetIntervalMillis, backoffIntervalMillis);
+    }
+
+    public static class AdaptiveSamplingIntervalBuilder {
+        private long minIntervalMillis = 1000;
+        private long maxIntervalMillis = 30000;
+        private double backoffMultiplier = 2.0;
+        private double comfortableDistance = 0.5;
+
+        protected void prebuild() {
+            if (!isValidInterval()) {
+                throw new IllegalArgumentException("Invalid Sampling Interval");
+            }
+        }
+
+        private boolean isValidInterval() {
+            return minIntervalMillis > 0 &&
+                    minIntervalMillis <= maxIntervalMillis &&
+                    backoffMultiplier >= 1.0 &&
+                    comfortableDistance >= 0.0 &&
+                    comfortableDistance <= 1.0;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.dropwizard.template.health.scheduler;
+
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+
+import java.util.List;
+
+public interface HealthCheckSampleListener {
+    void onSample(SampledHealthCheck sampledHealthCheck, List<ComponentHealthCheckModel.Value> componentValues);
+}
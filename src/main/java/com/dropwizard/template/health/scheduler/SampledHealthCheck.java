@@ -0,0 +1,148 @@
+package com.dropwizard.template.health.scheduler;
+
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+import com.google.common.collect.ImmutableList;
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+@Getter
+public class SampledHealthCheck implements IHealthCheckInfo {
+    // A sample this many intervals overdue means the sampling thread is stuck, the cached values are not trusted
+    static final int STALE_SAMPLE_INTERVALS = 3;
+
+    private final ComponentInfo componentInfo;
+    private final IHealthCheckInfo healthCheckInfo;
+    private final HealthCheckTolerance healthCheckTolerance;
+    private final AdaptiveSamplingInterval samplingInterval;
+    private final LongSupplier nanoTime;
+
+    private volatile List<ComponentHealthCheckModel.Value> latestComponentValues;
+    private volatile HealthCheckStatusEnum latestStatus;
+    private volatile long currentIntervalMillis;
+    private volatile long latestSampleNanos;
+
+    public SampledHealthCheck(ComponentInfo componentInfo,
+                              IHealthCheckInfo healthCheckInfo,
+                              HealthCheckTolerance healthCheckTolerance,
+                              AdaptiveSamplingInterval samplingInterval) {
+        this(componentInfo, healthCheckInfo, healthCheckTolerance, samplingInterval, System::nanoTime);
+    }
+
+    SampledHealthCheck(ComponentInfo componentInfo,
+                       IHealthCheckInfo healthCheckInfo,
+                       HealthCheckTolerance healthCheckTolerance,
+                       AdaptiveSamplingInterval samplingInterval,
+                       LongSupplier nanoTime) {
+        this.componentInfo = componentInfo;
+        this.healthCheckInfo = healthCheckInfo;
+        this.healthCheckTolerance = healthCheckTolerance;
+        this.samplingInterval = samplingInterval;
+        this.nanoTime = nanoTime;
+        this.latestStatus = HealthCheckStatusEnum.PASS;
+        this.currentIntervalMillis = samplingInterval.getMinIntervalMillis();
+    }
+
+    @Override
+    public String getVersion() {
+        return healthCheckInfo.getVersion();
+    }
+
+    @Override
+    public String getDescription() {
+        return healthCheckInfo.getDescription();
+    }
+
+    @Override
+    public String getMetricName() {
+        return healthCheckInfo.getMetricName();
+    }
+
+    @Override
+    public Map<String, Object> getDetails() {
+        return healthCheckInfo.getDetails();
+    }
+
+    @Override
+    public String getValueName(int index, ComponentHealthCheckModel.Value value) {
+        return healthCheckInfo.getValueName(index, value);
+    }
+
+    @Override
+    public boolean hasCachedComponentValues() {
+        return latestComponentValues != null;
+    }
+
+    @Override
+    public List<ComponentHealthCheckModel.Value> getComponentValues() {
+        List<ComponentHealthCheckModel.Value> componentValues = latestComponentValues;
+        if (componentValues == null) {
+            sample();
+            return latestComponentValues;
+        }
+
+        long sampleAgeMillis = TimeUnit.NANOSECONDS.toMillis(nanoTime.getAsLong() - latestSampleNanos);
+        if (sampleAgeMillis > STALE_SAMPLE_INTERVALS * currentIntervalMillis) {
+            return ImmutableList.of(buildFailValue("Last sample was taken " + sampleAgeMillis + " ms ago"));
+        }
+        return componentValues;
+    }
+
+    long sample() {
+        List<ComponentHealthCheckModel.Value> componentValues = getCurrentComponentValues();
+        HealthCheckStatusEnum status = ComponentHealthCheckModel.getStatus(componentValues);
+
+        this.latestSampleNanos = nanoTime.getAsLong();
+        this.latestComponentValues = componentValues;
+        this.latestStatus = status;
+        this.currentIntervalMillis = samplingInterval.getNextInterval(currentIntervalMillis, status,
+                getWarnDistance(componentValues, status));
+        return currentIntervalMillis;
+    }
+
+    private List<ComponentHealthCheckModel.Value> getCurrentComponentValues() {
+        try {
+            return ImmutableList.copyOf(healthCheckInfo.getComponentValues());
+        } catch (Exception e) {
+            return ImmutableList.of(buildFailValue(e.getMessage()));
+        }
+    }
+
+    private ComponentHealthCheckModel.Value buildFailValue(String output) {
+        return ComponentHealthCheckModel.Value.builder()
+                .componentId(componentInfo.getComponentId())
+                .componentType(componentInfo.getComponentType())
+                .status(HealthCheckStatusEnum.FAIL)
+                .time(new Date())
+                .output(output)
+                .build();
+    }
+
+    private double getWarnDistance(List<ComponentHealthCheckModel.Value> componentValues,
+                                   HealthCheckStatusEnum status) {
+        if (status != HealthCheckStatusEnum.PASS) {
+            return 0.0;
+        }
+        Double checkWarnDistance = healthCheckInfo.getWarnDistance(componentValues);
+        if (checkWarnDistance != null) {
+            return checkWarnDistance;
+        }
+        if (healthCheckTolerance == null) {
+            return 1.0;
+        }
+
+        double warnDistance = 1.0;
+        for (ComponentHealthCheckModel.Value value : componentValues) {
+            warnDistance = Math.min(warnDistance, healthCheckTolerance.getWarnDistance(value));
+        }
+        return warnDistance;
+    }
+}
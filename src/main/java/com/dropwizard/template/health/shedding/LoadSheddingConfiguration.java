@@ -0,0 +1,45 @@
+package com.dropwizard.template.health.shedding;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.ImmutableList;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class LoadSheddingConfiguration {
+    static final double DEFAULT_FAIL_SHED_FRACTION = 0.5;
+    static final double DEFAULT_WARN_SHED_FRACTION = 0.0;
+    static final int DEFAULT_RETRY_AFTER_SECONDS = 5;
+
+    private final List<String> checks;
+    private final double failShedFraction;
+    private final double warnShedFraction;
+    private final int retryAfterSeconds;
+    private final List<String> excludedPaths;
+
+    @JsonCreator
+    public LoadSheddingConfiguration(@JsonProperty("checks") List<String> checks,
+                                     @JsonProperty("failShedFraction") Double failShedFraction,
+                                     @JsonProperty("warnShedFraction") Double warnShedFraction,
+                                     @JsonProperty("retryAfterSeconds") Integer retryAfterSeconds,
+                                     @JsonProperty("excludedPaths") List<String> excludedPaths) {
+        this.checks = checks == null ? ImmutableList.of() : ImmutableList.copyOf(checks);
+        this.failShedFraction = failShedFraction == null ? DEFAULT_FAIL_SHED_FRACTION : failShedFraction;
+        this.warnShedFraction = warnShedFraction == null ? DEFAULT_WARN_SHED_FRACTION : warnShedFraction;
+        this.retryAfterSeconds = retryAfterSeconds == null ? DEFAULT_RETRY_AFTER_SECONDS : retryAfterSeconds;
+        this.excludedPaths = excludedPaths == null ? ImmutableList.of() : ImmutableList.copyOf(excludedPaths);
+        assertValidConfiguration();
+    }
+
+    private void assertValidConfiguration() {
+        if (!isValidFraction(failShedFraction) || !isValidFraction(warnShedFraction) || retryAfterSeconds < 0) {
+            throw new IllegalArgumentException("Invalid Load Shedding Configuration");
+        }
+    }
+
+    private static boolean isValidFraction(double fraction) {
+        return fraction >= 0.0 && fraction <= 1.0;
+    }
+}
@@ -0,0 +1,35 @@
+package com.dropwizard.template.health.shedding;
+
+import javax.annotation.Priority;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.PreMatching;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import java.util.concurrent.ThreadLocalRandom;
+
+@PreMatching
+@Priority(Priorities.AUTHENTICATION - 100)
+public class LoadSheddingFilter implements ContainerRequestFilter {
+    private final LoadSheddingPolicy loadSheddingPolicy;
+
+    public LoadSheddingFilter(LoadSheddingPolicy loadSheddingPolicy) {
+        this.loadSheddingPolicy = loadSheddingPolicy;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        double shedFraction = loadSheddingPolicy.getShedFraction();
+        if (shedFraction <= 0.0 || ThreadLocalRandom.current().nextDouble() >= shedFraction) {
+            return;
+        }
+        if (loadSheddingPolicy.isExcludedPath(requestContext.getUriInfo().getPath())) {
+            return;
+        }
+
+        requestContext.abortWith(Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, loadSheddingPolicy.getRetryAfterSeconds())
+                .build());
+    }
+}
@@ -0,0 +1,87 @@
+package com.dropwizard.template.health.shedding;
+
+import com.dropwizard.template.health.ChanDropWizardHealthCheck;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.scheduler.HealthCheckSampleListener;
+import com.dropwizard.template.health.scheduler.SampledHealthCheck;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+// The shed fraction is recomputed on the sampling thread so a request only does one volatile read
+public class LoadSheddingPolicy implements HealthCheckSampleListener {
+    private final LoadSheddingConfiguration configuration;
+    private final Set<SampledHealthCheck> watchedHealthCheckSet = new CopyOnWriteArraySet<>();
+    private final String[] excludedPaths;
+    private volatile double shedFraction;
+
+    public LoadSheddingPolicy(LoadSheddingConfiguration configuration) {
+        this.configuration = configuration;
+        this.excludedPaths = configuration.getExcludedPaths().stream()
+                .map(LoadSheddingPolicy::stripLeadingSlash)
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public void onSample(SampledHealthCheck sampledHealthCheck, List<ComponentHealthCheckModel.Value> componentValues) {
+        if (!isWatched(sampledHealthCheck)) {
+            return;
+        }
+
+        watchedHealthCheckSet.add(sampledHealthCheck);
+        HealthCheckStatusEnum worstStatus = HealthCheckStatusEnum.PASS;
+        for (SampledHealthCheck watchedHealthCheck : watchedHealthCheckSet) {
+            HealthCheckStatusEnum status = watchedHealthCheck.getLatestStatus();
+            if (status.ordinal() > worstStatus.ordinal()) {
+                worstStatus = status;
+            }
+        }
+        shedFraction = getShedFraction(worstStatus);
+    }
+
+    public double getShedFraction() {
+        return shedFraction;
+    }
+
+    public int getRetryAfterSeconds() {
+        return configuration.getRetryAfterSeconds();
+    }
+
+    boolean isExcludedPath(String path) {
+        String strippedPath = stripLeadingSlash(path);
+        for (String excludedPath : excludedPaths) {
+            if (strippedPath.startsWith(excludedPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isWatched(SampledHealthCheck sampledHealthCheck) {
+        if (configuration.getChecks().isEmpty()) {
+            return true;
+        }
+
+        String metricTitle = ChanDropWizardHealthCheck.getMetricTitle(sampledHealthCheck.getComponentInfo(),
+                sampledHealthCheck.getMetricName());
+        return configuration.getChecks().contains(metricTitle) ||
+                configuration.getChecks().contains(sampledHealthCheck.getComponentInfo().getComponentName());
+    }
+
+    private double getShedFraction(HealthCheckStatusEnum status) {
+        switch (status) {
+            case FAIL:
+                return configuration.getFailShedFraction();
+            case WARN:
+                return configuration.getWarnShedFraction();
+            default:
+                return 0.0;
+        }
+    }
+
+    private static String stripLeadingSlash(String path) {
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+}
@@ -0,0 +1,192 @@
+package com.dropwizard.template.health.system.classloading;
+
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+import com.dropwizard.template.health.system.enums.Metric;
+import com.dropwizard.template.health.system.snapshot.SystemSnapshot;
+import com.dropwizard.template.health.system.snapshot.SystemSnapshotProvider;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+// Keeps a small ring of (time, total loaded) pairs so the load rate over the window is a single subtraction.
+// Pairs are spaced so the ring spans the whole window however often the check is sampled.
+// Startup loads classes in a burst, so nothing is judged until the JVM has been up for the warm-up period.
+public class ClassLoadingHealthCheck implements IHealthCheckInfo {
+    static final String VERSION = "1.0";
+    static final String DESCRIPTION = "This is a metric that is used to track class loading and metaspace";
+    static final String METRIC_NAME = "classLoading";
+    static final int RING_CAPACITY = 64;
+    static final String[] VALUE_NAMES = {"loadedClasses", "unloadedClasses", "loadRate"};
+
+    private final ComponentInfo componentInfo;
+    private final HealthCheckTolerance loadRateTolerance;
+    private final HealthCheckTolerance metaspaceTolerance;
+    private final long windowMillis;
+    private final long sampleSpacingMillis;
+    private final long warmupMillis;
+    private final long metaspaceGrowthLimitBytes;
+    private final SystemSnapshotProvider systemSnapshotProvider;
+
+    private final long[] sampleTimes = new long[RING_CAPACITY];
+    private final long[] sampleTotals = new long[RING_CAPACITY];
+    private int sampleCount;
+    private int nextSampleIndex;
+    private volatile long metaspaceBaselineBytes = SystemSnapshot.UNSUPPORTED;
+
+    // Without a metaspace maximum, growth past the baseline taken at the end of warm-up is measured against
+    // metaspaceGrowthLimitBytes instead, 0 leaves an unbounded metaspace unjudged
+    public ClassLoadingHealthCheck(ComponentInfo componentInfo,
+                                   HealthCheckTolerance loadRateTolerance,
+                                   HealthCheckTolerance metaspaceTolerance,
+                                   long windowMillis,
+                                   long warmupMillis,
+                                   long metaspaceGrowthLimitBytes,
+                                   SystemSnapshotProvider systemSnapshotProvider) {
+        if (windowMillis <= 0 || warmupMillis < 0 || metaspaceGrowthLimitBytes < 0) {
+            throw new IllegalArgumentException("Invalid Class Loading Configuration");
+        }
+        this.componentInfo = componentInfo;
+        this.loadRateTolerance = loadRateTolerance;
+        this.metaspaceTolerance = metaspaceTolerance;
+        this.windowMillis = windowMillis;
+        this.sampleSpacingMillis = Math.max(1, (windowMillis + RING_CAPACITY - 2) / (RING_CAPACITY - 1));
+        this.warmupMillis = warmupMillis;
+        this.metaspaceGrowthLimitBytes = metaspaceGrowthLimitBytes;
+        this.systemSnapshotProvider = systemSnapshotProvider;
+    }
+
+    @Override
+    public String getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public String getDescription() {
+        return DESCRIPTION;
+    }
+
+    @Override
+    public String getMetricName() {
+        return METRIC_NAME;
+    }
+
+    @Override
+    public List<ComponentHealthCheckModel.Value> getComponentValues() {
+        SystemSnapshot snapshot = systemSnapshotProvider.getSnapshot();
+        long nowMillis = snapshot.getCaptureTimeMillis();
+        double loadRate = recordAndGetLoadRate(nowMillis, snapshot.getTotalLoadedClassCount());
+        boolean warm = snapshot.getUptimeMillis() >= warmupMillis;
+        Date time = new Date(nowMillis);
+
+        List<ComponentHealthCheckModel.Value> componentValueList = new ArrayList<>(4);
+        componentValueList.add(buildComponentValue((double) snapshot.getLoadedClassCount(), Metric.COUNT,
+                HealthCheckStatusEnum.PASS, "loaded classes", time));
+        componentValueList.add(buildComponentValue((double) snapshot.getUnloadedClassCount(), Metric.COUNT,
+                HealthCheckStatusEnum.PASS, "unloaded classes", time));
+        componentValueList.add(warm ?
+                buildComponentValue(loadRate, Metric.PER_MINUTE, loadRateTolerance.getHealthCheckStatus(loadRate),
+                        "class load rate over " + windowMillis + " ms", time) :
+                buildComponentValue(loadRate, Metric.PER_MINUTE, HealthCheckStatusEnum.PASS,
+                        "class load rate over " + windowMillis + " ms, warming up", time));
+        componentValueList.add(buildMetaspaceValue(snapshot, warm, time));
+        return componentValueList;
+    }
+
+    // Metaspace is reported in bytes until it can be judged, then as a percentage of its limit
+    @Override
+    public String getValueName(int index, ComponentHealthCheckModel.Value value) {
+        if (index < VALUE_NAMES.length) {
+            return VALUE_NAMES[index];
+        }
+        return Metric.BYTES.getValue().equals(value.getMetricUnit()) ? "metaspaceUsed" : "metaspaceUtilization";
+    }
+
+    // Class counts are not graded, the rate only once warm and metaspace only when it is a percentage
+    @Override
+    public Double getWarnDistance(List<ComponentHealthCheckModel.Value> componentValues) {
+        double warnDistance = 1.0;
+        if (systemSnapshotProvider.getSnapshot().getUptimeMillis() >= warmupMillis) {
+            warnDistance = loadRateTolerance.getWarnDistance(componentValues.get(2));
+        }
+        ComponentHealthCheckModel.Value metaspaceValue = componentValues.get(3);
+        if (Metric.PERCENTAGE.getValue().equals(metaspaceValue.getMetricUnit())) {
+            warnDistance = Math.min(warnDistance, metaspaceTolerance.getWarnDistance(metaspaceValue));
+        }
+        return warnDistance;
+    }
+
+    private synchronized double recordAndGetLoadRate(long nowMillis, long totalLoaded) {
+        // Probes that share a snapshot share its sample
+        int lastIndex = (nextSampleIndex - 1 + RING_CAPACITY) % RING_CAPACITY;
+        if (sampleCount == 0 || nowMillis - sampleTimes[lastIndex] >= sampleSpacingMillis) {
+            sampleTimes[nextSampleIndex] = nowMillis;
+            sampleTotals[nextSampleIndex] = totalLoaded;
+            nextSampleIndex = (nextSampleIndex + 1) % RING_CAPACITY;
+            sampleCount = Math.min(sampleCount + 1, RING_CAPACITY);
+        }
+
+        // Oldest sample still inside the window
+        int oldestIndex = (nextSampleIndex - sampleCount + RING_CAPACITY) % RING_CAPACITY;
+        for (int i = 0; i < sampleCount; i++) {
+            int index = (oldestIndex + i) % RING_CAPACITY;
+            if (nowMillis - sampleTimes[index] <= windowMillis) {
+                long elapsedMillis = nowMillis - sampleTimes[index];
+                return elapsedMillis <= 0 ? 0.0 : (totalLoaded - sampleTotals[index]) * 60000.0 / elapsedMillis;
+            }
+        }
+        return 0.0;
+    }
+
+    private ComponentHealthCheckModel.Value buildMetaspaceValue(SystemSnapshot snapshot, boolean warm, Date time) {
+        if (!snapshot.hasMetaspace()) {
+            return buildComponentValue(null, Metric.PERCENTAGE, HealthCheckStatusEnum.PASS,
+                    "No metaspace memory pool", time);
+        }
+
+        long usedBytes = snapshot.getMetaspaceUsedBytes();
+        long maxBytes = snapshot.getMetaspaceMaxBytes();
+        if (maxBytes > 0) {
+            double utilization = usedBytes * 100.0 / maxBytes;
+            return buildComponentValue(utilization, Metric.PERCENTAGE,
+                    metaspaceTolerance.getHealthCheckStatus(utilization), "metaspace utilization", time);
+        }
+        if (metaspaceGrowthLimitBytes == 0) {
+            return buildComponentValue((double) usedBytes, Metric.BYTES, HealthCheckStatusEnum.PASS,
+                    "metaspace used, no maximum is set", time);
+        }
+        if (!warm) {
+            return buildComponentValue((double) usedBytes, Metric.BYTES, HealthCheckStatusEnum.PASS,
+                    "metaspace used, warming up", time);
+        }
+
+        long baselineBytes = metaspaceBaselineBytes;
+        if (baselineBytes == SystemSnapshot.UNSUPPORTED) {
+            baselineBytes = usedBytes;
+            metaspaceBaselineBytes = baselineBytes;
+        }
+        double growth = Math.max(0, usedBytes - baselineBytes) * 100.0 / metaspaceGrowthLimitBytes;
+        return buildComponentValue(growth, Metric.PERCENTAGE, metaspaceTolerance.getHealthCheckStatus(growth),
+                "metaspace growth since warm-up against a " + metaspaceGrowthLimitBytes + " byte limit", time);
+    }
+
+    private ComponentHealthCheckModel.Value buildComponentValue(Double metricValue,
+                                                                Metric metric,
+                                                                HealthCheckStatusEnum status,
+                                                                String output,
+                                                                Date time) {
+        return ComponentHealthCheckModel.Value.builder()
+                .componentId(componentInfo.getComponentId())
+                .componentType(componentInfo.getComponentType())
+                .metricValue(metricValue)
+                .metricUnit(metric.getValue())
+                .status(status)
+                .time(time)
+                .output(output)
+                .build();
+    }
+}
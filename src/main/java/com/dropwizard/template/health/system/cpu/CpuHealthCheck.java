@@ -0,0 +1,127 @@
+package com.dropwizard.template.health.system.cpu;
+
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+import com.dropwizard.template.health.system.enums.Metric;
+import com.dropwizard.template.health.system.snapshot.SystemSnapshot;
+import com.dropwizard.template.health.system.snapshot.SystemSnapshotProvider;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+// Process CPU, system CPU and load average per core, each smoothed so a short spike does not flap readiness
+public class CpuHealthCheck implements IHealthCheckInfo {
+    static final String VERSION = "1.0";
+    static final String DESCRIPTION = "This is a metric that is used to track cpu";
+    static final String METRIC_NAME = "cpu";
+    static final String[] VALUE_NAMES = {"processCpu", "systemCpu", "loadPerCore"};
+
+    private final ComponentInfo componentInfo;
+    private final HealthCheckTolerance cpuTolerance;
+    private final HealthCheckTolerance loadTolerance;
+    private final long smoothingWindowMillis;
+    private final SystemSnapshotProvider systemSnapshotProvider;
+    private final ExponentialMovingAverage processCpuAverage;
+    private final ExponentialMovingAverage systemCpuAverage;
+    private final ExponentialMovingAverage loadPerCoreAverage;
+
+    public CpuHealthCheck(ComponentInfo componentInfo,
+                          HealthCheckTolerance cpuTolerance,
+                          HealthCheckTolerance loadTolerance,
+                          long smoothingWindowMillis,
+                          SystemSnapshotProvider systemSnapshotProvider) {
+        if (smoothingWindowMillis <= 0) {
+            throw new IllegalArgumentException("Invalid Cpu Configuration");
+        }
+        this.componentInfo = componentInfo;
+        this.cpuTolerance = cpuTolerance;
+        this.loadTolerance = loadTolerance;
+        this.smoothingWindowMillis = smoothingWindowMillis;
+        this.systemSnapshotProvider = systemSnapshotProvider;
+        this.processCpuAverage = new ExponentialMovingAverage(smoothingWindowMillis);
+        this.systemCpuAverage = new ExponentialMovingAverage(smoothingWindowMillis);
+        this.loadPerCoreAverage = new ExponentialMovingAverage(smoothingWindowMillis);
+    }
+
+    @Override
+    public String getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public String getDescription() {
+        return DESCRIPTION;
+    }
+
+    @Override
+    public String getMetricName() {
+        return METRIC_NAME;
+    }
+
+    @Override
+    public synchronized List<ComponentHealthCheckModel.Value> getComponentValues() {
+        SystemSnapshot snapshot = systemSnapshotProvider.getSnapshot();
+        long nowMillis = snapshot.getCaptureTimeMillis();
+        Date time = new Date(nowMillis);
+        double loadPerCore = snapshot.getSystemLoadAverage() < 0 || snapshot.getAvailableProcessors() <= 0 ?
+                SystemSnapshot.UNSUPPORTED :
+                snapshot.getSystemLoadAverage() / snapshot.getAvailableProcessors();
+
+        List<ComponentHealthCheckModel.Value> componentValueList = new ArrayList<>(3);
+        componentValueList.add(buildSmoothedValue(processCpuAverage, snapshot.getProcessCpuLoad(), nowMillis,
+                cpuTolerance, "process cpu load", time));
+        componentValueList.add(buildSmoothedValue(systemCpuAverage, snapshot.getSystemCpuLoad(), nowMillis,
+                cpuTolerance, "system cpu load", time));
+        componentValueList.add(buildSmoothedValue(loadPerCoreAverage, loadPerCore, nowMillis,
+                loadTolerance, "load average per core", time));
+        return componentValueList;
+    }
+
+    @Override
+    public String getValueName(int index, ComponentHealthCheckModel.Value value) {
+        return VALUE_NAMES[index];
+    }
+
+    // The load per core is a percentage too but is graded against its own tolerance
+    @Override
+    public Double getWarnDistance(List<ComponentHealthCheckModel.Value> componentValues) {
+        return Math.min(Math.min(cpuTolerance.getWarnDistance(componentValues.get(0)),
+                cpuTolerance.getWarnDistance(componentValues.get(1))),
+                loadTolerance.getWarnDistance(componentValues.get(2)));
+    }
+
+    // Loads are reported by the JVM as a fraction, negative when the platform cannot tell
+    private ComponentHealthCheckModel.Value buildSmoothedValue(ExponentialMovingAverage average,
+                                                               double load,
+                                                               long nowMillis,
+                                                               HealthCheckTolerance healthCheckTolerance,
+                                                               String name,
+                                                               Date time) {
+        if (load < 0) {
+            return buildComponentValue(null, HealthCheckStatusEnum.PASS, name + " is not available", time);
+        }
+
+        double percentage = average.update(load * 100.0, nowMillis);
+        return buildComponentValue(percentage, healthCheckTolerance.getHealthCheckStatus(percentage),
+                name + " over " + smoothingWindowMillis + " ms", time);
+    }
+
+    private ComponentHealthCheckModel.Value buildComponentValue(Double metricValue,
+                                                                HealthCheckStatusEnum status,
+                                                                String output,
+                                                                Date time) {
+        return ComponentHealthCheckModel.Value.builder()
+                .componentId(componentInfo.getComponentId())
+                .componentType(componentInfo.getComponentType())
+                .metricValue(metricValue)
+                .metricUnit(Metric.PERCENTAGE.getValue())
+                .status(status)
+                .time(time)
+                .output(output)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.dropwizard.template.health.system.cpu;
+
+// Time weighted, a reading counts less the sooner it follows the previous one, so the probe rate does not
+// change how much a spike moves the average
+class ExponentialMovingAverage {
+    private final double windowMillis;
+    private double average = Double.NaN;
+    private long lastUpdateMillis;
+
+    ExponentialMovingAverage(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    double update(double value, long nowMillis) {
+        if (Double.isNaN(average)) {
+            average = value;
+        } else if (nowMillis > lastUpdateMillis) {
+            double alpha = 1 - Math.exp(-(nowMillis - lastUpdateMillis) / windowMillis);
+            average += alpha * (value - average);
+        } else {
+            return average;
+        }
+        lastUpdateMillis = nowMillis;
+        return average;
+    }
+}
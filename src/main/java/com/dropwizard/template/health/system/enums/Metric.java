@@ -5,7 +5,10 @@ import lombok.Getter;
 @Getter
 public enum Metric {
     PERCENTAGE("percentage"),
-    BYTES("bytes");
+    BYTES("bytes"),
+    MILLISECONDS("milliseconds"),
+    COUNT("count"),
+    PER_MINUTE("perMinute");
 
     private final String value;
 
@@ -0,0 +1,295 @@
+package com.dropwizard.template.health.system.memory;
+
+import com.dropwizard.template.health.enums.ToleranceType;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+import com.dropwizard.template.health.system.enums.Metric;
+import com.dropwizard.template.health.system.model.MemoryHealthCheckModel;
+import com.dropwizard.template.health.system.snapshot.SystemSnapshotProvider;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import io.dropwizard.lifecycle.Managed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Heap usage is recomputed when a GC finishes or a pool crosses its threshold, a probe only reads the last result.
+// Falls back to polling the Runtime when the JVM does not emit these notifications.
+public class GcNotificationMemoryHealthCheck implements IMemoryHealthCheck, Managed {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GcNotificationMemoryHealthCheck.class);
+
+    private final MemoryMXBean memoryMXBean;
+    private final List<GarbageCollectorMXBean> garbageCollectorMXBeanList;
+    private final List<MemoryPoolMXBean> memoryPoolMXBeanList;
+    private final Metric metric;
+    private final HealthCheckTolerance healthCheckTolerance;
+    private final IMemoryHealthCheck pollingMemoryHealthCheck;
+    private final NotificationListener notificationListener = this::handleNotification;
+    private final List<NotificationEmitter> subscribedEmitterList = new ArrayList<>();
+    private final Map<MemoryPoolMXBean, long[]> originalThresholdMap = new HashMap<>();
+    private final Set<String> heapPoolNameSet = new HashSet<>();
+    private final AtomicLong notificationCount = new AtomicLong();
+
+    private volatile MemoryHealthCheckModel latestMemoryHealthCheckModel = MemoryHealthCheckModel.empty();
+    private volatile Exception exceptionMessage;
+    private volatile boolean subscribed;
+
+    public GcNotificationMemoryHealthCheck(Metric metric, HealthCheckTolerance healthCheckTolerance) {
+        this(metric, healthCheckTolerance, null);
+    }
+
+    // The provider, when given, backs the polling fallback with the shared system snapshot
+    public GcNotificationMemoryHealthCheck(Metric metric,
+                                           HealthCheckTolerance healthCheckTolerance,
+                                           SystemSnapshotProvider systemSnapshotProvider) {
+        this(ManagementFactory.getMemoryMXBean(), ManagementFactory.getGarbageCollectorMXBeans(),
+                ManagementFactory.getMemoryPoolMXBeans(), metric, healthCheckTolerance,
+                new RuntimeMemoryHealthCheck(systemSnapshotProvider));
+    }
+
+    GcNotificationMemoryHealthCheck(MemoryMXBean memoryMXBean,
+                                    List<GarbageCollectorMXBean> garbageCollectorMXBeanList,
+                                    List<MemoryPoolMXBean> memoryPoolMXBeanList,
+                                    Metric metric,
+                                    HealthCheckTolerance healthCheckTolerance) {
+        this(memoryMXBean, garbageCollectorMXBeanList, memoryPoolMXBeanList, metric, healthCheckTolerance,
+                new RuntimeMemoryHealthCheck());
+    }
+
+    GcNotificationMemoryHealthCheck(MemoryMXBean memoryMXBean,
+                                    List<GarbageCollectorMXBean> garbageCollectorMXBeanList,
+                                    List<MemoryPoolMXBean> memoryPoolMXBeanList,
+                                    Metric metric,
+                                    HealthCheckTolerance healthCheckTolerance,
+                                    IMemoryHealthCheck pollingMemoryHealthCheck) {
+        this.memoryMXBean = memoryMXBean;
+        this.garbageCollectorMXBeanList = garbageCollectorMXBeanList;
+        this.memoryPoolMXBeanList = memoryPoolMXBeanList;
+        this.metric = metric;
+        this.healthCheckTolerance = healthCheckTolerance;
+        this.pollingMemoryHealthCheck = pollingMemoryHealthCheck;
+    }
+
+    public boolean isSubscribed() {
+        return subscribed;
+    }
+
+    public long getNotificationCount() {
+        return notificationCount.get();
+    }
+
+    @Override
+    public MemoryHealthCheckModel getMemoryHealthCheck() {
+        if (!subscribed) {
+            return pollingMemoryHealthCheck.getMemoryHealthCheck();
+        }
+        return latestMemoryHealthCheckModel;
+    }
+
+    @Override
+    public String getLastErrorMessage() {
+        if (!subscribed) {
+            return pollingMemoryHealthCheck.getLastErrorMessage();
+        }
+
+        Exception exception = exceptionMessage;
+        if (exception == null) {
+            return "";
+        }
+        return exception.getMessage();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (subscribed) {
+            return;
+        }
+
+        try {
+            for (MemoryPoolMXBean memoryPoolMXBean : memoryPoolMXBeanList) {
+                if (memoryPoolMXBean.getType() == MemoryType.HEAP) {
+                    heapPoolNameSet.add(memoryPoolMXBean.getName());
+                }
+            }
+            for (GarbageCollectorMXBean garbageCollectorMXBean : garbageCollectorMXBeanList) {
+                subscribe(garbageCollectorMXBean);
+            }
+            if (subscribedEmitterList.isEmpty()) {
+                LOGGER.info("Garbage collection notifications are not supported, polling memory instead");
+                return;
+            }
+
+            subscribe(memoryMXBean);
+            setUsageThresholds();
+            latestMemoryHealthCheckModel = buildMemoryHealthCheckModel(memoryMXBean.getHeapMemoryUsage());
+            subscribed = true;
+        } catch (RuntimeException | LinkageError e) {
+            LOGGER.info("Failed to subscribe to memory notifications, polling memory instead", e);
+            stop();
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        subscribed = false;
+        for (NotificationEmitter notificationEmitter : subscribedEmitterList) {
+            try {
+                notificationEmitter.removeNotificationListener(notificationListener);
+            } catch (ListenerNotFoundException e) {
+                LOGGER.debug("Memory notification listener was already removed", e);
+            }
+        }
+        subscribedEmitterList.clear();
+        restoreUsageThresholds();
+    }
+
+    private void subscribe(Object managementBean) {
+        if (managementBean instanceof NotificationEmitter) {
+            NotificationEmitter notificationEmitter = (NotificationEmitter) managementBean;
+            notificationEmitter.addNotificationListener(notificationListener, null, null);
+            subscribedEmitterList.add(notificationEmitter);
+        }
+    }
+
+    // Thresholds are only meaningful when the tolerance fails on high utilization
+    private void setUsageThresholds() {
+        if (healthCheckTolerance == null || healthCheckTolerance.getToleranceType() != ToleranceType.LESS_THAN) {
+            return;
+        }
+
+        for (MemoryPoolMXBean memoryPoolMXBean : memoryPoolMXBeanList) {
+            if (memoryPoolMXBean.getType() != MemoryType.HEAP) {
+                continue;
+            }
+
+            long[] originalThresholds = new long[] {-1, -1, -1};
+            if (memoryPoolMXBean.isUsageThresholdSupported()) {
+                originalThresholds[0] = memoryPoolMXBean.getUsageThreshold();
+            }
+            if (memoryPoolMXBean.isCollectionUsageThresholdSupported()) {
+                originalThresholds[1] = memoryPoolMXBean.getCollectionUsageThreshold();
+            }
+            originalThresholdMap.put(memoryPoolMXBean, originalThresholds);
+        }
+        updateUsageThresholds();
+    }
+
+    // Thresholds follow each pool's committed size as it moves. A percentage applies to every pool as is, a byte
+    // value is split across pools by their share of the committed heap. Either way, once the heap as a whole
+    // crosses the warn value at least one pool has crossed its own threshold.
+    private synchronized void updateUsageThresholds() {
+        long heapCommittedBytes = 0;
+        for (MemoryPoolMXBean memoryPoolMXBean : originalThresholdMap.keySet()) {
+            heapCommittedBytes += memoryPoolMXBean.getUsage().getCommitted();
+        }
+
+        for (Map.Entry<MemoryPoolMXBean, long[]> entry : originalThresholdMap.entrySet()) {
+            MemoryPoolMXBean memoryPoolMXBean = entry.getKey();
+            long[] thresholds = entry.getValue();
+            long thresholdBytes = getThresholdBytes(memoryPoolMXBean.getUsage(), heapCommittedBytes);
+            if (thresholdBytes <= 0 || thresholdBytes == thresholds[2]) {
+                continue;
+            }
+            if (memoryPoolMXBean.isUsageThresholdSupported()) {
+                memoryPoolMXBean.setUsageThreshold(thresholdBytes);
+            }
+            if (memoryPoolMXBean.isCollectionUsageThresholdSupported()) {
+                memoryPoolMXBean.setCollectionUsageThreshold(thresholdBytes);
+            }
+            thresholds[2] = thresholdBytes;
+        }
+    }
+
+    private long getThresholdBytes(MemoryUsage poolUsage, long heapCommittedBytes) {
+        double warnValue = healthCheckTolerance.getWarnValue();
+        long committedBytes = poolUsage.getCommitted();
+        if (committedBytes <= 0 || heapCommittedBytes <= 0) {
+            return -1;
+        }
+        if (metric == Metric.PERCENTAGE) {
+            return (long) (committedBytes * warnValue / 100.0);
+        }
+        return (long) (warnValue * committedBytes / heapCommittedBytes);
+    }
+
+    private void restoreUsageThresholds() {
+        for (Map.Entry<MemoryPoolMXBean, long[]> entry : originalThresholdMap.entrySet()) {
+            try {
+                if (entry.getValue()[0] >= 0) {
+                    entry.getKey().setUsageThreshold(entry.getValue()[0]);
+                }
+                if (entry.getValue()[1] >= 0) {
+                    entry.getKey().setCollectionUsageThreshold(entry.getValue()[1]);
+                }
+            } catch (RuntimeException e) {
+                LOGGER.debug("Failed to restore memory pool threshold", e);
+            }
+        }
+        originalThresholdMap.clear();
+    }
+
+    void handleNotification(Notification notification, Object handback) {
+        try {
+            String notificationType = notification.getType();
+            if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notificationType)) {
+                GarbageCollectionNotificationInfo notificationInfo =
+                        GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                latestMemoryHealthCheckModel =
+                        buildMemoryHealthCheckModel(notificationInfo.getGcInfo().getMemoryUsageAfterGc());
+            } else if (MemoryNotificationInfo.MEMORY_THRESHOLD_EXCEEDED.equals(notificationType) ||
+                    MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(notificationType)) {
+                latestMemoryHealthCheckModel = buildMemoryHealthCheckModel(memoryMXBean.getHeapMemoryUsage());
+            } else {
+                return;
+            }
+            updateUsageThresholds();
+            exceptionMessage = null;
+            notificationCount.incrementAndGet();
+        } catch (Exception e) {
+            exceptionMessage = e;
+        }
+    }
+
+    private MemoryHealthCheckModel buildMemoryHealthCheckModel(Map<String, MemoryUsage> memoryUsageAfterGc) {
+        long usedMemory = 0;
+        long committedMemory = 0;
+        for (Map.Entry<String, MemoryUsage> entry : memoryUsageAfterGc.entrySet()) {
+            if (heapPoolNameSet.contains(entry.getKey())) {
+                usedMemory += entry.getValue().getUsed();
+                committedMemory += entry.getValue().getCommitted();
+            }
+        }
+
+        if (committedMemory <= 0) {
+            return buildMemoryHealthCheckModel(memoryMXBean.getHeapMemoryUsage());
+        }
+        return MemoryHealthCheckModel.builder()
+                .totalMemory(committedMemory)
+                .freeMemory(Math.max(0, committedMemory - usedMemory))
+                .build();
+    }
+
+    private static MemoryHealthCheckModel buildMemoryHealthCheckModel(MemoryUsage heapMemoryUsage) {
+        return MemoryHealthCheckModel.builder()
+                .totalMemory(heapMemoryUsage.getCommitted())
+                .freeMemory(Math.max(0, heapMemoryUsage.getCommitted() - heapMemoryUsage.getUsed()))
+                .build();
+    }
+}
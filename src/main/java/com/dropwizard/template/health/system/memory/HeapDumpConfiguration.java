@@ -0,0 +1,47 @@
+package com.dropwizard.template.health.system.memory;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+@Getter
+public class HeapDumpConfiguration {
+    static final long DEFAULT_SUSTAINED_FAIL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    static final long DEFAULT_COOLDOWN_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    static final int DEFAULT_MAX_DUMPS = 3;
+    static final long DEFAULT_MAX_DISK_BYTES = 4L * 1024 * 1024 * 1024;
+
+    private final String directory;
+    private final long sustainedFailMillis;
+    private final long cooldownMillis;
+    private final int maxDumps;
+    private final long maxDiskBytes;
+    private final boolean liveObjectsOnly;
+
+    @JsonCreator
+    public HeapDumpConfiguration(@JsonProperty("directory") String directory,
+                                 @JsonProperty("sustainedFailMillis") Long sustainedFailMillis,
+                                 @JsonProperty("cooldownMillis") Long cooldownMillis,
+                                 @JsonProperty("maxDumps") Integer maxDumps,
+                                 @JsonProperty("maxDiskBytes") Long maxDiskBytes,
+                                 @JsonProperty("liveObjectsOnly") Boolean liveObjectsOnly) {
+        this.directory = directory;
+        this.sustainedFailMillis = sustainedFailMillis == null ? DEFAULT_SUSTAINED_FAIL_MILLIS : sustainedFailMillis;
+        this.cooldownMillis = cooldownMillis == null ? DEFAULT_COOLDOWN_MILLIS : cooldownMillis;
+        this.maxDumps = maxDumps == null ? DEFAULT_MAX_DUMPS : maxDumps;
+        this.maxDiskBytes = maxDiskBytes == null ? DEFAULT_MAX_DISK_BYTES : maxDiskBytes;
+        this.liveObjectsOnly = liveObjectsOnly == null || liveObjectsOnly;
+        assertValidConfiguration();
+    }
+
+    private void assertValidConfiguration() {
+        if (directory == null || directory.isEmpty()) {
+            throw new IllegalArgumentException("Heap dump directory must be set");
+        }
+        if (sustainedFailMillis < 0 || cooldownMillis < 0 || maxDumps <= 0 || maxDiskBytes <= 0) {
+            throw new IllegalArgumentException("Invalid Heap Dump Configuration");
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.dropwizard.template.health.system.memory;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sun.management.HotSpotDiagnosticMXBean;
+import io.dropwizard.lifecycle.Managed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Dumps the heap once memory has stayed in FAIL long enough, so the evidence is on disk before the pod is killed.
+// The dump itself runs on its own thread, the probe only records when FAIL started.
+public class HeapDumpTrigger implements Managed {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HeapDumpTrigger.class);
+    static final String DUMP_FILE_PREFIX = "heap-";
+    static final String DUMP_FILE_SUFFIX = ".hprof";
+    private static final long NOT_FAILING = -1;
+
+    interface HeapDumper {
+        void dumpHeap(String outputFile, boolean live) throws IOException;
+    }
+
+    private final Path directory;
+    private final long sustainedFailMillis;
+    private final long cooldownMillis;
+    private final int maxDumps;
+    private final long maxDiskBytes;
+    private final boolean liveObjectsOnly;
+    private final HeapDumper heapDumper;
+    private final ExecutorService dumpExecutor;
+    private final LongSupplier currentTimeMillis;
+    private final LongSupplier heapUsedBytes;
+    private final AtomicLong failStartMillis = new AtomicLong(NOT_FAILING);
+    private final AtomicLong lastDumpStartMillis = new AtomicLong(NOT_FAILING);
+    private final AtomicBoolean dumpInFlight = new AtomicBoolean();
+    private final AtomicInteger dumpCount = new AtomicInteger();
+
+    private volatile Path latestDumpPath;
+    private volatile String lastErrorMessage;
+
+    public HeapDumpTrigger(HeapDumpConfiguration heapDumpConfiguration) {
+        this(heapDumpConfiguration,
+                ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class)::dumpHeap,
+                newDumpExecutor(),
+                System::currentTimeMillis,
+                () -> ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+    }
+
+    HeapDumpTrigger(HeapDumpConfiguration heapDumpConfiguration,
+                    HeapDumper heapDumper,
+                    ExecutorService dumpExecutor,
+                    LongSupplier currentTimeMillis,
+                    LongSupplier heapUsedBytes) {
+        this.directory = Paths.get(heapDumpConfiguration.getDirectory());
+        this.sustainedFailMillis = heapDumpConfiguration.getSustainedFailMillis();
+        this.cooldownMillis = heapDumpConfiguration.getCooldownMillis();
+        this.maxDumps = heapDumpConfiguration.getMaxDumps();
+        this.maxDiskBytes = heapDumpConfiguration.getMaxDiskBytes();
+        this.liveObjectsOnly = heapDumpConfiguration.isLiveObjectsOnly();
+        this.heapDumper = heapDumper;
+        this.dumpExecutor = dumpExecutor;
+        this.currentTimeMillis = currentTimeMillis;
+        this.heapUsedBytes = heapUsedBytes;
+    }
+
+    public URI getLatestDumpLink() {
+        Path dumpPath = latestDumpPath;
+        return dumpPath == null ? null : dumpPath.toUri();
+    }
+
+    public String getLastErrorMessage() {
+        return lastErrorMessage;
+    }
+
+    public int getDumpCount() {
+        return dumpCount.get();
+    }
+
+    // Returns true when a dump was scheduled by this call
+    public boolean onStatus(HealthCheckStatusEnum status) {
+        if (status != HealthCheckStatusEnum.FAIL) {
+            failStartMillis.set(NOT_FAILING);
+            return false;
+        }
+
+        long nowMillis = currentTimeMillis.getAsLong();
+        failStartMillis.compareAndSet(NOT_FAILING, nowMillis);
+        if (nowMillis - failStartMillis.get() < sustainedFailMillis) {
+            return false;
+        }
+        return requestDump(nowMillis);
+    }
+
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public void stop() throws InterruptedException {
+        dumpExecutor.shutdownNow();
+        dumpExecutor.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    private boolean requestDump(long nowMillis) {
+        if (dumpCount.get() >= maxDumps || !dumpInFlight.compareAndSet(false, true)) {
+            return false;
+        }
+
+        long lastStartMillis = lastDumpStartMillis.get();
+        if (lastStartMillis != NOT_FAILING && nowMillis - lastStartMillis < cooldownMillis) {
+            dumpInFlight.set(false);
+            return false;
+        }
+
+        lastDumpStartMillis.set(nowMillis);
+        try {
+            dumpExecutor.execute(() -> dump(nowMillis));
+        } catch (RejectedExecutionException e) {
+            dumpInFlight.set(false);
+            return false;
+        }
+        return true;
+    }
+
+    private void dump(long startMillis) {
+        try {
+            Files.createDirectories(directory);
+            // A dump is roughly the size of the used heap, skip it rather than fill the disk
+            long expectedBytes = getExistingDumpBytes() + heapUsedBytes.getAsLong();
+            if (expectedBytes > maxDiskBytes) {
+                lastErrorMessage = "Heap dump skipped, " + expectedBytes + " bytes would exceed the " +
+                        maxDiskBytes + " byte limit";
+                LOGGER.warn(lastErrorMessage);
+                return;
+            }
+
+            Path dumpPath = directory.resolve(DUMP_FILE_PREFIX + startMillis + DUMP_FILE_SUFFIX);
+            LOGGER.warn("Memory has been failing for over {} ms, dumping heap to {}", sustainedFailMillis, dumpPath);
+            heapDumper.dumpHeap(dumpPath.toString(), liveObjectsOnly);
+            latestDumpPath = dumpPath;
+            lastErrorMessage = null;
+            dumpCount.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Unable to dump heap", e);
+            lastErrorMessage = e.getMessage();
+        } finally {
+            dumpInFlight.set(false);
+        }
+    }
+
+    private long getExistingDumpBytes() throws IOException {
+        long totalBytes = 0;
+        try (DirectoryStream<Path> dumpFiles = Files.newDirectoryStream(directory,
+                DUMP_FILE_PREFIX + "*" + DUMP_FILE_SUFFIX)) {
+            for (Path dumpFile : dumpFiles) {
+                totalBytes += Files.size(dumpFile);
+            }
+        }
+        return totalBytes;
+    }
+
+    private static ExecutorService newDumpExecutor() {
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+                new ThreadFactoryBuilder()
+                        .setNameFormat("heap-dump-%d")
+                        .setDaemon(true)
+                        .build());
+    }
+}
@@ -0,0 +1,14 @@
+package com.dropwizard.template.health.system.memory;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class HeapHistogram {
+    private final long capturedAtMillis;
+    private final long captureDurationMillis;
+    private final List<HeapHistogramEntry> entries;
+}
@@ -0,0 +1,184 @@
+package com.dropwizard.template.health.system.memory;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.dropwizard.lifecycle.Managed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// A class histogram walks the whole heap, so it only ever runs on its own thread and at most once per interval.
+// Callers just flip a flag and return, the probe path never waits on a capture.
+public class HeapHistogramCapture implements Managed {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HeapHistogramCapture.class);
+    static final String DIAGNOSTIC_COMMAND_NAME = "com.sun.management:type=DiagnosticCommand";
+    static final String HISTOGRAM_OPERATION = "gcClassHistogram";
+
+    private final int maxEntries;
+    private final long minIntervalMillis;
+    private final URI link;
+    private final Supplier<String> histogramSource;
+    private final ExecutorService captureExecutor;
+    private final LongSupplier currentTimeMillis;
+    private final AtomicBoolean captureInFlight = new AtomicBoolean();
+    private final AtomicLong lastCaptureStartMillis;
+    private final AtomicLong captureCount = new AtomicLong();
+
+    private volatile HeapHistogram latestHistogram;
+    private volatile String lastErrorMessage;
+
+    public HeapHistogramCapture(HeapHistogramConfiguration heapHistogramConfiguration, URI link) {
+        this(heapHistogramConfiguration.getMaxEntries(), heapHistogramConfiguration.getMinIntervalMillis(), link);
+    }
+
+    public HeapHistogramCapture(int maxEntries, long minIntervalMillis, URI link) {
+        this(maxEntries, minIntervalMillis, link, HeapHistogramCapture::invokeClassHistogram,
+                newCaptureExecutor(), System::currentTimeMillis);
+    }
+
+    HeapHistogramCapture(int maxEntries,
+                         long minIntervalMillis,
+                         URI link,
+                         Supplier<String> histogramSource,
+                         ExecutorService captureExecutor,
+                         LongSupplier currentTimeMillis) {
+        if (maxEntries <= 0 || minIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Invalid Heap Histogram Configuration");
+        }
+        this.maxEntries = maxEntries;
+        this.minIntervalMillis = minIntervalMillis;
+        this.link = link;
+        this.histogramSource = histogramSource;
+        this.captureExecutor = captureExecutor;
+        this.currentTimeMillis = currentTimeMillis;
+        this.lastCaptureStartMillis = new AtomicLong(Long.MIN_VALUE);
+    }
+
+    public HeapHistogram getLatestHistogram() {
+        return latestHistogram;
+    }
+
+    public String getLastErrorMessage() {
+        return lastErrorMessage;
+    }
+
+    public URI getLink() {
+        return link;
+    }
+
+    public long getCaptureCount() {
+        return captureCount.get();
+    }
+
+    // Returns true when a capture was scheduled, false when one is running or the last one is too recent
+    public boolean requestCapture() {
+        long nowMillis = currentTimeMillis.getAsLong();
+        long lastStartMillis = lastCaptureStartMillis.get();
+        if (lastStartMillis != Long.MIN_VALUE && nowMillis - lastStartMillis < minIntervalMillis) {
+            return false;
+        }
+        if (!captureInFlight.compareAndSet(false, true)) {
+            return false;
+        }
+        if (!lastCaptureStartMillis.compareAndSet(lastStartMillis, nowMillis)) {
+            captureInFlight.set(false);
+            return false;
+        }
+
+        try {
+            captureExecutor.execute(this::capture);
+        } catch (RejectedExecutionException e) {
+            captureInFlight.set(false);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public void stop() throws InterruptedException {
+        captureExecutor.shutdownNow();
+        captureExecutor.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    private void capture() {
+        try {
+            long startMillis = currentTimeMillis.getAsLong();
+            ImmutableList<HeapHistogramEntry> entries = parseHistogram(histogramSource.get(), maxEntries);
+            latestHistogram = HeapHistogram.builder()
+                    .capturedAtMillis(startMillis)
+                    .captureDurationMillis(currentTimeMillis.getAsLong() - startMillis)
+                    .entries(entries)
+                    .build();
+            lastErrorMessage = null;
+            captureCount.incrementAndGet();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Unable to capture heap histogram", e);
+            lastErrorMessage = e.getMessage();
+        } finally {
+            captureInFlight.set(false);
+        }
+    }
+
+    // Lines look like "   1:         12345        1234567  [B", the header and the Total line are skipped
+    static ImmutableList<HeapHistogramEntry> parseHistogram(String histogram, int maxEntries) {
+        ImmutableList.Builder<HeapHistogramEntry> entries = ImmutableList.builder();
+        int entryCount = 0;
+        for (String line : histogram.split("\n")) {
+            if (entryCount == maxEntries) {
+                break;
+            }
+
+            String[] columns = line.trim().split("\\s+");
+            if (columns.length < 4 || !columns[0].endsWith(":")) {
+                continue;
+            }
+            try {
+                entries.add(HeapHistogramEntry.builder()
+                        .rank(Integer.parseInt(columns[0].substring(0, columns[0].length() - 1)))
+                        .instances(Long.parseLong(columns[1]))
+                        .bytes(Long.parseLong(columns[2]))
+                        .className(columns[3])
+                        .build());
+                entryCount++;
+            } catch (NumberFormatException e) {
+                // Not a histogram row
+            }
+        }
+        return entries.build();
+    }
+
+    private static String invokeClassHistogram() {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            return (String) mBeanServer.invoke(new ObjectName(DIAGNOSTIC_COMMAND_NAME), HISTOGRAM_OPERATION,
+                    new Object[] {new String[0]}, new String[] {String[].class.getName()});
+        } catch (Exception e) {
+            throw new IllegalStateException("Diagnostic command " + HISTOGRAM_OPERATION + " failed", e);
+        }
+    }
+
+    private static ExecutorService newCaptureExecutor() {
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+                new ThreadFactoryBuilder()
+                        .setNameFormat("heap-histogram-%d")
+                        .setDaemon(true)
+                        .build());
+    }
+}
@@ -0,0 +1,30 @@
+package com.dropwizard.template.health.system.memory;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+@Getter
+public class HeapHistogramConfiguration {
+    static final int DEFAULT_MAX_ENTRIES = 20;
+    static final long DEFAULT_MIN_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private final int maxEntries;
+    private final long minIntervalMillis;
+
+    @JsonCreator
+    public HeapHistogramConfiguration(@JsonProperty("maxEntries") Integer maxEntries,
+                                      @JsonProperty("minIntervalMillis") Long minIntervalMillis) {
+        this.maxEntries = maxEntries == null ? DEFAULT_MAX_ENTRIES : maxEntries;
+        this.minIntervalMillis = minIntervalMillis == null ? DEFAULT_MIN_INTERVAL_MILLIS : minIntervalMillis;
+        assertValidConfiguration();
+    }
+
+    private void assertValidConfiguration() {
+        if (maxEntries <= 0 || minIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Invalid Heap Histogram Configuration");
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.dropwizard.template.health.system.memory;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class HeapHistogramEntry {
+    private final int rank;
+    private final long instances;
+    private final long bytes;
+    private final String className;
+}
@@ -0,0 +1,28 @@
+package com.dropwizard.template.health.system.memory;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+@Path(HeapHistogramResource.PATH)
+@Produces(MediaType.APPLICATION_JSON)
+public class HeapHistogramResource {
+    public static final String PATH = "/health/memory/histogram";
+
+    private final HeapHistogramCapture heapHistogramCapture;
+
+    public HeapHistogramResource(HeapHistogramCapture heapHistogramCapture) {
+        this.heapHistogramCapture = heapHistogramCapture;
+    }
+
+    @GET
+    public HeapHistogram getLatestHistogram() {
+        HeapHistogram heapHistogram = heapHistogramCapture.getLatestHistogram();
+        if (heapHistogram == null) {
+            throw new NotFoundException("No heap histogram has been captured");
+        }
+        return heapHistogram;
+    }
+}
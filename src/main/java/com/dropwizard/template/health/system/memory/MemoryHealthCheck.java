@@ -9,28 +9,58 @@ import com.dropwizard.template.health.system.model.MemoryHealthCheckModel;
 import com.dropwizard.template.health.model.ComponentHealthCheckModel;
 import com.dropwizard.template.health.model.ComponentInfo;
 
+import java.net.URI;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class MemoryHealthCheck implements IHealthCheckInfo {
     private final List<MemoryType> memoryTypeList;
     private final List<MetricTolerance> metricToleranceList;
     private final ComponentInfo componentInfo;
     private final IMemoryHealthCheck memoryHealthCheck;
+    private final HeapHistogramCapture heapHistogramCapture;
+    private final HeapDumpTrigger heapDumpTrigger;
+    private final AtomicReference<HealthCheckStatusEnum> lastStatus = new AtomicReference<>();
 
     static final String VERSION = "1.0";
     static final String DESCRIPTION = "This is a metric that is used to track memory";
+    static final String HISTOGRAM_DETAIL = "heapHistogram";
+    static final String HISTOGRAM_TIME_DETAIL = "heapHistogramTime";
+    static final String HISTOGRAM_ERROR_DETAIL = "heapHistogramError";
 
     public MemoryHealthCheck(List<MemoryType> memoryTypeList,
                              List<MetricTolerance> metricToleranceList,
                              ComponentInfo componentInfo,
                              IMemoryHealthCheck memoryHealthCheck) {
+        this(memoryTypeList, metricToleranceList, componentInfo, memoryHealthCheck, null);
+    }
+
+    public MemoryHealthCheck(List<MemoryType> memoryTypeList,
+                             List<MetricTolerance> metricToleranceList,
+                             ComponentInfo componentInfo,
+                             IMemoryHealthCheck memoryHealthCheck,
+                             HeapHistogramCapture heapHistogramCapture) {
+        this(memoryTypeList, metricToleranceList, componentInfo, memoryHealthCheck, heapHistogramCapture, null);
+    }
+
+    public MemoryHealthCheck(List<MemoryType> memoryTypeList,
+                             List<MetricTolerance> metricToleranceList,
+                             ComponentInfo componentInfo,
+                             IMemoryHealthCheck memoryHealthCheck,
+                             HeapHistogramCapture heapHistogramCapture,
+                             HeapDumpTrigger heapDumpTrigger) {
         assertValidMemoryTypeList(memoryTypeList);
         this.memoryTypeList = memoryTypeList;
         this.metricToleranceList = metricToleranceList;
         this.componentInfo = componentInfo;
         this.memoryHealthCheck = memoryHealthCheck;
+        this.heapHistogramCapture = heapHistogramCapture;
+        this.heapDumpTrigger = heapDumpTrigger;
     }
 
     private void assertValidMemoryTypeList(List<MemoryType> memoryTypeList) {
@@ -73,9 +103,46 @@ public class MemoryHealthCheck implements IHealthCheckInfo {
             }
         }
 
+        HealthCheckStatusEnum status = ComponentHealthCheckModel.getStatus(componentValueList);
+        captureHistogramOnFail(status);
+        if (heapDumpTrigger != null) {
+            heapDumpTrigger.onStatus(status);
+        }
         return componentValueList;
     }
 
+    @Override
+    public Map<String, Object> getDetails() {
+        if (heapHistogramCapture == null) {
+            return null;
+        }
+
+        HeapHistogram heapHistogram = heapHistogramCapture.getLatestHistogram();
+        String errorMessage = heapHistogramCapture.getLastErrorMessage();
+        if (heapHistogram == null && errorMessage == null) {
+            return null;
+        }
+
+        Map<String, Object> details = new LinkedHashMap<>();
+        if (heapHistogram != null) {
+            details.put(HISTOGRAM_DETAIL, heapHistogram.getEntries());
+            details.put(HISTOGRAM_TIME_DETAIL, Instant.ofEpochMilli(heapHistogram.getCapturedAtMillis()).toString());
+        }
+        if (errorMessage != null) {
+            details.put(HISTOGRAM_ERROR_DETAIL, errorMessage);
+        }
+        return details;
+    }
+
+    // Only the move into FAIL asks for a histogram, staying in FAIL does not
+    private void captureHistogramOnFail(HealthCheckStatusEnum status) {
+        HealthCheckStatusEnum previousStatus = lastStatus.getAndSet(status);
+        if (heapHistogramCapture != null && status == HealthCheckStatusEnum.FAIL &&
+                previousStatus != HealthCheckStatusEnum.FAIL) {
+            heapHistogramCapture.requestCapture();
+        }
+    }
+
     private Double getMemoryValue(MemoryType memoryType,
                                   MetricTolerance metricTolerance,
                                   MemoryHealthCheckModel memoryHealthCheckModel) {
@@ -106,9 +173,25 @@ public class MemoryHealthCheck implements IHealthCheckInfo {
                 .status(healthCheckStatus)
                 .time(new Date())
                 .output(message) // Print if there are any errors
+                .link(getFailLink(healthCheckStatus))
                 .build();
     }
 
+    // A heap dump is the better evidence, the histogram is linked until one exists
+    private URI getFailLink(HealthCheckStatusEnum healthCheckStatus) {
+        if (healthCheckStatus != HealthCheckStatusEnum.FAIL) {
+            return null;
+        }
+        URI dumpLink = heapDumpTrigger == null ? null : heapDumpTrigger.getLatestDumpLink();
+        if (dumpLink != null) {
+            return dumpLink;
+        }
+        if (heapHistogramCapture == null || heapHistogramCapture.getLatestHistogram() == null) {
+            return null;
+        }
+        return heapHistogramCapture.getLink();
+    }
+
     private Double getFreeMemoryValue(MetricTolerance metricTolerance,
                                       MemoryHealthCheckModel memoryHealthCheckModel) {
         if (metricTolerance.getMetric() == Metric.BYTES) {
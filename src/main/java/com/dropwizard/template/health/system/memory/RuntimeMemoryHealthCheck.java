@@ -1,11 +1,20 @@
 package com.dropwizard.template.health.system.memory;
 
 import com.dropwizard.template.health.system.model.MemoryHealthCheckModel;
+import com.dropwizard.template.health.system.snapshot.SystemSnapshot;
+import com.dropwizard.template.health.system.snapshot.SystemSnapshotProvider;
 
 public class RuntimeMemoryHealthCheck implements IMemoryHealthCheck {
+    private final SystemSnapshotProvider systemSnapshotProvider;
     private Exception exceptionMessage;
 
     public RuntimeMemoryHealthCheck() {
+        this(null);
+    }
+
+    // Reads the shared snapshot instead of the Runtime when a provider is given
+    public RuntimeMemoryHealthCheck(SystemSnapshotProvider systemSnapshotProvider) {
+        this.systemSnapshotProvider = systemSnapshotProvider;
         this.exceptionMessage = null;
     }
 
@@ -13,6 +22,14 @@ public class RuntimeMemoryHealthCheck implements IMemoryHealthCheck {
     public MemoryHealthCheckModel getMemoryHealthCheck() {
         this.exceptionMessage = null;
 
+        if (systemSnapshotProvider != null) {
+            SystemSnapshot snapshot = systemSnapshotProvider.getSnapshot();
+            return MemoryHealthCheckModel.builder()
+                    .totalMemory(snapshot.getRuntimeTotalMemory())
+                    .freeMemory(snapshot.getRuntimeFreeMemory())
+                    .build();
+        }
+
         try {
             Runtime currRuntime = Runtime.getRuntime();
             MemoryHealthCheckModel.MemoryHealthCheckModelBuilder memoryBuilder = MemoryHealthCheckModel.builder();
@@ -0,0 +1,125 @@
+package com.dropwizard.template.health.system.pause;
+
+import io.dropwizard.lifecycle.Managed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+// Sleeps a fixed resolution and records the oversleep, anything the JVM stalled for shows up as extra delay.
+// The histogram is only touched by the detector thread, readers see the last completed interval.
+public class PauseDetector implements Managed {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PauseDetector.class);
+    static final long MAX_RESOLUTION_MILLIS = 100;
+
+    private final long intervalMillis;
+    private final double maxCpuPercentage;
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final PauseHistogram pauseHistogram = new PauseHistogram();
+
+    private volatile long resolutionMillis;
+    private volatile PauseSnapshot latestPauseSnapshot = PauseSnapshot.empty();
+    private volatile Thread detectorThread;
+
+    public PauseDetector(long resolutionMillis, long intervalMillis, double maxCpuPercentage) {
+        if (resolutionMillis <= 0 || resolutionMillis > MAX_RESOLUTION_MILLIS ||
+                intervalMillis < resolutionMillis || maxCpuPercentage <= 0) {
+            throw new IllegalArgumentException("Invalid Pause Detector Configuration");
+        }
+        this.resolutionMillis = resolutionMillis;
+        this.intervalMillis = intervalMillis;
+        this.maxCpuPercentage = maxCpuPercentage;
+    }
+
+    public PauseSnapshot getLatestPauseSnapshot() {
+        return latestPauseSnapshot;
+    }
+
+    public long getResolutionMillis() {
+        return resolutionMillis;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (detectorThread != null) {
+            return;
+        }
+
+        detectorThread = new Thread(this::detectPauses, "pause-detector");
+        detectorThread.setDaemon(true);
+        detectorThread.start();
+    }
+
+    @Override
+    public synchronized void stop() throws InterruptedException {
+        Thread thread = detectorThread;
+        detectorThread = null;
+        if (thread != null) {
+            thread.interrupt();
+            thread.join(TimeUnit.SECONDS.toMillis(1));
+        }
+    }
+
+    private void detectPauses() {
+        boolean cpuTimeSupported = isCpuTimeSupported();
+        long intervalStartNanos = System.nanoTime();
+        long intervalStartCpuNanos = cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : 0;
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                long sleepNanos = TimeUnit.MILLISECONDS.toNanos(resolutionMillis);
+                long beforeSleepNanos = System.nanoTime();
+                Thread.sleep(resolutionMillis);
+                long afterSleepNanos = System.nanoTime();
+                pauseHistogram.record(TimeUnit.NANOSECONDS.toMicros(afterSleepNanos - beforeSleepNanos - sleepNanos));
+
+                long elapsedNanos = afterSleepNanos - intervalStartNanos;
+                if (elapsedNanos < TimeUnit.MILLISECONDS.toNanos(intervalMillis)) {
+                    continue;
+                }
+
+                long cpuNanos = cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : 0;
+                double cpuPercentage = cpuTimeSupported ?
+                        (cpuNanos - intervalStartCpuNanos) * 100.0 / elapsedNanos :
+                        0.0;
+                publishInterval(cpuPercentage);
+                adjustResolution(cpuPercentage);
+
+                intervalStartNanos = afterSleepNanos;
+                intervalStartCpuNanos = cpuNanos;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isCpuTimeSupported() {
+        try {
+            return threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    private void publishInterval(double cpuPercentage) {
+        latestPauseSnapshot = PauseSnapshot.builder()
+                .maxPauseMillis(pauseHistogram.getMaxMicros() / 1000.0)
+                .p99PauseMillis(pauseHistogram.getValueAtPercentile(99.0) / 1000.0)
+                .sampleCount(pauseHistogram.getTotalCount())
+                .detectorCpuPercentage(cpuPercentage)
+                .resolutionMillis(resolutionMillis)
+                .intervalMillis(intervalMillis)
+                .build();
+        pauseHistogram.reset();
+    }
+
+    // Coarser sleeps when the detector itself costs more than its budget
+    private void adjustResolution(double cpuPercentage) {
+        if (cpuPercentage > maxCpuPercentage && resolutionMillis < MAX_RESOLUTION_MILLIS) {
+            resolutionMillis = Math.min(MAX_RESOLUTION_MILLIS, resolutionMillis * 2);
+            LOGGER.info("Pause detector used {}% cpu, resolution raised to {} ms", cpuPercentage, resolutionMillis);
+        }
+    }
+}
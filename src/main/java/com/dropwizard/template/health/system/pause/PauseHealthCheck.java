@@ -0,0 +1,93 @@
+package com.dropwizard.template.health.system.pause;
+
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+import com.dropwizard.template.health.system.enums.Metric;
+import com.google.common.collect.ImmutableList;
+
+import java.util.Date;
+import java.util.List;
+
+public class PauseHealthCheck implements IHealthCheckInfo {
+    static final String VERSION = "1.0";
+    static final String DESCRIPTION = "This is a metric that is used to track jvm pauses";
+    static final String METRIC_NAME = "pause";
+    static final String[] VALUE_NAMES = {"maxPause", "p99Pause", "detectorCpu"};
+
+    private final ComponentInfo componentInfo;
+    private final HealthCheckTolerance healthCheckTolerance;
+    private final PauseDetector pauseDetector;
+
+    public PauseHealthCheck(ComponentInfo componentInfo,
+                            HealthCheckTolerance healthCheckTolerance,
+                            PauseDetector pauseDetector) {
+        this.componentInfo = componentInfo;
+        this.healthCheckTolerance = healthCheckTolerance;
+        this.pauseDetector = pauseDetector;
+    }
+
+    @Override
+    public String getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public String getDescription() {
+        return DESCRIPTION;
+    }
+
+    @Override
+    public String getMetricName() {
+        return METRIC_NAME;
+    }
+
+    @Override
+    public List<ComponentHealthCheckModel.Value> getComponentValues() {
+        PauseSnapshot pauseSnapshot = pauseDetector.getLatestPauseSnapshot();
+        String intervalOutput = pauseSnapshot.getSampleCount() == 0 ?
+                "No completed pause interval yet" :
+                "over " + pauseSnapshot.getIntervalMillis() + " ms";
+        Date time = new Date();
+
+        return ImmutableList.of(
+                buildPauseValue(pauseSnapshot.getMaxPauseMillis(), "max pause " + intervalOutput, time),
+                buildPauseValue(pauseSnapshot.getP99PauseMillis(), "p99 pause " + intervalOutput, time),
+                ComponentHealthCheckModel.Value.builder()
+                        .componentId(componentInfo.getComponentId())
+                        .componentType(componentInfo.getComponentType())
+                        .metricValue(pauseSnapshot.getDetectorCpuPercentage())
+                        .metricUnit(Metric.PERCENTAGE.getValue())
+                        .status(HealthCheckStatusEnum.PASS)
+                        .time(time)
+                        .output("detector cpu at " + pauseSnapshot.getResolutionMillis() + " ms resolution")
+                        .build()
+        );
+    }
+
+    @Override
+    public String getValueName(int index, ComponentHealthCheckModel.Value value) {
+        return VALUE_NAMES[index];
+    }
+
+    // The detector's own cpu is reported but not graded
+    @Override
+    public Double getWarnDistance(List<ComponentHealthCheckModel.Value> componentValues) {
+        return Math.min(healthCheckTolerance.getWarnDistance(componentValues.get(0)),
+                healthCheckTolerance.getWarnDistance(componentValues.get(1)));
+    }
+
+    private ComponentHealthCheckModel.Value buildPauseValue(double pauseMillis, String output, Date time) {
+        return ComponentHealthCheckModel.Value.builder()
+                .componentId(componentInfo.getComponentId())
+                .componentType(componentInfo.getComponentType())
+                .metricValue(pauseMillis)
+                .metricUnit(Metric.MILLISECONDS.getValue())
+                .status(healthCheckTolerance.getHealthCheckStatus(pauseMillis))
+                .time(time)
+                .output(output)
+                .build();
+    }
+}
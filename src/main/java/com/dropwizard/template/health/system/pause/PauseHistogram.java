@@ -0,0 +1,74 @@
+package com.dropwizard.template.health.system.pause;
+
+import java.util.Arrays;
+
+// Log-linear buckets over microseconds: exact below 16 us, then 16 sub-buckets per power of two (~6% error)
+class PauseHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    static final long MAX_TRACKABLE_MICROS = (1L << (MAX_EXPONENT + 1)) - 1;
+    static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long maxMicros;
+
+    void record(long micros) {
+        long value = Math.min(Math.max(0, micros), MAX_TRACKABLE_MICROS);
+        counts[getBucketIndex(value)]++;
+        totalCount++;
+        maxMicros = Math.max(maxMicros, value);
+    }
+
+    long getTotalCount() {
+        return totalCount;
+    }
+
+    long getMaxMicros() {
+        return maxMicros;
+    }
+
+    long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        long targetCount = Math.max(1, (long) Math.ceil(totalCount * percentile / 100.0));
+        long cumulativeCount = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            cumulativeCount += counts[index];
+            if (cumulativeCount >= targetCount) {
+                return Math.min(getBucketUpperBound(index), maxMicros);
+            }
+        }
+        return maxMicros;
+    }
+
+    void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        maxMicros = 0;
+    }
+
+    static int getBucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long getBucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        int subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((long) (subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,19 @@
+package com.dropwizard.template.health.system.pause;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PauseSnapshot {
+    private final double maxPauseMillis;
+    private final double p99PauseMillis;
+    private final long sampleCount;
+    private final double detectorCpuPercentage;
+    private final long resolutionMillis;
+    private final long intervalMillis;
+
+    public static PauseSnapshot empty() {
+        return new PauseSnapshot(0, 0, 0, 0, 0, 0);
+    }
+}
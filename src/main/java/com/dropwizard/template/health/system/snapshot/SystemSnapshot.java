@@ -0,0 +1,47 @@
+package com.dropwizard.template.health.system.snapshot;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+// One pass worth of JVM and OS readings. Only the provider fills it in, and only before publishing it.
+@Getter
+@Setter(AccessLevel.PACKAGE)
+public class SystemSnapshot {
+    public static final long UNSUPPORTED = -1;
+
+    private long captureTimeMillis;
+    private long uptimeMillis;
+    private int availableProcessors;
+
+    private long heapUsedBytes;
+    private long heapCommittedBytes;
+    private long heapMaxBytes;
+    private long nonHeapUsedBytes;
+    private long runtimeTotalMemory;
+    private long runtimeFreeMemory;
+    private long runtimeMaxMemory;
+    private long metaspaceUsedBytes = UNSUPPORTED;
+    private long metaspaceMaxBytes = UNSUPPORTED;
+
+    private int loadedClassCount;
+    private long totalLoadedClassCount;
+    private long unloadedClassCount;
+
+    private int threadCount;
+    private int daemonThreadCount;
+    private int peakThreadCount;
+
+    private long gcCount;
+    private long gcTimeMillis;
+    private long compilationTimeMillis = UNSUPPORTED;
+
+    private long processCpuTimeNanos = UNSUPPORTED;
+    private double processCpuLoad = UNSUPPORTED;
+    private double systemCpuLoad = UNSUPPORTED;
+    private double systemLoadAverage = UNSUPPORTED;
+
+    public boolean hasMetaspace() {
+        return metaspaceUsedBytes != UNSUPPORTED;
+    }
+}
@@ -0,0 +1,168 @@
+package com.dropwizard.template.health.system.snapshot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.RuntimeMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// Reads every MXBean once per tick into a new snapshot and publishes it with a volatile write. A snapshot is
+// never written after it is published, so a reader holding an older one still sees one consistent reading.
+// Checks sampled in the same tick share the reading, a refresh in progress never blocks a reader.
+public class SystemSnapshotProvider {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SystemSnapshotProvider.class);
+    static final String METASPACE_POOL_NAME = "Metaspace";
+
+    private final long maxAgeMillis;
+    private final LongSupplier currentTimeMillis;
+    private final Runtime runtime = Runtime.getRuntime();
+    private final RuntimeMXBean runtimeMXBean = ManagementFactory.getRuntimeMXBean();
+    private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+    private final ClassLoadingMXBean classLoadingMXBean = ManagementFactory.getClassLoadingMXBean();
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final CompilationMXBean compilationMXBean = ManagementFactory.getCompilationMXBean();
+    private final OperatingSystemMXBean operatingSystemMXBean = ManagementFactory.getOperatingSystemMXBean();
+    private final List<GarbageCollectorMXBean> garbageCollectorMXBeanList = ManagementFactory.getGarbageCollectorMXBeans();
+    private final MemoryPoolMXBean metaspacePoolMXBean = findMetaspacePool();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile SystemSnapshot currentSnapshot;
+    private volatile long refreshCount;
+
+    public SystemSnapshotProvider(long maxAgeMillis) {
+        this(maxAgeMillis, System::currentTimeMillis);
+    }
+
+    SystemSnapshotProvider(long maxAgeMillis, LongSupplier currentTimeMillis) {
+        if (maxAgeMillis <= 0) {
+            throw new IllegalArgumentException("Invalid System Snapshot Configuration");
+        }
+        this.maxAgeMillis = maxAgeMillis;
+        this.currentTimeMillis = currentTimeMillis;
+        this.currentSnapshot = collect(currentTimeMillis.getAsLong());
+        this.refreshCount = 1;
+    }
+
+    public SystemSnapshot getSnapshot() {
+        SystemSnapshot snapshot = currentSnapshot;
+        long nowMillis = currentTimeMillis.getAsLong();
+        if (nowMillis - snapshot.getCaptureTimeMillis() < maxAgeMillis || !refreshLock.tryLock()) {
+            return snapshot;
+        }
+
+        try {
+            snapshot = currentSnapshot;
+            if (nowMillis - snapshot.getCaptureTimeMillis() < maxAgeMillis) {
+                return snapshot;
+            }
+            SystemSnapshot nextSnapshot = collect(nowMillis);
+            currentSnapshot = nextSnapshot;
+            refreshCount++;
+            return nextSnapshot;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public long getRefreshCount() {
+        return refreshCount;
+    }
+
+    public static MemoryPoolMXBean findMetaspacePool() {
+        for (MemoryPoolMXBean memoryPoolMXBean : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (METASPACE_POOL_NAME.equals(memoryPoolMXBean.getName())) {
+                return memoryPoolMXBean;
+            }
+        }
+        return null;
+    }
+
+    private SystemSnapshot collect(long nowMillis) {
+        SystemSnapshot snapshot = new SystemSnapshot();
+        snapshot.setCaptureTimeMillis(nowMillis);
+        snapshot.setUptimeMillis(runtimeMXBean.getUptime());
+        snapshot.setAvailableProcessors(runtime.availableProcessors());
+
+        MemoryUsage heapUsage = memoryMXBean.getHeapMemoryUsage();
+        snapshot.setHeapUsedBytes(heapUsage.getUsed());
+        snapshot.setHeapCommittedBytes(heapUsage.getCommitted());
+        snapshot.setHeapMaxBytes(heapUsage.getMax());
+        snapshot.setNonHeapUsedBytes(memoryMXBean.getNonHeapMemoryUsage().getUsed());
+        snapshot.setRuntimeTotalMemory(runtime.totalMemory());
+        snapshot.setRuntimeFreeMemory(runtime.freeMemory());
+        snapshot.setRuntimeMaxMemory(runtime.maxMemory());
+        collectMetaspace(snapshot);
+
+        snapshot.setLoadedClassCount(classLoadingMXBean.getLoadedClassCount());
+        snapshot.setTotalLoadedClassCount(classLoadingMXBean.getTotalLoadedClassCount());
+        snapshot.setUnloadedClassCount(classLoadingMXBean.getUnloadedClassCount());
+
+        snapshot.setThreadCount(threadMXBean.getThreadCount());
+        snapshot.setDaemonThreadCount(threadMXBean.getDaemonThreadCount());
+        snapshot.setPeakThreadCount(threadMXBean.getPeakThreadCount());
+
+        collectGarbageCollection(snapshot);
+        collectCompilation(snapshot);
+        collectOperatingSystem(snapshot);
+        return snapshot;
+    }
+
+    private void collectMetaspace(SystemSnapshot snapshot) {
+        if (metaspacePoolMXBean == null) {
+            snapshot.setMetaspaceUsedBytes(SystemSnapshot.UNSUPPORTED);
+            snapshot.setMetaspaceMaxBytes(SystemSnapshot.UNSUPPORTED);
+            return;
+        }
+
+        MemoryUsage metaspaceUsage = metaspacePoolMXBean.getUsage();
+        snapshot.setMetaspaceUsedBytes(metaspaceUsage.getUsed());
+        snapshot.setMetaspaceMaxBytes(metaspaceUsage.getMax());
+    }
+
+    private void collectGarbageCollection(SystemSnapshot snapshot) {
+        long gcCount = 0;
+        long gcTimeMillis = 0;
+        for (GarbageCollectorMXBean garbageCollectorMXBean : garbageCollectorMXBeanList) {
+            gcCount += Math.max(0, garbageCollectorMXBean.getCollectionCount());
+            gcTimeMillis += Math.max(0, garbageCollectorMXBean.getCollectionTime());
+        }
+        snapshot.setGcCount(gcCount);
+        snapshot.setGcTimeMillis(gcTimeMillis);
+    }
+
+    private void collectCompilation(SystemSnapshot snapshot) {
+        if (compilationMXBean == null || !compilationMXBean.isCompilationTimeMonitoringSupported()) {
+            snapshot.setCompilationTimeMillis(SystemSnapshot.UNSUPPORTED);
+            return;
+        }
+        snapshot.setCompilationTimeMillis(compilationMXBean.getTotalCompilationTime());
+    }
+
+    private void collectOperatingSystem(SystemSnapshot snapshot) {
+        snapshot.setSystemLoadAverage(operatingSystemMXBean.getSystemLoadAverage());
+        if (!(operatingSystemMXBean instanceof com.sun.management.OperatingSystemMXBean)) {
+            return;
+        }
+
+        try {
+            com.sun.management.OperatingSystemMXBean sunOperatingSystemMXBean =
+                    (com.sun.management.OperatingSystemMXBean) operatingSystemMXBean;
+            snapshot.setProcessCpuTimeNanos(sunOperatingSystemMXBean.getProcessCpuTime());
+            snapshot.setProcessCpuLoad(sunOperatingSystemMXBean.getProcessCpuLoad());
+            snapshot.setSystemCpuLoad(sunOperatingSystemMXBean.getSystemCpuLoad());
+        } catch (RuntimeException e) {
+            LOGGER.debug("Unable to read operating system CPU", e);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.dropwizard.template.health.system.thread;
+
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+import com.dropwizard.template.health.system.enums.Metric;
+import com.google.common.collect.ImmutableList;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+// Reports the threads that burned the most CPU since the previous sample, as a percentage of one core.
+// Walking every thread is not free, so probes closer together than the minimum interval get the last result.
+public class CpuHogThreadHealthCheck implements IHealthCheckInfo {
+    static final String VERSION = "1.0";
+    static final String DESCRIPTION = "This is a metric that is used to track the threads using the most cpu";
+    static final String METRIC_NAME = "cpuHogThreads";
+    private static final long NO_SAMPLE = -1;
+
+    private final ComponentInfo componentInfo;
+    private final HealthCheckTolerance threadCpuTolerance;
+    private final int topThreadCount;
+    private final long minSampleIntervalNanos;
+    private final ThreadMXBean threadMXBean;
+    private final LongSupplier nanoTime;
+    private final long[] topThreadIds;
+    private final double[] topPercentages;
+
+    private ThreadCpuTimeMap previousCpuTimes = new ThreadCpuTimeMap(256);
+    private ThreadCpuTimeMap currentCpuTimes = new ThreadCpuTimeMap(256);
+    private long previousSampleNanos = NO_SAMPLE;
+    private List<ComponentHealthCheckModel.Value> latestComponentValues;
+
+    public CpuHogThreadHealthCheck(ComponentInfo componentInfo,
+                                   HealthCheckTolerance threadCpuTolerance,
+                                   int topThreadCount,
+                                   long minSampleIntervalMillis) {
+        this(componentInfo, threadCpuTolerance, topThreadCount, minSampleIntervalMillis,
+                ManagementFactory.getThreadMXBean(), System::nanoTime);
+    }
+
+    CpuHogThreadHealthCheck(ComponentInfo componentInfo,
+                            HealthCheckTolerance threadCpuTolerance,
+                            int topThreadCount,
+                            long minSampleIntervalMillis,
+                            ThreadMXBean threadMXBean,
+                            LongSupplier nanoTime) {
+        if (topThreadCount <= 0 || minSampleIntervalMillis < 0) {
+            throw new IllegalArgumentException("Invalid Cpu Hog Thread Configuration");
+        }
+        this.componentInfo = componentInfo;
+        this.threadCpuTolerance = threadCpuTolerance;
+        this.topThreadCount = topThreadCount;
+        this.minSampleIntervalNanos = TimeUnit.MILLISECONDS.toNanos(minSampleIntervalMillis);
+        this.threadMXBean = threadMXBean;
+        this.nanoTime = nanoTime;
+        this.topThreadIds = new long[topThreadCount];
+        this.topPercentages = new double[topThreadCount];
+    }
+
+    @Override
+    public String getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public String getDescription() {
+        return DESCRIPTION;
+    }
+
+    @Override
+    public String getMetricName() {
+        return METRIC_NAME;
+    }
+
+    // Entries are whichever threads are hottest right now, none of them keeps its position between samples
+    @Override
+    public String getValueName(int index, ComponentHealthCheckModel.Value value) {
+        return null;
+    }
+
+    @Override
+    public synchronized List<ComponentHealthCheckModel.Value> getComponentValues() {
+        if (!threadMXBean.isThreadCpuTimeSupported() || !threadMXBean.isThreadCpuTimeEnabled()) {
+            return ImmutableList.of(buildComponentValue(null, HealthCheckStatusEnum.PASS,
+                    "Thread CPU time is not available"));
+        }
+
+        long nowNanos = nanoTime.getAsLong();
+        if (latestComponentValues != null && nowNanos - previousSampleNanos < minSampleIntervalNanos) {
+            return latestComponentValues;
+        }
+
+        int topSize = sample(nowNanos);
+        latestComponentValues = previousSampleNanos == NO_SAMPLE || topSize < 0 ?
+                ImmutableList.of(buildComponentValue(null, HealthCheckStatusEnum.PASS, "Collecting a baseline")) :
+                buildTopThreadValues(topSize);
+        previousSampleNanos = nowNanos;
+        return latestComponentValues;
+    }
+
+    // Returns how many top slots were filled, or -1 when there was no previous sample to compare against
+    private int sample(long nowNanos) {
+        boolean hasBaseline = previousSampleNanos != NO_SAMPLE;
+        long elapsedNanos = nowNanos - previousSampleNanos;
+        int topSize = 0;
+
+        currentCpuTimes.clear();
+        for (long threadId : threadMXBean.getAllThreadIds()) {
+            long cpuTimeNanos = threadMXBean.getThreadCpuTime(threadId);
+            if (cpuTimeNanos < 0) {
+                continue;
+            }
+            currentCpuTimes.put(threadId, cpuTimeNanos);
+            if (!hasBaseline || elapsedNanos <= 0) {
+                continue;
+            }
+
+            // A thread born since the last sample used all of its CPU time inside the interval
+            long previousCpuTimeNanos = previousCpuTimes.get(threadId);
+            long deltaNanos = previousCpuTimeNanos == ThreadCpuTimeMap.MISSING ?
+                    cpuTimeNanos :
+                    cpuTimeNanos - previousCpuTimeNanos;
+            topSize = insertTop(threadId, deltaNanos * 100.0 / elapsedNanos, topSize);
+        }
+
+        ThreadCpuTimeMap swap = previousCpuTimes;
+        previousCpuTimes = currentCpuTimes;
+        currentCpuTimes = swap;
+        return hasBaseline && elapsedNanos > 0 ? topSize : -1;
+    }
+
+    // Keeps the top slots sorted by percentage, descending
+    private int insertTop(long threadId, double percentage, int topSize) {
+        if (topSize == topThreadCount && percentage <= topPercentages[topSize - 1]) {
+            return topSize;
+        }
+
+        int position = Math.min(topSize, topThreadCount - 1);
+        while (position > 0 && topPercentages[position - 1] < percentage) {
+            topThreadIds[position] = topThreadIds[position - 1];
+            topPercentages[position] = topPercentages[position - 1];
+            position--;
+        }
+        topThreadIds[position] = threadId;
+        topPercentages[position] = percentage;
+        return Math.min(topSize + 1, topThreadCount);
+    }
+
+    private List<ComponentHealthCheckModel.Value> buildTopThreadValues(int topSize) {
+        ThreadInfo[] threadInfos = threadMXBean.getThreadInfo(Arrays.copyOf(topThreadIds, topSize), 0);
+        List<ComponentHealthCheckModel.Value> componentValueList = new ArrayList<>(topSize);
+        for (int i = 0; i < topSize; i++) {
+            ThreadInfo threadInfo = threadInfos[i];
+            String threadName = threadInfo == null ? "terminated" : threadInfo.getThreadName();
+            // One busy thread is a hint for diagnosis, so it never fails the healthcheck on its own
+            HealthCheckStatusEnum status = threadCpuTolerance.getHealthCheckStatus(topPercentages[i]);
+            componentValueList.add(buildComponentValue(topPercentages[i],
+                    status == HealthCheckStatusEnum.FAIL ? HealthCheckStatusEnum.WARN : status,
+                    threadName + " (id " + topThreadIds[i] + ")"));
+        }
+        return componentValueList;
+    }
+
+    private ComponentHealthCheckModel.Value buildComponentValue(Double metricValue,
+                                                                HealthCheckStatusEnum status,
+                                                                String output) {
+        return ComponentHealthCheckModel.Value.builder()
+                .componentId(componentInfo.getComponentId())
+                .componentType(componentInfo.getComponentType())
+                .metricValue(metricValue)
+                .metricUnit(Metric.PERCENTAGE.getValue())
+                .status(status)
+                .time(new Date())
+                .output(output)
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.dropwizard.template.health.system.thread;
+
+import java.util.Arrays;
+
+// Open addressing map from thread id to CPU nanos. Thread ids are always positive, so 0 marks a free slot.
+class ThreadCpuTimeMap {
+    static final long MISSING = -1;
+    private static final long FREE_KEY = 0;
+
+    private long[] threadIds;
+    private long[] cpuTimes;
+    private int size;
+
+    ThreadCpuTimeMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        threadIds = new long[capacity];
+        cpuTimes = new long[capacity];
+    }
+
+    long get(long threadId) {
+        int mask = threadIds.length - 1;
+        for (int slot = hash(threadId) & mask; ; slot = (slot + 1) & mask) {
+            if (threadIds[slot] == threadId) {
+                return cpuTimes[slot];
+            }
+            if (threadIds[slot] == FREE_KEY) {
+                return MISSING;
+            }
+        }
+    }
+
+    void put(long threadId, long cpuTime) {
+        if ((size + 1) * 2 > threadIds.length) {
+            resize(threadIds.length << 1);
+        }
+
+        int mask = threadIds.length - 1;
+        int slot = hash(threadId) & mask;
+        while (threadIds[slot] != FREE_KEY && threadIds[slot] != threadId) {
+            slot = (slot + 1) & mask;
+        }
+        if (threadIds[slot] == FREE_KEY) {
+            threadIds[slot] = threadId;
+            size++;
+        }
+        cpuTimes[slot] = cpuTime;
+    }
+
+    void clear() {
+        Arrays.fill(threadIds, FREE_KEY);
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize(int capacity) {
+        long[] oldThreadIds = threadIds;
+        long[] oldCpuTimes = cpuTimes;
+        threadIds = new long[capacity];
+        cpuTimes = new long[capacity];
+        size = 0;
+        for (int i = 0; i < oldThreadIds.length; i++) {
+            if (oldThreadIds[i] != FREE_KEY) {
+                put(oldThreadIds[i], oldCpuTimes[i]);
+            }
+        }
+    }
+
+    private static int hash(long threadId) {
+        long mixed = threadId * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
@@ -0,0 +1,48 @@
+package com.dropwizard.template.health.system.threadpool;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+// Wraps the executor's rejection handler once so rejected tasks can be counted without touching the hot path
+public class ExecutorThreadPoolGauge implements ThreadPoolGauge {
+    private final String poolName;
+    private final ThreadPoolExecutor threadPoolExecutor;
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public ExecutorThreadPoolGauge(String poolName, ThreadPoolExecutor threadPoolExecutor) {
+        this.poolName = poolName;
+        this.threadPoolExecutor = threadPoolExecutor;
+
+        RejectedExecutionHandler rejectedExecutionHandler = threadPoolExecutor.getRejectedExecutionHandler();
+        threadPoolExecutor.setRejectedExecutionHandler((runnable, executor) -> {
+            rejectedCount.increment();
+            rejectedExecutionHandler.rejectedExecution(runnable, executor);
+        });
+    }
+
+    @Override
+    public String getPoolName() {
+        return poolName;
+    }
+
+    @Override
+    public int getBusyThreads() {
+        return threadPoolExecutor.getActiveCount();
+    }
+
+    @Override
+    public int getMaxThreads() {
+        return threadPoolExecutor.getMaximumPoolSize();
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return threadPoolExecutor.getQueue().size();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+}
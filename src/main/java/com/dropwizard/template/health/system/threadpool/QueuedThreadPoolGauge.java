@@ -0,0 +1,38 @@
+package com.dropwizard.template.health.system.threadpool;
+
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+
+public class QueuedThreadPoolGauge implements ThreadPoolGauge {
+    private final String poolName;
+    private final QueuedThreadPool queuedThreadPool;
+
+    public QueuedThreadPoolGauge(String poolName, QueuedThreadPool queuedThreadPool) {
+        this.poolName = poolName;
+        this.queuedThreadPool = queuedThreadPool;
+    }
+
+    @Override
+    public String getPoolName() {
+        return poolName;
+    }
+
+    @Override
+    public int getBusyThreads() {
+        return queuedThreadPool.getBusyThreads();
+    }
+
+    @Override
+    public int getMaxThreads() {
+        return queuedThreadPool.getMaxThreads();
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return queuedThreadPool.getQueueSize();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return UNSUPPORTED;
+    }
+}
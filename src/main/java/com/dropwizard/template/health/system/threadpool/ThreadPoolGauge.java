@@ -0,0 +1,16 @@
+package com.dropwizard.template.health.system.threadpool;
+
+public interface ThreadPoolGauge {
+    long UNSUPPORTED = -1;
+
+    String getPoolName();
+
+    int getBusyThreads();
+
+    int getMaxThreads();
+
+    int getQueueDepth();
+
+    // UNSUPPORTED when the pool does not count rejected tasks
+    long getRejectedCount();
+}
@@ -0,0 +1,175 @@
+package com.dropwizard.template.health.system.threadpool;
+
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+import com.dropwizard.template.health.system.enums.Metric;
+import io.dropwizard.lifecycle.ExecutorServiceManager;
+import io.dropwizard.lifecycle.JettyManaged;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.util.component.LifeCycle;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Pools are discovered once when the server starts, a probe only reads their counters
+public class ThreadPoolSaturationHealthCheck implements IHealthCheckInfo {
+    static final String VERSION = "1.0";
+    static final String DESCRIPTION = "This is a metric that is used to track thread pool saturation";
+    static final String METRIC_NAME = "threadPool";
+    static final String JETTY_POOL_NAME = "jetty";
+    static final String BUSY_THREADS_OUTPUT = " busy threads";
+    static final String QUEUE_DEPTH_OUTPUT = " queue depth";
+    static final String REJECTED_TASKS_OUTPUT = " rejected tasks";
+
+    private final ComponentInfo componentInfo;
+    private final HealthCheckTolerance busyRatioTolerance;
+    private final HealthCheckTolerance queueDepthTolerance;
+    private final HealthCheckTolerance rejectedTolerance;
+
+    private volatile ThreadPoolGauge[] threadPoolGauges = new ThreadPoolGauge[0];
+    private volatile AtomicLongArray lastRejectedCounts = new AtomicLongArray(0);
+
+    public ThreadPoolSaturationHealthCheck(ComponentInfo componentInfo,
+                                           HealthCheckTolerance busyRatioTolerance,
+                                           HealthCheckTolerance queueDepthTolerance,
+                                           HealthCheckTolerance rejectedTolerance) {
+        this.componentInfo = componentInfo;
+        this.busyRatioTolerance = busyRatioTolerance;
+        this.queueDepthTolerance = queueDepthTolerance;
+        this.rejectedTolerance = rejectedTolerance;
+    }
+
+    public void discover(Server server, List<LifeCycle> managedObjectList) {
+        List<ThreadPoolGauge> threadPoolGaugeList = new ArrayList<>();
+        if (server.getThreadPool() instanceof QueuedThreadPool) {
+            threadPoolGaugeList.add(new QueuedThreadPoolGauge(JETTY_POOL_NAME, (QueuedThreadPool) server.getThreadPool()));
+        }
+
+        for (LifeCycle managedObject : managedObjectList) {
+            if (!(managedObject instanceof JettyManaged) ||
+                    !(((JettyManaged) managedObject).getManaged() instanceof ExecutorServiceManager)) {
+                continue;
+            }
+
+            ExecutorServiceManager executorServiceManager =
+                    (ExecutorServiceManager) ((JettyManaged) managedObject).getManaged();
+            ExecutorService executorService = executorServiceManager.getExecutor();
+            if (executorService instanceof ThreadPoolExecutor) {
+                threadPoolGaugeList.add(new ExecutorThreadPoolGauge(executorServiceManager.getPoolName(),
+                        (ThreadPoolExecutor) executorService));
+            }
+        }
+        setThreadPoolGauges(threadPoolGaugeList);
+    }
+
+    public void setThreadPoolGauges(List<ThreadPoolGauge> threadPoolGaugeList) {
+        ThreadPoolGauge[] gauges = threadPoolGaugeList.toArray(new ThreadPoolGauge[0]);
+        AtomicLongArray rejectedCounts = new AtomicLongArray(gauges.length);
+        for (int i = 0; i < gauges.length; i++) {
+            rejectedCounts.set(i, gauges[i].getRejectedCount());
+        }
+        lastRejectedCounts = rejectedCounts;
+        threadPoolGauges = gauges;
+    }
+
+    @Override
+    public String getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public String getDescription() {
+        return DESCRIPTION;
+    }
+
+    @Override
+    public String getMetricName() {
+        return METRIC_NAME;
+    }
+
+    @Override
+    public List<ComponentHealthCheckModel.Value> getComponentValues() {
+        ThreadPoolGauge[] gauges = threadPoolGauges;
+        AtomicLongArray rejectedCounts = lastRejectedCounts;
+        List<ComponentHealthCheckModel.Value> componentValueList = new ArrayList<>(gauges.length * 3);
+        Date time = new Date();
+
+        for (int i = 0; i < gauges.length; i++) {
+            ThreadPoolGauge gauge = gauges[i];
+            int maxThreads = gauge.getMaxThreads();
+            double busyRatio = maxThreads <= 0 ? 0.0 : gauge.getBusyThreads() * 100.0 / maxThreads;
+            componentValueList.add(buildComponentValue(busyRatio, Metric.PERCENTAGE, busyRatioTolerance,
+                    gauge.getPoolName() + BUSY_THREADS_OUTPUT, time));
+            componentValueList.add(buildComponentValue((double) gauge.getQueueDepth(), Metric.COUNT,
+                    queueDepthTolerance, gauge.getPoolName() + QUEUE_DEPTH_OUTPUT, time));
+
+            long rejectedCount = gauge.getRejectedCount();
+            if (rejectedCount != ThreadPoolGauge.UNSUPPORTED) {
+                long rejectedDelta = rejectedCount - rejectedCounts.getAndSet(i, rejectedCount);
+                componentValueList.add(buildComponentValue((double) rejectedDelta, Metric.COUNT,
+                        rejectedTolerance, gauge.getPoolName() + REJECTED_TASKS_OUTPUT, time));
+            }
+        }
+        return componentValueList;
+    }
+
+    // Pools come and go only with a new discovery, so the pool name and the counter identify a value
+    @Override
+    public String getValueName(int index, ComponentHealthCheckModel.Value value) {
+        String output = value.getOutput();
+        if (output.endsWith(BUSY_THREADS_OUTPUT)) {
+            return getPoolValueName(output, BUSY_THREADS_OUTPUT, "busyThreads");
+        }
+        if (output.endsWith(QUEUE_DEPTH_OUTPUT)) {
+            return getPoolValueName(output, QUEUE_DEPTH_OUTPUT, "queueDepth");
+        }
+        return getPoolValueName(output, REJECTED_TASKS_OUTPUT, "rejectedTasks");
+    }
+
+    private static String getPoolValueName(String output, String outputSuffix, String valueName) {
+        return output.substring(0, output.length() - outputSuffix.length()) + "." + valueName;
+    }
+
+    // Each pool reports a busy ratio, a queue depth and maybe rejections, each against its own tolerance
+    @Override
+    public Double getWarnDistance(List<ComponentHealthCheckModel.Value> componentValues) {
+        double warnDistance = 1.0;
+        for (ComponentHealthCheckModel.Value value : componentValues) {
+            warnDistance = Math.min(warnDistance, getTolerance(value.getOutput()).getWarnDistance(value));
+        }
+        return warnDistance;
+    }
+
+    private HealthCheckTolerance getTolerance(String output) {
+        if (output.endsWith(BUSY_THREADS_OUTPUT)) {
+            return busyRatioTolerance;
+        }
+        if (output.endsWith(QUEUE_DEPTH_OUTPUT)) {
+            return queueDepthTolerance;
+        }
+        return rejectedTolerance;
+    }
+
+    private ComponentHealthCheckModel.Value buildComponentValue(Double metricValue,
+                                                                Metric metric,
+                                                                HealthCheckTolerance healthCheckTolerance,
+                                                                String output,
+                                                                Date time) {
+        return ComponentHealthCheckModel.Value.builder()
+                .componentId(componentInfo.getComponentId())
+                .componentType(componentInfo.getComponentType())
+                .metricValue(metricValue)
+                .metricUnit(metric.getValue())
+                .status(healthCheckTolerance.getHealthCheckStatus(metricValue))
+                .time(time)
+                .output(output)
+                .build();
+    }
+}
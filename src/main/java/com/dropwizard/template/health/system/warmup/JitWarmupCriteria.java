@@ -0,0 +1,39 @@
+package com.dropwizard.template.health.system.warmup;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+@Getter
+@Builder
+public class JitWarmupCriteria {
+    private final long minUptimeMillis;
+    private final long plateauWindowMillis;
+    private final double maxCompilationPercentage; // Compilation time as a share of wall time over one window
+    private final long maxWarmupMillis; // Past this uptime a missing plateau only warns
+
+    public static JitWarmupCriteriaBuilder builder() {
+        return new JitWarmupCriteriaBuilder() {
+            @Override
+            public JitWarmupCriteria build() {
+                prebuild();
+                return super.build();
+            }
+        };
+    }
+
+    public static class JitWarmupCriteriaBuilder {
+        private long minUptimeMillis = TimeUnit.SECONDS.toMillis(30);
+        private long plateauWindowMillis = TimeUnit.SECONDS.toMillis(10);
+        private double maxCompilationPercentage = 1.0;
+        private long maxWarmupMillis = TimeUnit.MINUTES.toMillis(5);
+
+        protected void prebuild() {
+            if (minUptimeMillis < 0 || plateauWindowMillis <= 0 || maxCompilationPercentage < 0 ||
+                    maxWarmupMillis < minUptimeMillis) {
+                throw new IllegalArgumentException("Invalid Jit Warmup Criteria");
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.dropwizard.template.health.system.warmup;
+
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.system.enums.Metric;
+import com.dropwizard.template.health.system.snapshot.SystemSnapshot;
+import com.dropwizard.template.health.system.snapshot.SystemSnapshotProvider;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+// Not ready until the JVM has been up long enough and the JIT has gone quiet, measured as compilation time
+// per window of wall time. Once warm it stays warm, later deoptimizations do not take the instance out.
+public class JitWarmupHealthCheck implements IHealthCheckInfo {
+    static final String VERSION = "1.0";
+    static final String DESCRIPTION = "This is a metric that is used to track JIT warm up";
+    static final String METRIC_NAME = "jitWarmup";
+
+    private final ComponentInfo componentInfo;
+    private final JitWarmupCriteria jitWarmupCriteria;
+    private final SystemSnapshotProvider systemSnapshotProvider;
+    private final WarmupTrafficGenerator warmupTrafficGenerator;
+
+    private long windowStartMillis = -1;
+    private long windowStartCompilationMillis;
+    private double lastCompilationPercentage = Double.NaN;
+    private boolean plateauReached;
+    private volatile boolean warm;
+
+    public JitWarmupHealthCheck(ComponentInfo componentInfo,
+                                JitWarmupCriteria jitWarmupCriteria,
+                                SystemSnapshotProvider systemSnapshotProvider) {
+        this(componentInfo, jitWarmupCriteria, systemSnapshotProvider, null);
+    }
+
+    public JitWarmupHealthCheck(ComponentInfo componentInfo,
+                                JitWarmupCriteria jitWarmupCriteria,
+                                SystemSnapshotProvider systemSnapshotProvider,
+                                WarmupTrafficGenerator warmupTrafficGenerator) {
+        this.componentInfo = componentInfo;
+        this.jitWarmupCriteria = jitWarmupCriteria;
+        this.systemSnapshotProvider = systemSnapshotProvider;
+        this.warmupTrafficGenerator = warmupTrafficGenerator;
+    }
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    @Override
+    public String getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public String getDescription() {
+        return DESCRIPTION;
+    }
+
+    @Override
+    public String getMetricName() {
+        return METRIC_NAME;
+    }
+
+    @Override
+    public synchronized List<ComponentHealthCheckModel.Value> getComponentValues() {
+        SystemSnapshot snapshot = systemSnapshotProvider.getSnapshot();
+        Date time = new Date(snapshot.getCaptureTimeMillis());
+        long uptimeMillis = snapshot.getUptimeMillis();
+        boolean compilationSupported = snapshot.getCompilationTimeMillis() != SystemSnapshot.UNSUPPORTED;
+        if (compilationSupported) {
+            recordCompilation(snapshot.getCaptureTimeMillis(), snapshot.getCompilationTimeMillis());
+        }
+
+        boolean uptimeReached = uptimeMillis >= jitWarmupCriteria.getMinUptimeMillis();
+        boolean compilationSettled = !compilationSupported || plateauReached;
+        if (uptimeReached && compilationSettled) {
+            warm = true;
+        }
+
+        List<ComponentHealthCheckModel.Value> componentValueList = new ArrayList<>(3);
+        componentValueList.add(buildComponentValue((double) uptimeMillis, Metric.MILLISECONDS,
+                warm || uptimeReached ? HealthCheckStatusEnum.PASS : HealthCheckStatusEnum.FAIL,
+                "uptime, at least " + jitWarmupCriteria.getMinUptimeMillis() + " ms required", time));
+        componentValueList.add(buildCompilationValue(compilationSupported, uptimeMillis, time));
+        if (warmupTrafficGenerator != null) {
+            componentValueList.add(buildComponentValue((double) warmupTrafficGenerator.getRequestCount(),
+                    Metric.COUNT, HealthCheckStatusEnum.PASS, "warm up requests sent", time));
+        }
+        return componentValueList;
+    }
+
+    private void recordCompilation(long nowMillis, long compilationMillis) {
+        if (windowStartMillis < 0) {
+            windowStartMillis = nowMillis;
+            windowStartCompilationMillis = compilationMillis;
+            return;
+        }
+
+        long elapsedMillis = nowMillis - windowStartMillis;
+        if (elapsedMillis < jitWarmupCriteria.getPlateauWindowMillis()) {
+            return;
+        }
+
+        lastCompilationPercentage = (compilationMillis - windowStartCompilationMillis) * 100.0 / elapsedMillis;
+        plateauReached = lastCompilationPercentage <= jitWarmupCriteria.getMaxCompilationPercentage();
+        windowStartMillis = nowMillis;
+        windowStartCompilationMillis = compilationMillis;
+    }
+
+    private ComponentHealthCheckModel.Value buildCompilationValue(boolean compilationSupported,
+                                                                  long uptimeMillis,
+                                                                  Date time) {
+        if (!compilationSupported) {
+            return buildComponentValue(null, Metric.PERCENTAGE, HealthCheckStatusEnum.PASS,
+                    "Compilation time monitoring is not supported", time);
+        }
+
+        HealthCheckStatusEnum status = HealthCheckStatusEnum.PASS;
+        if (!warm && !plateauReached) {
+            // Past the deadline a JIT that never settles is reported but no longer holds readiness back
+            status = uptimeMillis >= jitWarmupCriteria.getMaxWarmupMillis() ?
+                    HealthCheckStatusEnum.WARN :
+                    HealthCheckStatusEnum.FAIL;
+        }
+        Double compilationPercentage = Double.isNaN(lastCompilationPercentage) ? null : lastCompilationPercentage;
+        return buildComponentValue(compilationPercentage, Metric.PERCENTAGE, status,
+                "compilation time per " + jitWarmupCriteria.getPlateauWindowMillis() + " ms, at most " +
+                        jitWarmupCriteria.getMaxCompilationPercentage() + " percent required", time);
+    }
+
+    private ComponentHealthCheckModel.Value buildComponentValue(Double metricValue,
+                                                                Metric metric,
+                                                                HealthCheckStatusEnum status,
+                                                                String output,
+                                                                Date time) {
+        return ComponentHealthCheckModel.Value.builder()
+                .componentId(componentInfo.getComponentId())
+                .componentType(componentInfo.getComponentType())
+                .metricValue(metricValue)
+                .metricUnit(metric.getValue())
+                .status(status)
+                .time(time)
+                .output(output)
+                .build();
+    }
+}
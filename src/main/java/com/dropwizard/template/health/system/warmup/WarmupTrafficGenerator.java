@@ -0,0 +1,127 @@
+package com.dropwizard.template.health.system.warmup;
+
+import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.lifecycle.ServerLifecycleListener;
+import org.eclipse.jetty.server.Server;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+// Replays GETs against our own resources through the real connector until the instance reports warm,
+// so the hot paths are compiled before the load balancer sends real traffic.
+public class WarmupTrafficGenerator implements ServerLifecycleListener, Managed {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WarmupTrafficGenerator.class);
+    static final int TIMEOUT_MILLIS = 2000;
+
+    private final List<String> paths;
+    private final long maxDurationMillis;
+    private final long requestIntervalMillis;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong failedRequestCount = new AtomicLong();
+
+    private volatile BooleanSupplier warm = () -> false;
+    private volatile Thread trafficThread;
+
+    public WarmupTrafficGenerator(List<String> paths, long maxDurationMillis, long requestIntervalMillis) {
+        if (paths.isEmpty() || maxDurationMillis <= 0 || requestIntervalMillis < 0) {
+            throw new IllegalArgumentException("Invalid Warmup Traffic Configuration");
+        }
+        this.paths = paths;
+        this.maxDurationMillis = maxDurationMillis;
+        this.requestIntervalMillis = requestIntervalMillis;
+    }
+
+    // The check that decides when to stop is usually built after the generator
+    public void setWarmSupplier(BooleanSupplier warm) {
+        this.warm = warm;
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getFailedRequestCount() {
+        return failedRequestCount.get();
+    }
+
+    @Override
+    public void serverStarted(Server server) {
+        // The first connector is the application connector
+        int port = getLocalPort(server);
+        if (port <= 0) {
+            LOGGER.warn("No application connector found, skipping warm up traffic");
+            return;
+        }
+        start(port);
+    }
+
+    synchronized void start(int port) {
+        if (trafficThread != null) {
+            return;
+        }
+
+        trafficThread = new Thread(() -> sendTraffic(port), "warmup-traffic");
+        trafficThread.setDaemon(true);
+        trafficThread.start();
+    }
+
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public synchronized void stop() throws InterruptedException {
+        Thread thread = trafficThread;
+        trafficThread = null;
+        if (thread != null) {
+            thread.interrupt();
+            thread.join(TimeUnit.SECONDS.toMillis(1));
+        }
+    }
+
+    private void sendTraffic(int port) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDurationMillis);
+        byte[] buffer = new byte[4096];
+        try {
+            while (!Thread.currentThread().isInterrupted() && !warm.getAsBoolean() &&
+                    System.nanoTime() < deadlineNanos) {
+                for (String path : paths) {
+                    sendRequest(new URL("http", "localhost", port, path), buffer);
+                }
+                if (requestIntervalMillis > 0) {
+                    Thread.sleep(requestIntervalMillis);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            LOGGER.warn("Unable to build warm up request", e);
+        }
+        LOGGER.info("Warm up traffic finished after {} requests", requestCount.get());
+    }
+
+    private void sendRequest(URL url, byte[] buffer) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            connection.setConnectTimeout(TIMEOUT_MILLIS);
+            connection.setReadTimeout(TIMEOUT_MILLIS);
+            int statusCode = connection.getResponseCode();
+            try (InputStream body = statusCode < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                while (body != null && body.read(buffer) != -1) {
+                    // Drain so the connection is reused
+                }
+            }
+        } catch (IOException e) {
+            failedRequestCount.incrementAndGet();
+        }
+        requestCount.incrementAndGet();
+    }
+}
@@ -0,0 +1,21 @@
+package com.dropwizard.template.health.tenant;
+
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.model.ComponentInfo;
+import lombok.Getter;
+import lombok.Setter;
+
+// Status transitions synchronize on the entry so its counters and index slots always move together
+@Getter
+@Setter
+class TenantHealthEntry {
+    private final ComponentInfo componentInfo;
+    private final IHealthCheckInfo healthCheckInfo;
+    private volatile int statusSlot = TenantStatusCounters.UNKNOWN_SLOT;
+    private volatile long lastUpdatedMillis;
+
+    TenantHealthEntry(ComponentInfo componentInfo, IHealthCheckInfo healthCheckInfo) {
+        this.componentInfo = componentInfo;
+        this.healthCheckInfo = healthCheckInfo;
+    }
+}
@@ -0,0 +1,20 @@
+package com.dropwizard.template.health.tenant;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Date;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TenantHealthModel {
+    private final String componentId;
+    private final String componentName;
+    private final String componentType;
+    private final String status;
+    @JsonFormat(shape=JsonFormat.Shape.STRING, pattern="yyyy-MM-dd'T'HH:mm:ss.SSSZ", timezone="UTC")
+    private final Date lastUpdated;
+}
@@ -0,0 +1,15 @@
+package com.dropwizard.template.health.tenant;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TenantHealthPage {
+    private final List<TenantHealthModel> components;
+    private final String nextCursor; // Pass back as "after" to read the next page
+}
@@ -0,0 +1,185 @@
+package com.dropwizard.template.health.tenant;
+
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.scheduler.HealthCheckSampleListener;
+import com.dropwizard.template.health.scheduler.SampledHealthCheck;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Per-tenant checks keyed by componentId. Counts are kept up to date on every status change and
+// queries walk an ordered index from a cursor, so no request has to visit every tenant.
+public class TenantHealthRegistry implements HealthCheckSampleListener {
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private final ConcurrentHashMap<String, TenantHealthEntry> entryMap = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, TenantStatusCounters> typeCountersMap = new ConcurrentHashMap<>();
+    private final TenantStatusCounters globalCounters = new TenantStatusCounters();
+
+    public void register(ComponentInfo componentInfo, IHealthCheckInfo healthCheckInfo) {
+        // A null type stands for every type in the summary and page queries, so it cannot be indexed
+        if (componentInfo.getComponentType() == null) {
+            throw new IllegalArgumentException("Invalid Component Type");
+        }
+        String componentId = componentInfo.getComponentId();
+        entryMap.compute(componentId, (id, existingEntry) -> {
+            if (existingEntry != null) {
+                throw new IllegalArgumentException("Component already registered: " + id);
+            }
+            globalCounters.add(id);
+            getTypeCounters(componentInfo.getComponentType()).add(id);
+            return new TenantHealthEntry(componentInfo, healthCheckInfo);
+        });
+    }
+
+    // The counters are cleared inside the map's atomic section, so a re-registration of the same id
+    // can never see its fresh index entries removed by this call
+    public boolean unregister(String componentId) {
+        boolean[] removed = new boolean[1];
+        entryMap.computeIfPresent(componentId, (id, entry) -> {
+            synchronized (entry) {
+                int slot = entry.getStatusSlot();
+                entry.setStatusSlot(TenantStatusCounters.REMOVED_SLOT);
+                globalCounters.remove(id, slot);
+                getTypeCounters(entry.getComponentInfo().getComponentType()).remove(id, slot);
+            }
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    public int size() {
+        return entryMap.size();
+    }
+
+    public HealthCheckStatusEnum evaluate(String componentId) {
+        TenantHealthEntry entry = entryMap.get(componentId);
+        if (entry == null) {
+            throw new IllegalArgumentException("Unknown component: " + componentId);
+        }
+
+        HealthCheckStatusEnum status;
+        try {
+            status = ComponentHealthCheckModel.getStatus(entry.getHealthCheckInfo().getComponentValues());
+        } catch (RuntimeException e) {
+            status = HealthCheckStatusEnum.FAIL;
+        }
+        updateStatus(entry, status);
+        return status;
+    }
+
+    @Override
+    public void onSample(SampledHealthCheck sampledHealthCheck, List<ComponentHealthCheckModel.Value> componentValues) {
+        TenantHealthEntry entry = entryMap.get(sampledHealthCheck.getComponentInfo().getComponentId());
+        if (entry != null) {
+            updateStatus(entry, ComponentHealthCheckModel.getStatus(componentValues));
+        }
+    }
+
+    public TenantHealthSummary getSummary(String componentType) {
+        TenantStatusCounters counters = componentType == null ? globalCounters : typeCountersMap.get(componentType);
+        if (counters == null) {
+            return TenantHealthSummary.builder()
+                    .status(HealthCheckStatusEnum.PASS.getValue())
+                    .build();
+        }
+
+        long unknown = counters.getCount(TenantStatusCounters.UNKNOWN_SLOT);
+        long pass = counters.getCount(TenantStatusCounters.getSlot(HealthCheckStatusEnum.PASS));
+        long warn = counters.getCount(TenantStatusCounters.getSlot(HealthCheckStatusEnum.WARN));
+        long fail = counters.getCount(TenantStatusCounters.getSlot(HealthCheckStatusEnum.FAIL));
+        HealthCheckStatusEnum status = fail > 0 ? HealthCheckStatusEnum.FAIL :
+                warn > 0 ? HealthCheckStatusEnum.WARN :
+                HealthCheckStatusEnum.PASS;
+
+        return TenantHealthSummary.builder()
+                .status(status.getValue())
+                .total(unknown + pass + warn + fail)
+                .unknown(unknown)
+                .pass(pass)
+                .warn(warn)
+                .fail(fail)
+                .build();
+    }
+
+    public TenantHealthPage getPage(String componentType, HealthCheckStatusEnum status, String after, int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Invalid Page Size");
+        }
+
+        TenantStatusCounters counters = componentType == null ? globalCounters : typeCountersMap.get(componentType);
+        List<TenantHealthModel> componentList = new ArrayList<>();
+        if (counters == null) {
+            return TenantHealthPage.builder()
+                    .components(componentList)
+                    .build();
+        }
+
+        NavigableSet<String> componentIds = status == null ?
+                counters.getComponentIds() :
+                counters.getComponentIds(TenantStatusCounters.getSlot(status));
+        if (after != null) {
+            componentIds = componentIds.tailSet(after, false);
+        }
+
+        Iterator<String> componentIdIterator = componentIds.iterator();
+        String lastComponentId = null;
+        while (componentList.size() < limit && componentIdIterator.hasNext()) {
+            lastComponentId = componentIdIterator.next();
+            TenantHealthEntry entry = entryMap.get(lastComponentId);
+            if (entry != null) {
+                componentList.add(toTenantHealthModel(entry));
+            }
+        }
+
+        return TenantHealthPage.builder()
+                .components(componentList)
+                .nextCursor(componentIdIterator.hasNext() ? lastComponentId : null)
+                .build();
+    }
+
+    private void updateStatus(TenantHealthEntry entry, HealthCheckStatusEnum status) {
+        String componentId = entry.getComponentInfo().getComponentId();
+        int toSlot = TenantStatusCounters.getSlot(status);
+
+        synchronized (entry) {
+            int fromSlot = entry.getStatusSlot();
+            if (fromSlot == TenantStatusCounters.REMOVED_SLOT) {
+                return;
+            }
+
+            entry.setLastUpdatedMillis(System.currentTimeMillis());
+            if (fromSlot == toSlot) {
+                return;
+            }
+            entry.setStatusSlot(toSlot);
+            globalCounters.move(componentId, fromSlot, toSlot);
+            getTypeCounters(entry.getComponentInfo().getComponentType()).move(componentId, fromSlot, toSlot);
+        }
+    }
+
+    private TenantStatusCounters getTypeCounters(String componentType) {
+        return typeCountersMap.computeIfAbsent(componentType, type -> new TenantStatusCounters());
+    }
+
+    private static TenantHealthModel toTenantHealthModel(TenantHealthEntry entry) {
+        HealthCheckStatusEnum status = TenantStatusCounters.getStatus(entry.getStatusSlot());
+        long lastUpdatedMillis = entry.getLastUpdatedMillis();
+
+        return TenantHealthModel.builder()
+                .componentId(entry.getComponentInfo().getComponentId())
+                .componentName(entry.getComponentInfo().getComponentName())
+                .componentType(entry.getComponentInfo().getComponentType())
+                .status(status == null ? null : status.getValue())
+                .lastUpdated(lastUpdatedMillis == 0 ? null : new Date(lastUpdatedMillis))
+                .build();
+    }
+}
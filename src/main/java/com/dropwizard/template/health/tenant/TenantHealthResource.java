@@ -0,0 +1,40 @@
+package com.dropwizard.template.health.tenant;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+
+@Path("/tenants/health")
+@Produces(MediaType.APPLICATION_JSON)
+public class TenantHealthResource {
+    private final TenantHealthRegistry tenantHealthRegistry;
+
+    public TenantHealthResource(TenantHealthRegistry tenantHealthRegistry) {
+        this.tenantHealthRegistry = tenantHealthRegistry;
+    }
+
+    @GET
+    public TenantHealthSummary getSummary(@QueryParam("componentType") String componentType) {
+        return tenantHealthRegistry.getSummary(componentType);
+    }
+
+    @GET
+    @Path("/components")
+    public TenantHealthPage getComponents(@QueryParam("componentType") String componentType,
+                                          @QueryParam("status") String status,
+                                          @QueryParam("after") String after,
+                                          @QueryParam("limit") @DefaultValue("100") int limit) {
+        try {
+            HealthCheckStatusEnum statusFilter = status == null ? null : HealthCheckStatusEnum.fromValue(status);
+            return tenantHealthRegistry.getPage(componentType, statusFilter, after, limit);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.dropwizard.template.health.tenant;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TenantHealthSummary {
+    private final String status;
+    private final long total;
+    private final long unknown;
+    private final long pass;
+    private final long warn;
+    private final long fail;
+}
@@ -0,0 +1,73 @@
+package com.dropwizard.template.health.tenant;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+
+// Striped counts and ordered id indexes per status slot, slot 0 holds components not evaluated yet
+class TenantStatusCounters {
+    static final int UNKNOWN_SLOT = 0;
+    static final int REMOVED_SLOT = -1;
+    static final int SLOT_COUNT = HealthCheckStatusEnum.values().length + 1;
+
+    private final LongAdder[] slotCounts = new LongAdder[SLOT_COUNT];
+    private final ConcurrentSkipListSet<String>[] slotComponentIds = newComponentIdSets();
+    private final ConcurrentSkipListSet<String> componentIds = new ConcurrentSkipListSet<>();
+
+    TenantStatusCounters() {
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            slotCounts[slot] = new LongAdder();
+        }
+    }
+
+    static int getSlot(HealthCheckStatusEnum status) {
+        return status.ordinal() + 1;
+    }
+
+    static HealthCheckStatusEnum getStatus(int slot) {
+        return slot <= UNKNOWN_SLOT ? null : HealthCheckStatusEnum.values()[slot - 1];
+    }
+
+    void add(String componentId) {
+        componentIds.add(componentId);
+        move(componentId, REMOVED_SLOT, UNKNOWN_SLOT);
+    }
+
+    void remove(String componentId, int slot) {
+        move(componentId, slot, REMOVED_SLOT);
+        componentIds.remove(componentId);
+    }
+
+    void move(String componentId, int fromSlot, int toSlot) {
+        if (fromSlot != REMOVED_SLOT) {
+            slotCounts[fromSlot].decrement();
+            slotComponentIds[fromSlot].remove(componentId);
+        }
+        if (toSlot != REMOVED_SLOT) {
+            slotCounts[toSlot].increment();
+            slotComponentIds[toSlot].add(componentId);
+        }
+    }
+
+    long getCount(int slot) {
+        return slotCounts[slot].sum();
+    }
+
+    ConcurrentSkipListSet<String> getComponentIds() {
+        return componentIds;
+    }
+
+    ConcurrentSkipListSet<String> getComponentIds(int slot) {
+        return slotComponentIds[slot];
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static ConcurrentSkipListSet<String>[] newComponentIdSets() {
+        ConcurrentSkipListSet<String>[] componentIdSets = new ConcurrentSkipListSet[SLOT_COUNT];
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            componentIdSets[slot] = new ConcurrentSkipListSet<>();
+        }
+        return componentIdSets;
+    }
+}
@@ -0,0 +1,229 @@
+import io.dropwizard.setup.Environment;
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Boots the whole application on random ports and drives the health endpoints from many clients.
+// Disabled by default, run with: mvn test -Dtest=TemplateApplicationLoadTest -DloadTest=true
+// Optional: -DloadTest.clients=16 -DloadTest.requests=2000 -DloadTest.warmup=500
+@EnabledIfSystemProperty(named = "loadTest", matches = "true")
+public class TemplateApplicationLoadTest {
+    static final String APPLICATION_CONNECTOR = "application";
+    static final String ADMIN_CONNECTOR = "admin";
+    static final String CONFIGURATION_RESOURCE = "load-test-config.yml";
+
+    private static final int CLIENTS = Integer.getInteger("loadTest.clients", 16);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("loadTest.requests", 2000);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("loadTest.warmup", 500);
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static LoadTestApplication application;
+
+    static class LoadTestApplication extends TemplateApplication {
+        private final CountDownLatch startedLatch = new CountDownLatch(1);
+        private volatile Server server;
+
+        @Override
+        public void run(TemplateConfiguration templateConfiguration, Environment environment) throws Exception {
+            super.run(templateConfiguration, environment);
+            environment.lifecycle().addServerLifecycleListener(server -> {
+                this.server = server;
+                startedLatch.countDown();
+            });
+        }
+
+        int getPort(String connectorName) {
+            for (Connector connector : server.getConnectors()) {
+                if (connectorName.equals(connector.getName())) {
+                    return ((ServerConnector) connector).getLocalPort();
+                }
+            }
+            throw new IllegalStateException("No connector named " + connectorName);
+        }
+    }
+
+    @BeforeAll
+    public static void startApplication() throws Exception {
+        application = new LoadTestApplication();
+        application.run("server", CONFIGURATION_RESOURCE);
+        Assertions.assertTrue(application.startedLatch.await(30, TimeUnit.SECONDS));
+    }
+
+    @AfterAll
+    public static void stopApplication() throws Exception {
+        if (application != null && application.server != null) {
+            application.server.stop();
+        }
+    }
+
+    public static Object[][] endpointTest() {
+        return new Object[][] {
+                {ADMIN_CONNECTOR, "/healthcheck"},
+                {APPLICATION_CONNECTOR, "/healthcheck"},
+                {APPLICATION_CONNECTOR, "/health/liveness"},
+                {APPLICATION_CONNECTOR, "/health/readiness"},
+                {APPLICATION_CONNECTOR, "/health/deep"},
+                {APPLICATION_CONNECTOR, "/health/checks"},
+                {APPLICATION_CONNECTOR, "/tenants/health"}
+        };
+    }
+
+    @ParameterizedTest(name = "{index} => connector={0}, path={1}")
+    @MethodSource("endpointTest")
+    public void loadTest(String connectorName, String path) throws Exception {
+        URL url = new URL("http", "localhost", application.getPort(connectorName), path);
+        runClients(url, WARMUP_REQUESTS / CLIENTS + 1);
+
+        Map<Long, Long> allocatedBefore = getAllocatedBytesByThread();
+        long startNanos = System.nanoTime();
+        LoadResult loadResult = runClients(url, REQUESTS_PER_CLIENT);
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long serverAllocatedBytes = getAllocatedBytesSince(allocatedBefore) - loadResult.clientAllocatedBytes.get();
+
+        report(connectorName + " " + path, loadResult, elapsedNanos, serverAllocatedBytes);
+        Assertions.assertEquals(0, loadResult.errors.sum(), "Requests failed without a response");
+    }
+
+    private LoadResult runClients(URL url, int requestsPerClient) throws Exception {
+        LoadResult loadResult = new LoadResult(CLIENTS * requestsPerClient);
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int client = 0; client < CLIENTS; client++) {
+            int offset = client * requestsPerClient;
+            futures.add(clients.submit(() -> runClient(url, requestsPerClient, offset, loadResult, startLatch)));
+        }
+
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        clients.shutdown();
+        return loadResult;
+    }
+
+    private void runClient(URL url,
+                           int requestCount,
+                           int offset,
+                           LoadResult loadResult,
+                           CountDownLatch startLatch) {
+        byte[] buffer = new byte[8192];
+        awaitQuietly(startLatch);
+        long allocatedBefore = THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+        for (int request = 0; request < requestCount; request++) {
+            long startNanos = System.nanoTime();
+            try {
+                HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+                int statusCode = connection.getResponseCode();
+                // Drain the body so the connection goes back to the keep-alive pool
+                try (InputStream body = statusCode < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                    while (body != null && body.read(buffer) != -1) {
+                        // Discard
+                    }
+                }
+                loadResult.statusCodes.computeIfAbsent(statusCode, code -> new LongAdder()).increment();
+            } catch (IOException e) {
+                loadResult.errors.increment();
+            }
+            loadResult.latencyNanos[offset + request] = System.nanoTime() - startNanos;
+        }
+        loadResult.clientAllocatedBytes.addAndGet(
+                THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocatedBefore);
+    }
+
+    private static void report(String name, LoadResult loadResult, long elapsedNanos, long serverAllocatedBytes) {
+        long[] latencyNanos = loadResult.latencyNanos;
+        Arrays.sort(latencyNanos);
+        int requestCount = latencyNanos.length;
+
+        System.out.println(String.format("%s: %d requests from %d clients in %.1f ms", name, requestCount, CLIENTS,
+                elapsedNanos / 1e6));
+        System.out.println(String.format("  throughput %.0f req/s", requestCount / (elapsedNanos / 1e9)));
+        System.out.println(String.format("  latency p50 %.3f ms, p90 %.3f ms, p99 %.3f ms, p99.9 %.3f ms, max %.3f ms",
+                getPercentileMillis(latencyNanos, 50), getPercentileMillis(latencyNanos, 90),
+                getPercentileMillis(latencyNanos, 99), getPercentileMillis(latencyNanos, 99.9),
+                latencyNanos[requestCount - 1] / 1e6));
+        System.out.println(String.format("  allocation %.0f bytes/req on the server side, %.1f MB/s",
+                (double) serverAllocatedBytes / requestCount, serverAllocatedBytes / 1e6 / (elapsedNanos / 1e9)));
+        System.out.println(String.format("  status codes %s, errors %d", getStatusCodeCounts(loadResult),
+                loadResult.errors.sum()));
+    }
+
+    private static double getPercentileMillis(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, Math.min(sortedNanos.length - 1, index))] / 1e6;
+    }
+
+    private static Map<Integer, Long> getStatusCodeCounts(LoadResult loadResult) {
+        Map<Integer, Long> statusCodeCounts = new HashMap<>();
+        loadResult.statusCodes.forEach((statusCode, count) -> statusCodeCounts.put(statusCode, count.sum()));
+        return statusCodeCounts;
+    }
+
+    private static Map<Long, Long> getAllocatedBytesByThread() {
+        long[] threadIds = THREAD_MX_BEAN.getAllThreadIds();
+        long[] allocatedBytes = THREAD_MX_BEAN.getThreadAllocatedBytes(threadIds);
+        Map<Long, Long> allocatedBytesByThread = new HashMap<>();
+        for (int i = 0; i < threadIds.length; i++) {
+            if (allocatedBytes[i] >= 0) {
+                allocatedBytesByThread.put(threadIds[i], allocatedBytes[i]);
+            }
+        }
+        return allocatedBytesByThread;
+    }
+
+    // Threads that exited during the run are missed, so this is a lower bound
+    private static long getAllocatedBytesSince(Map<Long, Long> allocatedBefore) {
+        long allocatedBytes = 0;
+        for (Map.Entry<Long, Long> entry : getAllocatedBytesByThread().entrySet()) {
+            allocatedBytes += entry.getValue() - allocatedBefore.getOrDefault(entry.getKey(), 0L);
+        }
+        return allocatedBytes;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class LoadResult {
+        private final long[] latencyNanos;
+        private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+        private final LongAdder errors = new LongAdder();
+        private final AtomicLong clientAllocatedBytes = new AtomicLong();
+
+        LoadResult(int requestCount) {
+            this.latencyNanos = new long[requestCount];
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package com.dropwizard.template.health;
 
 import com.codahale.metrics.health.HealthCheck;
+import com.codahale.metrics.json.HealthCheckModule;
 import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
 import com.dropwizard.template.health.enums.ToleranceType;
 import com.dropwizard.template.health.model.ComponentHealthCheckModel;
 import com.dropwizard.template.health.model.ComponentInfo;
 import com.dropwizard.template.health.model.HealthCheckTolerance;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Uninterruptibles;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -17,9 +22,12 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ChanDropWizardHealthCheckTest {
@@ -38,6 +46,8 @@ public class ChanDropWizardHealthCheckTest {
     public static final String TEST_METRIC_UNIT = "testMetricUnit";
     public static final String TEST_OUTPUT = "testOutput";
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     public static final HealthCheckStatusEnum PASS = HealthCheckStatusEnum.PASS;
     public static final HealthCheckStatusEnum WARN = HealthCheckStatusEnum.WARN;
     public static final HealthCheckStatusEnum FAIL = HealthCheckStatusEnum.FAIL;
@@ -77,7 +87,7 @@ public class ChanDropWizardHealthCheckTest {
 
     private void assertHealthCheckResult(boolean isExpectedHealthy,
                                          HealthCheckStatusEnum expectedHealthEnum,
-                                         HealthCheck.Result result) {
+                                         HealthCheck.Result result) throws JsonProcessingException {
         Map<String, Object> resultDetails = result.getDetails();
         Assertions.assertEquals(result.isHealthy(), isExpectedHealthy);
         Assertions.assertEquals(resultDetails.get("metricName"), TEST_METRIC);
@@ -85,7 +95,7 @@ public class ChanDropWizardHealthCheckTest {
         Assertions.assertEquals(resultDetails.get("componentName"), TEST_COMPONENT_NAME_STRING);
         Assertions.assertEquals(resultDetails.get("version"), TEST_VERSION);
 
-        List<Map<String, Object>> componentList = (List<Map<String, Object>>) resultDetails.get("componentValue");
+        List<Map<String, Object>> componentList = readRawDetail(result, "componentValue", List.class);
         Assertions.assertEquals(1, componentList.size());
 
         Map<String, Object> componentInfo = componentList.get(0);
@@ -97,6 +107,119 @@ public class ChanDropWizardHealthCheckTest {
         Assertions.assertEquals(TEST_OUTPUT, componentInfo.get("output"));
     }
 
+    @Test
+    public void getHealthCheckResultWithinTimeoutTest() throws JsonProcessingException {
+        IHealthCheckInfo healthCheckInfo = buildIHealthCheckInfo(buildComponentWarnValues(), false);
+        ChanDropWizardHealthCheck healthCheck =
+                new ChanDropWizardHealthCheck(buildTestComponentInfo(), healthCheckInfo, 1000, 1);
+
+        assertHealthCheckResult(true, HealthCheckStatusEnum.WARN, healthCheck.getHealthCheckResult());
+        Assertions.assertEquals(0, healthCheck.getOutstandingEvaluations());
+    }
+
+    @Test
+    public void getHealthCheckResultTimeoutTest() throws JsonProcessingException, InterruptedException {
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+        IHealthCheckInfo healthCheckInfo = buildIHealthCheckInfo(buildComponentPassValues(), false);
+        when(healthCheckInfo.getComponentValues()).thenAnswer(invocation -> {
+            Uninterruptibles.awaitUninterruptibly(releaseLatch);
+            return buildComponentPassValues();
+        });
+        ChanDropWizardHealthCheck healthCheck =
+                new ChanDropWizardHealthCheck(buildTestComponentInfo(), healthCheckInfo, 50, 1);
+
+        HealthCheck.Result timedOutResult = healthCheck.getHealthCheckResult();
+        Assertions.assertFalse(timedOutResult.isHealthy());
+        Assertions.assertEquals("Health check timed out after 50 ms", getFirstOutput(timedOutResult));
+        Assertions.assertEquals(1, healthCheck.getOutstandingEvaluations());
+
+        // The abandoned evaluation is still stuck, so no new one is started
+        HealthCheck.Result skippedResult = healthCheck.getHealthCheckResult();
+        Assertions.assertFalse(skippedResult.isHealthy());
+        Assertions.assertEquals("Skipped, 1 evaluations are still running", getFirstOutput(skippedResult));
+        verify(healthCheckInfo, times(1)).getComponentValues();
+
+        releaseLatch.countDown();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (healthCheck.getOutstandingEvaluations() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(0, healthCheck.getOutstandingEvaluations());
+        Assertions.assertTrue(healthCheck.getHealthCheckResult().isHealthy());
+    }
+
+    @Test
+    public void getHealthCheckResultTimeoutCapTest() throws JsonProcessingException {
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+        IHealthCheckInfo healthCheckInfo = buildIHealthCheckInfo(buildComponentPassValues(), false);
+        when(healthCheckInfo.getComponentValues()).thenAnswer(invocation -> {
+            Uninterruptibles.awaitUninterruptibly(releaseLatch);
+            return buildComponentPassValues();
+        });
+        ChanDropWizardHealthCheck healthCheck =
+                new ChanDropWizardHealthCheck(buildTestComponentInfo(), healthCheckInfo, 20, 2);
+
+        try {
+            healthCheck.getHealthCheckResult();
+            healthCheck.getHealthCheckResult();
+            HealthCheck.Result skippedResult = healthCheck.getHealthCheckResult();
+
+            Assertions.assertEquals(2, healthCheck.getOutstandingEvaluations());
+            Assertions.assertEquals("Skipped, 2 evaluations are still running", getFirstOutput(skippedResult));
+            verify(healthCheckInfo, times(2)).getComponentValues();
+        } finally {
+            releaseLatch.countDown();
+        }
+    }
+
+    @Test
+    public void getHealthCheckResultCachedSkipsTimeoutTest() throws JsonProcessingException {
+        IHealthCheckInfo healthCheckInfo = buildIHealthCheckInfo(buildComponentWarnValues(), false);
+        Thread callerThread = Thread.currentThread();
+        when(healthCheckInfo.hasCachedComponentValues()).thenReturn(true);
+        when(healthCheckInfo.getComponentValues()).thenAnswer(invocation -> {
+            Assertions.assertSame(callerThread, Thread.currentThread());
+            return buildComponentWarnValues();
+        });
+        ChanDropWizardHealthCheck healthCheck =
+                new ChanDropWizardHealthCheck(buildTestComponentInfo(), healthCheckInfo, 1000, 1);
+
+        assertHealthCheckResult(true, HealthCheckStatusEnum.WARN, healthCheck.getHealthCheckResult());
+        Assertions.assertEquals(0, healthCheck.getOutstandingEvaluations());
+    }
+
+    @Test
+    public void servletLayoutTest() throws JsonProcessingException {
+        ChanDropWizardHealthCheck healthCheck = buildTestChanDropWizardHealthCheck(buildComponentWarnValues());
+        ObjectMapper servletObjectMapper = new ObjectMapper().registerModule(new HealthCheckModule());
+        JsonNode resultNode = OBJECT_MAPPER.readTree(
+                servletObjectMapper.writeValueAsString(healthCheck.getHealthCheckResult()));
+
+        Assertions.assertTrue(resultNode.get("healthy").asBoolean());
+        Assertions.assertEquals("warn", resultNode.get("status").asText());
+        Assertions.assertEquals(TEST_METRIC, resultNode.get("metricName").asText());
+        Assertions.assertEquals(TEST_OUTPUT, resultNode.get("componentValue").get(0).get("output").asText());
+        Assertions.assertEquals("warn", resultNode.get("componentValue").get(0).get("status").asText());
+    }
+
+    @Test
+    public void invalidTimeoutTest() {
+        MemoryHealthCheckUtil.assertErrorMessage("Invalid Health Check Timeout", () ->
+                new ChanDropWizardHealthCheck(buildTestComponentInfo(), mock(IHealthCheckInfo.class), 100, 0));
+    }
+
+    // The value array and details are handed to the servlet pre-serialized
+    public static <T> T readRawDetail(HealthCheck.Result result, String key, Class<T> type)
+            throws JsonProcessingException {
+        RawValue rawValue = (RawValue) result.getDetails().get(key);
+        return OBJECT_MAPPER.readValue(rawValue.rawValue().toString(), type);
+    }
+
+    private static String getFirstOutput(HealthCheck.Result result) throws JsonProcessingException {
+        List<Map<String, Object>> componentList = readRawDetail(result, "componentValue", List.class);
+        return (String) componentList.get(0).get("output");
+    }
+
     private static ChanDropWizardHealthCheck buildTestChanDropWizardHealthCheck(
             List<ComponentHealthCheckModel.Value> mockComponentValues) {
         return buildTestChanDropWizardHealthCheck(mockComponentValues, false);
@@ -0,0 +1,99 @@
+package com.dropwizard.template.health;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ComponentHealthCheckSerializerTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
+    private static final ComponentInfo COMPONENT_INFO = ComponentInfo.builder()
+            .componentId("6fd416e0-8920-410f-9c7b-c479000f7227")
+            .componentName("memory")
+            .componentType("system")
+            .build();
+
+    public static Object[][] serializeTest() {
+        return new Object[][] {
+                {"utilizedMemory", "This is a \"quoted\" description", ImmutableList.of(
+                        buildValue(COMPONENT_INFO.getComponentId(), 42.5, HealthCheckStatusEnum.PASS, "", null)),
+                        null},
+                {"", null, ImmutableList.of(
+                        buildValue(COMPONENT_INFO.getComponentId(), 7L, HealthCheckStatusEnum.WARN, null,
+                                URI.create("http://localhost:8080/health?a=b")),
+                        buildValue("otherComponent", "text\nvalue", HealthCheckStatusEnum.FAIL, "timed out \u00e9", null)),
+                        ImmutableMap.of("breakerState", "open", "consecutiveFailures", 3)},
+                {null, "description", ImmutableList.of(), null},
+                {"metric", "description", ImmutableList.of(
+                        buildValue(null, Double.NaN, null, null, null),
+                        buildValue(COMPONENT_INFO.getComponentId(), ImmutableMap.of("p99", 1.5), HealthCheckStatusEnum.PASS,
+                                null, null)),
+                        null}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("serializeTest")
+    public void testMatchesJackson(String metricName,
+                                  String description,
+                                  List<ComponentHealthCheckModel.Value> componentValues,
+                                  Map<String, Object> details) throws JsonProcessingException {
+        IHealthCheckInfo healthCheckInfo = mock(IHealthCheckInfo.class);
+        when(healthCheckInfo.getMetricName()).thenReturn(metricName);
+        when(healthCheckInfo.getVersion()).thenReturn("1.0");
+        when(healthCheckInfo.getDescription()).thenReturn(description);
+        ComponentHealthCheckSerializer serializer = new ComponentHealthCheckSerializer(COMPONENT_INFO, healthCheckInfo);
+
+        HealthCheckStatusEnum status = ComponentHealthCheckModel.getStatus(componentValues);
+        ComponentHealthCheckModel componentHealthCheckModel = ComponentHealthCheckModel.builder()
+                .componentName(COMPONENT_INFO.getComponentName())
+                .metricName(metricName)
+                .version("1.0")
+                .status(status)
+                .description(description)
+                .componentValue(componentValues)
+                .details(details)
+                .build();
+
+        // Serialized twice so the cached fragments are exercised as well
+        serializer.serialize(status, componentValues, details);
+        String serialized = new String(serializer.serialize(status, componentValues, details), StandardCharsets.UTF_8);
+        Assertions.assertEquals(OBJECT_MAPPER.writeValueAsString(componentHealthCheckModel), serialized);
+    }
+
+    private static ComponentHealthCheckModel.Value buildValue(String componentId,
+                                                              Object metricValue,
+                                                              HealthCheckStatusEnum status,
+                                                              String output,
+                                                              URI link) {
+        return ComponentHealthCheckModel.Value.builder()
+                .componentId(componentId)
+                .componentType(COMPONENT_INFO.getComponentType())
+                .metricValue(metricValue)
+                .metricUnit("percentage")
+                .status(status)
+                .time(new Date(1600000000123L))
+                .output(output)
+                .link(link)
+                .build();
+    }
+}
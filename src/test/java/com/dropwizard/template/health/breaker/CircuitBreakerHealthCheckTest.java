@@ -0,0 +1,169 @@
+package com.dropwizard.template.health.breaker;
+
+import com.codahale.metrics.health.HealthCheck;
+import com.dropwizard.template.health.ChanDropWizardHealthCheck;
+import com.dropwizard.template.health.ChanDropWizardHealthCheckTest;
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.dropwizard.template.health.MemoryHealthCheckUtil.assertErrorMessage;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CircuitBreakerHealthCheckTest {
+    private static final ComponentInfo COMPONENT_INFO = ComponentInfo.builder()
+            .componentId("testComponentId")
+            .componentName("dependency")
+            .componentType("test")
+            .build();
+    private static final List<ComponentHealthCheckModel.Value> PASS_VALUES = buildValues(HealthCheckStatusEnum.PASS);
+    private static final List<ComponentHealthCheckModel.Value> FAIL_VALUES = buildValues(HealthCheckStatusEnum.FAIL);
+
+    private final AtomicLong clockMillis = new AtomicLong(10000);
+    private IHealthCheckInfo healthCheckInfo;
+    private CircuitBreakerHealthCheck circuitBreaker;
+
+    @BeforeEach
+    public void setUp() {
+        healthCheckInfo = mock(IHealthCheckInfo.class);
+        when(healthCheckInfo.getVersion()).thenReturn("1.0");
+        when(healthCheckInfo.getMetricName()).thenReturn("");
+        circuitBreaker = new CircuitBreakerHealthCheck(COMPONENT_INFO, healthCheckInfo, 2, 1000, 4000,
+                clockMillis::get);
+    }
+
+    @Test
+    public void testOpensAfterConsecutiveFailures() {
+        when(healthCheckInfo.getComponentValues()).thenReturn(FAIL_VALUES);
+
+        circuitBreaker.getComponentValues();
+        Assertions.assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+        circuitBreaker.getComponentValues();
+        Assertions.assertEquals(CircuitBreakerState.OPEN, circuitBreaker.getState());
+
+        clockMillis.addAndGet(500);
+        Assertions.assertEquals(FAIL_VALUES, circuitBreaker.getComponentValues());
+        verify(healthCheckInfo, times(2)).getComponentValues();
+
+        Map<String, Object> details = circuitBreaker.getDetails();
+        Assertions.assertEquals("open", details.get(CircuitBreakerHealthCheck.STATE_DETAIL));
+        Assertions.assertEquals(2, details.get(CircuitBreakerHealthCheck.CONSECUTIVE_FAILURES_DETAIL));
+        Assertions.assertEquals("1970-01-01T00:00:11Z", details.get(CircuitBreakerHealthCheck.NEXT_RETRY_DETAIL));
+    }
+
+    @Test
+    public void testHalfOpenTrialBacksOffAndCloses() {
+        when(healthCheckInfo.getComponentValues()).thenReturn(FAIL_VALUES);
+        circuitBreaker.getComponentValues();
+        circuitBreaker.getComponentValues();
+
+        // The failed trial doubles the backoff
+        clockMillis.addAndGet(1000);
+        circuitBreaker.getComponentValues();
+        verify(healthCheckInfo, times(3)).getComponentValues();
+        Assertions.assertEquals(CircuitBreakerState.OPEN, circuitBreaker.getState());
+        Assertions.assertEquals("1970-01-01T00:00:13Z",
+                circuitBreaker.getDetails().get(CircuitBreakerHealthCheck.NEXT_RETRY_DETAIL));
+
+        clockMillis.addAndGet(1999);
+        circuitBreaker.getComponentValues();
+        verify(healthCheckInfo, times(3)).getComponentValues();
+
+        when(healthCheckInfo.getComponentValues()).thenReturn(PASS_VALUES);
+        clockMillis.addAndGet(1);
+        Assertions.assertEquals(PASS_VALUES, circuitBreaker.getComponentValues());
+        Assertions.assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+        Assertions.assertNull(circuitBreaker.getDetails().get(CircuitBreakerHealthCheck.NEXT_RETRY_DETAIL));
+    }
+
+    @Test
+    public void testConcurrentFailuresOpenOnce() {
+        when(healthCheckInfo.getComponentValues()).thenReturn(FAIL_VALUES);
+        circuitBreaker.getComponentValues();
+
+        // A second closed probe fails and opens the breaker while the first is still evaluating
+        AtomicBoolean nested = new AtomicBoolean();
+        when(healthCheckInfo.getComponentValues()).thenAnswer(invocation -> {
+            if (nested.compareAndSet(false, true)) {
+                circuitBreaker.getComponentValues();
+            }
+            return FAIL_VALUES;
+        });
+        circuitBreaker.getComponentValues();
+
+        Map<String, Object> details = circuitBreaker.getDetails();
+        Assertions.assertEquals("open", details.get(CircuitBreakerHealthCheck.STATE_DETAIL));
+        Assertions.assertEquals(2, details.get(CircuitBreakerHealthCheck.CONSECUTIVE_FAILURES_DETAIL));
+        Assertions.assertEquals("1970-01-01T00:00:11Z", details.get(CircuitBreakerHealthCheck.NEXT_RETRY_DETAIL));
+    }
+
+    @Test
+    public void testExceptionCountsAsFailure() {
+        when(healthCheckInfo.getComponentValues()).thenThrow(new IllegalStateException("connection refused"));
+
+        circuitBreaker.getComponentValues();
+        List<ComponentHealthCheckModel.Value> componentValues = circuitBreaker.getComponentValues();
+
+        Assertions.assertEquals(CircuitBreakerState.OPEN, circuitBreaker.getState());
+        Assertions.assertEquals(HealthCheckStatusEnum.FAIL, componentValues.get(0).getStatus());
+        Assertions.assertEquals("connection refused", componentValues.get(0).getOutput());
+    }
+
+    @Test
+    public void testDetailsInHealthCheckResult() throws JsonProcessingException {
+        when(healthCheckInfo.getComponentValues()).thenReturn(PASS_VALUES);
+        ChanDropWizardHealthCheck healthCheck = new ChanDropWizardHealthCheck(COMPONENT_INFO, circuitBreaker);
+
+        HealthCheck.Result result = healthCheck.getHealthCheckResult();
+        Map<String, Object> details = ChanDropWizardHealthCheckTest.readRawDetail(result, "details", Map.class);
+
+        Assertions.assertEquals("closed", details.get(CircuitBreakerHealthCheck.STATE_DETAIL));
+    }
+
+    public static Object[][] backoffValues() {
+        return new Object[][] {
+                {1, 1000L},
+                {2, 2000L},
+                {3, 4000L},
+                {4, 4000L},
+                {100, 4000L}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("backoffValues")
+    public void testBackoff(int openCount, long expectedBackoffMillis) {
+        Assertions.assertEquals(expectedBackoffMillis, circuitBreaker.getBackoffMillis(openCount));
+    }
+
+    @Test
+    public void testInvalidConfiguration() {
+        assertErrorMessage("Invalid Circuit Breaker Configuration",
+                () -> new CircuitBreakerHealthCheck(COMPONENT_INFO, healthCheckInfo, 0, 1000, 4000));
+        assertErrorMessage("Invalid Circuit Breaker Configuration",
+                () -> new CircuitBreakerHealthCheck(COMPONENT_INFO, healthCheckInfo, 1, 1000, 500));
+    }
+
+    private static List<ComponentHealthCheckModel.Value> buildValues(HealthCheckStatusEnum status) {
+        return ImmutableList.of(ComponentHealthCheckModel.Value.builder()
+                .componentId("testComponentId")
+                .status(status)
+                .build());
+    }
+}
@@ -0,0 +1,187 @@
+package com.dropwizard.template.health.dependency;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class DependencyProbeSelectorTest {
+    static final long TIMEOUT_MILLIS = 2000L;
+    static final String OK_PATH = "/ok";
+    static final String ERROR_PATH = "/error";
+    static final byte[] RESPONSE_BODY = "{\"status\":\"pass\"}".getBytes(StandardCharsets.UTF_8);
+
+    private DependencyProbeSelector probeSelector;
+    private HttpServer httpServer;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        probeSelector = new DependencyProbeSelector();
+        probeSelector.start();
+
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        httpServer.createContext(OK_PATH, exchange -> {
+            exchange.sendResponseHeaders(200, RESPONSE_BODY.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(RESPONSE_BODY);
+            }
+        });
+        httpServer.createContext(ERROR_PATH, exchange -> {
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        httpServer.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        probeSelector.stop();
+        httpServer.stop(0);
+    }
+
+    @Test
+    public void tcpProbeConnectsTest() throws Exception {
+        ProbeResult probeResult = probeSelector.probeTcp(httpServer.getAddress(), TIMEOUT_MILLIS)
+                .get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        Assertions.assertTrue(probeResult.isSuccess());
+        Assertions.assertNotNull(probeResult.getConnectLatencyMillis());
+    }
+
+    @Test
+    public void tcpProbeRefusedTest() throws Exception {
+        InetSocketAddress closedAddress = getClosedAddress();
+        ProbeResult probeResult = probeSelector.probeTcp(closedAddress, TIMEOUT_MILLIS)
+                .get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        Assertions.assertFalse(probeResult.isSuccess());
+        Assertions.assertNotNull(probeResult.getErrorMessage());
+    }
+
+    @Test
+    public void httpProbeReusesConnectionTest() throws Exception {
+        ProbeResult firstResult = probeSelector.probeHttp(httpServer.getAddress(), OK_PATH, TIMEOUT_MILLIS)
+                .get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        ProbeResult secondResult = probeSelector.probeHttp(httpServer.getAddress(), OK_PATH, TIMEOUT_MILLIS)
+                .get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        Assertions.assertTrue(firstResult.isSuccess());
+        Assertions.assertEquals(200, firstResult.getStatusCode());
+        Assertions.assertFalse(firstResult.isReusedConnection());
+        Assertions.assertTrue(secondResult.isSuccess());
+        Assertions.assertTrue(secondResult.isReusedConnection());
+    }
+
+    @Test
+    public void httpProbeErrorStatusTest() throws Exception {
+        ProbeResult probeResult = probeSelector.probeHttp(httpServer.getAddress(), ERROR_PATH, TIMEOUT_MILLIS)
+                .get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        Assertions.assertFalse(probeResult.isSuccess());
+        Assertions.assertEquals(500, probeResult.getStatusCode());
+    }
+
+    @Test
+    public void httpProbeTimeoutTest() throws Exception {
+        try (ServerSocket silentServer = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            InetSocketAddress silentAddress = new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                    silentServer.getLocalPort());
+            ProbeResult probeResult = probeSelector.probeHttp(silentAddress, OK_PATH, 100)
+                    .get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+            Assertions.assertFalse(probeResult.isSuccess());
+            Assertions.assertEquals("Probe timed out after 100 ms", probeResult.getErrorMessage());
+        }
+    }
+
+    @Test
+    public void httpGetHealthCheckTest() {
+        HttpGetHealthCheck healthCheck = new HttpGetHealthCheck(buildComponentInfo(), buildHealthCheckTolerance(),
+                probeSelector, httpServer.getAddress(), OK_PATH, TIMEOUT_MILLIS);
+
+        List<ComponentHealthCheckModel.Value> componentValues = healthCheck.getComponentValues();
+        Assertions.assertEquals(1, componentValues.size());
+        Assertions.assertEquals(HealthCheckStatusEnum.PASS, componentValues.get(0).getStatus());
+        Assertions.assertEquals("milliseconds", componentValues.get(0).getMetricUnit());
+        Assertions.assertTrue(componentValues.get(0).getLink().toString().endsWith(OK_PATH));
+    }
+
+    @Test
+    public void tcpConnectHealthCheckFailTest() throws IOException {
+        TcpConnectHealthCheck healthCheck = new TcpConnectHealthCheck(buildComponentInfo(), buildHealthCheckTolerance(),
+                probeSelector, getClosedAddress(), TIMEOUT_MILLIS);
+
+        List<ComponentHealthCheckModel.Value> componentValues = healthCheck.getComponentValues();
+        Assertions.assertEquals(HealthCheckStatusEnum.FAIL, componentValues.get(0).getStatus());
+        Assertions.assertNotNull(componentValues.get(0).getOutput());
+    }
+
+    @Test
+    public void stoppedSelectorFailsProbeTest() throws Exception {
+        probeSelector.stop();
+        ProbeResult probeResult = probeSelector.probeTcp(httpServer.getAddress(), TIMEOUT_MILLIS)
+                .get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        Assertions.assertFalse(probeResult.isSuccess());
+    }
+
+    @Test
+    public void probesSubmittedDuringStopCompleteTest() throws Exception {
+        List<CompletableFuture<ProbeResult>> probeList = new CopyOnWriteArrayList<>();
+        CountDownLatch submitting = new CountDownLatch(1);
+        Thread submitThread = new Thread(() -> {
+            for (int i = 0; i < 2000; i++) {
+                probeList.add(probeSelector.probeTcp(httpServer.getAddress(), TIMEOUT_MILLIS));
+                submitting.countDown();
+            }
+        });
+        submitThread.start();
+
+        submitting.await();
+        probeSelector.stop();
+        submitThread.join();
+
+        for (CompletableFuture<ProbeResult> probe : probeList) {
+            Assertions.assertNotNull(probe.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS).getCompletedAtMillis());
+        }
+    }
+
+    private static InetSocketAddress getClosedAddress() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            return new InetSocketAddress(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+        }
+    }
+
+    private static ComponentInfo buildComponentInfo() {
+        return ComponentInfo.builder()
+                .componentId("testComponentId")
+                .componentName("testComponentName")
+                .componentType("dependency")
+                .build();
+    }
+
+    private static HealthCheckTolerance buildHealthCheckTolerance() {
+        return HealthCheckTolerance.builder()
+                .passValue(1000.0)
+                .warnValue(1500.0)
+                .failValue(2000.0)
+                .build();
+    }
+}
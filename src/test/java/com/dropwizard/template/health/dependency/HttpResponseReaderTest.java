@@ -0,0 +1,40 @@
+package com.dropwizard.template.health.dependency;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class HttpResponseReaderTest {
+    public static Object[][] responseValues() {
+        return new Object[][] {
+                {"HTTP/1.1 200 OK\r\nContent-Length: 4\r\n\r\npass", true, true, 200},
+                {"HTTP/1.1 200 OK\r\nContent-Length: 4\r\n\r\npa", false, true, 200},
+                {"HTTP/1.1 503 Service Unavailable\r\nContent-Length: 0\r\n\r\n", true, true, 503},
+                {"HTTP/1.1 200 OK\r\nContent-Length: 4\r\nConnection: close\r\n\r\npass", true, false, 200},
+                {"HTTP/1.0 200 OK\r\nContent-Length: 4\r\n\r\npass", true, false, 200},
+                {"HTTP/1.0 200 OK\r\nContent-Length: 4\r\nConnection: keep-alive\r\n\r\npass", true, true, 200},
+                {"HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n4\r\npass\r\n0\r\n\r\n", true, true, 200},
+                {"HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n4\r\npass\r\n", false, true, 200},
+                {"HTTP/1.1 200 OK\r\n\r\npass", false, false, 200},
+                {"HTTP/1.1 204 No Content\r\n\r\n", true, true, 204},
+        };
+    }
+
+    @ParameterizedTest(name = "{index} => complete={1}, keepAlive={2}, statusCode={3}")
+    @MethodSource("responseValues")
+    public void responseReaderTest(String response, boolean expectedComplete,
+                                   boolean expectedKeepAlive, int expectedStatusCode) {
+        HttpResponseReader responseReader = new HttpResponseReader();
+        byte[] responseBytes = response.getBytes(StandardCharsets.ISO_8859_1);
+        for (byte responseByte : responseBytes) {
+            responseReader.append(ByteBuffer.wrap(new byte[] {responseByte}));
+        }
+
+        Assertions.assertEquals(expectedComplete, responseReader.isComplete());
+        Assertions.assertEquals(expectedKeepAlive, responseReader.isKeepAlive());
+        Assertions.assertEquals(expectedStatusCode, responseReader.getStatusCode());
+    }
+}
@@ -19,4 +19,12 @@ public class HealthCheckStatusEnumTest {
                                              String expectedString) {
         Assertions.assertEquals(expectedString, statusEnum.getValue());
     }
+
+    @ParameterizedTest(name = "{index} => statusEnum={0}, string={1}")
+    @MethodSource("testPointForHealthCheck")
+    public void testFromValueForHealthCheckEnum(HealthCheckStatusEnum statusEnum,
+                                                String string) {
+        Assertions.assertEquals(statusEnum, HealthCheckStatusEnum.fromValue(string));
+        Assertions.assertEquals(statusEnum, HealthCheckStatusEnum.fromValue(string.toUpperCase()));
+    }
 }
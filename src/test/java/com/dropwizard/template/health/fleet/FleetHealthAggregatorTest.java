@@ -0,0 +1,104 @@
+package com.dropwizard.template.health.fleet;
+
+import com.google.common.collect.ImmutableList;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class FleetHealthAggregatorTest {
+    static final long AWAIT_MILLIS = 5000L;
+    static final String HEALTHY_PATH = "/healthy";
+    static final String UNHEALTHY_PATH = "/unhealthy";
+    static final String SLOW_PATH = "/slow";
+
+    private HttpServer httpServer;
+    private FleetHealthAggregator fleetHealthAggregator;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        httpServer.setExecutor(Executors.newCachedThreadPool());
+        registerPayload(HEALTHY_PATH, 200, buildPayload(40.0, "pass"));
+        registerPayload(UNHEALTHY_PATH, 500, buildPayload(95.0, "fail"));
+        httpServer.createContext(SLOW_PATH, exchange -> {
+            try {
+                Thread.sleep(AWAIT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        httpServer.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        fleetHealthAggregator.stop();
+        httpServer.stop(0);
+    }
+
+    @Test
+    public void aggregateFleetHealthTest() throws InterruptedException {
+        String baseUrl = "http://" + httpServer.getAddress().getHostString() + ":" + httpServer.getAddress().getPort();
+        FleetConfiguration configuration = new FleetConfiguration(
+                ImmutableList.of(baseUrl + HEALTHY_PATH, baseUrl + UNHEALTHY_PATH, baseUrl + SLOW_PATH),
+                null, 2, 200L, 1);
+        fleetHealthAggregator = new FleetHealthAggregator(configuration);
+
+        fleetHealthAggregator.pollTargets();
+        FleetHealthModel fleetHealth = awaitFleetHealth(3);
+
+        Assertions.assertEquals(3, fleetHealth.getInstanceCount());
+        Assertions.assertEquals(2, fleetHealth.getReachableCount());
+        Assertions.assertEquals(ImmutableList.of(baseUrl + SLOW_PATH), fleetHealth.getUnreachableInstances());
+        Assertions.assertEquals(1, fleetHealth.getRollups().size());
+
+        FleetRollup rollup = fleetHealth.getRollups().get(0);
+        Assertions.assertEquals("memory", rollup.getComponentName());
+        Assertions.assertEquals("utilizedMemory", rollup.getMetricName());
+        Assertions.assertEquals(1, rollup.getPassCount());
+        Assertions.assertEquals(0, rollup.getWarnCount());
+        Assertions.assertEquals(1, rollup.getFailCount());
+        Assertions.assertEquals(40.0, rollup.getP50());
+        Assertions.assertEquals(95.0, rollup.getMax());
+        Assertions.assertEquals(1, rollup.getWorstInstances().size());
+        Assertions.assertEquals(baseUrl + UNHEALTHY_PATH, rollup.getWorstInstances().get(0).getInstance());
+    }
+
+    private FleetHealthModel awaitFleetHealth(int expectedSnapshotCount) throws InterruptedException {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(AWAIT_MILLIS);
+        FleetHealthModel fleetHealth = fleetHealthAggregator.getFleetHealth();
+        while (fleetHealth.getReachableCount() + fleetHealth.getUnreachableInstances().size() < expectedSnapshotCount &&
+                System.nanoTime() < deadlineNanos) {
+            Thread.sleep(10);
+            fleetHealth = fleetHealthAggregator.getFleetHealth();
+        }
+        return fleetHealth;
+    }
+
+    private void registerPayload(String path, int statusCode, String payload) {
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        httpServer.createContext(path, exchange -> {
+            exchange.sendResponseHeaders(statusCode, payloadBytes.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(payloadBytes);
+            }
+        });
+    }
+
+    private static String buildPayload(Double metricValue, String status) {
+        return "{\"memory:utilizedMemory\":{\"healthy\":true,\"componentName\":\"memory\"," +
+                "\"metricName\":\"utilizedMemory\",\"componentValue\":[{\"metricValue\":" + metricValue +
+                ",\"status\":\"" + status + "\"}]}}";
+    }
+}
@@ -0,0 +1,58 @@
+package com.dropwizard.template.health.fleet;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class HealthPayloadParserTest {
+    static final String HEALTH_PAYLOAD = "{" +
+            "\"deadlocks\":{\"healthy\":true,\"duration\":0,\"timestamp\":\"2020-01-01T00:00:00.000Z\"}," +
+            "\"memory:utilizedMemory\":{\"healthy\":false,\"componentValue\":[" +
+            "{\"componentId\":\"id\",\"metricValue\":91.5,\"metricUnit\":\"percentage\",\"status\":\"fail\"}," +
+            "{\"componentId\":\"id\",\"metricValue\":\"n/a\",\"status\":\"warn\",\"link\":{\"nested\":[1,2]}}]," +
+            "\"componentName\":\"memory\",\"metricName\":\"utilizedMemory\",\"status\":\"fail\"}" +
+            "}";
+
+    @Test
+    public void parseHealthPayloadTest() throws IOException {
+        List<FleetSample> sampleList = new HealthPayloadParser().parse(
+                new ByteArrayInputStream(HEALTH_PAYLOAD.getBytes(StandardCharsets.UTF_8)));
+
+        Assertions.assertEquals(3, sampleList.size());
+        assertSample("deadlocks", "", HealthCheckStatusEnum.PASS, null, sampleList.get(0));
+        assertSample("memory", "utilizedMemory", HealthCheckStatusEnum.FAIL, 91.5, sampleList.get(1));
+        assertSample("memory", "utilizedMemory", HealthCheckStatusEnum.WARN, null, sampleList.get(2));
+    }
+
+    @Test
+    public void parseUnknownStatusTest() throws IOException {
+        String payload = "{\"cpu\":{\"healthy\":true,\"componentValue\":[" +
+                "{\"metricValue\":12.0,\"status\":\"degraded\"},{\"metricValue\":3.0,\"status\":\"pass\"}]," +
+                "\"componentName\":\"cpu\",\"metricName\":\"cpu\"}}";
+        List<FleetSample> sampleList = new HealthPayloadParser().parse(
+                new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8)));
+
+        Assertions.assertEquals(2, sampleList.size());
+        assertSample("cpu", "cpu", HealthCheckStatusEnum.FAIL, 12.0, sampleList.get(0));
+        assertSample("cpu", "cpu", HealthCheckStatusEnum.PASS, 3.0, sampleList.get(1));
+    }
+
+    @Test
+    public void parseInvalidPayloadTest() {
+        Assertions.assertThrows(IOException.class, () -> new HealthPayloadParser().parse(
+                new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private static void assertSample(String componentName, String metricName, HealthCheckStatusEnum status,
+                                     Double metricValue, FleetSample sample) {
+        Assertions.assertEquals(componentName, sample.getComponentName());
+        Assertions.assertEquals(metricName, sample.getMetricName());
+        Assertions.assertEquals(status, sample.getStatus());
+        Assertions.assertEquals(metricValue, sample.getMetricValue());
+    }
+}
@@ -0,0 +1,151 @@
+package com.dropwizard.template.health.group;
+
+import com.dropwizard.template.health.ChanDropWizardHealthCheck;
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.enums.CheckGroup;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Map;
+
+import static com.dropwizard.template.health.MemoryHealthCheckUtil.assertErrorMessage;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CheckGroupRegistryTest {
+    private CheckGroupRegistry checkGroupRegistry;
+
+    @AfterEach
+    public void tearDown() {
+        if (checkGroupRegistry != null) {
+            checkGroupRegistry.stop();
+        }
+    }
+
+    @Test
+    public void testGroupsIncludeCheaperGroups() {
+        checkGroupRegistry = new CheckGroupRegistry();
+        checkGroupRegistry.register(newHealthCheck("live", CheckGroup.LIVENESS, mockHealthCheckInfo(HealthCheckStatusEnum.PASS)));
+        checkGroupRegistry.register(newHealthCheck("ready", CheckGroup.READINESS, mockHealthCheckInfo(HealthCheckStatusEnum.PASS)));
+        checkGroupRegistry.register(newHealthCheck("deep", null, mockHealthCheckInfo(HealthCheckStatusEnum.PASS)));
+
+        Assertions.assertEquals(1, checkGroupRegistry.getHealthCheckCount(CheckGroup.LIVENESS));
+        Assertions.assertEquals(2, checkGroupRegistry.getHealthCheckCount(CheckGroup.READINESS));
+        Assertions.assertEquals(3, checkGroupRegistry.getHealthCheckCount(CheckGroup.DEEP));
+        Assertions.assertEquals(ImmutableList.of("live"),
+                ImmutableList.copyOf(checkGroupRegistry.runGroup(CheckGroup.LIVENESS).getChecks().keySet()));
+    }
+
+    public static Object[][] groupStatuses() {
+        return new Object[][] {
+                {HealthCheckStatusEnum.PASS, HealthCheckStatusEnum.PASS, "pass"},
+                {HealthCheckStatusEnum.PASS, HealthCheckStatusEnum.WARN, "warn"},
+                {HealthCheckStatusEnum.WARN, HealthCheckStatusEnum.FAIL, "fail"}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("groupStatuses")
+    public void testGroupStatus(HealthCheckStatusEnum firstStatus,
+                                HealthCheckStatusEnum secondStatus,
+                                String expectedStatus) {
+        checkGroupRegistry = new CheckGroupRegistry();
+        checkGroupRegistry.register(newHealthCheck("first", CheckGroup.DEEP, mockHealthCheckInfo(firstStatus)));
+        checkGroupRegistry.register(newHealthCheck("second", CheckGroup.DEEP, mockHealthCheckInfo(secondStatus)));
+
+        CheckGroupResult checkGroupResult = checkGroupRegistry.runGroup(CheckGroup.DEEP);
+        Assertions.assertEquals("deep", checkGroupResult.getGroup());
+        Assertions.assertEquals(expectedStatus, checkGroupResult.getStatus());
+        Assertions.assertEquals(secondStatus.getValue(), checkGroupResult.getChecks().get("second").get("status"));
+    }
+
+    @Test
+    public void testWallTimeBudget() {
+        checkGroupRegistry = new CheckGroupRegistry(ImmutableMap.of(CheckGroup.LIVENESS,
+                CheckGroupBudget.builder().maxWallTimeMillis(100).maxConcurrency(1).build()));
+        IHealthCheckInfo slowHealthCheckInfo = mockHealthCheckInfo(HealthCheckStatusEnum.PASS);
+        when(slowHealthCheckInfo.getComponentValues()).thenAnswer(invocation -> {
+            Thread.sleep(5000);
+            return ImmutableList.of();
+        });
+        checkGroupRegistry.register(newHealthCheck("slow", CheckGroup.LIVENESS, slowHealthCheckInfo));
+
+        long startMillis = System.currentTimeMillis();
+        CheckGroupResult checkGroupResult = checkGroupRegistry.runGroup(CheckGroup.LIVENESS);
+
+        Assertions.assertTrue(System.currentTimeMillis() - startMillis < 2000);
+        Assertions.assertEquals("fail", checkGroupResult.getStatus());
+        Map<String, Object> slowCheck = checkGroupResult.getChecks().get("slow");
+        Assertions.assertEquals(false, slowCheck.get("healthy"));
+        Assertions.assertEquals("Exceeded the liveness budget of 100 ms", slowCheck.get("message"));
+    }
+
+    @Test
+    public void testCachedGroupResult() {
+        checkGroupRegistry = new CheckGroupRegistry(ImmutableMap.of(CheckGroup.READINESS,
+                CheckGroupBudget.builder().maxWallTimeMillis(1000).maxConcurrency(2).cacheTtlMillis(60000).build()));
+        IHealthCheckInfo healthCheckInfo = mockHealthCheckInfo(HealthCheckStatusEnum.PASS);
+        checkGroupRegistry.register(newHealthCheck("ready", CheckGroup.READINESS, healthCheckInfo));
+
+        CheckGroupResult firstResult = checkGroupRegistry.runGroup(CheckGroup.READINESS);
+        CheckGroupResult secondResult = checkGroupRegistry.runGroup(CheckGroup.READINESS);
+        checkGroupRegistry.runGroup(CheckGroup.DEEP);
+
+        Assertions.assertSame(firstResult, secondResult);
+        verify(healthCheckInfo, times(2)).getComponentValues();
+    }
+
+    public static Object[][] invalidBudgets() {
+        return new Object[][] {
+                {0L, 1, 0L},
+                {100L, 0, 0L},
+                {100L, 1, -1L}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidBudgets")
+    public void testInvalidBudget(long maxWallTimeMillis, int maxConcurrency, long cacheTtlMillis) {
+        assertErrorMessage("Invalid Check Group Budget", () -> CheckGroupBudget.builder()
+                .maxWallTimeMillis(maxWallTimeMillis)
+                .maxConcurrency(maxConcurrency)
+                .cacheTtlMillis(cacheTtlMillis)
+                .build());
+    }
+
+    private static ChanDropWizardHealthCheck newHealthCheck(String componentName,
+                                                            CheckGroup checkGroup,
+                                                            IHealthCheckInfo healthCheckInfo) {
+        ComponentInfo.ComponentInfoBuilder componentInfoBuilder = ComponentInfo.builder()
+                .componentId(componentName + "Id")
+                .componentName(componentName)
+                .componentType("test");
+        if (checkGroup != null) {
+            componentInfoBuilder.checkGroup(checkGroup);
+        }
+        return new ChanDropWizardHealthCheck(componentInfoBuilder.build(), healthCheckInfo);
+    }
+
+    private static IHealthCheckInfo mockHealthCheckInfo(HealthCheckStatusEnum status) {
+        IHealthCheckInfo healthCheckInfo = mock(IHealthCheckInfo.class);
+        when(healthCheckInfo.getVersion()).thenReturn("1.0");
+        when(healthCheckInfo.getMetricName()).thenReturn("");
+        when(healthCheckInfo.getComponentValues()).thenReturn(ImmutableList.of(
+                ComponentHealthCheckModel.Value.builder()
+                        .componentId("testComponentId")
+                        .status(status)
+                        .metricValue(1.0)
+                        .build()));
+        return healthCheckInfo;
+    }
+}
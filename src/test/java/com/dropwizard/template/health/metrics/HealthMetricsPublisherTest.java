@@ -0,0 +1,144 @@
+package com.dropwizard.template.health.metrics;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.scheduler.AdaptiveSamplingInterval;
+import com.dropwizard.template.health.scheduler.SampledHealthCheck;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class HealthMetricsPublisherTest {
+    static final String BASE_NAME = "health.system.memory:utilizedMemory";
+
+    private MetricRegistry metricRegistry;
+    private HealthMetricsPublisher healthMetricsPublisher;
+    private IHealthCheckInfo healthCheckInfo;
+    private SampledHealthCheck sampledHealthCheck;
+
+    @BeforeEach
+    public void setUp() {
+        metricRegistry = new MetricRegistry();
+        healthMetricsPublisher = new HealthMetricsPublisher(metricRegistry);
+        healthCheckInfo = mock(IHealthCheckInfo.class);
+        when(healthCheckInfo.getMetricName()).thenReturn("utilizedMemory");
+        // A mock answers null rather than running the default method
+        when(healthCheckInfo.getValueName(anyInt(), any(ComponentHealthCheckModel.Value.class)))
+                .thenAnswer(invocation -> String.valueOf(invocation.getArguments()[0]));
+        sampledHealthCheck = new SampledHealthCheck(ComponentInfo.builder()
+                .componentId("testComponentId")
+                .componentName("memory")
+                .componentType("system")
+                .build(), healthCheckInfo, null, AdaptiveSamplingInterval.builder().build());
+    }
+
+    public static Object[][] statusGaugeTest() {
+        return new Object[][] {
+                {HealthCheckStatusEnum.PASS, 0},
+                {HealthCheckStatusEnum.WARN, 1},
+                {HealthCheckStatusEnum.FAIL, 2}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("statusGaugeTest")
+    public void testStatusGauge(HealthCheckStatusEnum status, int expectedCode) {
+        healthMetricsPublisher.onSample(sampledHealthCheck, ImmutableList.of(buildValue(42.0, "percentage", status)));
+
+        Assertions.assertEquals(expectedCode, getGauge(BASE_NAME + ".status").getValue());
+    }
+
+    @Test
+    public void testValueGauges() {
+        healthMetricsPublisher.onSample(sampledHealthCheck, ImmutableList.of(
+                buildValue(42.0, "percentage", HealthCheckStatusEnum.PASS),
+                buildValue(1024L, "bytes", HealthCheckStatusEnum.PASS),
+                buildValue("text", null, HealthCheckStatusEnum.PASS)));
+
+        Assertions.assertEquals(42.0, getGauge(BASE_NAME + ".0").getValue());
+        Assertions.assertEquals(1024.0, getGauge(BASE_NAME + ".1").getValue());
+        Assertions.assertEquals(Double.NaN, getGauge(BASE_NAME + ".2").getValue());
+        Assertions.assertEquals(4, metricRegistry.getGauges().size());
+    }
+
+    @Test
+    public void testGaugesFollowLatestSampleWithoutEvaluating() {
+        healthMetricsPublisher.onSample(sampledHealthCheck, ImmutableList.of(
+                buildValue(42.0, "percentage", HealthCheckStatusEnum.PASS),
+                buildValue(10.0, "bytes", HealthCheckStatusEnum.PASS)));
+        healthMetricsPublisher.onSample(sampledHealthCheck, ImmutableList.of(
+                buildValue(95.0, "percentage", HealthCheckStatusEnum.FAIL)));
+
+        Gauge<?> valueGauge = getGauge(BASE_NAME + ".0");
+        Object firstRead = valueGauge.getValue();
+
+        // Polling hands back the boxed sample value itself, nothing is evaluated or boxed per read
+        Assertions.assertEquals(95.0, firstRead);
+        Assertions.assertSame(firstRead, valueGauge.getValue());
+        Assertions.assertSame(getGauge(BASE_NAME + ".status").getValue(), getGauge(BASE_NAME + ".status").getValue());
+        Assertions.assertEquals(Double.NaN, getGauge(BASE_NAME + ".1").getValue());
+        Assertions.assertEquals(2, getGauge(BASE_NAME + ".status").getValue());
+        verify(healthCheckInfo, times(0)).getComponentValues();
+    }
+
+    @Test
+    public void testGaugesFollowValueNames() {
+        when(healthCheckInfo.getValueName(anyInt(), any(ComponentHealthCheckModel.Value.class)))
+                .thenAnswer(invocation -> ((ComponentHealthCheckModel.Value) invocation.getArguments()[1]).getOutput());
+        healthMetricsPublisher.onSample(sampledHealthCheck, ImmutableList.of(
+                buildValue(10.0, "bytes", HealthCheckStatusEnum.PASS, "metaspace"),
+                buildValue(20.0, "percentage", HealthCheckStatusEnum.PASS, null)));
+        healthMetricsPublisher.onSample(sampledHealthCheck, ImmutableList.of(
+                buildValue(30.0, "percentage", HealthCheckStatusEnum.PASS, "rate"),
+                buildValue(40.0, "percentage", HealthCheckStatusEnum.PASS, "metaspace")));
+
+        // The name stays put when the position or unit moves, a value without a name is not published
+        Assertions.assertEquals(40.0, getGauge(BASE_NAME + ".metaspace").getValue());
+        Assertions.assertEquals(30.0, getGauge(BASE_NAME + ".rate").getValue());
+        Assertions.assertEquals(3, metricRegistry.getGauges().size());
+    }
+
+    private Gauge<?> getGauge(String name) {
+        Gauge<?> gauge = metricRegistry.getGauges().get(name);
+        Assertions.assertNotNull(gauge, name);
+        return gauge;
+    }
+
+    private static ComponentHealthCheckModel.Value buildValue(Object metricValue,
+                                                              String metricUnit,
+                                                              HealthCheckStatusEnum status) {
+        return buildValue(metricValue, metricUnit, status, null);
+    }
+
+    private static ComponentHealthCheckModel.Value buildValue(Object metricValue,
+                                                              String metricUnit,
+                                                              HealthCheckStatusEnum status,
+                                                              String output) {
+        return ComponentHealthCheckModel.Value.builder()
+                .componentId("testComponentId")
+                .componentType("system")
+                .metricValue(metricValue)
+                .metricUnit(metricUnit)
+                .status(status)
+                .time(new Date())
+                .output(output)
+                .build();
+    }
+}
@@ -125,4 +125,35 @@ public class HealthCheckToleranceTest {
         String actualMessage = exception.getMessage();
         Assertions.assertTrue(StringUtils.containsIgnoreCase(actualMessage, INVALID_TOLERANCE_VALUE_ERROR_MESSAGE));
     }
+
+    public static Object[][] warnDistanceValues() {
+        return new Object[][] {
+                {10.0, 30.0, 50.0, ToleranceType.LESS_THAN, 5.0, 1.0},
+                {10.0, 30.0, 50.0, ToleranceType.LESS_THAN, 10.0, 1.0},
+                {10.0, 30.0, 50.0, ToleranceType.LESS_THAN, 20.0, 0.5},
+                {10.0, 30.0, 50.0, ToleranceType.LESS_THAN, 30.0, 0.0},
+                {10.0, 30.0, 50.0, ToleranceType.LESS_THAN, 60.0, 0.0},
+                {30.0, 30.0, 50.0, ToleranceType.LESS_THAN, 20.0, 1.0},
+                {30.0, 30.0, 50.0, ToleranceType.LESS_THAN, 40.0, 0.0},
+
+                {50.0, 30.0, 10.0, ToleranceType.GREATER_THAN, 60.0, 1.0},
+                {50.0, 30.0, 10.0, ToleranceType.GREATER_THAN, 40.0, 0.5},
+                {50.0, 30.0, 10.0, ToleranceType.GREATER_THAN, 30.0, 0.0},
+                {50.0, 30.0, 10.0, ToleranceType.GREATER_THAN, 5.0, 0.0},
+        };
+    }
+
+    @ParameterizedTest(name = "{index} => pass={0}, warn={1}, fail={2}, toleranceType={3}, value={4}, expectedDistance={5}")
+    @MethodSource("warnDistanceValues")
+    public void healthCheckToleranceWarnDistanceTest(Double pass, Double warn, Double fail,
+                                                     ToleranceType toleranceType, Double value, Double expectedDistance) {
+        HealthCheckTolerance healthCheckTolerance = HealthCheckTolerance.builder()
+                .passValue(pass)
+                .warnValue(warn)
+                .failValue(fail)
+                .toleranceType(toleranceType)
+                .build();
+
+        Assertions.assertEquals(expectedDistance, healthCheckTolerance.getWarnDistance(value));
+    }
 }
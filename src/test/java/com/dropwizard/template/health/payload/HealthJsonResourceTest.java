@@ -0,0 +1,136 @@
+package com.dropwizard.template.health.payload;
+
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.scheduler.AdaptiveHealthCheckScheduler;
+import com.dropwizard.template.health.scheduler.AdaptiveSamplingInterval;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Date;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class HealthJsonResourceTest {
+    private AdaptiveHealthCheckScheduler healthCheckScheduler;
+
+    @BeforeEach
+    public void setUp() {
+        healthCheckScheduler = new AdaptiveHealthCheckScheduler();
+    }
+
+    public static Object[][] overallStatusTest() {
+        return new Object[][] {
+                {HealthCheckStatusEnum.PASS, HealthCheckStatusEnum.PASS, "pass", Response.Status.OK},
+                {HealthCheckStatusEnum.PASS, HealthCheckStatusEnum.WARN, "warn", Response.Status.OK},
+                {HealthCheckStatusEnum.FAIL, HealthCheckStatusEnum.WARN, "fail", Response.Status.SERVICE_UNAVAILABLE}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("overallStatusTest")
+    public void testOverallStatus(HealthCheckStatusEnum memoryStatus,
+                                  HealthCheckStatusEnum pauseStatus,
+                                  String expectedStatus,
+                                  Response.Status expectedResponseStatus) throws IOException {
+        register("memory", "utilizedMemory", value(memoryStatus, 10.0));
+        register("jvm", "pause", value(pauseStatus, 20.0));
+
+        Response response = new HealthJsonResource(healthCheckScheduler).getHealth();
+        JsonNode root = readBody(response);
+
+        Assertions.assertEquals(expectedResponseStatus.getStatusCode(), response.getStatus());
+        Assertions.assertEquals(HealthJsonResource.HEALTH_JSON, response.getMediaType().toString());
+        Assertions.assertEquals(expectedStatus, root.get("status").asText());
+        Assertions.assertEquals(ImmutableList.of("memory:utilizedMemory", "jvm:pause"),
+                ImmutableList.copyOf(root.get("checks").fieldNames()));
+    }
+
+    @Test
+    public void testValueLayout() throws IOException {
+        register("memory", "utilizedMemory",
+                ComponentHealthCheckModel.Value.builder()
+                        .componentId("memoryId")
+                        .componentType("system")
+                        .metricValue(42.5)
+                        .metricUnit("percentage")
+                        .status(HealthCheckStatusEnum.WARN)
+                        .time(new Date(0))
+                        .output("Heap \"almost\" full")
+                        .link(URI.create("/health/memory/histogram"))
+                        .build(),
+                ComponentHealthCheckModel.Value.builder()
+                        .componentId("memoryId")
+                        .metricValue(7L)
+                        .status(HealthCheckStatusEnum.PASS)
+                        .build());
+
+        JsonNode checkValues = readBody(new HealthJsonResource(healthCheckScheduler).getHealth())
+                .get("checks").get("memory:utilizedMemory");
+
+        Assertions.assertEquals(2, checkValues.size());
+        JsonNode firstValue = checkValues.get(0);
+        Assertions.assertEquals("memoryId", firstValue.get("componentId").asText());
+        Assertions.assertEquals("system", firstValue.get("componentType").asText());
+        Assertions.assertEquals(42.5, firstValue.get("observedValue").asDouble(), 0.001);
+        Assertions.assertEquals("percentage", firstValue.get("observedUnit").asText());
+        Assertions.assertEquals("warn", firstValue.get("status").asText());
+        Assertions.assertEquals("1970-01-01T00:00:00.000+0000", firstValue.get("time").asText());
+        Assertions.assertEquals("Heap \"almost\" full", firstValue.get("output").asText());
+        Assertions.assertEquals("/health/memory/histogram", firstValue.get("links").get("about").asText());
+
+        JsonNode secondValue = checkValues.get(1);
+        Assertions.assertEquals(7, secondValue.get("observedValue").asLong());
+        Assertions.assertFalse(secondValue.has("observedUnit"));
+        Assertions.assertFalse(secondValue.has("links"));
+    }
+
+    @Test
+    public void testNoChecks() throws IOException {
+        JsonNode root = readBody(new HealthJsonResource(healthCheckScheduler).getHealth());
+
+        Assertions.assertEquals("pass", root.get("status").asText());
+        Assertions.assertEquals(0, root.get("checks").size());
+    }
+
+    private void register(String componentName, String metricName, ComponentHealthCheckModel.Value... values) {
+        IHealthCheckInfo healthCheckInfo = mock(IHealthCheckInfo.class);
+        when(healthCheckInfo.getVersion()).thenReturn("1.0");
+        when(healthCheckInfo.getMetricName()).thenReturn(metricName);
+        when(healthCheckInfo.getComponentValues()).thenReturn(ImmutableList.copyOf(values));
+
+        ComponentInfo componentInfo = ComponentInfo.builder()
+                .componentId(componentName + "Id")
+                .componentName(componentName)
+                .componentType("system")
+                .build();
+        healthCheckScheduler.register(componentInfo, healthCheckInfo, null, AdaptiveSamplingInterval.builder().build());
+    }
+
+    private static ComponentHealthCheckModel.Value value(HealthCheckStatusEnum status, double metricValue) {
+        return ComponentHealthCheckModel.Value.builder()
+                .metricValue(metricValue)
+                .status(status)
+                .build();
+    }
+
+    private static JsonNode readBody(Response response) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(outputStream);
+        return new ObjectMapper().readTree(outputStream.toByteArray());
+    }
+}
@@ -0,0 +1,134 @@
+package com.dropwizard.template.health.payload;
+
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.scheduler.AdaptiveHealthCheckScheduler;
+import com.dropwizard.template.health.scheduler.AdaptiveSamplingInterval;
+import com.dropwizard.template.health.scheduler.SampledHealthCheck;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import static com.dropwizard.template.health.MemoryHealthCheckUtil.assertErrorMessage;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class HealthSnapshotPayloadTest {
+    private final AtomicReference<HealthCheckStatusEnum> memoryStatus =
+            new AtomicReference<>(HealthCheckStatusEnum.PASS);
+    private AdaptiveHealthCheckScheduler healthCheckScheduler;
+    private DeflaterPool deflaterPool;
+    private SampledHealthCheck sampledMemoryHealthCheck;
+
+    @BeforeEach
+    public void setUp() {
+        healthCheckScheduler = new AdaptiveHealthCheckScheduler();
+        deflaterPool = new DeflaterPool(2, Deflater.DEFAULT_COMPRESSION);
+        sampledMemoryHealthCheck = register("memory", "utilizedMemory", memoryStatus);
+        register("jvm", "pause", new AtomicReference<>(HealthCheckStatusEnum.WARN));
+    }
+
+    @Test
+    public void testSnapshotInAdminLayout() throws IOException {
+        HealthSnapshotPayload payload = new HealthSnapshotPayload(healthCheckScheduler, deflaterPool, 0);
+        HealthSnapshot snapshot = payload.getSnapshot();
+
+        JsonNode root = new ObjectMapper().readTree(snapshot.getJsonBytes());
+        Assertions.assertTrue(snapshot.isHealthy());
+        Assertions.assertEquals(ImmutableList.of("jvm:pause", "memory:utilizedMemory"),
+                ImmutableList.copyOf(root.fieldNames()));
+        Assertions.assertTrue(root.get("jvm:pause").get("healthy").asBoolean());
+        Assertions.assertEquals("warn", root.get("jvm:pause").get("status").asText());
+        Assertions.assertEquals("memory", root.get("memory:utilizedMemory").get("componentName").asText());
+    }
+
+    @Test
+    public void testSnapshotReusedUntilNextSample() throws IOException {
+        HealthSnapshotPayload payload = new HealthSnapshotPayload(healthCheckScheduler, deflaterPool, 0);
+        HealthSnapshot firstSnapshot = payload.getSnapshot();
+        byte[] firstGzipBytes = payload.getGzipBytes(firstSnapshot);
+
+        Assertions.assertSame(firstSnapshot, payload.getSnapshot());
+        Assertions.assertSame(firstGzipBytes, payload.getGzipBytes(payload.getSnapshot()));
+        Assertions.assertArrayEquals(firstSnapshot.getJsonBytes(), gunzip(firstGzipBytes));
+        Assertions.assertEquals(1, deflaterPool.getIdleCount());
+
+        memoryStatus.set(HealthCheckStatusEnum.FAIL);
+        payload.onSample(sampledMemoryHealthCheck, sampledMemoryHealthCheck.getComponentValues());
+        HealthSnapshot nextSnapshot = payload.getSnapshot();
+
+        Assertions.assertNotSame(firstSnapshot, nextSnapshot);
+        Assertions.assertFalse(nextSnapshot.isCompressed());
+    }
+
+    @Test
+    public void testSkipsSmallPayloads() throws IOException {
+        HealthSnapshotPayload payload = new HealthSnapshotPayload(healthCheckScheduler, deflaterPool, 1 << 20);
+        Assertions.assertNull(payload.getGzipBytes(payload.getSnapshot()));
+    }
+
+    public static Object[][] acceptEncodingTest() {
+        return new Object[][] {
+                {null, false},
+                {"identity", false},
+                {"gzip", true},
+                {"deflate, GZIP;q=0.5", true},
+                {"gzip;q=0", false},
+                {"*", true}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("acceptEncodingTest")
+    public void testAcceptsGzip(String acceptEncoding, boolean expectedGzip) {
+        Assertions.assertEquals(expectedGzip, HealthSnapshotResource.acceptsGzip(acceptEncoding));
+    }
+
+    @Test
+    public void testInvalidDeflaterPool() {
+        assertErrorMessage("Invalid Deflater Pool Configuration", () -> new DeflaterPool(0, 1));
+        assertErrorMessage("Invalid Deflater Pool Configuration", () -> new DeflaterPool(1, 10));
+    }
+
+    private SampledHealthCheck register(String componentName,
+                                        String metricName,
+                                        AtomicReference<HealthCheckStatusEnum> status) {
+        IHealthCheckInfo healthCheckInfo = mock(IHealthCheckInfo.class);
+        when(healthCheckInfo.getVersion()).thenReturn("1.0");
+        when(healthCheckInfo.getMetricName()).thenReturn(metricName);
+        when(healthCheckInfo.getComponentValues()).thenAnswer(invocation -> ImmutableList.of(
+                ComponentHealthCheckModel.Value.builder()
+                        .componentId(componentName + "Id")
+                        .metricValue(10.0)
+                        .status(status.get())
+                        .build()));
+
+        ComponentInfo componentInfo = ComponentInfo.builder()
+                .componentId(componentName + "Id")
+                .componentName(componentName)
+                .componentType("system")
+                .build();
+        return healthCheckScheduler.register(componentInfo, healthCheckInfo, null,
+                AdaptiveSamplingInterval.builder().build());
+    }
+
+    private static byte[] gunzip(byte[] gzipBytes) throws IOException {
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(gzipBytes))) {
+            return ByteStreams.toByteArray(inputStream);
+        }
+    }
+}
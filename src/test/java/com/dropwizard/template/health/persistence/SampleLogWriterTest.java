@@ -0,0 +1,151 @@
+package com.dropwizard.template.health.persistence;
+
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.scheduler.AdaptiveSamplingInterval;
+import com.dropwizard.template.health.scheduler.SampledHealthCheck;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SampleLogWriterTest {
+    static final String TEST_COMPONENT_ID = "testComponentId";
+    static final String TEST_COMPONENT_NAME = "memory";
+    static final String TEST_METRIC_NAME = "utilizedMemory";
+    static final String TEST_METRIC_UNIT = "percentage";
+    static final long BASE_TIMESTAMP = 1600000000000L;
+
+    @TempDir
+    Path tempDirectory;
+
+    @Test
+    public void writeAndReadSamplesTest() throws Exception {
+        SampleLogWriter sampleLogWriter = new SampleLogWriter(
+                new SampleLogConfiguration(tempDirectory.toString(), null, null, null));
+        SampledHealthCheck sampledHealthCheck = buildSampledHealthCheck();
+        double[] values = {12.5, 12.5, 13.25, 80.0, Double.NaN, 100.0};
+        HealthCheckStatusEnum[] statuses = {HealthCheckStatusEnum.PASS, HealthCheckStatusEnum.PASS,
+                HealthCheckStatusEnum.PASS, HealthCheckStatusEnum.WARN, HealthCheckStatusEnum.FAIL,
+                HealthCheckStatusEnum.FAIL};
+        long[] timestamps = {BASE_TIMESTAMP, BASE_TIMESTAMP + 1000, BASE_TIMESTAMP + 2000,
+                BASE_TIMESTAMP + 2500, BASE_TIMESTAMP + 7000, BASE_TIMESTAMP + 6000};
+
+        sampleLogWriter.start();
+        for (int i = 0; i < values.length; i++) {
+            sampleLogWriter.onSample(sampledHealthCheck, ImmutableList.of(
+                    buildComponentValue(values[i], statuses[i], timestamps[i])));
+        }
+        sampleLogWriter.stop();
+
+        List<String> sampleList = readSamples();
+        Assertions.assertEquals(values.length, sampleList.size());
+        for (int i = 0; i < values.length; i++) {
+            Assertions.assertEquals(formatSample(timestamps[i], statuses[i], values[i]), sampleList.get(i));
+        }
+        Assertions.assertEquals(0, sampleLogWriter.getDroppedSampleCount());
+    }
+
+    @Test
+    public void rollAndExpireSegmentsTest() throws Exception {
+        int segmentSize = SampleLogFormat.MIN_SEGMENT_SIZE_BYTES;
+        SampleLogWriter sampleLogWriter = new SampleLogWriter(
+                new SampleLogConfiguration(tempDirectory.toString(), segmentSize, 2, 100000));
+        SampledHealthCheck sampledHealthCheck = buildSampledHealthCheck();
+
+        sampleLogWriter.start();
+        int sampleCount = segmentSize;
+        for (int i = 0; i < sampleCount; i++) {
+            sampleLogWriter.onSample(sampledHealthCheck, ImmutableList.of(
+                    buildComponentValue(Math.random() * 100, HealthCheckStatusEnum.PASS, BASE_TIMESTAMP + i * 1000L)));
+        }
+        sampleLogWriter.stop();
+
+        Assertions.assertEquals(2, SampleLogReader.listSegments(tempDirectory).size());
+        List<String> sampleList = readSamples();
+        Assertions.assertTrue(sampleList.size() > 0 && sampleList.size() < sampleCount);
+        Assertions.assertTrue(sampleList.get(sampleList.size() - 1)
+                .startsWith(String.valueOf(BASE_TIMESTAMP + (sampleCount - 1) * 1000L)));
+    }
+
+    @Test
+    public void multipleValuesKeepSeparateSeriesTest() throws Exception {
+        SampleLogWriter sampleLogWriter = new SampleLogWriter(
+                new SampleLogConfiguration(tempDirectory.toString(), null, null, null));
+        SampledHealthCheck sampledHealthCheck = buildSampledHealthCheck();
+
+        sampleLogWriter.start();
+        for (int i = 0; i < 3; i++) {
+            sampleLogWriter.onSample(sampledHealthCheck, ImmutableList.of(
+                    buildComponentValue(10.0 + i, HealthCheckStatusEnum.PASS, BASE_TIMESTAMP + i * 1000L),
+                    buildComponentValue(null, BASE_TIMESTAMP + i * 1000L),
+                    buildComponentValue(90.0 + i, HealthCheckStatusEnum.FAIL, BASE_TIMESTAMP + i * 1000L)));
+        }
+        sampleLogWriter.stop();
+
+        List<String> sampleList = new ArrayList<>();
+        SampleLogReader.read(tempDirectory, (series, timestampMillis, status, value) ->
+                sampleList.add(series.getValueIndex() + ":" + formatSample(timestampMillis, status, value)));
+        Assertions.assertEquals(ImmutableList.of(
+                "0:" + formatSample(BASE_TIMESTAMP, HealthCheckStatusEnum.PASS, 10.0),
+                "2:" + formatSample(BASE_TIMESTAMP, HealthCheckStatusEnum.FAIL, 90.0),
+                "0:" + formatSample(BASE_TIMESTAMP + 1000, HealthCheckStatusEnum.PASS, 11.0),
+                "2:" + formatSample(BASE_TIMESTAMP + 1000, HealthCheckStatusEnum.FAIL, 91.0),
+                "0:" + formatSample(BASE_TIMESTAMP + 2000, HealthCheckStatusEnum.PASS, 12.0),
+                "2:" + formatSample(BASE_TIMESTAMP + 2000, HealthCheckStatusEnum.FAIL, 92.0)), sampleList);
+        Assertions.assertEquals(3, sampleLogWriter.getDroppedSampleCount());
+    }
+
+    private List<String> readSamples() throws Exception {
+        List<String> sampleList = new ArrayList<>();
+        SampleLogReader.read(tempDirectory, (series, timestampMillis, status, value) -> {
+            Assertions.assertEquals(TEST_COMPONENT_ID, series.getComponentId());
+            Assertions.assertEquals(TEST_COMPONENT_NAME, series.getComponentName());
+            Assertions.assertEquals(TEST_METRIC_NAME, series.getMetricName());
+            Assertions.assertEquals(TEST_METRIC_UNIT, series.getMetricUnit());
+            sampleList.add(formatSample(timestampMillis, status, value));
+        });
+        return sampleList;
+    }
+
+    private static String formatSample(long timestampMillis, HealthCheckStatusEnum status, double value) {
+        return timestampMillis + "," + status + "," + value;
+    }
+
+    private static SampledHealthCheck buildSampledHealthCheck() {
+        IHealthCheckInfo healthCheckInfo = mock(IHealthCheckInfo.class);
+        when(healthCheckInfo.getMetricName()).thenReturn(TEST_METRIC_NAME);
+        ComponentInfo componentInfo = ComponentInfo.builder()
+                .componentId(TEST_COMPONENT_ID)
+                .componentName(TEST_COMPONENT_NAME)
+                .componentType("system")
+                .build();
+        return new SampledHealthCheck(componentInfo, healthCheckInfo, null, AdaptiveSamplingInterval.builder().build());
+    }
+
+    private static ComponentHealthCheckModel.Value buildComponentValue(HealthCheckStatusEnum status,
+                                                                       long timestampMillis) {
+        return buildComponentValue(Double.NaN, status, timestampMillis);
+    }
+
+    private static ComponentHealthCheckModel.Value buildComponentValue(double value, HealthCheckStatusEnum status,
+                                                                       long timestampMillis) {
+        return ComponentHealthCheckModel.Value.builder()
+                .componentId(TEST_COMPONENT_ID)
+                .metricValue(Double.isNaN(value) ? null : value)
+                .metricUnit(TEST_METRIC_UNIT)
+                .status(status)
+                .time(new Date(timestampMillis))
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.dropwizard.template.health.replay;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+public class ToleranceReplayEngineTest {
+    static final int SERIES_COUNT = 3;
+    static final int SAMPLE_COUNT = 2000;
+    static final List<ReplayCandidate> CANDIDATE_LIST = ImmutableList.of(
+            ReplayCandidate.parse("tight=40:60:80"),
+            ReplayCandidate.parse("loose=70:90:100"),
+            ReplayCandidate.parse("greater=60:40:20:GREATER_THAN")
+    );
+
+    @TempDir
+    Path tempDirectory;
+
+    public static Object[][] batchAndChunkSizes() {
+        return new Object[][] {
+                {1, 1},
+                {7, 3},
+                {100, 16},
+                {SAMPLE_COUNT * SERIES_COUNT, 64},
+                {SAMPLE_COUNT * SERIES_COUNT * 2, SAMPLE_COUNT * 2},
+        };
+    }
+
+    @ParameterizedTest(name = "{index} => batchSize={0}, chunkSize={1}")
+    @MethodSource("batchAndChunkSizes")
+    public void replayMatchesSequentialEvaluationTest(Integer batchSize, Integer chunkSize) {
+        long[][] timestamps = new long[SERIES_COUNT][SAMPLE_COUNT];
+        double[][] values = new double[SERIES_COUNT][SAMPLE_COUNT];
+        Random random = new Random(42);
+        for (int series = 0; series < SERIES_COUNT; series++) {
+            long timestamp = 1000L * series;
+            double value = 50.0;
+            for (int i = 0; i < SAMPLE_COUNT; i++) {
+                timestamp += 1 + random.nextInt(1000);
+                value = Math.max(0, Math.min(100, value + random.nextGaussian() * 10));
+                timestamps[series][i] = timestamp;
+                values[series][i] = value;
+            }
+        }
+
+        ToleranceReplayEngine replayEngine = new ToleranceReplayEngine(CANDIDATE_LIST, batchSize, chunkSize);
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            for (int series = 0; series < SERIES_COUNT; series++) {
+                replayEngine.accept(replayEngine.getSeriesIndex("series" + series), timestamps[series][i],
+                        values[series][i]);
+            }
+        }
+        List<ReplayResult> resultList = replayEngine.finish();
+
+        for (int candidate = 0; candidate < CANDIDATE_LIST.size(); candidate++) {
+            assertSequentialResult(CANDIDATE_LIST.get(candidate).getHealthCheckTolerance(),
+                    timestamps, values, resultList.get(candidate));
+        }
+    }
+
+    @Test
+    public void replayCsvTest() throws Exception {
+        Path csvPath = tempDirectory.resolve("samples.csv");
+        Files.write(csvPath, ImmutableList.of(
+                "timestamp,componentId,componentName,metricName,metricUnit,status,value",
+                "1000,id,memory,utilizedMemory,percentage,pass,10.0",
+                "2000,id,memory,utilizedMemory,percentage,warn,50.0",
+                "3000,id,memory,freeMemory,percentage,pass,99.0",
+                "5000,id,memory,utilizedMemory,percentage,fail,",
+                "6000,id,memory,utilizedMemory,percentage,fail,95.0",
+                "6500,id,memory,utilizedMemory,percentage,pass,20.0"
+        ), StandardCharsets.UTF_8);
+
+        ToleranceReplayEngine replayEngine = new ToleranceReplayEngine(ImmutableList.of(CANDIDATE_LIST.get(0)));
+        new ReplaySampleLoader("memory", "utilizedMemory").load(csvPath, replayEngine);
+        ReplayResult result = replayEngine.finish().get(0);
+
+        Assertions.assertEquals("tight", result.getName());
+        Assertions.assertEquals(4, result.getSampleCount());
+        Assertions.assertEquals(3, result.getTransitionCount());
+        Assertions.assertEquals(1L, result.getTransitionsInto().get(HealthCheckStatusEnum.WARN));
+        Assertions.assertEquals(1L, result.getTransitionsInto().get(HealthCheckStatusEnum.FAIL));
+        Assertions.assertEquals(1000L, result.getMillisIn().get(HealthCheckStatusEnum.PASS));
+        Assertions.assertEquals(4000L, result.getMillisIn().get(HealthCheckStatusEnum.WARN));
+        Assertions.assertEquals(500L, result.getMillisIn().get(HealthCheckStatusEnum.FAIL));
+    }
+
+    @Test
+    public void invalidCandidateTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ReplayCandidate.parse("missing=1:2"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ReplayCandidate.parse("invalid=3:2:1"));
+    }
+
+    private static void assertSequentialResult(HealthCheckTolerance healthCheckTolerance, long[][] timestamps,
+                                               double[][] values, ReplayResult result) {
+        long[] transitionsInto = new long[3];
+        long[] samplesIn = new long[3];
+        long[] millisIn = new long[3];
+        for (int series = 0; series < SERIES_COUNT; series++) {
+            HealthCheckStatusEnum previousStatus = null;
+            for (int i = 0; i < SAMPLE_COUNT; i++) {
+                HealthCheckStatusEnum status = healthCheckTolerance.getHealthCheckStatus(values[series][i]);
+                samplesIn[status.ordinal()]++;
+                if (previousStatus != null) {
+                    millisIn[previousStatus.ordinal()] += timestamps[series][i] - timestamps[series][i - 1];
+                    if (previousStatus != status) {
+                        transitionsInto[status.ordinal()]++;
+                    }
+                }
+                previousStatus = status;
+            }
+        }
+
+        for (HealthCheckStatusEnum status : HealthCheckStatusEnum.values()) {
+            Assertions.assertEquals(transitionsInto[status.ordinal()], result.getTransitionsInto().get(status));
+            Assertions.assertEquals(samplesIn[status.ordinal()], result.getSamplesIn().get(status));
+            Assertions.assertEquals(millisIn[status.ordinal()], result.getMillisIn().get(status));
+        }
+        Assertions.assertEquals((long) SAMPLE_COUNT * SERIES_COUNT, result.getSampleCount());
+    }
+}
@@ -0,0 +1,155 @@
+package com.dropwizard.template.health.scheduler;
+
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.enums.ToleranceType;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AdaptiveHealthCheckSchedulerTest {
+    static final String TEST_COMPONENT_ID = "testComponentId";
+    static final String TEST_COMPONENT_NAME = "testComponentName";
+    static final String TEST_COMPONENT_TYPE = "testComponentType";
+    static final String TEST_ERROR_MESSAGE = "testErrorMessage";
+    static final long MIN_INTERVAL = 1000L;
+    static final long MAX_INTERVAL = 9000L;
+
+    @Test
+    public void passSampleBacksOffTest() {
+        ScheduledExecutorService executorService = mock(ScheduledExecutorService.class);
+        AdaptiveHealthCheckScheduler scheduler = new AdaptiveHealthCheckScheduler(executorService);
+        SampledHealthCheck sampledHealthCheck = registerTestHealthCheck(scheduler, buildHealthCheckInfo(0.0));
+
+        scheduler.start();
+        verify(executorService).schedule(any(Runnable.class), eq(0L), eq(TimeUnit.MILLISECONDS));
+
+        scheduler.runSample(sampledHealthCheck);
+        scheduler.runSample(sampledHealthCheck);
+        verify(executorService).schedule(any(Runnable.class), eq(2000L), eq(TimeUnit.MILLISECONDS));
+        verify(executorService).schedule(any(Runnable.class), eq(4000L), eq(TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(HealthCheckStatusEnum.PASS, sampledHealthCheck.getLatestStatus());
+    }
+
+    @Test
+    public void warnSampleUsesMinimumIntervalTest() {
+        ScheduledExecutorService executorService = mock(ScheduledExecutorService.class);
+        AdaptiveHealthCheckScheduler scheduler = new AdaptiveHealthCheckScheduler(executorService);
+        SampledHealthCheck sampledHealthCheck = registerTestHealthCheck(scheduler, buildHealthCheckInfo(60.0));
+
+        scheduler.start();
+        scheduler.runSample(sampledHealthCheck);
+
+        verify(executorService).schedule(any(Runnable.class), eq(MIN_INTERVAL), eq(TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(HealthCheckStatusEnum.WARN, sampledHealthCheck.getLatestStatus());
+        Assertions.assertEquals(60.0, sampledHealthCheck.getComponentValues().get(0).getMetricValue());
+    }
+
+    @Test
+    public void failingHealthCheckReportsFailTest() {
+        IHealthCheckInfo healthCheckInfo = mock(IHealthCheckInfo.class);
+        when(healthCheckInfo.getComponentValues()).thenThrow(new IllegalStateException(TEST_ERROR_MESSAGE));
+        AdaptiveHealthCheckScheduler scheduler = new AdaptiveHealthCheckScheduler(mock(ScheduledExecutorService.class));
+        SampledHealthCheck sampledHealthCheck = registerTestHealthCheck(scheduler, healthCheckInfo);
+
+        List<ComponentHealthCheckModel.Value> componentValues = sampledHealthCheck.getComponentValues();
+        Assertions.assertEquals(1, componentValues.size());
+        Assertions.assertEquals(HealthCheckStatusEnum.FAIL, componentValues.get(0).getStatus());
+        Assertions.assertEquals(TEST_ERROR_MESSAGE, componentValues.get(0).getOutput());
+    }
+
+    @Test
+    public void staleSampleReportsFailTest() {
+        long[] nowNanos = {0L};
+        SampledHealthCheck sampledHealthCheck = new SampledHealthCheck(buildComponentInfo(), buildHealthCheckInfo(0.0),
+                buildHealthCheckTolerance(), AdaptiveSamplingInterval.builder()
+                        .minIntervalMillis(MIN_INTERVAL)
+                        .maxIntervalMillis(MAX_INTERVAL)
+                        .build(), () -> nowNanos[0]);
+        sampledHealthCheck.sample();
+
+        nowNanos[0] = TimeUnit.MILLISECONDS.toNanos(SampledHealthCheck.STALE_SAMPLE_INTERVALS * 2000L);
+        Assertions.assertEquals(HealthCheckStatusEnum.PASS, sampledHealthCheck.getComponentValues().get(0).getStatus());
+
+        // The scheduler thread never came back for the next sample
+        nowNanos[0] += TimeUnit.MILLISECONDS.toNanos(1);
+        List<ComponentHealthCheckModel.Value> componentValues = sampledHealthCheck.getComponentValues();
+        Assertions.assertEquals(1, componentValues.size());
+        Assertions.assertEquals(HealthCheckStatusEnum.FAIL, componentValues.get(0).getStatus());
+        Assertions.assertEquals("Last sample was taken 6001 ms ago", componentValues.get(0).getOutput());
+    }
+
+    @Test
+    public void sampleListenerNotifiedTest() {
+        ScheduledExecutorService executorService = mock(ScheduledExecutorService.class);
+        AdaptiveHealthCheckScheduler scheduler = new AdaptiveHealthCheckScheduler(executorService);
+        SampledHealthCheck sampledHealthCheck = registerTestHealthCheck(scheduler, buildHealthCheckInfo(0.0));
+        List<SampledHealthCheck> notifiedList = new ArrayList<>();
+        scheduler.addSampleListener((sampled, componentValues) -> notifiedList.add(sampled));
+
+        scheduler.runSample(sampledHealthCheck);
+        scheduler.stop();
+        scheduler.runSample(sampledHealthCheck);
+
+        Assertions.assertEquals(2, notifiedList.size());
+        verify(executorService, times(0)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    private static SampledHealthCheck registerTestHealthCheck(AdaptiveHealthCheckScheduler scheduler,
+                                                              IHealthCheckInfo healthCheckInfo) {
+        AdaptiveSamplingInterval samplingInterval = AdaptiveSamplingInterval.builder()
+                .minIntervalMillis(MIN_INTERVAL)
+                .maxIntervalMillis(MAX_INTERVAL)
+                .build();
+        return scheduler.register(buildComponentInfo(), healthCheckInfo, buildHealthCheckTolerance(), samplingInterval);
+    }
+
+    private static IHealthCheckInfo buildHealthCheckInfo(Double metricValue) {
+        HealthCheckTolerance healthCheckTolerance = buildHealthCheckTolerance();
+        IHealthCheckInfo healthCheckInfo = mock(IHealthCheckInfo.class);
+        when(healthCheckInfo.getComponentValues()).thenReturn(ImmutableList.of(
+                ComponentHealthCheckModel.Value.builder()
+                        .componentId(TEST_COMPONENT_ID)
+                        .componentType(TEST_COMPONENT_TYPE)
+                        .metricValue(metricValue)
+                        .status(healthCheckTolerance.getHealthCheckStatus(metricValue))
+                        .build()
+        ));
+        // A mock answers 0.0 rather than running the default method
+        when(healthCheckInfo.getWarnDistance(any())).thenReturn(null);
+        return healthCheckInfo;
+    }
+
+    private static ComponentInfo buildComponentInfo() {
+        return ComponentInfo.builder()
+                .componentId(TEST_COMPONENT_ID)
+                .componentName(TEST_COMPONENT_NAME)
+                .componentType(TEST_COMPONENT_TYPE)
+                .build();
+    }
+
+    private static HealthCheckTolerance buildHealthCheckTolerance() {
+        return HealthCheckTolerance.builder()
+                .passValue(50.0)
+                .warnValue(80.0)
+                .failValue(100.0)
+                .toleranceType(ToleranceType.LESS_THAN)
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.dropwizard.template.health.scheduler;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static com.dropwizard.template.health.MemoryHealthCheckUtil.assertErrorMessage;
+
+public class AdaptiveSamplingIntervalTest {
+    static final String INVALID_SAMPLING_INTERVAL_ERROR_MESSAGE = "Invalid Sampling Interval";
+    static final long MIN_INTERVAL = 1000L;
+    static final long MAX_INTERVAL = 9000L;
+
+    public static Object[][] nextIntervalValues() {
+        return new Object[][] {
+                {1000L, HealthCheckStatusEnum.FAIL, 0.0, 1000L},
+                {8000L, HealthCheckStatusEnum.WARN, 0.0, 1000L},
+                {1000L, HealthCheckStatusEnum.PASS, 1.0, 2000L},
+                {2000L, HealthCheckStatusEnum.PASS, 1.0, 4000L},
+                {8000L, HealthCheckStatusEnum.PASS, 1.0, 9000L},
+                {9000L, HealthCheckStatusEnum.PASS, 1.0, 9000L},
+                {9000L, HealthCheckStatusEnum.PASS, 0.5, 5000L},
+                {9000L, HealthCheckStatusEnum.PASS, 0.0, 1000L},
+                {2000L, HealthCheckStatusEnum.PASS, 0.25, 2000L},
+                {1000L, HealthCheckStatusEnum.PASS, 0.25, 1000L},
+        };
+    }
+
+    @ParameterizedTest(name = "{index} => current={0}, status={1}, distance={2}, expectedInterval={3}")
+    @MethodSource("nextIntervalValues")
+    public void nextIntervalTest(Long currentInterval, HealthCheckStatusEnum status,
+                                 Double warnDistance, Long expectedInterval) {
+        AdaptiveSamplingInterval samplingInterval = AdaptiveSamplingInterval.builder()
+                .minIntervalMillis(MIN_INTERVAL)
+                .maxIntervalMillis(MAX_INTERVAL)
+                .build();
+
+        Assertions.assertEquals(expectedInterval,
+                samplingInterval.getNextInterval(currentInterval, status, warnDistance));
+    }
+
+    public static Object[][] invalidIntervalValues() {
+        return new Object[][] {
+                {0L, 1000L, 2.0, 0.5},
+                {2000L, 1000L, 2.0, 0.5},
+                {1000L, 2000L, 0.5, 0.5},
+                {1000L, 2000L, 2.0, 1.5},
+        };
+    }
+
+    @ParameterizedTest(name = "{index} => min={0}, max={1}, multiplier={2}, comfortableDistance={3}")
+    @MethodSource("invalidIntervalValues")
+    public void invalidIntervalTest(Long minInterval, Long maxInterval,
+                                    Double backoffMultiplier, Double comfortableDistance) {
+        assertErrorMessage(INVALID_SAMPLING_INTERVAL_ERROR_MESSAGE, () -> AdaptiveSamplingInterval.builder()
+                .minIntervalMillis(minInterval)
+                .maxIntervalMillis(maxInterval)
+                .backoffMultiplier(backoffMultiplier)
+                .comfortableDistance(comfortableDistance)
+                .build());
+    }
+}
@@ -0,0 +1,81 @@
+package com.dropwizard.template.health.shedding;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.scheduler.SampledHealthCheck;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LoadSheddingFilterTest {
+    static final String WATCHED_CHECK = "memory:utilizedMemory";
+    static final String EXCLUDED_PATH = "/status";
+    static final int RETRY_AFTER_SECONDS = 7;
+
+    public static Object[][] sheddingValues() {
+        return new Object[][] {
+                {HealthCheckStatusEnum.PASS, "memory", "template", false},
+                {HealthCheckStatusEnum.WARN, "memory", "template", true},
+                {HealthCheckStatusEnum.FAIL, "memory", "template", true},
+                {HealthCheckStatusEnum.FAIL, "memory", "status/ping", false},
+                {HealthCheckStatusEnum.FAIL, "database", "template", false},
+        };
+    }
+
+    @ParameterizedTest(name = "{index} => status={0}, componentName={1}, path={2}, expectedShed={3}")
+    @MethodSource("sheddingValues")
+    public void loadSheddingFilterTest(HealthCheckStatusEnum status, String componentName,
+                                       String path, boolean expectedShed) {
+        LoadSheddingPolicy loadSheddingPolicy = new LoadSheddingPolicy(new LoadSheddingConfiguration(
+                ImmutableList.of(WATCHED_CHECK), 1.0, 1.0, RETRY_AFTER_SECONDS, ImmutableList.of(EXCLUDED_PATH)));
+        loadSheddingPolicy.onSample(buildSampledHealthCheck(status, componentName), ImmutableList.of());
+
+        ContainerRequestContext requestContext = buildRequestContext(path);
+        new LoadSheddingFilter(loadSheddingPolicy).filter(requestContext);
+
+        if (!expectedShed) {
+            verify(requestContext, never()).abortWith(any(Response.class));
+            return;
+        }
+        ArgumentCaptor<Response> responseCaptor = ArgumentCaptor.forClass(Response.class);
+        verify(requestContext).abortWith(responseCaptor.capture());
+        Assertions.assertEquals(503, responseCaptor.getValue().getStatus());
+        Assertions.assertEquals(RETRY_AFTER_SECONDS, responseCaptor.getValue().getHeaders().getFirst("Retry-After"));
+    }
+
+    private static ContainerRequestContext buildRequestContext(String path) {
+        UriInfo uriInfo = mock(UriInfo.class);
+        when(uriInfo.getPath()).thenReturn(path);
+        ContainerRequestContext requestContext = mock(ContainerRequestContext.class);
+        when(requestContext.getUriInfo()).thenReturn(uriInfo);
+        return requestContext;
+    }
+
+    private static ComponentInfo buildComponentInfo(String componentName) {
+        return ComponentInfo.builder()
+                .componentId("testComponentId")
+                .componentName(componentName)
+                .componentType("system")
+                .build();
+    }
+
+    private static SampledHealthCheck buildSampledHealthCheck(HealthCheckStatusEnum status, String componentName) {
+        SampledHealthCheck sampledHealthCheck = mock(SampledHealthCheck.class);
+        when(sampledHealthCheck.getComponentInfo()).thenReturn(buildComponentInfo(componentName));
+        when(sampledHealthCheck.getMetricName()).thenReturn("utilizedMemory");
+        when(sampledHealthCheck.getLatestStatus()).thenReturn(status);
+        return sampledHealthCheck;
+    }
+}
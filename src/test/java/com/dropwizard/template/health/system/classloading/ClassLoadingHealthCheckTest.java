@@ -0,0 +1,259 @@
+package com.dropwizard.template.health.system.classloading;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.enums.ToleranceType;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+import com.dropwizard.template.health.system.snapshot.SystemSnapshot;
+import com.dropwizard.template.health.system.snapshot.SystemSnapshotProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+
+import static com.dropwizard.template.health.MemoryHealthCheckUtil.assertErrorMessage;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ClassLoadingHealthCheckTest {
+    private static final ComponentInfo COMPONENT_INFO = ComponentInfo.builder()
+            .componentId("testComponentId")
+            .componentName("classLoading")
+            .componentType("system")
+            .build();
+    private static final HealthCheckTolerance LOAD_RATE_TOLERANCE = HealthCheckTolerance.builder()
+            .passValue(100.0)
+            .warnValue(1000.0)
+            .failValue(10000.0)
+            .toleranceType(ToleranceType.LESS_THAN)
+            .build();
+    private static final HealthCheckTolerance METASPACE_TOLERANCE = HealthCheckTolerance.builder()
+            .passValue(70.0)
+            .warnValue(90.0)
+            .failValue(100.0)
+            .toleranceType(ToleranceType.LESS_THAN)
+            .build();
+
+    private static final long WARMUP_MILLIS = 60000;
+
+    private SystemSnapshotProvider systemSnapshotProvider;
+    private SystemSnapshot snapshot;
+    private long clockMillis = 100000;
+
+    @BeforeEach
+    public void setUp() {
+        systemSnapshotProvider = mock(SystemSnapshotProvider.class);
+        snapshot = mock(SystemSnapshot.class);
+        when(systemSnapshotProvider.getSnapshot()).thenReturn(snapshot);
+        when(snapshot.getCaptureTimeMillis()).thenReturn(clockMillis);
+        when(snapshot.getUptimeMillis()).thenReturn(clockMillis);
+        when(snapshot.getLoadedClassCount()).thenReturn(5000);
+        when(snapshot.getUnloadedClassCount()).thenReturn(20L);
+        setMetaspace(50, 100);
+    }
+
+    public static Object[][] loadRateTest() {
+        return new Object[][] {
+                {60000L, 50L, 50.0, HealthCheckStatusEnum.PASS},
+                {30000L, 250L, 500.0, HealthCheckStatusEnum.WARN},
+                {6000L, 5000L, 50000.0, HealthCheckStatusEnum.FAIL}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("loadRateTest")
+    public void testLoadRate(long elapsedMillis,
+                             long newlyLoaded,
+                             double expectedRate,
+                             HealthCheckStatusEnum expectedStatus) {
+        ClassLoadingHealthCheck healthCheck = newHealthCheck(300000);
+        when(snapshot.getTotalLoadedClassCount()).thenReturn(5000L);
+        Assertions.assertEquals(0.0, healthCheck.getComponentValues().get(2).getMetricValue());
+
+        advanceClock(elapsedMillis);
+        when(snapshot.getTotalLoadedClassCount()).thenReturn(5000L + newlyLoaded);
+        List<ComponentHealthCheckModel.Value> valueList = healthCheck.getComponentValues();
+
+        Assertions.assertEquals(4, valueList.size());
+        Assertions.assertEquals(5000.0, valueList.get(0).getMetricValue());
+        Assertions.assertEquals(20.0, valueList.get(1).getMetricValue());
+        Assertions.assertEquals(expectedRate, (Double) valueList.get(2).getMetricValue(), 0.001);
+        Assertions.assertEquals(expectedStatus, valueList.get(2).getStatus());
+    }
+
+    @Test
+    public void testLoadRateOnlyUsesSamplesInWindow() {
+        ClassLoadingHealthCheck healthCheck = newHealthCheck(60000);
+        when(snapshot.getTotalLoadedClassCount()).thenReturn(1000L);
+        healthCheck.getComponentValues();
+
+        // The burst before the window started no longer counts
+        advanceClock(30000);
+        when(snapshot.getTotalLoadedClassCount()).thenReturn(9000L);
+        healthCheck.getComponentValues();
+        advanceClock(60000);
+        when(snapshot.getTotalLoadedClassCount()).thenReturn(9010L);
+
+        Assertions.assertEquals(10.0, (Double) healthCheck.getComponentValues().get(2).getMetricValue(), 0.001);
+    }
+
+    @Test
+    public void testLoadRateCoversWholeWindowAtFastSampling() {
+        ClassLoadingHealthCheck healthCheck = newHealthCheck(300000);
+        when(snapshot.getTotalLoadedClassCount()).thenReturn(1000L);
+        healthCheck.getComponentValues();
+
+        // A burst in the first ten seconds, then five minutes of one second samples
+        List<ComponentHealthCheckModel.Value> valueList = null;
+        for (int i = 1; i <= 300; i++) {
+            advanceClock(1000);
+            when(snapshot.getTotalLoadedClassCount()).thenReturn(1000L + Math.min(i, 10) * 100L);
+            valueList = healthCheck.getComponentValues();
+        }
+
+        Assertions.assertEquals(200.0, (Double) valueList.get(2).getMetricValue(), 0.001);
+    }
+
+    public static Object[][] metaspaceTest() {
+        return new Object[][] {
+                {50L, 100L, 50.0, "percentage", HealthCheckStatusEnum.PASS},
+                {95L, 100L, 95.0, "percentage", HealthCheckStatusEnum.FAIL},
+                {95L, -1L, 95.0, "bytes", HealthCheckStatusEnum.PASS}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("metaspaceTest")
+    public void testMetaspace(long usedBytes,
+                              long maxBytes,
+                              double expectedValue,
+                              String expectedUnit,
+                              HealthCheckStatusEnum expectedStatus) {
+        setMetaspace(usedBytes, maxBytes);
+        ComponentHealthCheckModel.Value metaspaceValue = newHealthCheck(60000).getComponentValues().get(3);
+
+        Assertions.assertEquals(expectedValue, metaspaceValue.getMetricValue());
+        Assertions.assertEquals(expectedUnit, metaspaceValue.getMetricUnit());
+        Assertions.assertEquals(expectedStatus, metaspaceValue.getStatus());
+    }
+
+    @Test
+    public void testLoadRateIsNotJudgedWhileWarmingUp() {
+        when(snapshot.getUptimeMillis()).thenReturn(WARMUP_MILLIS - 1);
+        ClassLoadingHealthCheck healthCheck = newHealthCheck(300000);
+        when(snapshot.getTotalLoadedClassCount()).thenReturn(1000L);
+        healthCheck.getComponentValues();
+
+        // Startup burst, reported but not judged
+        advanceClock(6000);
+        when(snapshot.getTotalLoadedClassCount()).thenReturn(6000L);
+        ComponentHealthCheckModel.Value loadRateValue = healthCheck.getComponentValues().get(2);
+        Assertions.assertEquals(50000.0, (Double) loadRateValue.getMetricValue(), 0.001);
+        Assertions.assertEquals(HealthCheckStatusEnum.PASS, loadRateValue.getStatus());
+
+        when(snapshot.getUptimeMillis()).thenReturn(WARMUP_MILLIS);
+        Assertions.assertEquals(HealthCheckStatusEnum.FAIL, healthCheck.getComponentValues().get(2).getStatus());
+    }
+
+    public static Object[][] metaspaceGrowthTest() {
+        return new Object[][] {
+                {1000L, 50.0, HealthCheckStatusEnum.PASS},
+                {1350L, 85.0, HealthCheckStatusEnum.WARN},
+                {2000L, 150.0, HealthCheckStatusEnum.FAIL},
+                {500L, 0.0, HealthCheckStatusEnum.PASS}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("metaspaceGrowthTest")
+    public void testMetaspaceGrowthWithoutMaximum(long usedBytes,
+                                                  double expectedGrowth,
+                                                  HealthCheckStatusEnum expectedStatus) {
+        ClassLoadingHealthCheck healthCheck = new ClassLoadingHealthCheck(COMPONENT_INFO, LOAD_RATE_TOLERANCE,
+                METASPACE_TOLERANCE, 60000, WARMUP_MILLIS, 1000, systemSnapshotProvider);
+
+        // Not judged, and no baseline taken, until warm
+        when(snapshot.getUptimeMillis()).thenReturn(WARMUP_MILLIS - 1);
+        setMetaspace(200, -1);
+        Assertions.assertEquals("bytes", healthCheck.getComponentValues().get(3).getMetricUnit());
+
+        when(snapshot.getUptimeMillis()).thenReturn(WARMUP_MILLIS);
+        setMetaspace(500, -1);
+        healthCheck.getComponentValues();
+        setMetaspace(usedBytes, -1);
+        ComponentHealthCheckModel.Value metaspaceValue = healthCheck.getComponentValues().get(3);
+
+        Assertions.assertEquals("percentage", metaspaceValue.getMetricUnit());
+        Assertions.assertEquals(expectedGrowth, (Double) metaspaceValue.getMetricValue(), 0.001);
+        Assertions.assertEquals(expectedStatus, metaspaceValue.getStatus());
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidConfigurationTest")
+    public void testInvalidConfiguration(long windowMillis, long warmupMillis, long metaspaceGrowthLimitBytes) {
+        assertErrorMessage("Invalid Class Loading Configuration", () -> new ClassLoadingHealthCheck(COMPONENT_INFO,
+                LOAD_RATE_TOLERANCE, METASPACE_TOLERANCE, windowMillis, warmupMillis, metaspaceGrowthLimitBytes,
+                systemSnapshotProvider));
+    }
+
+    public static Object[][] invalidConfigurationTest() {
+        return new Object[][] {
+                {0L, WARMUP_MILLIS, 0L},
+                {-1L, WARMUP_MILLIS, 0L},
+                {60000L, -1L, 0L},
+                {60000L, WARMUP_MILLIS, -1L}
+        };
+    }
+
+    @Test
+    public void testNoMetaspacePool() {
+        when(snapshot.hasMetaspace()).thenReturn(false);
+        ComponentHealthCheckModel.Value metaspaceValue = newHealthCheck(60000).getComponentValues().get(3);
+
+        Assertions.assertNull(metaspaceValue.getMetricValue());
+        Assertions.assertEquals("No metaspace memory pool", metaspaceValue.getOutput());
+    }
+
+    @Test
+    public void testSharedSnapshotIsSampledOnce() {
+        ClassLoadingHealthCheck healthCheck = newHealthCheck(60000);
+        when(snapshot.getTotalLoadedClassCount()).thenReturn(1000L);
+        healthCheck.getComponentValues();
+        advanceClock(30000);
+        when(snapshot.getTotalLoadedClassCount()).thenReturn(1100L);
+
+        // A second probe on the same snapshot keeps the 30 second baseline
+        healthCheck.getComponentValues();
+        Assertions.assertEquals(200.0, (Double) healthCheck.getComponentValues().get(2).getMetricValue(), 0.001);
+    }
+
+    @Test
+    public void testPlatformBeans() {
+        ClassLoadingHealthCheck healthCheck = new ClassLoadingHealthCheck(COMPONENT_INFO, LOAD_RATE_TOLERANCE,
+                METASPACE_TOLERANCE, 60000, WARMUP_MILLIS, 0, new SystemSnapshotProvider(1000));
+        List<ComponentHealthCheckModel.Value> valueList = healthCheck.getComponentValues();
+
+        Assertions.assertEquals(4, valueList.size());
+        Assertions.assertTrue((Double) valueList.get(0).getMetricValue() > 0);
+    }
+
+    private ClassLoadingHealthCheck newHealthCheck(long windowMillis) {
+        return new ClassLoadingHealthCheck(COMPONENT_INFO, LOAD_RATE_TOLERANCE, METASPACE_TOLERANCE, windowMillis,
+                WARMUP_MILLIS, 0, systemSnapshotProvider);
+    }
+
+    private void advanceClock(long elapsedMillis) {
+        clockMillis += elapsedMillis;
+        when(snapshot.getCaptureTimeMillis()).thenReturn(clockMillis);
+    }
+
+    private void setMetaspace(long usedBytes, long maxBytes) {
+        when(snapshot.hasMetaspace()).thenReturn(true);
+        when(snapshot.getMetaspaceUsedBytes()).thenReturn(usedBytes);
+        when(snapshot.getMetaspaceMaxBytes()).thenReturn(maxBytes);
+    }
+}
@@ -0,0 +1,168 @@
+package com.dropwizard.template.health.system.cpu;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.enums.ToleranceType;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+import com.dropwizard.template.health.system.snapshot.SystemSnapshot;
+import com.dropwizard.template.health.system.snapshot.SystemSnapshotProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+
+import static com.dropwizard.template.health.MemoryHealthCheckUtil.assertErrorMessage;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CpuHealthCheckTest {
+    private static final ComponentInfo COMPONENT_INFO = ComponentInfo.builder()
+            .componentId("testComponentId")
+            .componentName("cpu")
+            .componentType("system")
+            .build();
+    private static final HealthCheckTolerance CPU_TOLERANCE = HealthCheckTolerance.builder()
+            .passValue(70.0)
+            .warnValue(90.0)
+            .failValue(100.0)
+            .toleranceType(ToleranceType.LESS_THAN)
+            .build();
+    private static final HealthCheckTolerance LOAD_TOLERANCE = HealthCheckTolerance.builder()
+            .passValue(100.0)
+            .warnValue(200.0)
+            .failValue(400.0)
+            .toleranceType(ToleranceType.LESS_THAN)
+            .build();
+    private static final long WINDOW_MILLIS = 60000;
+
+    private SystemSnapshotProvider systemSnapshotProvider;
+    private SystemSnapshot snapshot;
+    private long clockMillis = 1000000;
+
+    @BeforeEach
+    public void setUp() {
+        systemSnapshotProvider = mock(SystemSnapshotProvider.class);
+        snapshot = mock(SystemSnapshot.class);
+        when(systemSnapshotProvider.getSnapshot()).thenReturn(snapshot);
+        when(snapshot.getCaptureTimeMillis()).thenReturn(clockMillis);
+        when(snapshot.getAvailableProcessors()).thenReturn(4);
+    }
+
+    public static Object[][] cpuTest() {
+        return new Object[][] {
+                {0.5, 0.6, 2.0, 50.0, 60.0, 50.0, HealthCheckStatusEnum.PASS},
+                {0.8, 0.95, 6.0, 80.0, 95.0, 150.0, HealthCheckStatusEnum.FAIL},
+                {0.1, 0.1, 12.0, 10.0, 10.0, 300.0, HealthCheckStatusEnum.FAIL}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("cpuTest")
+    public void testFirstReading(double processCpuLoad,
+                                 double systemCpuLoad,
+                                 double loadAverage,
+                                 double expectedProcess,
+                                 double expectedSystem,
+                                 double expectedLoadPerCore,
+                                 HealthCheckStatusEnum expectedStatus) {
+        setLoads(processCpuLoad, systemCpuLoad, loadAverage);
+        List<ComponentHealthCheckModel.Value> valueList = newHealthCheck().getComponentValues();
+
+        Assertions.assertEquals(3, valueList.size());
+        Assertions.assertEquals(expectedProcess, (Double) valueList.get(0).getMetricValue(), 0.001);
+        Assertions.assertEquals(expectedSystem, (Double) valueList.get(1).getMetricValue(), 0.001);
+        Assertions.assertEquals(expectedLoadPerCore, (Double) valueList.get(2).getMetricValue(), 0.001);
+        Assertions.assertEquals("percentage", valueList.get(0).getMetricUnit());
+        Assertions.assertEquals(expectedStatus, ComponentHealthCheckModel.getStatus(valueList));
+    }
+
+    @Test
+    public void testSpikeIsSmoothed() {
+        CpuHealthCheck healthCheck = newHealthCheck();
+        setLoads(0.2, 0.2, 1.0);
+        healthCheck.getComponentValues();
+
+        // A five second spike to full CPU barely moves a one minute average
+        advanceClock(5000);
+        setLoads(1.0, 1.0, 1.0);
+        List<ComponentHealthCheckModel.Value> valueList = healthCheck.getComponentValues();
+        double expected = 20.0 + (1 - Math.exp(-5000.0 / WINDOW_MILLIS)) * 80.0;
+        Assertions.assertEquals(expected, (Double) valueList.get(0).getMetricValue(), 0.001);
+        Assertions.assertEquals(HealthCheckStatusEnum.PASS, valueList.get(0).getStatus());
+
+        // Sustained load gets through
+        for (int i = 0; i < 20; i++) {
+            advanceClock(15000);
+            valueList = healthCheck.getComponentValues();
+        }
+        Assertions.assertEquals(HealthCheckStatusEnum.FAIL, valueList.get(0).getStatus());
+    }
+
+    @Test
+    public void testSameSnapshotDoesNotMoveAverage() {
+        CpuHealthCheck healthCheck = newHealthCheck();
+        setLoads(0.2, 0.2, 1.0);
+        healthCheck.getComponentValues();
+
+        setLoads(1.0, 1.0, 1.0);
+        Assertions.assertEquals(20.0, (Double) healthCheck.getComponentValues().get(0).getMetricValue(), 0.001);
+    }
+
+    @Test
+    public void testUnavailableLoads() {
+        setLoads(-1.0, -1.0, -1.0);
+        List<ComponentHealthCheckModel.Value> valueList = newHealthCheck().getComponentValues();
+
+        for (ComponentHealthCheckModel.Value value : valueList) {
+            Assertions.assertNull(value.getMetricValue());
+            Assertions.assertEquals(HealthCheckStatusEnum.PASS, value.getStatus());
+        }
+        Assertions.assertEquals("load average per core is not available", valueList.get(2).getOutput());
+    }
+
+    public static Object[][] warnDistanceTest() {
+        return new Object[][] {
+                {0.5, 0.6, 4.0, 1.0},
+                {0.8, 0.6, 4.0, 0.5},
+                {0.5, 0.6, 6.0, 0.5}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("warnDistanceTest")
+    public void testWarnDistance(double processCpuLoad,
+                                 double systemCpuLoad,
+                                 double loadAverage,
+                                 double expectedWarnDistance) {
+        setLoads(processCpuLoad, systemCpuLoad, loadAverage);
+        CpuHealthCheck healthCheck = newHealthCheck();
+
+        Assertions.assertEquals(expectedWarnDistance,
+                healthCheck.getWarnDistance(healthCheck.getComponentValues()), 0.001);
+    }
+
+    @Test
+    public void testInvalidWindow() {
+        assertErrorMessage("Invalid Cpu Configuration", () ->
+                new CpuHealthCheck(COMPONENT_INFO, CPU_TOLERANCE, LOAD_TOLERANCE, 0, systemSnapshotProvider));
+    }
+
+    private CpuHealthCheck newHealthCheck() {
+        return new CpuHealthCheck(COMPONENT_INFO, CPU_TOLERANCE, LOAD_TOLERANCE, WINDOW_MILLIS, systemSnapshotProvider);
+    }
+
+    private void setLoads(double processCpuLoad, double systemCpuLoad, double loadAverage) {
+        when(snapshot.getProcessCpuLoad()).thenReturn(processCpuLoad);
+        when(snapshot.getSystemCpuLoad()).thenReturn(systemCpuLoad);
+        when(snapshot.getSystemLoadAverage()).thenReturn(loadAverage);
+    }
+
+    private void advanceClock(long elapsedMillis) {
+        clockMillis += elapsedMillis;
+        when(snapshot.getCaptureTimeMillis()).thenReturn(clockMillis);
+    }
+}
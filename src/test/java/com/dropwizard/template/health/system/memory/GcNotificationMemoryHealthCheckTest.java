@@ -0,0 +1,151 @@
+package com.dropwizard.template.health.system.memory;
+
+import com.dropwizard.template.health.enums.ToleranceType;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+import com.dropwizard.template.health.system.enums.Metric;
+import com.dropwizard.template.health.system.model.MemoryHealthCheckModel;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationFilter;
+import javax.management.NotificationListener;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.Collections;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+public class GcNotificationMemoryHealthCheckTest {
+    private static final HealthCheckTolerance HEALTH_CHECK_TOLERANCE = HealthCheckTolerance.builder()
+            .passValue(50.0)
+            .warnValue(80.0)
+            .failValue(100.0)
+            .toleranceType(ToleranceType.LESS_THAN)
+            .build();
+
+    @Test
+    public void testGarbageCollectionUpdatesMemory() throws InterruptedException {
+        GcNotificationMemoryHealthCheck memoryHealthCheck =
+                new GcNotificationMemoryHealthCheck(Metric.PERCENTAGE, HEALTH_CHECK_TOLERANCE);
+        memoryHealthCheck.start();
+        try {
+            Assertions.assertTrue(memoryHealthCheck.isSubscribed());
+
+            long deadline = System.currentTimeMillis() + 10000;
+            while (memoryHealthCheck.getNotificationCount() == 0 && System.currentTimeMillis() < deadline) {
+                System.gc();
+                Thread.sleep(50);
+            }
+            Assertions.assertTrue(memoryHealthCheck.getNotificationCount() > 0);
+
+            MemoryHealthCheckModel memoryHealthCheckModel = memoryHealthCheck.getMemoryHealthCheck();
+            Assertions.assertTrue(memoryHealthCheckModel.getTotalMemory() > 0);
+            Assertions.assertTrue(memoryHealthCheckModel.getFreeMemory() >= 0);
+            Assertions.assertEquals("", memoryHealthCheck.getLastErrorMessage());
+        } finally {
+            memoryHealthCheck.stop();
+        }
+        Assertions.assertFalse(memoryHealthCheck.isSubscribed());
+    }
+
+    @Test
+    public void testFallsBackToPollingWithoutNotifications() {
+        GcNotificationMemoryHealthCheck memoryHealthCheck = new GcNotificationMemoryHealthCheck(
+                mock(MemoryMXBean.class), ImmutableList.of(mock(GarbageCollectorMXBean.class)),
+                Collections.emptyList(), Metric.PERCENTAGE, HEALTH_CHECK_TOLERANCE);
+        memoryHealthCheck.start();
+
+        Assertions.assertFalse(memoryHealthCheck.isSubscribed());
+        Assertions.assertTrue(memoryHealthCheck.getMemoryHealthCheck().getTotalMemory() > 0);
+        memoryHealthCheck.stop();
+    }
+
+    @Test
+    public void testThresholdsFollowToleranceAndAreRestored() {
+        MemoryMXBean memoryMXBean = mock(MemoryMXBean.class, withSettings().extraInterfaces(NotificationEmitter.class));
+        when(memoryMXBean.getHeapMemoryUsage()).thenReturn(new MemoryUsage(0, 300, 1000, 1000));
+        GarbageCollectorMXBean garbageCollectorMXBean =
+                mock(GarbageCollectorMXBean.class, withSettings().extraInterfaces(NotificationEmitter.class));
+        MemoryPoolMXBean memoryPoolMXBean = mock(MemoryPoolMXBean.class);
+        when(memoryPoolMXBean.getName()).thenReturn("heap");
+        when(memoryPoolMXBean.getType()).thenReturn(MemoryType.HEAP);
+        when(memoryPoolMXBean.getUsage()).thenReturn(new MemoryUsage(0, 300, 500, 1000));
+        when(memoryPoolMXBean.isUsageThresholdSupported()).thenReturn(true);
+        when(memoryPoolMXBean.isCollectionUsageThresholdSupported()).thenReturn(true);
+        when(memoryPoolMXBean.getUsageThreshold()).thenReturn(0L);
+        when(memoryPoolMXBean.getCollectionUsageThreshold()).thenReturn(0L);
+
+        GcNotificationMemoryHealthCheck memoryHealthCheck = new GcNotificationMemoryHealthCheck(memoryMXBean,
+                ImmutableList.of(garbageCollectorMXBean), ImmutableList.of(memoryPoolMXBean),
+                Metric.PERCENTAGE, HEALTH_CHECK_TOLERANCE);
+        memoryHealthCheck.start();
+
+        Assertions.assertTrue(memoryHealthCheck.isSubscribed());
+        verify((NotificationEmitter) garbageCollectorMXBean)
+                .addNotificationListener(any(NotificationListener.class), (NotificationFilter) isNull(), isNull());
+        // Warn value of the committed pool size, not of its max
+        verify(memoryPoolMXBean).setUsageThreshold(400L);
+        verify(memoryPoolMXBean).setCollectionUsageThreshold(400L);
+        Assertions.assertEquals(700L, memoryHealthCheck.getMemoryHealthCheck().getFreeMemory());
+
+        when(memoryMXBean.getHeapMemoryUsage()).thenReturn(new MemoryUsage(0, 900, 1000, 1000));
+        when(memoryPoolMXBean.getUsage()).thenReturn(new MemoryUsage(0, 450, 750, 1000));
+        memoryHealthCheck.handleNotification(
+                new Notification(MemoryNotificationInfo.MEMORY_THRESHOLD_EXCEEDED, "heap", 1), null);
+        Assertions.assertEquals(1, memoryHealthCheck.getNotificationCount());
+        Assertions.assertEquals(100L, memoryHealthCheck.getMemoryHealthCheck().getFreeMemory());
+        verify(memoryPoolMXBean).setUsageThreshold(600L);
+        verify(memoryPoolMXBean).setCollectionUsageThreshold(600L);
+
+        memoryHealthCheck.stop();
+        verify(memoryPoolMXBean).setUsageThreshold(0L);
+        verify(memoryPoolMXBean).setCollectionUsageThreshold(0L);
+    }
+
+    @Test
+    public void testByteThresholdIsSplitAcrossPools() {
+        HealthCheckTolerance bytesTolerance = HealthCheckTolerance.builder()
+                .passValue(500.0)
+                .warnValue(800.0)
+                .failValue(1000.0)
+                .toleranceType(ToleranceType.LESS_THAN)
+                .build();
+        MemoryMXBean memoryMXBean = mock(MemoryMXBean.class, withSettings().extraInterfaces(NotificationEmitter.class));
+        when(memoryMXBean.getHeapMemoryUsage()).thenReturn(new MemoryUsage(0, 300, 1000, 1000));
+        GarbageCollectorMXBean garbageCollectorMXBean =
+                mock(GarbageCollectorMXBean.class, withSettings().extraInterfaces(NotificationEmitter.class));
+        MemoryPoolMXBean oldPoolMXBean = mockHeapPool("old", new MemoryUsage(0, 200, 750, 1000));
+        MemoryPoolMXBean youngPoolMXBean = mockHeapPool("young", new MemoryUsage(0, 100, 250, 1000));
+
+        GcNotificationMemoryHealthCheck memoryHealthCheck = new GcNotificationMemoryHealthCheck(memoryMXBean,
+                ImmutableList.of(garbageCollectorMXBean), ImmutableList.of(oldPoolMXBean, youngPoolMXBean),
+                Metric.BYTES, bytesTolerance);
+        memoryHealthCheck.start();
+
+        // Each pool gets its share of the whole heap warn value
+        verify(oldPoolMXBean).setUsageThreshold(600L);
+        verify(youngPoolMXBean).setUsageThreshold(200L);
+        memoryHealthCheck.stop();
+    }
+
+    private static MemoryPoolMXBean mockHeapPool(String name, MemoryUsage memoryUsage) {
+        MemoryPoolMXBean memoryPoolMXBean = mock(MemoryPoolMXBean.class);
+        when(memoryPoolMXBean.getName()).thenReturn(name);
+        when(memoryPoolMXBean.getType()).thenReturn(MemoryType.HEAP);
+        when(memoryPoolMXBean.getUsage()).thenReturn(memoryUsage);
+        when(memoryPoolMXBean.isUsageThresholdSupported()).thenReturn(true);
+        return memoryPoolMXBean;
+    }
+}
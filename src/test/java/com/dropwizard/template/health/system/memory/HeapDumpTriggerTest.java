@@ -0,0 +1,128 @@
+package com.dropwizard.template.health.system.memory;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.dropwizard.template.health.MemoryHealthCheckUtil.assertErrorMessage;
+
+public class HeapDumpTriggerTest {
+    private static final long SUSTAINED_FAIL_MILLIS = 60000;
+    private static final long COOLDOWN_MILLIS = 600000;
+    private static final int DUMP_BYTES = 100;
+
+    @TempDir
+    Path tempDirectory;
+
+    private final AtomicLong clockMillis = new AtomicLong(1000);
+    private final AtomicLong heapUsedBytes = new AtomicLong(DUMP_BYTES);
+    private final List<String> dumpedFiles = new ArrayList<>();
+
+    @Test
+    public void testDumpAfterSustainedFail() {
+        HeapDumpTrigger heapDumpTrigger = newHeapDumpTrigger(3, 10000);
+
+        Assertions.assertFalse(heapDumpTrigger.onStatus(HealthCheckStatusEnum.FAIL));
+        clockMillis.addAndGet(SUSTAINED_FAIL_MILLIS - 1);
+        Assertions.assertFalse(heapDumpTrigger.onStatus(HealthCheckStatusEnum.FAIL));
+        Assertions.assertNull(heapDumpTrigger.getLatestDumpLink());
+
+        clockMillis.addAndGet(1);
+        Assertions.assertTrue(heapDumpTrigger.onStatus(HealthCheckStatusEnum.FAIL));
+
+        Path expectedPath = tempDirectory.resolve("heap-61000.hprof");
+        Assertions.assertEquals(1, heapDumpTrigger.getDumpCount());
+        Assertions.assertEquals(expectedPath.toUri(), heapDumpTrigger.getLatestDumpLink());
+        Assertions.assertTrue(Files.exists(expectedPath));
+    }
+
+    @Test
+    public void testRecoveryResetsFailStart() {
+        HeapDumpTrigger heapDumpTrigger = newHeapDumpTrigger(3, 10000);
+
+        heapDumpTrigger.onStatus(HealthCheckStatusEnum.FAIL);
+        clockMillis.addAndGet(SUSTAINED_FAIL_MILLIS / 2);
+        heapDumpTrigger.onStatus(HealthCheckStatusEnum.WARN);
+        clockMillis.addAndGet(SUSTAINED_FAIL_MILLIS / 2);
+
+        Assertions.assertFalse(heapDumpTrigger.onStatus(HealthCheckStatusEnum.FAIL));
+        Assertions.assertEquals(0, heapDumpTrigger.getDumpCount());
+    }
+
+    public static Object[][] capTest() {
+        return new Object[][] {
+                // elapsed after first dump, max dumps, max disk bytes, expected dumps
+                {COOLDOWN_MILLIS - 1, 3, 10000L, 1},
+                {COOLDOWN_MILLIS, 3, 10000L, 2},
+                {COOLDOWN_MILLIS, 1, 10000L, 1},
+                {COOLDOWN_MILLIS, 3, 150L, 1}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("capTest")
+    public void testCooldownAndCaps(long elapsedMillis, int maxDumps, long maxDiskBytes, int expectedDumps) {
+        HeapDumpTrigger heapDumpTrigger = newHeapDumpTrigger(maxDumps, maxDiskBytes);
+        heapDumpTrigger.onStatus(HealthCheckStatusEnum.FAIL);
+        clockMillis.addAndGet(SUSTAINED_FAIL_MILLIS);
+        heapDumpTrigger.onStatus(HealthCheckStatusEnum.FAIL);
+
+        clockMillis.addAndGet(elapsedMillis);
+        heapDumpTrigger.onStatus(HealthCheckStatusEnum.FAIL);
+
+        Assertions.assertEquals(expectedDumps, heapDumpTrigger.getDumpCount());
+        Assertions.assertEquals(expectedDumps, dumpedFiles.size());
+    }
+
+    @Test
+    public void testDiskLimitSkipsDump() {
+        heapUsedBytes.set(20000);
+        HeapDumpTrigger heapDumpTrigger = newHeapDumpTrigger(3, 10000);
+        heapDumpTrigger.onStatus(HealthCheckStatusEnum.FAIL);
+        clockMillis.addAndGet(SUSTAINED_FAIL_MILLIS);
+        heapDumpTrigger.onStatus(HealthCheckStatusEnum.FAIL);
+
+        Assertions.assertEquals(0, heapDumpTrigger.getDumpCount());
+        Assertions.assertEquals("Heap dump skipped, 20000 bytes would exceed the 10000 byte limit",
+                heapDumpTrigger.getLastErrorMessage());
+    }
+
+    public static Object[][] invalidConfigurationTest() {
+        return new Object[][] {
+                {null, null, "Heap dump directory must be set"},
+                {"dumps", 0, "Invalid Heap Dump Configuration"},
+                {"dumps", -1, "Invalid Heap Dump Configuration"}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidConfigurationTest")
+    public void testInvalidConfiguration(String directory, Integer maxDumps, String expectedMessage) {
+        assertErrorMessage(expectedMessage, () ->
+                new HeapDumpConfiguration(directory, null, null, maxDumps, null, null));
+    }
+
+    private HeapDumpTrigger newHeapDumpTrigger(int maxDumps, long maxDiskBytes) {
+        HeapDumpConfiguration heapDumpConfiguration = new HeapDumpConfiguration(tempDirectory.toString(),
+                SUSTAINED_FAIL_MILLIS, COOLDOWN_MILLIS, maxDumps, maxDiskBytes, true);
+        return new HeapDumpTrigger(heapDumpConfiguration, this::writeDump,
+                MoreExecutors.newDirectExecutorService(), clockMillis::get, heapUsedBytes::get);
+    }
+
+    private void writeDump(String outputFile, boolean live) throws IOException {
+        dumpedFiles.add(outputFile);
+        Files.write(Paths.get(outputFile), new byte[DUMP_BYTES]);
+    }
+}
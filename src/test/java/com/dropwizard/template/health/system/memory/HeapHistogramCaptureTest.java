@@ -0,0 +1,189 @@
+package com.dropwizard.template.health.system.memory;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.enums.ToleranceType;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+import com.dropwizard.template.health.system.enums.MemoryType;
+import com.dropwizard.template.health.system.enums.Metric;
+import com.dropwizard.template.health.system.model.MemoryHealthCheckModel;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static com.dropwizard.template.health.MemoryHealthCheckUtil.assertErrorMessage;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class HeapHistogramCaptureTest {
+    private static final URI LINK = URI.create(HeapHistogramResource.PATH);
+    private static final String HISTOGRAM =
+            "\n" +
+            " num     #instances         #bytes  class name\n" +
+            "----------------------------------------------\n" +
+            "   1:         40000       96000000  [B\n" +
+            "   2:          3000        7200000  java.lang.String\n" +
+            "   3:           100           2400  java.util.HashMap$Node\n" +
+            "Total         43100      103202400\n";
+
+    private final AtomicLong clockMillis = new AtomicLong(1000);
+    private final AtomicInteger histogramCalls = new AtomicInteger();
+
+    @Test
+    public void testParseHistogram() {
+        List<HeapHistogramEntry> entries = HeapHistogramCapture.parseHistogram(HISTOGRAM, 2);
+
+        Assertions.assertEquals(2, entries.size());
+        Assertions.assertEquals(1, entries.get(0).getRank());
+        Assertions.assertEquals(40000L, entries.get(0).getInstances());
+        Assertions.assertEquals(96000000L, entries.get(0).getBytes());
+        Assertions.assertEquals("[B", entries.get(0).getClassName());
+        Assertions.assertEquals("java.lang.String", entries.get(1).getClassName());
+        Assertions.assertEquals(3, HeapHistogramCapture.parseHistogram(HISTOGRAM, 10).size());
+    }
+
+    public static Object[][] rateLimitTest() {
+        return new Object[][] {
+                {0L, false, 1},
+                {59999L, false, 1},
+                {60000L, true, 2}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("rateLimitTest")
+    public void testRateLimit(long elapsedMillis, boolean expectedScheduled, int expectedCaptures) {
+        HeapHistogramCapture capture = newCapture(() -> HISTOGRAM, MoreExecutors.newDirectExecutorService());
+        Assertions.assertTrue(capture.requestCapture());
+
+        clockMillis.addAndGet(elapsedMillis);
+
+        Assertions.assertEquals(expectedScheduled, capture.requestCapture());
+        Assertions.assertEquals(expectedCaptures, capture.getCaptureCount());
+        Assertions.assertEquals(expectedCaptures, histogramCalls.get());
+    }
+
+    @Test
+    public void testCaptureInFlightIsNotRescheduled() {
+        ExecutorService executor = mock(ExecutorService.class);
+        HeapHistogramCapture capture = newCapture(() -> HISTOGRAM, executor);
+        Assertions.assertTrue(capture.requestCapture());
+
+        clockMillis.addAndGet(120000);
+        Assertions.assertFalse(capture.requestCapture());
+
+        ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor, times(1)).execute(runnableCaptor.capture());
+        Assertions.assertNull(capture.getLatestHistogram());
+
+        runnableCaptor.getValue().run();
+        Assertions.assertEquals(121000L, capture.getLatestHistogram().getCapturedAtMillis());
+        Assertions.assertTrue(capture.requestCapture());
+    }
+
+    @Test
+    public void testCaptureFailure() {
+        HeapHistogramCapture capture = newCapture(() -> {
+            throw new IllegalStateException("Diagnostic command gcClassHistogram failed");
+        }, MoreExecutors.newDirectExecutorService());
+
+        Assertions.assertTrue(capture.requestCapture());
+        Assertions.assertNull(capture.getLatestHistogram());
+        Assertions.assertEquals("Diagnostic command gcClassHistogram failed", capture.getLastErrorMessage());
+    }
+
+    public static Object[][] invalidConfigurationTest() {
+        return new Object[][] {
+                {0, 60000L},
+                {10, 0L}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidConfigurationTest")
+    public void testInvalidConfiguration(int maxEntries, long minIntervalMillis) {
+        assertErrorMessage("Invalid Heap Histogram Configuration", () ->
+                new HeapHistogramCapture(maxEntries, minIntervalMillis, LINK));
+        assertErrorMessage("Invalid Heap Histogram Configuration", () ->
+                new HeapHistogramConfiguration(maxEntries, minIntervalMillis));
+    }
+
+    @Test
+    public void testConfigurationDefaults() {
+        HeapHistogramConfiguration heapHistogramConfiguration = new HeapHistogramConfiguration(null, null);
+
+        Assertions.assertEquals(HeapHistogramConfiguration.DEFAULT_MAX_ENTRIES,
+                heapHistogramConfiguration.getMaxEntries());
+        Assertions.assertEquals(HeapHistogramConfiguration.DEFAULT_MIN_INTERVAL_MILLIS,
+                heapHistogramConfiguration.getMinIntervalMillis());
+    }
+
+    @Test
+    public void testMemoryHealthCheckCapturesOnTransitionIntoFail() {
+        ExecutorService executor = mock(ExecutorService.class);
+        HeapHistogramCapture capture = newCapture(() -> HISTOGRAM, executor);
+        IMemoryHealthCheck memoryHealthCheck = mock(IMemoryHealthCheck.class);
+        MemoryHealthCheck healthCheck = new MemoryHealthCheck(ImmutableList.of(MemoryType.UTILIZED_MEMORY),
+                ImmutableList.of(new MemoryMetricTolerance(Metric.PERCENTAGE, HealthCheckTolerance.builder()
+                        .passValue(50.0)
+                        .warnValue(80.0)
+                        .failValue(100.0)
+                        .toleranceType(ToleranceType.LESS_THAN)
+                        .build())),
+                ComponentInfo.builder().componentId("testComponentId").componentName("memory")
+                        .componentType("system").build(),
+                memoryHealthCheck, capture);
+
+        when(memoryHealthCheck.getMemoryHealthCheck()).thenReturn(buildModel(95));
+        healthCheck.getComponentValues();
+        Assertions.assertNull(healthCheck.getDetails());
+
+        // Staying in FAIL does not ask again even after the rate limit passes
+        when(memoryHealthCheck.getMemoryHealthCheck()).thenReturn(buildModel(5));
+        Assertions.assertNull(healthCheck.getComponentValues().get(0).getLink());
+        clockMillis.addAndGet(120000);
+        healthCheck.getComponentValues();
+
+        ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor, times(1)).execute(runnableCaptor.capture());
+        runnableCaptor.getValue().run();
+
+        ComponentHealthCheckModel.Value value = healthCheck.getComponentValues().get(0);
+        Assertions.assertEquals(HealthCheckStatusEnum.FAIL, value.getStatus());
+        Assertions.assertEquals(LINK, value.getLink());
+
+        Map<String, Object> details = healthCheck.getDetails();
+        List<?> entries = (List<?>) details.get(MemoryHealthCheck.HISTOGRAM_DETAIL);
+        Assertions.assertEquals(2, entries.size());
+        Assertions.assertEquals("1970-01-01T00:02:01Z", details.get(MemoryHealthCheck.HISTOGRAM_TIME_DETAIL));
+    }
+
+    private HeapHistogramCapture newCapture(Supplier<String> histogramSource, ExecutorService executor) {
+        return new HeapHistogramCapture(2, 60000, LINK, () -> {
+            histogramCalls.incrementAndGet();
+            return histogramSource.get();
+        }, executor, clockMillis::get);
+    }
+
+    private static MemoryHealthCheckModel buildModel(long freeMemory) {
+        return MemoryHealthCheckModel.builder()
+                .totalMemory(100L)
+                .freeMemory(freeMemory)
+                .build();
+    }
+}
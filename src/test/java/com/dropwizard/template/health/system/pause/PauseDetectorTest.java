@@ -0,0 +1,147 @@
+package com.dropwizard.template.health.system.pause;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.enums.ToleranceType;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+
+import static com.dropwizard.template.health.MemoryHealthCheckUtil.assertErrorMessage;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PauseDetectorTest {
+    private static final ComponentInfo COMPONENT_INFO = ComponentInfo.builder()
+            .componentId("testComponentId")
+            .componentName("jvm")
+            .componentType("system")
+            .build();
+    private static final HealthCheckTolerance HEALTH_CHECK_TOLERANCE = HealthCheckTolerance.builder()
+            .passValue(50.0)
+            .warnValue(200.0)
+            .failValue(1000.0)
+            .toleranceType(ToleranceType.LESS_THAN)
+            .build();
+
+    public static Object[][] histogramValues() {
+        return new Object[][] {
+                {0L},
+                {15L},
+                {16L},
+                {1000L},
+                {123456L},
+                {PauseHistogram.MAX_TRACKABLE_MICROS}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("histogramValues")
+    public void testBucketBoundsValue(long value) {
+        int index = PauseHistogram.getBucketIndex(value);
+        long upperBound = PauseHistogram.getBucketUpperBound(index);
+
+        Assertions.assertTrue(index < PauseHistogram.BUCKET_COUNT);
+        Assertions.assertTrue(upperBound >= value);
+        Assertions.assertTrue(upperBound - value <= value / 16);
+    }
+
+    @Test
+    public void testPercentile() {
+        PauseHistogram pauseHistogram = new PauseHistogram();
+        for (int i = 0; i < 990; i++) {
+            pauseHistogram.record(100);
+        }
+        for (int i = 0; i < 10; i++) {
+            pauseHistogram.record(50000);
+        }
+        pauseHistogram.record(-5);
+
+        Assertions.assertEquals(1001, pauseHistogram.getTotalCount());
+        Assertions.assertEquals(50000, pauseHistogram.getMaxMicros());
+        Assertions.assertTrue(pauseHistogram.getValueAtPercentile(99.0) <= 103);
+        Assertions.assertEquals(50000, pauseHistogram.getValueAtPercentile(100.0));
+
+        pauseHistogram.reset();
+        Assertions.assertEquals(0, pauseHistogram.getTotalCount());
+        Assertions.assertEquals(0, pauseHistogram.getValueAtPercentile(99.0));
+    }
+
+    public static Object[][] invalidDetectorConfigurations() {
+        return new Object[][] {
+                {0L, 1000L, 1.0},
+                {PauseDetector.MAX_RESOLUTION_MILLIS + 1, 10000L, 1.0},
+                {10L, 5L, 1.0},
+                {1L, 1000L, 0.0}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidDetectorConfigurations")
+    public void testInvalidConfiguration(long resolutionMillis, long intervalMillis, double maxCpuPercentage) {
+        assertErrorMessage("Invalid Pause Detector Configuration",
+                () -> new PauseDetector(resolutionMillis, intervalMillis, maxCpuPercentage));
+    }
+
+    @Test
+    public void testDetectorPublishesInterval() throws InterruptedException {
+        PauseDetector pauseDetector = new PauseDetector(1, 100, 100.0);
+        pauseDetector.start();
+        try {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (pauseDetector.getLatestPauseSnapshot().getSampleCount() == 0 &&
+                    System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+        } finally {
+            pauseDetector.stop();
+        }
+
+        PauseSnapshot pauseSnapshot = pauseDetector.getLatestPauseSnapshot();
+        Assertions.assertTrue(pauseSnapshot.getSampleCount() > 0);
+        Assertions.assertTrue(pauseSnapshot.getMaxPauseMillis() >= pauseSnapshot.getP99PauseMillis());
+        Assertions.assertTrue(pauseSnapshot.getDetectorCpuPercentage() >= 0);
+        Assertions.assertEquals(100, pauseSnapshot.getIntervalMillis());
+    }
+
+    public static Object[][] pauseStatuses() {
+        return new Object[][] {
+                {10.0, 5.0, HealthCheckStatusEnum.PASS, HealthCheckStatusEnum.PASS},
+                {300.0, 20.0, HealthCheckStatusEnum.FAIL, HealthCheckStatusEnum.PASS},
+                {150.0, 100.0, HealthCheckStatusEnum.WARN, HealthCheckStatusEnum.WARN}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("pauseStatuses")
+    public void testHealthCheckStatus(double maxPauseMillis,
+                                      double p99PauseMillis,
+                                      HealthCheckStatusEnum expectedMaxStatus,
+                                      HealthCheckStatusEnum expectedP99Status) {
+        PauseDetector pauseDetector = mock(PauseDetector.class);
+        when(pauseDetector.getLatestPauseSnapshot()).thenReturn(PauseSnapshot.builder()
+                .maxPauseMillis(maxPauseMillis)
+                .p99PauseMillis(p99PauseMillis)
+                .sampleCount(100)
+                .detectorCpuPercentage(0.2)
+                .resolutionMillis(1)
+                .intervalMillis(10000)
+                .build());
+
+        PauseHealthCheck pauseHealthCheck = new PauseHealthCheck(COMPONENT_INFO, HEALTH_CHECK_TOLERANCE, pauseDetector);
+        List<ComponentHealthCheckModel.Value> valueList = pauseHealthCheck.getComponentValues();
+
+        Assertions.assertEquals(3, valueList.size());
+        Assertions.assertEquals(maxPauseMillis, valueList.get(0).getMetricValue());
+        Assertions.assertEquals(expectedMaxStatus, valueList.get(0).getStatus());
+        Assertions.assertEquals(p99PauseMillis, valueList.get(1).getMetricValue());
+        Assertions.assertEquals(expectedP99Status, valueList.get(1).getStatus());
+        Assertions.assertEquals(0.2, valueList.get(2).getMetricValue());
+        Assertions.assertEquals(HealthCheckStatusEnum.PASS, valueList.get(2).getStatus());
+    }
+}
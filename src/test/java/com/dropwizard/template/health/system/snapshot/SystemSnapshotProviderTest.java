@@ -0,0 +1,71 @@
+package com.dropwizard.template.health.system.snapshot;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.dropwizard.template.health.MemoryHealthCheckUtil.assertErrorMessage;
+
+public class SystemSnapshotProviderTest {
+    private static final long MAX_AGE_MILLIS = 1000;
+
+    private final AtomicLong clockMillis = new AtomicLong(50000);
+
+    @Test
+    public void testSnapshotIsSharedWithinMaxAge() {
+        SystemSnapshotProvider provider = new SystemSnapshotProvider(MAX_AGE_MILLIS, clockMillis::get);
+        SystemSnapshot snapshot = provider.getSnapshot();
+
+        clockMillis.addAndGet(MAX_AGE_MILLIS - 1);
+
+        Assertions.assertSame(snapshot, provider.getSnapshot());
+        Assertions.assertSame(snapshot, provider.getSnapshot());
+        Assertions.assertEquals(1, provider.getRefreshCount());
+    }
+
+    @Test
+    public void testEachRefreshPublishesNewSnapshot() {
+        SystemSnapshotProvider provider = new SystemSnapshotProvider(MAX_AGE_MILLIS, clockMillis::get);
+        SystemSnapshot first = provider.getSnapshot();
+
+        clockMillis.addAndGet(MAX_AGE_MILLIS);
+        SystemSnapshot second = provider.getSnapshot();
+        clockMillis.addAndGet(MAX_AGE_MILLIS);
+        SystemSnapshot third = provider.getSnapshot();
+
+        // A reader still holding an older snapshot keeps its own reading
+        Assertions.assertNotSame(first, second);
+        Assertions.assertNotSame(first, third);
+        Assertions.assertEquals(50000, first.getCaptureTimeMillis());
+        Assertions.assertEquals(52000, third.getCaptureTimeMillis());
+        Assertions.assertEquals(3, provider.getRefreshCount());
+    }
+
+    @Test
+    public void testSnapshotReadings() {
+        SystemSnapshot snapshot = new SystemSnapshotProvider(MAX_AGE_MILLIS, clockMillis::get).getSnapshot();
+
+        Assertions.assertTrue(snapshot.getAvailableProcessors() > 0);
+        Assertions.assertTrue(snapshot.getHeapUsedBytes() > 0);
+        Assertions.assertTrue(snapshot.getRuntimeTotalMemory() >= snapshot.getRuntimeFreeMemory());
+        Assertions.assertTrue(snapshot.getTotalLoadedClassCount() >= snapshot.getLoadedClassCount());
+        Assertions.assertTrue(snapshot.getThreadCount() > 0);
+        Assertions.assertTrue(snapshot.getUptimeMillis() >= 0);
+    }
+
+    public static Object[][] invalidMaxAgeTest() {
+        return new Object[][] {
+                {0L},
+                {-1L}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidMaxAgeTest")
+    public void testInvalidMaxAge(long maxAgeMillis) {
+        assertErrorMessage("Invalid System Snapshot Configuration", () -> new SystemSnapshotProvider(maxAgeMillis));
+    }
+}
@@ -0,0 +1,199 @@
+package com.dropwizard.template.health.system.thread;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.enums.ToleranceType;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.dropwizard.template.health.MemoryHealthCheckUtil.assertErrorMessage;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CpuHogThreadHealthCheckTest {
+    private static final ComponentInfo COMPONENT_INFO = ComponentInfo.builder()
+            .componentId("testComponentId")
+            .componentName("cpuHogThreads")
+            .componentType("system")
+            .build();
+    private static final HealthCheckTolerance THREAD_CPU_TOLERANCE = HealthCheckTolerance.builder()
+            .passValue(50.0)
+            .warnValue(80.0)
+            .failValue(100.0)
+            .toleranceType(ToleranceType.LESS_THAN)
+            .build();
+    private static final long MIN_SAMPLE_INTERVAL_MILLIS = 10000;
+    private static final long SAMPLE_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private ThreadMXBean threadMXBean;
+    private long clockNanos = 1000000;
+
+    @BeforeEach
+    public void setUp() {
+        threadMXBean = mock(ThreadMXBean.class);
+        when(threadMXBean.isThreadCpuTimeSupported()).thenReturn(true);
+        when(threadMXBean.isThreadCpuTimeEnabled()).thenReturn(true);
+        when(threadMXBean.getThreadInfo(any(long[].class), anyInt())).thenAnswer(invocation -> {
+            long[] threadIds = (long[]) invocation.getArguments()[0];
+            ThreadInfo[] threadInfos = new ThreadInfo[threadIds.length];
+            for (int i = 0; i < threadIds.length; i++) {
+                threadInfos[i] = mock(ThreadInfo.class);
+                when(threadInfos[i].getThreadName()).thenReturn("worker-" + threadIds[i]);
+            }
+            return threadInfos;
+        });
+    }
+
+    public static Object[][] invalidConfigurationTest() {
+        return new Object[][] {
+                {0, MIN_SAMPLE_INTERVAL_MILLIS},
+                {-1, MIN_SAMPLE_INTERVAL_MILLIS},
+                {5, -1L}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidConfigurationTest")
+    public void testInvalidConfiguration(int topThreadCount, long minSampleIntervalMillis) {
+        assertErrorMessage("Invalid Cpu Hog Thread Configuration", () ->
+                new CpuHogThreadHealthCheck(COMPONENT_INFO, THREAD_CPU_TOLERANCE, topThreadCount,
+                        minSampleIntervalMillis, threadMXBean, () -> clockNanos));
+    }
+
+    @Test
+    public void testCpuTimeUnavailable() {
+        when(threadMXBean.isThreadCpuTimeEnabled()).thenReturn(false);
+        List<ComponentHealthCheckModel.Value> valueList = newHealthCheck(3).getComponentValues();
+
+        Assertions.assertEquals(1, valueList.size());
+        Assertions.assertNull(valueList.get(0).getMetricValue());
+        Assertions.assertEquals(HealthCheckStatusEnum.PASS, valueList.get(0).getStatus());
+    }
+
+    @Test
+    public void testFirstSampleCollectsBaseline() {
+        setThreadCpuTimes(new long[] {1, 2}, new long[] {100, 200});
+        List<ComponentHealthCheckModel.Value> valueList = newHealthCheck(3).getComponentValues();
+
+        Assertions.assertEquals(1, valueList.size());
+        Assertions.assertEquals("Collecting a baseline", valueList.get(0).getOutput());
+        Assertions.assertEquals(HealthCheckStatusEnum.PASS, valueList.get(0).getStatus());
+    }
+
+    public static Object[][] topThreadTest() {
+        // Percentages of one core over the 10 second interval
+        return new Object[][] {
+                {2, new double[] {90.0, 60.0}, new long[] {3, 2},
+                        new String[] {"worker-3 (id 3)", "worker-2 (id 2)"}, HealthCheckStatusEnum.WARN},
+                {3, new double[] {90.0, 60.0, 10.0}, new long[] {3, 2, 1},
+                        new String[] {"worker-3 (id 3)", "worker-2 (id 2)", "worker-1 (id 1)"},
+                        HealthCheckStatusEnum.WARN},
+                {1, new double[] {90.0}, new long[] {3}, new String[] {"worker-3 (id 3)"}, HealthCheckStatusEnum.WARN}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("topThreadTest")
+    public void testTopThreads(int topThreadCount,
+                               double[] expectedPercentages,
+                               long[] expectedThreadIds,
+                               String[] expectedOutputs,
+                               HealthCheckStatusEnum expectedStatus) {
+        CpuHogThreadHealthCheck healthCheck = newHealthCheck(topThreadCount);
+        setThreadCpuTimes(new long[] {1, 2, 3, 4}, new long[] {0, 0, 0, 0});
+        healthCheck.getComponentValues();
+
+        clockNanos += SAMPLE_NANOS;
+        setThreadCpuTimes(new long[] {1, 2, 3, 4}, new long[] {
+                percentOfInterval(10), percentOfInterval(60), percentOfInterval(90), percentOfInterval(5)});
+        List<ComponentHealthCheckModel.Value> valueList = healthCheck.getComponentValues();
+
+        Assertions.assertEquals(expectedPercentages.length, valueList.size());
+        for (int i = 0; i < expectedPercentages.length; i++) {
+            Assertions.assertEquals(expectedPercentages[i], (Double) valueList.get(i).getMetricValue(), 0.001);
+            Assertions.assertEquals(expectedOutputs[i], valueList.get(i).getOutput());
+            Assertions.assertEquals("percentage", valueList.get(i).getMetricUnit());
+        }
+        Assertions.assertEquals(expectedStatus, ComponentHealthCheckModel.getStatus(valueList));
+    }
+
+    @Test
+    public void testNewAndTerminatedThreads() {
+        CpuHogThreadHealthCheck healthCheck = newHealthCheck(3);
+        setThreadCpuTimes(new long[] {1, 2}, new long[] {percentOfInterval(100), 0});
+        healthCheck.getComponentValues();
+
+        // Thread 1 exited, thread 5 was born and thread 2 died between listing and reading
+        clockNanos += SAMPLE_NANOS;
+        setThreadCpuTimes(new long[] {2, 5}, new long[] {-1, percentOfInterval(20)});
+        List<ComponentHealthCheckModel.Value> valueList = healthCheck.getComponentValues();
+
+        Assertions.assertEquals(1, valueList.size());
+        Assertions.assertEquals(20.0, (Double) valueList.get(0).getMetricValue(), 0.001);
+        Assertions.assertEquals("worker-5 (id 5)", valueList.get(0).getOutput());
+        Assertions.assertEquals(HealthCheckStatusEnum.PASS, valueList.get(0).getStatus());
+    }
+
+    @Test
+    public void testProbesWithinMinimumIntervalReuseLastSample() {
+        CpuHogThreadHealthCheck healthCheck = newHealthCheck(3);
+        setThreadCpuTimes(new long[] {1}, new long[] {0});
+        healthCheck.getComponentValues();
+
+        clockNanos += SAMPLE_NANOS;
+        setThreadCpuTimes(new long[] {1}, new long[] {percentOfInterval(40)});
+        List<ComponentHealthCheckModel.Value> sampledValueList = healthCheck.getComponentValues();
+
+        clockNanos += SAMPLE_NANOS / 2;
+        Assertions.assertSame(sampledValueList, healthCheck.getComponentValues());
+        verify(threadMXBean, times(2)).getAllThreadIds();
+    }
+
+    @Test
+    public void testThreadCpuTimeMap() {
+        ThreadCpuTimeMap threadCpuTimeMap = new ThreadCpuTimeMap(2);
+        for (long threadId = 1; threadId <= 1000; threadId++) {
+            threadCpuTimeMap.put(threadId, threadId * 10);
+        }
+        threadCpuTimeMap.put(7, 1);
+
+        Assertions.assertEquals(1000, threadCpuTimeMap.size());
+        Assertions.assertEquals(1, threadCpuTimeMap.get(7));
+        Assertions.assertEquals(10000, threadCpuTimeMap.get(1000));
+        Assertions.assertEquals(ThreadCpuTimeMap.MISSING, threadCpuTimeMap.get(1001));
+
+        threadCpuTimeMap.clear();
+        Assertions.assertEquals(0, threadCpuTimeMap.size());
+        Assertions.assertEquals(ThreadCpuTimeMap.MISSING, threadCpuTimeMap.get(7));
+    }
+
+    private CpuHogThreadHealthCheck newHealthCheck(int topThreadCount) {
+        return new CpuHogThreadHealthCheck(COMPONENT_INFO, THREAD_CPU_TOLERANCE, topThreadCount,
+                MIN_SAMPLE_INTERVAL_MILLIS, threadMXBean, () -> clockNanos);
+    }
+
+    private void setThreadCpuTimes(long[] threadIds, long[] cpuTimeNanos) {
+        when(threadMXBean.getAllThreadIds()).thenReturn(threadIds);
+        for (int i = 0; i < threadIds.length; i++) {
+            when(threadMXBean.getThreadCpuTime(threadIds[i])).thenReturn(cpuTimeNanos[i]);
+        }
+    }
+
+    private static long percentOfInterval(int percent) {
+        return SAMPLE_NANOS * percent / 100;
+    }
+}
@@ -0,0 +1,131 @@
+package com.dropwizard.template.health.system.threadpool;
+
+import com.codahale.metrics.MetricRegistry;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.enums.ToleranceType;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.model.HealthCheckTolerance;
+import com.google.common.collect.ImmutableList;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ThreadPoolSaturationHealthCheckTest {
+    private static final ComponentInfo COMPONENT_INFO = ComponentInfo.builder()
+            .componentId("testComponentId")
+            .componentName("threadPool")
+            .componentType("system")
+            .build();
+    private static final HealthCheckTolerance BUSY_RATIO_TOLERANCE = HealthCheckTolerance.builder()
+            .passValue(50.0)
+            .warnValue(90.0)
+            .failValue(100.0)
+            .toleranceType(ToleranceType.LESS_THAN)
+            .build();
+    private static final HealthCheckTolerance COUNT_TOLERANCE = HealthCheckTolerance.builder()
+            .passValue(0.0)
+            .warnValue(5.0)
+            .failValue(10.0)
+            .toleranceType(ToleranceType.LESS_THAN)
+            .build();
+
+    public static Object[][] gaugeValues() {
+        return new Object[][] {
+                {2, 10, 0, HealthCheckStatusEnum.PASS, HealthCheckStatusEnum.PASS},
+                {8, 10, 3, HealthCheckStatusEnum.WARN, HealthCheckStatusEnum.WARN},
+                {10, 10, 50, HealthCheckStatusEnum.FAIL, HealthCheckStatusEnum.FAIL},
+                {0, 0, 0, HealthCheckStatusEnum.PASS, HealthCheckStatusEnum.PASS}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("gaugeValues")
+    public void testGaugeStatus(int busyThreads,
+                                int maxThreads,
+                                int queueDepth,
+                                HealthCheckStatusEnum expectedBusyStatus,
+                                HealthCheckStatusEnum expectedQueueStatus) {
+        ThreadPoolGauge threadPoolGauge = mock(ThreadPoolGauge.class);
+        when(threadPoolGauge.getPoolName()).thenReturn("test");
+        when(threadPoolGauge.getBusyThreads()).thenReturn(busyThreads);
+        when(threadPoolGauge.getMaxThreads()).thenReturn(maxThreads);
+        when(threadPoolGauge.getQueueDepth()).thenReturn(queueDepth);
+        when(threadPoolGauge.getRejectedCount()).thenReturn(ThreadPoolGauge.UNSUPPORTED);
+
+        ThreadPoolSaturationHealthCheck healthCheck = newHealthCheck();
+        healthCheck.setThreadPoolGauges(ImmutableList.of(threadPoolGauge));
+        List<ComponentHealthCheckModel.Value> valueList = healthCheck.getComponentValues();
+
+        Assertions.assertEquals(2, valueList.size());
+        Assertions.assertEquals(expectedBusyStatus, valueList.get(0).getStatus());
+        Assertions.assertEquals("test busy threads", valueList.get(0).getOutput());
+        Assertions.assertEquals((double) queueDepth, valueList.get(1).getMetricValue());
+        Assertions.assertEquals(expectedQueueStatus, valueList.get(1).getStatus());
+        Assertions.assertEquals("test.busyThreads", healthCheck.getValueName(0, valueList.get(0)));
+        Assertions.assertEquals("test.queueDepth", healthCheck.getValueName(1, valueList.get(1)));
+    }
+
+    @Test
+    public void testDiscoverJettyAndManagedExecutors() throws InterruptedException {
+        LifecycleEnvironment lifecycleEnvironment = new LifecycleEnvironment(new MetricRegistry());
+        ExecutorService executorService = lifecycleEnvironment.executorService("test-executor")
+                .minThreads(1)
+                .maxThreads(1)
+                .workQueue(new ArrayBlockingQueue<>(1))
+                .rejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy())
+                .build();
+        Server server = new Server(new QueuedThreadPool(20));
+
+        ThreadPoolSaturationHealthCheck healthCheck = newHealthCheck();
+        healthCheck.discover(server, lifecycleEnvironment.getManagedObjects());
+
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+        try {
+            executorService.execute(() -> awaitQuietly(releaseLatch));
+            executorService.execute(() -> awaitQuietly(releaseLatch));
+            Assertions.assertThrows(RejectedExecutionException.class, () -> executorService.execute(() -> { }));
+
+            List<ComponentHealthCheckModel.Value> valueList = healthCheck.getComponentValues();
+            Assertions.assertEquals(5, valueList.size());
+            Assertions.assertEquals("jetty busy threads", valueList.get(0).getOutput());
+            Assertions.assertEquals("test-executor queue depth", valueList.get(3).getOutput());
+            Assertions.assertEquals(1.0, valueList.get(3).getMetricValue());
+            Assertions.assertEquals("test-executor rejected tasks", valueList.get(4).getOutput());
+            Assertions.assertEquals(1.0, valueList.get(4).getMetricValue());
+
+            // Rejections are reported as a delta since the previous probe
+            Assertions.assertEquals(0.0, healthCheck.getComponentValues().get(4).getMetricValue());
+        } finally {
+            releaseLatch.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    private static ThreadPoolSaturationHealthCheck newHealthCheck() {
+        return new ThreadPoolSaturationHealthCheck(COMPONENT_INFO, BUSY_RATIO_TOLERANCE, COUNT_TOLERANCE,
+                COUNT_TOLERANCE);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
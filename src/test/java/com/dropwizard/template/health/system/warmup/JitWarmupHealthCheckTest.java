@@ -0,0 +1,170 @@
+package com.dropwizard.template.health.system.warmup;
+
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.dropwizard.template.health.system.snapshot.SystemSnapshot;
+import com.dropwizard.template.health.system.snapshot.SystemSnapshotProvider;
+import com.google.common.collect.ImmutableList;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.dropwizard.template.health.MemoryHealthCheckUtil.assertErrorMessage;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class JitWarmupHealthCheckTest {
+    private static final ComponentInfo COMPONENT_INFO = ComponentInfo.builder()
+            .componentId("testComponentId")
+            .componentName("jitWarmup")
+            .componentType("system")
+            .build();
+    private static final JitWarmupCriteria CRITERIA = JitWarmupCriteria.builder()
+            .minUptimeMillis(30000)
+            .plateauWindowMillis(10000)
+            .maxCompilationPercentage(1.0)
+            .maxWarmupMillis(120000)
+            .build();
+
+    private SystemSnapshotProvider systemSnapshotProvider;
+    private SystemSnapshot snapshot;
+    private long uptimeMillis;
+    private long compilationMillis;
+
+    @BeforeEach
+    public void setUp() {
+        systemSnapshotProvider = mock(SystemSnapshotProvider.class);
+        snapshot = mock(SystemSnapshot.class);
+        when(systemSnapshotProvider.getSnapshot()).thenReturn(snapshot);
+        setSnapshot(0, 0);
+    }
+
+    public static Object[][] warmupTest() {
+        return new Object[][] {
+                // uptime after first probe, compilation millis spent in that time, expected values
+                {5000L, 0L, null, HealthCheckStatusEnum.FAIL, HealthCheckStatusEnum.FAIL},
+                {30000L, 3000L, 10.0, HealthCheckStatusEnum.PASS, HealthCheckStatusEnum.FAIL},
+                {30000L, 300L, 1.0, HealthCheckStatusEnum.PASS, HealthCheckStatusEnum.PASS},
+                {120000L, 12000L, 10.0, HealthCheckStatusEnum.PASS, HealthCheckStatusEnum.WARN}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("warmupTest")
+    public void testWarmup(long elapsedMillis,
+                           long compiledMillis,
+                           Double expectedCompilationPercentage,
+                           HealthCheckStatusEnum expectedUptimeStatus,
+                           HealthCheckStatusEnum expectedCompilationStatus) {
+        JitWarmupHealthCheck healthCheck = new JitWarmupHealthCheck(COMPONENT_INFO, CRITERIA, systemSnapshotProvider);
+        healthCheck.getComponentValues();
+
+        setSnapshot(elapsedMillis, compiledMillis);
+        List<ComponentHealthCheckModel.Value> valueList = healthCheck.getComponentValues();
+
+        Assertions.assertEquals(2, valueList.size());
+        Assertions.assertEquals((double) elapsedMillis, valueList.get(0).getMetricValue());
+        Assertions.assertEquals(expectedUptimeStatus, valueList.get(0).getStatus());
+        Assertions.assertEquals(expectedCompilationPercentage, valueList.get(1).getMetricValue());
+        Assertions.assertEquals(expectedCompilationStatus, valueList.get(1).getStatus());
+        Assertions.assertEquals(expectedUptimeStatus == HealthCheckStatusEnum.PASS &&
+                expectedCompilationStatus == HealthCheckStatusEnum.PASS, healthCheck.isWarm());
+    }
+
+    @Test
+    public void testWarmStaysWarm() {
+        JitWarmupHealthCheck healthCheck = new JitWarmupHealthCheck(COMPONENT_INFO, CRITERIA, systemSnapshotProvider);
+        healthCheck.getComponentValues();
+        setSnapshot(40000, 100);
+        healthCheck.getComponentValues();
+        Assertions.assertTrue(healthCheck.isWarm());
+
+        // A later burst of compilation does not take readiness away
+        setSnapshot(50000, 5000);
+        List<ComponentHealthCheckModel.Value> valueList = healthCheck.getComponentValues();
+        Assertions.assertEquals(HealthCheckStatusEnum.PASS, ComponentHealthCheckModel.getStatus(valueList));
+    }
+
+    @Test
+    public void testCompilationUnsupported() {
+        JitWarmupHealthCheck healthCheck = new JitWarmupHealthCheck(COMPONENT_INFO, CRITERIA, systemSnapshotProvider);
+        when(snapshot.getCompilationTimeMillis()).thenReturn(SystemSnapshot.UNSUPPORTED);
+        when(snapshot.getUptimeMillis()).thenReturn(30000L);
+
+        List<ComponentHealthCheckModel.Value> valueList = healthCheck.getComponentValues();
+
+        Assertions.assertNull(valueList.get(1).getMetricValue());
+        Assertions.assertEquals(HealthCheckStatusEnum.PASS, valueList.get(1).getStatus());
+        Assertions.assertTrue(healthCheck.isWarm());
+    }
+
+    public static Object[][] invalidCriteriaTest() {
+        return new Object[][] {
+                {-1L, 10000L, 1.0, 60000L},
+                {0L, 0L, 1.0, 60000L},
+                {0L, 10000L, -1.0, 60000L},
+                {60000L, 10000L, 1.0, 30000L}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidCriteriaTest")
+    public void testInvalidCriteria(long minUptimeMillis,
+                                    long plateauWindowMillis,
+                                    double maxCompilationPercentage,
+                                    long maxWarmupMillis) {
+        assertErrorMessage("Invalid Jit Warmup Criteria", () -> JitWarmupCriteria.builder()
+                .minUptimeMillis(minUptimeMillis)
+                .plateauWindowMillis(plateauWindowMillis)
+                .maxCompilationPercentage(maxCompilationPercentage)
+                .maxWarmupMillis(maxWarmupMillis)
+                .build());
+    }
+
+    @Test
+    public void testWarmupTrafficStopsOnceWarm() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.createContext("/template", exchange -> {
+            requests.incrementAndGet();
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        httpServer.start();
+
+        WarmupTrafficGenerator warmupTrafficGenerator = new WarmupTrafficGenerator(ImmutableList.of("/template"),
+                TimeUnit.SECONDS.toMillis(10), 0);
+        warmupTrafficGenerator.setWarmSupplier(() -> requests.get() >= 5);
+        try {
+            warmupTrafficGenerator.start(httpServer.getAddress().getPort());
+            long deadlineMillis = System.currentTimeMillis() + 5000;
+            while (requests.get() < 5 && System.currentTimeMillis() < deadlineMillis) {
+                Thread.sleep(10);
+            }
+            warmupTrafficGenerator.stop();
+        } finally {
+            httpServer.stop(0);
+        }
+
+        Assertions.assertTrue(warmupTrafficGenerator.getRequestCount() >= 5);
+        Assertions.assertTrue(warmupTrafficGenerator.getRequestCount() <= 6);
+        Assertions.assertEquals(0, warmupTrafficGenerator.getFailedRequestCount());
+    }
+
+    private void setSnapshot(long elapsedMillis, long compiledMillis) {
+        uptimeMillis = elapsedMillis;
+        compilationMillis = compiledMillis;
+        when(snapshot.getCaptureTimeMillis()).thenReturn(1000000 + uptimeMillis);
+        when(snapshot.getUptimeMillis()).thenReturn(uptimeMillis);
+        when(snapshot.getCompilationTimeMillis()).thenReturn(compilationMillis);
+    }
+}
@@ -0,0 +1,212 @@
+package com.dropwizard.template.health.tenant;
+
+import com.dropwizard.template.health.IHealthCheckInfo;
+import com.dropwizard.template.health.enums.HealthCheckStatusEnum;
+import com.dropwizard.template.health.model.ComponentHealthCheckModel;
+import com.dropwizard.template.health.model.ComponentInfo;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.dropwizard.template.health.MemoryHealthCheckUtil.assertErrorMessage;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TenantHealthRegistryTest {
+    private static final String WEB_TYPE = "web";
+    private static final String BATCH_TYPE = "batch";
+
+    private TenantHealthRegistry tenantHealthRegistry;
+    private List<AtomicReference<HealthCheckStatusEnum>> tenantStatusList;
+
+    @BeforeEach
+    public void setUp() {
+        tenantHealthRegistry = new TenantHealthRegistry();
+        tenantStatusList = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            registerTenant(String.format("tenant-%02d", i), i % 2 == 0 ? WEB_TYPE : BATCH_TYPE);
+        }
+    }
+
+    @Test
+    public void testCountsFollowStatusChanges() {
+        Assertions.assertEquals(10, tenantHealthRegistry.getSummary(null).getUnknown());
+
+        tenantStatusList.get(0).set(HealthCheckStatusEnum.FAIL);
+        tenantStatusList.get(1).set(HealthCheckStatusEnum.WARN);
+        for (int i = 0; i < 10; i++) {
+            tenantHealthRegistry.evaluate(String.format("tenant-%02d", i));
+        }
+
+        assertSummary(tenantHealthRegistry.getSummary(null), "fail", 10, 8, 1, 1);
+        assertSummary(tenantHealthRegistry.getSummary(WEB_TYPE), "fail", 5, 4, 0, 1);
+        assertSummary(tenantHealthRegistry.getSummary(BATCH_TYPE), "warn", 5, 4, 1, 0);
+
+        tenantStatusList.get(0).set(HealthCheckStatusEnum.PASS);
+        tenantHealthRegistry.evaluate("tenant-00");
+        assertSummary(tenantHealthRegistry.getSummary(WEB_TYPE), "pass", 5, 5, 0, 0);
+
+        Assertions.assertTrue(tenantHealthRegistry.unregister("tenant-01"));
+        Assertions.assertFalse(tenantHealthRegistry.unregister("tenant-01"));
+        assertSummary(tenantHealthRegistry.getSummary(null), "pass", 9, 9, 0, 0);
+        Assertions.assertEquals(9, tenantHealthRegistry.size());
+    }
+
+    @Test
+    public void testPagesWithCursor() {
+        TenantHealthPage firstPage = tenantHealthRegistry.getPage(null, null, null, 4);
+        Assertions.assertEquals(4, firstPage.getComponents().size());
+        Assertions.assertEquals("tenant-03", firstPage.getNextCursor());
+
+        TenantHealthPage secondPage = tenantHealthRegistry.getPage(null, null, firstPage.getNextCursor(), 4);
+        Assertions.assertEquals("tenant-04", secondPage.getComponents().get(0).getComponentId());
+
+        TenantHealthPage lastPage = tenantHealthRegistry.getPage(null, null, secondPage.getNextCursor(), 4);
+        Assertions.assertEquals(2, lastPage.getComponents().size());
+        Assertions.assertNull(lastPage.getNextCursor());
+    }
+
+    @Test
+    public void testFilterByTypeAndStatus() {
+        tenantStatusList.get(2).set(HealthCheckStatusEnum.FAIL);
+        tenantStatusList.get(3).set(HealthCheckStatusEnum.FAIL);
+        for (int i = 0; i < 10; i++) {
+            tenantHealthRegistry.evaluate(String.format("tenant-%02d", i));
+        }
+
+        TenantHealthPage failedPage = tenantHealthRegistry.getPage(null, HealthCheckStatusEnum.FAIL, null, 10);
+        Assertions.assertEquals(2, failedPage.getComponents().size());
+
+        TenantHealthPage failedWebPage = tenantHealthRegistry.getPage(WEB_TYPE, HealthCheckStatusEnum.FAIL, null, 10);
+        Assertions.assertEquals(1, failedWebPage.getComponents().size());
+        TenantHealthModel tenantHealthModel = failedWebPage.getComponents().get(0);
+        Assertions.assertEquals("tenant-02", tenantHealthModel.getComponentId());
+        Assertions.assertEquals("fail", tenantHealthModel.getStatus());
+        Assertions.assertNotNull(tenantHealthModel.getLastUpdated());
+
+        Assertions.assertTrue(tenantHealthRegistry.getPage("missing", null, null, 10).getComponents().isEmpty());
+    }
+
+    @Test
+    public void testConcurrentUpdatesKeepCountsConsistent() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        HealthCheckStatusEnum[] statuses = HealthCheckStatusEnum.values();
+        for (int thread = 0; thread < 4; thread++) {
+            executorService.execute(() -> {
+                for (int i = 0; i < 2000; i++) {
+                    int tenant = ThreadLocalRandom.current().nextInt(10);
+                    tenantStatusList.get(tenant).set(statuses[ThreadLocalRandom.current().nextInt(statuses.length)]);
+                    tenantHealthRegistry.evaluate(String.format("tenant-%02d", tenant));
+                }
+            });
+        }
+        executorService.shutdown();
+        Assertions.assertTrue(executorService.awaitTermination(30, TimeUnit.SECONDS));
+
+        TenantHealthSummary summary = tenantHealthRegistry.getSummary(null);
+        Assertions.assertEquals(10, summary.getTotal());
+        for (HealthCheckStatusEnum status : statuses) {
+            long count = status == HealthCheckStatusEnum.PASS ? summary.getPass() :
+                    status == HealthCheckStatusEnum.WARN ? summary.getWarn() :
+                    summary.getFail();
+            Assertions.assertEquals(count, tenantHealthRegistry.getPage(null, status, null, 10).getComponents().size());
+        }
+    }
+
+    @Test
+    public void testConcurrentReregistrationStaysIndexed() throws InterruptedException {
+        IHealthCheckInfo healthCheckInfo = mock(IHealthCheckInfo.class);
+        ComponentInfo componentInfo = ComponentInfo.builder()
+                .componentId("tenant-00")
+                .componentName("tenant-00")
+                .componentType(WEB_TYPE)
+                .build();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        executorService.execute(() -> {
+            for (int i = 0; i < 5000; i++) {
+                tenantHealthRegistry.unregister("tenant-00");
+            }
+        });
+        executorService.execute(() -> {
+            for (int i = 0; i < 5000; i++) {
+                try {
+                    tenantHealthRegistry.register(componentInfo, healthCheckInfo);
+                } catch (IllegalArgumentException e) {
+                    // Still registered from the previous round
+                }
+            }
+        });
+        executorService.shutdown();
+        Assertions.assertTrue(executorService.awaitTermination(30, TimeUnit.SECONDS));
+
+        int expectedSize = tenantHealthRegistry.size();
+        Assertions.assertEquals(expectedSize, tenantHealthRegistry.getSummary(null).getTotal());
+        Assertions.assertEquals(expectedSize, tenantHealthRegistry.getPage(null, null, null, 10).getComponents().size());
+    }
+
+    public static Object[][] invalidPageSizes() {
+        return new Object[][] {
+                {0},
+                {TenantHealthRegistry.MAX_PAGE_SIZE + 1}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidPageSizes")
+    public void testInvalidPageSize(int limit) {
+        assertErrorMessage("Invalid Page Size", () -> tenantHealthRegistry.getPage(null, null, null, limit));
+    }
+
+    @Test
+    public void testDuplicateRegistration() {
+        assertErrorMessage("Component already registered: tenant-00", () -> registerTenant("tenant-00", WEB_TYPE));
+        Assertions.assertEquals(10, tenantHealthRegistry.getSummary(null).getTotal());
+    }
+
+    @Test
+    public void testNullComponentType() {
+        assertErrorMessage("Invalid Component Type", () -> registerTenant("tenant-untyped", null));
+        Assertions.assertEquals(10, tenantHealthRegistry.getSummary(null).getTotal());
+    }
+
+    private void registerTenant(String componentId, String componentType) {
+        AtomicReference<HealthCheckStatusEnum> tenantStatus = new AtomicReference<>(HealthCheckStatusEnum.PASS);
+        IHealthCheckInfo healthCheckInfo = mock(IHealthCheckInfo.class);
+        when(healthCheckInfo.getComponentValues()).thenAnswer(invocation -> ImmutableList.of(
+                ComponentHealthCheckModel.Value.builder()
+                        .componentId(componentId)
+                        .status(tenantStatus.get())
+                        .build()));
+
+        tenantHealthRegistry.register(ComponentInfo.builder()
+                .componentId(componentId)
+                .componentName(componentId)
+                .componentType(componentType)
+                .build(), healthCheckInfo);
+        tenantStatusList.add(tenantStatus);
+    }
+
+    private static void assertSummary(TenantHealthSummary summary,
+                                      String expectedStatus,
+                                      long expectedTotal,
+                                      long expectedPass,
+                                      long expectedWarn,
+                                      long expectedFail) {
+        Assertions.assertEquals(expectedStatus, summary.getStatus());
+        Assertions.assertEquals(expectedTotal, summary.getTotal());
+        Assertions.assertEquals(expectedPass, summary.getPass());
+        Assertions.assertEquals(expectedWarn, summary.getWarn());
+        Assertions.assertEquals(expectedFail, summary.getFail());
+    }
+}